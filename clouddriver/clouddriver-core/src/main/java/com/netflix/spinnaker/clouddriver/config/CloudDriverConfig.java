@@ -95,6 +95,7 @@ import com.netflix.spinnaker.clouddriver.security.config.SecurityConfig;
 import com.netflix.spinnaker.config.PluginsAutoConfiguration;
 import com.netflix.spinnaker.credentials.CompositeCredentialsRepository;
 import com.netflix.spinnaker.credentials.Credentials;
+import com.netflix.spinnaker.credentials.CredentialsLoaderConfiguration;
 import com.netflix.spinnaker.credentials.CredentialsRepository;
 import com.netflix.spinnaker.credentials.definition.CredentialsLoader;
 import com.netflix.spinnaker.credentials.poller.PollerConfiguration;
@@ -216,6 +217,11 @@ class CloudDriverConfig {
     return new CompositeCredentialsRepository<>(repositories);
   }
 
+  @Bean
+  static CredentialsLoaderConfiguration credentialsLoaderConfiguration() {
+    return new CredentialsLoaderConfiguration();
+  }
+
   @Bean
   PollerConfiguration pollerConfiguration(
       ObjectProvider<CredentialsLoader<? extends Credentials>> pollers,
@@ -22,6 +22,7 @@ import com.netflix.spinnaker.cats.agent.AgentIntervalAware
 import com.netflix.spinnaker.cats.agent.CacheResult
 import com.netflix.spinnaker.cats.agent.CachingAgent
 import com.netflix.spinnaker.cats.agent.DefaultCacheResult
+import com.netflix.spinnaker.cats.cache.CacheData
 import com.netflix.spinnaker.cats.provider.ProviderCache
 import com.netflix.spinnaker.clouddriver.docker.registry.DockerRegistryCloudProvider
 import com.netflix.spinnaker.clouddriver.docker.registry.cache.DefaultCacheDataBuilder
@@ -68,7 +69,26 @@ abstract class AbstractDockerRegistryCachingAgent implements CachingAgent, Accou
   @Override
   CacheResult loadData(ProviderCache providerCache) {
     Map<String, Set<String>> tags = loadRepositoryTags()
-    buildCacheResult(tags)
+    buildCacheResult(tags, loadPreviousTaggedImages(providerCache, tags))
+  }
+
+  /**
+   * Load the previously cached attributes of the given tags, used to carry their `changedAt` forward
+   * @return Map of tagged image key to attributes
+   */
+  protected Map<String, Map<String, Object>> loadPreviousTaggedImages(ProviderCache providerCache,
+                                                                     Map<String, Set<String>> tagMap) {
+    if (providerCache == null) {
+      return [:]
+    }
+
+    List<String> tagKeys = []
+    tagMap.each { repository, tags ->
+      tags.each { tag -> tagKeys << getTaggedImageKey(accountName, repository, tag) }
+    }
+    return providerCache.getAll(getTaggedImageNamespace().ns, tagKeys).collectEntries { CacheData data ->
+      [(data.id): data.attributes]
+    }
   }
 
   @Override
@@ -145,7 +165,19 @@ abstract class AbstractDockerRegistryCachingAgent implements CachingAgent, Accou
   }
 
   protected CacheResult buildCacheResult(Map<String, Set<String>> tagMap) {
+    buildCacheResult(tagMap, [:])
+  }
+
+  /**
+   * Each tagged image records when it was first cached or its digest last changed as `changedAt`, so
+   * that clients polling for changes (e.g. igor) can ask for only the tags changed since a cursor.
+   *
+   * @param previousTaggedImages attributes of the tagged images as previously cached
+   */
+  protected CacheResult buildCacheResult(Map<String, Set<String>> tagMap,
+                                         Map<String, Map<String, Object>> previousTaggedImages) {
     log.info("Describing items in ${agentType}")
+    long now = System.currentTimeMillis()
 
     ConcurrentMap<String, DefaultCacheDataBuilder> cachedTags = DefaultCacheDataBuilder.defaultCacheDataBuilderMap()
     ConcurrentMap<String, DefaultCacheDataBuilder> cachedIds = DefaultCacheDataBuilder.defaultCacheDataBuilderMap()
@@ -203,6 +235,7 @@ abstract class AbstractDockerRegistryCachingAgent implements CachingAgent, Accou
         tagData.attributes.put("account", accountName)
         tagData.attributes.put("digest", digest)
         tagData.attributes.put("date", creationDate)
+        tagData.attributes.put("changedAt", changedAt(previousTaggedImages.get(tagKey), digest, now))
         if (digestContent?.config != null) {
           tagData.attributes.put("labels", digestContent.config.Labels)
         }
@@ -227,6 +260,13 @@ abstract class AbstractDockerRegistryCachingAgent implements CachingAgent, Accou
     ])
   }
 
+  private static long changedAt(Map<String, Object> previous, Object digest, long now) {
+    if (previous?.changedAt != null && previous.digest == digest) {
+      return (previous.changedAt as Number).longValue()
+    }
+    return now
+  }
+
   @Override
   Long getAgentInterval() {
     return interval
@@ -92,6 +92,11 @@ public abstract class AbstractDockerRegistryLookupController {
    * AuthenticatedRequest.allowAnonymous()}) bypass fiat entirely and are trusted at the network
    * level; they must still supply {@code account} to scope the query efficiently.
    *
+   * <p>When {@code changedSince} is provided, only tags cached or whose digest changed at or after
+   * that time (per the {@code changedAt} returned with each image) are returned, so that pollers
+   * can avoid fetching every tag of an account on every cycle. It is ignored when digests are not
+   * tracked, as only image keys are read in that case.
+   *
    * @param lookupOptions The options to use for lookup; {@code account} is required for
    *     authenticated callers
    * @return A list of images
@@ -159,6 +164,14 @@ public abstract class AbstractDockerRegistryLookupController {
                   cacheView, getTaggedImageNamespace(), key));
     }
 
+    if (lookupOptions.getChangedSince() != null) {
+      long changedSince = lookupOptions.getChangedSince();
+      images =
+          images.stream()
+              .filter(image -> isChangedSince(image, changedSince))
+              .collect(Collectors.toSet());
+    }
+
     if (lookupOptions.getCount() != null && lookupOptions.getCount() > 0) {
       images = images.stream().limit(lookupOptions.getCount()).collect(Collectors.toSet());
     }
@@ -196,6 +209,7 @@ public abstract class AbstractDockerRegistryLookupController {
       resultItem.put("account", image.getAttributes().get("account"));
       resultItem.put("registry", credentials.getRegistry());
       resultItem.put("digest", image.getAttributes().get("digest"));
+      resultItem.put("changedAt", image.getAttributes().get("changedAt"));
 
       if (Boolean.TRUE.equals(lookupOptions.getIncludeDetails())) {
         @SuppressWarnings("unchecked")
@@ -214,6 +228,12 @@ public abstract class AbstractDockerRegistryLookupController {
     return result;
   }
 
+  /** Tagged images cached before {@code changedAt} was recorded are always considered changed. */
+  private static boolean isChangedSince(CacheData image, long changedSince) {
+    Object changedAt = image.getAttributes().get("changedAt");
+    return !(changedAt instanceof Number) || ((Number) changedAt).longValue() >= changedSince;
+  }
+
   /**
    * Generate an artifact map with default values
    *
@@ -323,6 +343,7 @@ public abstract class AbstractDockerRegistryLookupController {
     private String tag;
     private Integer count;
     private Boolean includeDetails;
+    private Long changedSince;
 
     public String getQ() {
       return q;
@@ -371,5 +392,13 @@ public abstract class AbstractDockerRegistryLookupController {
     public void setIncludeDetails(Boolean includeDetails) {
       this.includeDetails = includeDetails;
     }
+
+    public Long getChangedSince() {
+      return changedSince;
+    }
+
+    public void setChangedSince(Long changedSince) {
+      this.changedSince = changedSince;
+    }
   }
 }
@@ -17,6 +17,8 @@
 package com.netflix.spinnaker.clouddriver.docker.registry.provider.agent
 
 import com.netflix.spinnaker.cats.agent.CacheResult
+import com.netflix.spinnaker.cats.cache.DefaultCacheData
+import com.netflix.spinnaker.cats.provider.ProviderCache
 import com.netflix.spinnaker.clouddriver.docker.registry.DockerRegistryCloudProvider
 import com.netflix.spinnaker.clouddriver.docker.registry.security.DockerRegistryCredentials
 import com.netflix.spinnaker.kork.docker.model.DockerRegistryTags
@@ -285,6 +287,37 @@ class DockerRegistryImageCachingAgentTest extends Specification {
     cacheResultTaggedImages[0].attributes.get("date") == null
   }
 
+  def "changedAt is carried forward for tags whose digest has not changed"() {
+    given:
+    credentials.trackDigests >> true
+    credentials.repositories >> ["repo-1"]
+    client.getTags("repo-1") >> new DockerRegistryTags().tap {
+      name="repo-1"
+      tags=["tag-1", "tag-2", "tag-3"]
+    }
+    client.getDigest("repo-1", "tag-1") >> "digest-1"
+    client.getDigest("repo-1", "tag-2") >> "digest-2-updated"
+    client.getDigest("repo-1", "tag-3") >> "digest-3"
+
+    and: 'tag-1 and tag-2 were cached before, tag-3 is new'
+    def providerCache = Mock(ProviderCache)
+    providerCache.getAll(CACHE_GROUP_TAGGED_IMAGE, _ as Collection) >> [
+      new DefaultCacheData(buildTaggedImageCacheKey("repo-1", "tag-1"), [digest: "digest-1", changedAt: 1000L], [:]),
+      new DefaultCacheData(buildTaggedImageCacheKey("repo-1", "tag-2"), [digest: "digest-2", changedAt: 1000L], [:])
+    ]
+    long before = System.currentTimeMillis()
+
+    when:
+    def cacheResult = agent.loadData(providerCache)
+
+    then:
+    sortCacheResult(cacheResult)
+    def cacheResultTaggedImages = cacheResult.cacheResults.get(CACHE_GROUP_TAGGED_IMAGE)
+    cacheResultTaggedImages.size() == 3
+    cacheResultTaggedImages[0].attributes.get("changedAt") == 1000L
+    cacheResultTaggedImages[1].attributes.get("changedAt") >= before
+    cacheResultTaggedImages[2].attributes.get("changedAt") >= before
+  }
 
   private String buildTaggedImageCacheKey(repo, tag) {
     "${KEY_PREFIX}:${CACHE_GROUP_TAGGED_IMAGE}:${ACCOUNT_NAME}:${repo}:${tag}"
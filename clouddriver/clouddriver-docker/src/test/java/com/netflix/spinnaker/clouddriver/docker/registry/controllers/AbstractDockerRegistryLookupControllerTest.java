@@ -369,6 +369,50 @@ class AbstractDockerRegistryLookupControllerTest {
         .andExpect(jsonPath("$[0].artifact.metadata.labels.commitId").value("test-commit"));
   }
 
+  @Test
+  void testFindWithChangedSince() throws Exception {
+    var credentials = createTestAccountCredentials(false);
+    accountCredentialsRepository.save(credentials.getName(), credentials);
+
+    var permissions = createAuthorizedUserPermission();
+    given(fiatService.getUserPermission(eq("user"))).willReturn(Calls.response(permissions));
+
+    // Setup cache with a tag changed before the cursor, one changed after it, and one cached
+    // before changedAt was recorded
+    Map<String, Long> changedAtByTag = new HashMap<>();
+    changedAtByTag.put("1.0", 1000L);
+    changedAtByTag.put("2.0", 3000L);
+    changedAtByTag.put("3.0", null);
+    changedAtByTag.forEach(
+        (tag, changedAt) -> {
+          Map<String, Object> tagAttributes = new HashMap<>();
+          tagAttributes.put("account", "test-account");
+          tagAttributes.put("digest", "digest-" + tag);
+          tagAttributes.put("changedAt", changedAt);
+          cache.merge(
+              Keys.Namespace.TAGGED_IMAGE.getNs(),
+              new DefaultCacheData(
+                  Keys.getTaggedImageKey("test-account", "test-repository", tag),
+                  tagAttributes,
+                  Map.of()));
+        });
+
+    MvcResult result =
+        mockMvc
+            .perform(
+                get("/test/registry/find")
+                    .queryParam("account", "test-account")
+                    .queryParam("changedSince", "2000"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2))
+            .andReturn();
+
+    String content = result.getResponse().getContentAsString();
+    assertTrue(content.contains("\"tag\":\"2.0\""));
+    assertTrue(content.contains("\"changedAt\":3000"));
+    assertTrue(content.contains("\"tag\":\"3.0\""));
+  }
+
   @Test
   void testFindWithMultiLevelRepository() throws Exception {
     var permissions = createAuthorizedUserPermission();
@@ -24,7 +24,7 @@ public class KeelConfig {
       OkHttp3ClientConfiguration okHttpClientConfig) {
     return new Retrofit.Builder()
         .baseUrl(RetrofitUtils.getBaseUrl(keelBaseUrl))
-        .client(okHttpClientConfig.createForRetrofit2().build())
+        .client(okHttpClientConfig.createForRetrofit2(keelBaseUrl).build())
         .addCallAdapterFactory(ErrorHandlingExecutorCallAdapterFactory.getInstance())
         .addConverterFactory(JacksonConverterFactory.create(new ObjectMapper()))
         .build()
@@ -40,7 +40,7 @@ public class IgorConfig {
     log.info("igor service loaded");
     return new Retrofit.Builder()
         .baseUrl(RetrofitUtils.getBaseUrl(igorBaseUrl))
-        .client(okHttp3ClientConfiguration.createForRetrofit2().build())
+        .client(okHttp3ClientConfiguration.createForRetrofit2(igorBaseUrl).build())
         .addCallAdapterFactory(ErrorHandlingExecutorCallAdapterFactory.getInstance())
         .addConverterFactory(JacksonConverterFactory.create())
         .build()
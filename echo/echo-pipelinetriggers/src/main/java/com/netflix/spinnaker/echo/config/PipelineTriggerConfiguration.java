@@ -81,7 +81,7 @@ public class PipelineTriggerConfiguration {
 
     return new Retrofit.Builder()
         .baseUrl(endpoint)
-        .client(okHttp3ClientConfiguration.createForRetrofit2().build())
+        .client(okHttp3ClientConfiguration.createForRetrofit2(endpoint).build())
         .addCallAdapterFactory(ErrorHandlingExecutorCallAdapterFactory.getInstance())
         .addConverterFactory(JacksonConverterFactory.create(EchoObjectMapper.getInstance()))
         .build()
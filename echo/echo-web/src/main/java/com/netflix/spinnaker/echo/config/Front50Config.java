@@ -39,7 +39,7 @@ public class Front50Config {
 
     return new Retrofit.Builder()
         .baseUrl(RetrofitUtils.getBaseUrl(front50BaseUrl))
-        .client(okHttp3ClientConfiguration.createForRetrofit2().build())
+        .client(okHttp3ClientConfiguration.createForRetrofit2(front50BaseUrl).build())
         .addCallAdapterFactory(ErrorHandlingExecutorCallAdapterFactory.getInstance())
         .addConverterFactory(JacksonConverterFactory.create())
         .build()
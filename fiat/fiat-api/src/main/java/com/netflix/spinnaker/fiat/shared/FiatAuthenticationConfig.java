@@ -69,7 +69,8 @@ public class FiatAuthenticationConfig {
 
     return new Retrofit.Builder()
         .baseUrl(RetrofitUtils.getBaseUrl(fiatConfigurationProperties.getBaseUrl()))
-        .client(okHttpClientConfig.createForRetrofit2().build())
+        .client(
+            okHttpClientConfig.createForRetrofit2(fiatConfigurationProperties.getBaseUrl()).build())
         .addCallAdapterFactory(ErrorHandlingExecutorCallAdapterFactory.getInstance())
         .addConverterFactory(JacksonConverterFactory.create(objectMapper))
         .build()
@@ -21,10 +21,10 @@ import com.github.benmanes.caffeine.cache.Caffeine;
 import com.netflix.spectator.api.Id;
 import com.netflix.spectator.api.Registry;
 import com.netflix.spinnaker.fiat.model.Authorization;
+import com.netflix.spinnaker.fiat.model.PermissionIndex;
 import com.netflix.spinnaker.fiat.model.SpinnakerAuthorities;
 import com.netflix.spinnaker.fiat.model.UserPermission;
 import com.netflix.spinnaker.fiat.model.resources.Account;
-import com.netflix.spinnaker.fiat.model.resources.Authorizable;
 import com.netflix.spinnaker.fiat.model.resources.ResourceType;
 import com.netflix.spinnaker.kork.retrofit.Retrofit2SyncCall;
 import com.netflix.spinnaker.kork.retrofit.exceptions.SpinnakerHttpException;
@@ -34,7 +34,8 @@ import com.netflix.spinnaker.security.AuthenticatedRequest;
 import com.netflix.spinnaker.security.UserPermissionEvaluator;
 import java.io.Serializable;
 import java.util.Arrays;
-import java.util.Collections;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -42,7 +43,6 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import lombok.extern.slf4j.Slf4j;
@@ -283,6 +283,78 @@ public class FiatPermissionEvaluator implements UserPermissionEvaluator {
     return hasPermission(getUsername(authentication), resourceName, resourceType, authorization);
   }
 
+  /**
+   * Bulk variant of {@link #hasPermission(String, Serializable, String, Object)}, intended for
+   * filtering large collections of resources. The user's permission is looked up once and each
+   * resource is checked against its index.
+   *
+   * <p>Unlike the single resource variant, no {@link AuthorizationFailure} is recorded.
+   *
+   * @return whether the user has the given authorization on each resource, in iteration order of
+   *     {@code resourceNames}
+   */
+  public Map<String, Boolean> hasPermissions(
+      String username,
+      Collection<String> resourceNames,
+      String resourceType,
+      Object authorization) {
+    Map<String, Boolean> permissions = new LinkedHashMap<>();
+    if (resourceNames == null) {
+      return permissions;
+    }
+    if (!fiatStatus.isEnabled()) {
+      resourceNames.forEach(resourceName -> permissions.put(resourceName, true));
+      return permissions;
+    }
+    if (resourceType == null || authorization == null) {
+      log.warn(
+          "Permission denied because at least one of the required arguments was null. resourceType={}, authorization={}",
+          resourceType,
+          authorization);
+      resourceNames.forEach(resourceName -> permissions.put(resourceName, false));
+      return permissions;
+    }
+
+    ResourceType r = ResourceType.parse(resourceType);
+    Authorization a = null;
+
+    // Service accounts don't have read/write authorizations.
+    if (!r.equals(ResourceType.SERVICE_ACCOUNT)) {
+      a = Authorization.parse(authorization);
+    }
+
+    if (a == Authorization.CREATE) {
+      throw new IllegalArgumentException(
+          "This method should not be called for `CREATE`. Please call canCreate");
+    }
+
+    UserPermission.View permission = getPermission(username);
+    for (String resourceName : resourceNames) {
+      permissions.put(
+          resourceName,
+          resourceName != null && permissionContains(permission, resourceName, r, a));
+    }
+
+    if (permission != null && permission.isLegacyFallback()) {
+      log.debug(
+          "Legacy fallback evaluated {} access to {} resources (type: {})",
+          a,
+          resourceNames.size(),
+          r);
+    }
+
+    return permissions;
+  }
+
+  public Map<String, Boolean> hasPermissions(
+      Authentication authentication,
+      Collection<String> resourceNames,
+      String resourceType,
+      Object authorization) {
+    return hasPermissions(
+        getUsername(authentication), resourceNames, resourceType, authorization);
+  }
+
   /**
    * Invalidates the cached permissions for a user.
    *
@@ -314,11 +386,12 @@ public class FiatPermissionEvaluator implements UserPermissionEvaluator {
                   return AuthenticatedRequest.propagate(
                           () -> {
                             try {
-                              return retryHandler.retry(
-                                  "getUserPermission for " + loadUserName,
-                                  () ->
-                                      Retrofit2SyncCall.execute(
-                                          fiatService.getUserPermission(loadUserName)));
+                              return indexed(
+                                  retryHandler.retry(
+                                      "getUserPermission for " + loadUserName,
+                                      () ->
+                                          Retrofit2SyncCall.execute(
+                                              fiatService.getUserPermission(loadUserName))));
                             } catch (Exception e) {
                               if (!fiatStatus.isLegacyFallbackEnabled()) {
                                 throw e;
@@ -330,7 +403,7 @@ public class FiatPermissionEvaluator implements UserPermissionEvaluator {
 
                               // this fallback permission will be temporarily cached in the
                               // permissions cache
-                              return buildFallbackView();
+                              return indexed(buildFallbackView());
                             }
                           })
                       .call();
@@ -363,7 +436,7 @@ public class FiatPermissionEvaluator implements UserPermissionEvaluator {
 
     if (view != null && view.isLegacyFallback() && view.getAccounts().isEmpty()) {
       // rebuild a potentially stale (could have come from the cache) legacy fallback
-      view = buildFallbackView();
+      view = indexed(buildFallbackView());
 
       log.debug(
           "Rebuilt legacy fallback user permission for {} (fallbackAccounts: {})",
@@ -419,31 +492,20 @@ public class FiatPermissionEvaluator implements UserPermissionEvaluator {
       return true;
     }
 
-    Function<Set<? extends Authorizable>, Boolean> containsAuth =
-        resources ->
-            resources.stream()
-                .anyMatch(
-                    view -> {
-                      Set<Authorization> authorizations =
-                          Optional.ofNullable(view.getAuthorizations())
-                              .orElse(Collections.emptySet());
-
-                      return view.getName().equalsIgnoreCase(resourceName)
-                          && authorizations.contains(authorization);
-                    });
+    PermissionIndex index = permission.getPermissionIndex();
 
     if (resourceType.equals(ResourceType.ACCOUNT)) {
-      boolean authorized = containsAuth.apply(permission.getAccounts());
+      boolean authorized = index.hasAuthorization(resourceType, resourceName, authorization);
 
       // Todo(jonsie): Debug transitory access denied issue, remove when not necessary
-      if (!authorized) {
+      if (!authorized && log.isDebugEnabled()) {
         Map<String, Set<Authorization>> accounts =
             permission.getAccounts().stream()
                 .collect(Collectors.toMap(Account.View::getName, Account.View::getAuthorizations));
 
         log.debug(
             "Authorization={} denied to account={} for user permission={}, found={}",
-            authorization.toString(),
+            authorization,
             resourceName,
             permission.getName(),
             accounts.toString());
@@ -451,29 +513,35 @@ public class FiatPermissionEvaluator implements UserPermissionEvaluator {
 
       return authorized;
     } else if (resourceType.equals(ResourceType.APPLICATION)) {
-      boolean applicationHasPermissions =
-          permission.getApplications().stream()
-              .anyMatch(a -> a.getName().equalsIgnoreCase(resourceName));
+      boolean applicationHasPermissions = index.contains(resourceType, resourceName);
 
       if (!applicationHasPermissions && permission.isAllowAccessToUnknownApplications()) {
         // allow access to any applications w/o explicit permissions
         return true;
       }
-      return permission.isLegacyFallback() || containsAuth.apply(permission.getApplications());
+      return permission.isLegacyFallback()
+          || index.hasAuthorization(resourceType, resourceName, authorization);
     } else if (resourceType.equals(ResourceType.SERVICE_ACCOUNT)) {
-      return permission.getServiceAccounts().stream()
-          .anyMatch(view -> view.getName().equalsIgnoreCase(resourceName));
+      return index.contains(resourceType, resourceName);
     } else if (resourceType.equals(ResourceType.BUILD_SERVICE)) {
-      return permission.isLegacyFallback() || containsAuth.apply(permission.getBuildServices());
-    } else if (permission.getExtensionResources() != null
-        && permission.getExtensionResources().containsKey(resourceType)) {
-      val extensionResources = permission.getExtensionResources().get(resourceType);
-      return permission.isLegacyFallback() || containsAuth.apply(extensionResources);
+      return permission.isLegacyFallback()
+          || index.hasAuthorization(resourceType, resourceName, authorization);
+    } else if (index.containsResourceType(resourceType)) {
+      return permission.isLegacyFallback()
+          || index.hasAuthorization(resourceType, resourceName, authorization);
     } else {
       return false;
     }
   }
 
+  private static UserPermission.View indexed(UserPermission.View view) {
+    if (view != null) {
+      // build the index once, before the view is shared through the permissions cache
+      view.getPermissionIndex();
+    }
+    return view;
+  }
+
   private UserPermission.View buildFallbackView() {
     return new UserPermission.View(
             new UserPermission()
@@ -146,6 +146,28 @@ class FiatPermissionEvaluatorSpec extends FiatSharedSpecification {
     !evaluator.canCreate('APPLICATION', resourceCannotCreate)
   }
 
+  def "should evaluate permissions in bulk"() {
+    setup:
+    UserPermission.View upv = new UserPermission.View()
+    upv.setApplications([
+        new Application.View().setName("Readable").setAuthorizations([Authorization.READ] as Set),
+        new Application.View().setName("writable").setAuthorizations([Authorization.READ, Authorization.WRITE] as Set)
+    ] as Set)
+
+    FiatService fiatService = Mock(FiatService) {
+      getUserPermission("testUser") >> Mock(Call) {
+        execute() >> Response.success(upv)
+      }
+    }
+    evaluator = updateEvaluator(fiatService)
+
+    expect:
+    evaluator.hasPermissions(authentication, ["readable", "WRITABLE", "unknown"], 'APPLICATION', 'READ') ==
+        [readable: true, WRITABLE: true, unknown: false]
+    evaluator.hasPermissions(authentication, ["readable", "writable"], 'APPLICATION', 'WRITE') ==
+        [readable: false, writable: true]
+  }
+
   @Unroll
   def "should retry fiat requests"() {
     given:
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.fiat.model;
+
+import com.netflix.spinnaker.fiat.model.resources.Authorizable;
+import com.netflix.spinnaker.fiat.model.resources.ResourceType;
+import com.netflix.spinnaker.fiat.model.resources.ServiceAccount;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A case-insensitive index of the resources in a {@link UserPermission.View}.
+ *
+ * <p>Each resource name maps to a bitset of the {@link Authorization}s granted on it, so that
+ * permission checks are a hash lookup rather than a scan over every resource of a type.
+ */
+public final class PermissionIndex {
+  private static final int NO_AUTHORIZATIONS = 0;
+
+  /**
+   * Keyed by {@link ResourceType#getName()}, as {@link ResourceType#hashCode()} is sensitive to the
+   * case of the name it was created with.
+   */
+  private final Map<String, Map<String, Integer>> authorizationsByType = new HashMap<>();
+
+  PermissionIndex(UserPermission.View view) {
+    index(ResourceType.ACCOUNT, view.getAccounts());
+    index(ResourceType.APPLICATION, view.getApplications());
+    index(ResourceType.BUILD_SERVICE, view.getBuildServices());
+    if (view.getServiceAccounts() != null) {
+      Map<String, Integer> serviceAccounts =
+          authorizationsByType.computeIfAbsent(
+              ResourceType.SERVICE_ACCOUNT.getName(), t -> new HashMap<>());
+      for (ServiceAccount.View serviceAccount : view.getServiceAccounts()) {
+        if (serviceAccount.getName() != null) {
+          serviceAccounts.putIfAbsent(normalize(serviceAccount.getName()), NO_AUTHORIZATIONS);
+        }
+      }
+    }
+    if (view.getExtensionResources() != null) {
+      view.getExtensionResources().forEach(this::index);
+    }
+  }
+
+  /**
+   * @return true if the view has an entry (possibly empty) for resources of the given type
+   */
+  public boolean containsResourceType(ResourceType resourceType) {
+    return authorizationsByType.containsKey(resourceType.getName());
+  }
+
+  /**
+   * @return true if the view contains a resource of the given type and name, regardless of the
+   *     authorizations granted on it
+   */
+  public boolean contains(ResourceType resourceType, String resourceName) {
+    Map<String, Integer> authorizations = authorizationsByType.get(resourceType.getName());
+    return authorizations != null && authorizations.containsKey(normalize(resourceName));
+  }
+
+  /**
+   * @return true if the view contains a resource of the given type and name, and the given
+   *     authorization is granted on it
+   */
+  public boolean hasAuthorization(
+      ResourceType resourceType, String resourceName, Authorization authorization) {
+    if (authorization == null) {
+      return false;
+    }
+    Map<String, Integer> authorizations = authorizationsByType.get(resourceType.getName());
+    if (authorizations == null) {
+      return false;
+    }
+    Integer mask = authorizations.get(normalize(resourceName));
+    return mask != null && (mask & bit(authorization)) != 0;
+  }
+
+  private void index(ResourceType resourceType, Collection<? extends Authorizable> resources) {
+    if (resources == null) {
+      return;
+    }
+
+    Map<String, Integer> authorizations =
+        authorizationsByType.computeIfAbsent(resourceType.getName(), t -> new HashMap<>());
+    for (Authorizable resource : resources) {
+      if (resource.getName() == null) {
+        continue;
+      }
+      // names that only differ by case are merged, matching the previous equalsIgnoreCase scan
+      authorizations.merge(
+          normalize(resource.getName()), mask(resource.getAuthorizations()), (a, b) -> a | b);
+    }
+  }
+
+  private static int mask(Set<Authorization> authorizations) {
+    int mask = NO_AUTHORIZATIONS;
+    if (authorizations != null) {
+      for (Authorization authorization : authorizations) {
+        mask |= bit(authorization);
+      }
+    }
+    return mask;
+  }
+
+  private static int bit(Authorization authorization) {
+    return 1 << authorization.ordinal();
+  }
+
+  private static String normalize(String resourceName) {
+    return resourceName.toLowerCase(Locale.ROOT);
+  }
+}
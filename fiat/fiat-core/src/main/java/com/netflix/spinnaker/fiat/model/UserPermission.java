@@ -21,9 +21,13 @@ import com.netflix.spinnaker.fiat.model.resources.*;
 import java.util.*;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import lombok.AccessLevel;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 import lombok.val;
 import org.springframework.security.core.GrantedAuthority;
 
@@ -124,6 +128,13 @@ public class UserPermission {
     boolean legacyFallback = false;
     boolean allowAccessToUnknownApplications = false;
 
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    transient volatile PermissionIndex permissionIndex;
+
     public View(UserPermission permission) {
       this.name = permission.id;
 
@@ -155,6 +166,20 @@ public class UserPermission {
       this.accountManager = permission.isAccountManager();
     }
 
+    /**
+     * Returns a case-insensitive index of this view's resources, building it on first use. The
+     * index is not rebuilt if the view's resources are subsequently modified.
+     */
+    @JsonIgnore
+    public PermissionIndex getPermissionIndex() {
+      PermissionIndex index = permissionIndex;
+      if (index == null) {
+        index = new PermissionIndex(this);
+        permissionIndex = index;
+      }
+      return index;
+    }
+
     /**
      * Returns this user permission view as a set of granted authorities. This authority set
      * contains the user's roles along with authorities indicating if they're Spinnaker admins or
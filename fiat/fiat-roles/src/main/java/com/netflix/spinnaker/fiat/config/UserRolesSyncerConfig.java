@@ -35,6 +35,9 @@ public class UserRolesSyncerConfig {
   @NestedConfigurationProperty
   private SynchronizationConfig synchronizationConfig = new SynchronizationConfig();
 
+  @NestedConfigurationProperty
+  private IncrementalSyncConfig incrementalSyncConfig = new IncrementalSyncConfig();
+
   @Data
   public static class SynchronizationConfig {
     private boolean enabled;
@@ -43,4 +46,20 @@ public class UserRolesSyncerConfig {
     private long syncFailureDelayMs = 1000;
     private long maxLockDurationMs = 600000;
   }
+
+  @Data
+  public static class IncrementalSyncConfig {
+    /**
+     * When true, scheduled syncs only re-resolve the users and service accounts holding a role
+     * that is affected by a resource permission change, and only write the users whose permissions
+     * changed.
+     */
+    private boolean enabled;
+
+    /**
+     * Scheduled syncs fall back to a full sync at this interval, as changes to the group
+     * memberships of users can not be detected from the resources.
+     */
+    private long fullSyncIntervalMs = 3600000;
+  }
 }
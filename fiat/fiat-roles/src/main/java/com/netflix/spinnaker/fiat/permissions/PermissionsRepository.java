@@ -47,6 +47,13 @@ public interface PermissionsRepository {
    */
   void putAllById(Map<String, UserPermission> permissions);
 
+  /**
+   * Removes the resources that are stored once for all users and that no user references any
+   * longer, if the repository stores resources that way. Called periodically by the user roles
+   * sync, while it holds its lock.
+   */
+  default void pruneUnreferencedResources() {}
+
   /**
    * Gets the UserPermission from the repository, if available. Returns an empty Optional if not
    * found.
@@ -33,6 +33,19 @@ public class RedisPermissionRepositoryConfigProps {
     private Duration getUserResourceTimeout = Duration.ofSeconds(1);
     private int syncThreads = Runtime.getRuntime().availableProcessors();
 
+    /**
+     * When true, each resource is stored once in a shared per-type hash and users only store the
+     * names of the resources they have access to, instead of a copy of every resource. Users are
+     * migrated as they are written; disabling this again requires a full user roles sync.
+     */
+    private boolean deduplicateResources = false;
+
+    /**
+     * How often the shared copies of resources that no user references any longer are removed,
+     * when resources are deduplicated. The prune reads the references of every user.
+     */
+    private Duration pruneSharedResourcesInterval = Duration.ofHours(1);
+
     public Duration getGetPermissionTimeout() {
       return getPermissionTimeout;
     }
@@ -64,5 +77,21 @@ public class RedisPermissionRepositoryConfigProps {
     public void setSyncThreads(int threads) {
       this.syncThreads = threads;
     }
+
+    public boolean isDeduplicateResources() {
+      return deduplicateResources;
+    }
+
+    public void setDeduplicateResources(boolean deduplicateResources) {
+      this.deduplicateResources = deduplicateResources;
+    }
+
+    public Duration getPruneSharedResourcesInterval() {
+      return pruneSharedResourcesInterval;
+    }
+
+    public void setPruneSharedResourcesInterval(Duration pruneSharedResourcesInterval) {
+      this.pruneSharedResourcesInterval = pruneSharedResourcesInterval;
+    }
   }
 }
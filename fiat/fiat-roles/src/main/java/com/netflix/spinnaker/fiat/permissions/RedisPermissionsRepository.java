@@ -45,6 +45,8 @@ import lombok.extern.slf4j.Slf4j;
 import net.jpountz.lz4.*;
 import redis.clients.jedis.*;
 import redis.clients.jedis.commands.JedisBinaryCommands;
+import redis.clients.jedis.commands.JedisCommands;
+import redis.clients.jedis.params.SetParams;
 import redis.clients.jedis.util.SafeEncoder;
 
 /**
@@ -56,6 +58,19 @@ import redis.clients.jedis.util.SafeEncoder;
  * }
  * </code> Additionally, a helper key, called the "all users" key, maintains a set of all usernames.
  *
+ * <p>When {@code fiat.redis.repository.deduplicate-resources} is enabled, resources other than
+ * roles are stored once in a shared hash per resource type, and each user only stores the
+ * (compressed) names of the resources it has access to: <code>
+ * "prefix:resources:applications": {
+ * "resourceName1": "[serialized json of resourceName1]"
+ * }
+ * "prefix:permissions-v3:myuser@domain.org:applications": "[serialized json of resource names]"
+ * </code> This reduces the memory used from users &times; resources copies of each resource to one
+ * copy per resource, at the cost of an additional round trip when reading a user's resources. A
+ * shared copy is only replaced by a write that started after the one that wrote it, see {@link
+ * #PUT_SHARED_RESOURCES}. Copies that no user references any longer are removed periodically, see
+ * {@link #pruneUnreferencedResources()}.
+ *
  * <p>It's important to note that gets and puts are not symmetrical by design. That is, what you put
  * in will likely not be exactly what you get out. That's because of "unrestricted" resources, which
  * are added to the returned UserPermission.
@@ -67,14 +82,57 @@ public class RedisPermissionsRepository implements PermissionsRepository {
 
   private static final String KEY_PERMISSIONS = "permissions";
   private static final String KEY_PERMISSIONS_V2 = "permissions-v2";
+  private static final String KEY_PERMISSIONS_V3 = "permissions-v3";
+  private static final String KEY_RESOURCES = "resources";
   private static final String KEY_ROLES = "roles";
   private static final String KEY_ALL_USERS = "users";
   private static final String KEY_ADMIN = "admin";
   private static final String KEY_ACCOUNT_MANAGERS = "accountmanagers";
   private static final String KEY_LAST_MODIFIED = "last_modified";
+  private static final String KEY_VERSIONS = "versions";
+  private static final String KEY_MARKS = "marks";
+  private static final String KEY_LAST_PRUNED = "last_pruned";
 
   private static final String UNRESTRICTED = UnrestrictedResourceConfig.UNRESTRICTED_USERNAME;
   private static final String NO_LAST_MODIFIED = "unknown_last_modified";
+  private static final int SHARED_RESOURCES_BATCH_SIZE = 1000;
+
+  /**
+   * Writes shared resource copies, unless they have been written by a later write. Every name
+   * written is also marked as in use, so that a prune in progress does not remove it.
+   *
+   * <p>KEYS: the shared copies, their versions and the in-use marks of a resource type. ARGV: the
+   * version of this write, followed by name/copy pairs.
+   */
+  private static final String PUT_SHARED_RESOURCES =
+      "local version = tonumber(ARGV[1])\n"
+          + "for i = 2, #ARGV, 2 do\n"
+          + "  local current = redis.call('HGET', KEYS[2], ARGV[i])\n"
+          + "  if not current or tonumber(current) <= version then\n"
+          + "    redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])\n"
+          + "    redis.call('HSET', KEYS[2], ARGV[i], ARGV[1])\n"
+          + "  end\n"
+          + "  redis.call('SADD', KEYS[3], ARGV[i])\n"
+          + "end\n"
+          + "return 1";
+
+  /**
+   * Removes the given shared resource copies, unless they were marked as in use since the prune
+   * started.
+   *
+   * <p>KEYS: the shared copies, their versions and the in-use marks of a resource type. ARGV: the
+   * names no user referenced when the prune read the users' references.
+   */
+  private static final String PRUNE_SHARED_RESOURCES =
+      "local pruned = 0\n"
+          + "for i = 1, #ARGV do\n"
+          + "  if redis.call('SISMEMBER', KEYS[3], ARGV[i]) == 0 then\n"
+          + "    redis.call('HDEL', KEYS[1], ARGV[i])\n"
+          + "    redis.call('HDEL', KEYS[2], ARGV[i])\n"
+          + "    pruned = pruned + 1\n"
+          + "  end\n"
+          + "end\n"
+          + "return pruned";
 
   private final Clock clock;
   private final ObjectMapper objectMapper;
@@ -208,10 +266,21 @@ public class RedisPermissionsRepository implements PermissionsRepository {
   private static class PutUpdateData {
     public byte[] userResourceKey;
     public byte[] compressedData;
+    public byte[] replacedKey;
+    public byte[] marksKey;
+    public byte[][] referencedNames;
   }
 
   @Override
   public RedisPermissionsRepository put(@NonNull UserPermission permission) {
+    return put(permission, true);
+  }
+
+  /**
+   * @param writeSharedResources whether the shared copies of the user's resources should be written
+   *     when resources are deduplicated, false if they have already been written
+   */
+  private RedisPermissionsRepository put(UserPermission permission, boolean writeSharedResources) {
     String userId = permission.getId();
     byte[] bUserId = SafeEncoder.encode(userId);
     List<ResourceType> resourceTypes =
@@ -229,18 +298,37 @@ public class RedisPermissionsRepository implements PermissionsRepository {
             });
 
     try {
+      if (writeSharedResources) {
+        putSharedResources(List.of(permission), clock.millis());
+      }
+
       Set<Role> existingRoles = new HashSet<>(getUserRoleMapFromRedis(userId).values());
 
       // These updates are pre-prepared to reduce work done during the multi-key pipeline
       List<PutUpdateData> updateData = new ArrayList<>();
       for (ResourceType rt : resourceTypes) {
         Map<String, Resource> redisValue = resourceTypeToRedisValue.get(rt);
-        byte[] userResourceKey = userKey(userId, rt);
+        boolean storedByReference = isStoredByReference(rt);
         PutUpdateData pud = new PutUpdateData();
-        pud.userResourceKey = userResourceKey;
+        if (storedByReference) {
+          pud.userResourceKey = userReferencesKey(userId, rt);
+          // drops any copy of the resources written before resources were deduplicated
+          pud.replacedKey = userKey(userId, rt);
+          if (redisValue != null && !redisValue.isEmpty()) {
+            pud.marksKey = resourceMarksKey(rt);
+            pud.referencedNames =
+                redisValue.keySet().stream().map(SafeEncoder::encode).toArray(byte[][]::new);
+          }
+        } else {
+          pud.userResourceKey = userKey(userId, rt);
+        }
 
         if (redisValue == null || redisValue.size() == 0) {
           pud.compressedData = null;
+        } else if (storedByReference) {
+          pud.compressedData =
+              lz4Compressor.compress(
+                  objectMapper.writeValueAsBytes(new TreeSet<>(redisValue.keySet())));
         } else {
           pud.compressedData = lz4Compressor.compress(objectMapper.writeValueAsBytes(redisValue));
         }
@@ -276,6 +364,13 @@ public class RedisPermissionsRepository implements PermissionsRepository {
                 pipeline.set(tempKey, pud.compressedData);
                 pipeline.rename(tempKey, pud.userResourceKey);
               }
+              if (pud.replacedKey != null) {
+                pipeline.del(pud.replacedKey);
+              }
+              if (pud.marksKey != null) {
+                // after the references, see pruneUnreferencedResources()
+                pipeline.sadd(pud.marksKey, pud.referencedNames);
+              }
             }
 
             serverTime.set(pipeline.time());
@@ -304,7 +399,15 @@ public class RedisPermissionsRepository implements PermissionsRepository {
     }
 
     try {
-      syncThreadPool.submit(() -> permissions.values().parallelStream().forEach(this::put)).get();
+      // every resource is written once, rather than once for each user that has access to it
+      putSharedResources(permissions.values(), clock.millis());
+      syncThreadPool
+          .submit(
+              () -> permissions.values().parallelStream().forEach(p -> this.put(p, false)))
+          .get();
+    } catch (IOException e) {
+      log.error("Failed to put shared resources", e);
+      throw new IntegrationException("Failed to put shared resources", e);
     } catch (ExecutionException e) {
       log.error("Failed to put permissions in parallel", e.getCause());
       throw new IntegrationException("Failed to put permissions", e.getCause());
@@ -343,20 +446,216 @@ public class RedisPermissionsRepository implements PermissionsRepository {
 
   private Map<String, Resource> getUserResourceMapFromRedis(String id, ResourceType resourceType)
       throws IOException {
+    if (isStoredByReference(resourceType)) {
+      return getReferencedResourceMapFromRedis(id, resourceType);
+    }
+
     byte[] redisData = getUserResourceBytesFromRedis(id, resourceType);
 
     if (redisData == null) {
       return new HashMap<>();
     }
 
-    Class<? extends Resource> modelClazz =
+    return objectMapper.readerForMapOf(modelClass(resourceType)).readValue(redisData);
+  }
+
+  private Map<String, Resource> getReferencedResourceMapFromRedis(
+      String id, ResourceType resourceType) throws IOException {
+    TimeoutContext timeoutContext =
+        new TimeoutContext(
+            String.format("get user resource references from redis: %s (%s)", id, resourceType),
+            clock,
+            configProps.getRepository().getGetUserResourceTimeout());
+    byte[] referencesKey = userReferencesKey(id, resourceType);
+    byte[] legacyKey = userKey(id, resourceType);
+
+    List<byte[]> values = redisRead(timeoutContext, c -> c.mget(referencesKey, legacyKey));
+    byte[] compressedReferences = values.get(0);
+    if (compressedReferences == null || compressedReferences.length == 0) {
+      // users that have not been written since resources were deduplicated
+      byte[] compressedData = values.get(1);
+      if (compressedData == null || compressedData.length == 0) {
+        return new HashMap<>();
+      }
+      return objectMapper
+          .readerForMapOf(modelClass(resourceType))
+          .readValue(lz4Decompressor.decompress(compressedData));
+    }
+
+    List<String> names =
+        objectMapper.readValue(
+            lz4Decompressor.decompress(compressedReferences), new TypeReference<>() {});
+    if (names.isEmpty()) {
+      return new HashMap<>();
+    }
+
+    byte[] resourcesKey = resourcesKey(resourceType);
+    byte[][] fields = names.stream().map(SafeEncoder::encode).toArray(byte[][]::new);
+    List<byte[]> bodies = redisRead(timeoutContext, c -> c.hmget(resourcesKey, fields));
+
+    Class<? extends Resource> modelClazz = modelClass(resourceType);
+    Map<String, Resource> resourcesByName = new HashMap<>(names.size());
+    for (int i = 0; i < names.size(); i++) {
+      byte[] body = bodies.get(i);
+      if (body != null) {
+        resourcesByName.put(names.get(i), objectMapper.readValue(body, modelClazz));
+      }
+    }
+    return resourcesByName;
+  }
+
+  /**
+   * Writes the resources referenced by the given permissions to the shared per-type hashes, when
+   * resources are deduplicated.
+   *
+   * @param version the time the write started; copies written by a later write are kept
+   */
+  private void putSharedResources(Collection<UserPermission> permissions, long version)
+      throws IOException {
+    if (!configProps.getRepository().isDeduplicateResources()) {
+      return;
+    }
+
+    Map<ResourceType, Map<String, Resource>> resourcesByType = new HashMap<>();
+    for (UserPermission permission : permissions) {
+      for (Resource resource : permission.getAllResources()) {
+        if (isStoredByReference(resource.getResourceType())) {
+          resourcesByType
+              .computeIfAbsent(resource.getResourceType(), key -> new HashMap<>())
+              .putIfAbsent(resource.getName(), resource);
+        }
+      }
+    }
+
+    for (Map.Entry<ResourceType, Map<String, Resource>> entry : resourcesByType.entrySet()) {
+      List<String> keys = sharedResourceKeys(entry.getKey());
+      List<String> args = new ArrayList<>();
+      args.add(String.valueOf(version));
+      for (Resource resource : entry.getValue().values()) {
+        args.add(resource.getName());
+        args.add(objectMapper.writeValueAsString(resource));
+        if (args.size() > 2 * SHARED_RESOURCES_BATCH_SIZE) {
+          evalSharedResources(PUT_SHARED_RESOURCES, keys, args);
+          args = new ArrayList<>();
+          args.add(String.valueOf(version));
+        }
+      }
+      if (args.size() > 1) {
+        evalSharedResources(PUT_SHARED_RESOURCES, keys, args);
+      }
+    }
+  }
+
+  /**
+   * Removes the shared resource copies that no user references any longer, when resources are
+   * deduplicated and no prune has run within {@code
+   * fiat.redis.repository.prune-shared-resources-interval}.
+   *
+   * <p>The in-use marks of each type are cleared first. Every write of a shared copy, and every
+   * write of a user's references, marks the names it writes afterwards. A name that no user
+   * referenced when its references were read is only removed if it has not been marked since, so a
+   * concurrent put never loses a copy it references.
+   */
+  @Override
+  public void pruneUnreferencedResources() {
+    if (!configProps.getRepository().isDeduplicateResources()) {
+      return;
+    }
+
+    long intervalMs = configProps.getRepository().getPruneSharedResourcesInterval().toMillis();
+    String acquired =
+        redisClientDelegate.withCommandsClient(
+            (Function<JedisCommands, String>)
+                c ->
+                    c.set(
+                        lastPrunedKey(),
+                        String.valueOf(clock.millis()),
+                        SetParams.setParams().nx().px(intervalMs)));
+    if (!"OK".equals(acquired)) {
+      return;
+    }
+
+    List<ResourceType> resourceTypes =
         resources.stream()
-            .filter(resource -> resource.getResourceType().equals(resourceType))
-            .findFirst()
-            .orElseThrow(IllegalArgumentException::new)
-            .getClass();
+            .map(Resource::getResourceType)
+            .filter(this::isStoredByReference)
+            .collect(Collectors.toList());
+    try {
+      for (ResourceType resourceType : resourceTypes) {
+        pruneUnreferencedResources(resourceType);
+      }
+    } catch (IOException e) {
+      log.error("Failed to prune shared resources", e);
+    }
+  }
+
+  private void pruneUnreferencedResources(ResourceType resourceType) throws IOException {
+    List<String> keys = sharedResourceKeys(resourceType);
+    redisClientDelegate.withCommandsClient(
+        c -> {
+          c.del(keys.get(2));
+        });
 
-    return objectMapper.readerForMapOf(modelClazz).readValue(redisData);
+    Set<String> unreferenced =
+        redisClientDelegate.withCommandsClient(
+            (Function<JedisCommands, Set<String>>) c -> c.hkeys(keys.get(0)));
+    if (unreferenced.isEmpty()) {
+      return;
+    }
+    unreferenced = new HashSet<>(unreferenced);
+
+    List<String> userIds = new ArrayList<>(scanSet(allUsersKey));
+    for (int i = 0; i < userIds.size(); i += SHARED_RESOURCES_BATCH_SIZE) {
+      List<String> batch =
+          userIds.subList(i, Math.min(i + SHARED_RESOURCES_BATCH_SIZE, userIds.size()));
+      List<Response<byte[]>> references =
+          redisClientDelegate.withMultiKeyPipeline(
+              pipeline -> {
+                List<Response<byte[]>> responses =
+                    batch.stream()
+                        .map(userId -> pipeline.get(userReferencesKey(userId, resourceType)))
+                        .collect(Collectors.toList());
+                pipeline.sync();
+                return responses;
+              });
+      for (Response<byte[]> response : references) {
+        byte[] compressedReferences = response.get();
+        if (compressedReferences != null && compressedReferences.length > 0) {
+          List<String> names =
+              objectMapper.readValue(
+                  lz4Decompressor.decompress(compressedReferences), new TypeReference<>() {});
+          names.forEach(unreferenced::remove);
+        }
+      }
+    }
+
+    long pruned = 0;
+    List<String> names = new ArrayList<>(unreferenced);
+    for (int i = 0; i < names.size(); i += SHARED_RESOURCES_BATCH_SIZE) {
+      List<String> batch =
+          names.subList(i, Math.min(i + SHARED_RESOURCES_BATCH_SIZE, names.size()));
+      pruned += (Long) evalSharedResources(PRUNE_SHARED_RESOURCES, keys, batch);
+    }
+    log.debug("Pruned {} unreferenced shared {}", pruned, resourceType);
+  }
+
+  private Object evalSharedResources(String script, List<String> keys, List<String> args) {
+    return redisClientDelegate.withScriptingClient(
+        (Function<JedisCommands, Object>) c -> c.eval(script, keys, args));
+  }
+
+  private boolean isStoredByReference(ResourceType resourceType) {
+    // roles are read on their own (e.g. to maintain the role to user index), so they stay inline
+    return configProps.getRepository().isDeduplicateResources()
+        && !ResourceType.ROLE.equals(resourceType);
+  }
+
+  private Class<? extends Resource> modelClass(ResourceType resourceType) {
+    return resources.stream()
+        .filter(resource -> resource.getResourceType().equals(resourceType))
+        .findFirst()
+        .orElseThrow(IllegalArgumentException::new)
+        .getClass();
   }
 
   private Map<String, Role> getUserRoleMapFromRedis(String id) throws IOException {
@@ -474,7 +773,13 @@ public class RedisPermissionsRepository implements PermissionsRepository {
             p.srem(allUsersKey, bId);
             userRolesById.keySet().forEach(roleName -> p.srem(roleKey(roleName), bId));
 
-            resources.stream().map(Resource::getResourceType).forEach(r -> p.del(userKey(id, r)));
+            resources.stream()
+                .map(Resource::getResourceType)
+                .forEach(
+                    r -> {
+                      p.del(userKey(id, r));
+                      p.del(userReferencesKey(id, r));
+                    });
             p.srem(adminKey, bId);
             p.srem(accountManagersKey, bId);
             p.sync();
@@ -548,6 +853,31 @@ public class RedisPermissionsRepository implements PermissionsRepository {
         String.format("%s:%s:%s:%s", prefix, KEY_PERMISSIONS_V2, userId, r.keySuffix()));
   }
 
+  private byte[] userReferencesKey(String userId, ResourceType r) {
+    return SafeEncoder.encode(
+        String.format("%s:%s:%s:%s", prefix, KEY_PERMISSIONS_V3, userId, r.keySuffix()));
+  }
+
+  private byte[] resourcesKey(ResourceType r) {
+    return SafeEncoder.encode(String.format("%s:%s:%s", prefix, KEY_RESOURCES, r.keySuffix()));
+  }
+
+  private byte[] resourceMarksKey(ResourceType r) {
+    return SafeEncoder.encode(
+        String.format("%s:%s:%s:%s", prefix, KEY_RESOURCES, r.keySuffix(), KEY_MARKS));
+  }
+
+  /** The shared copies, their versions and their in-use marks of the given resource type. */
+  private List<String> sharedResourceKeys(ResourceType r) {
+    String resourcesKey = String.format("%s:%s:%s", prefix, KEY_RESOURCES, r.keySuffix());
+    return List.of(
+        resourcesKey, resourcesKey + ":" + KEY_VERSIONS, resourcesKey + ":" + KEY_MARKS);
+  }
+
+  private String lastPrunedKey() {
+    return String.format("%s:%s:%s", prefix, KEY_RESOURCES, KEY_LAST_PRUNED);
+  }
+
   private byte[] roleKey(Role role) {
     return roleKey(role.getName());
   }
@@ -0,0 +1,351 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.fiat.roles;
+
+import com.google.common.collect.Lists;
+import com.google.common.hash.Hashing;
+import com.netflix.spinnaker.fiat.config.FiatAdminConfig;
+import com.netflix.spinnaker.fiat.config.UserRolesSyncerConfig;
+import com.netflix.spinnaker.fiat.model.Authorization;
+import com.netflix.spinnaker.fiat.model.UserPermission;
+import com.netflix.spinnaker.fiat.model.resources.Permissions;
+import com.netflix.spinnaker.fiat.model.resources.Resource;
+import com.netflix.spinnaker.fiat.model.resources.ResourceType;
+import com.netflix.spinnaker.fiat.model.resources.Role;
+import com.netflix.spinnaker.fiat.model.resources.ServiceAccount;
+import com.netflix.spinnaker.fiat.providers.ProviderException;
+import com.netflix.spinnaker.fiat.providers.ResourceProvider;
+import com.netflix.spinnaker.kork.jedis.RedisClientDelegate;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+import redis.clients.jedis.commands.JedisCommands;
+
+/**
+ * Tracks content hashes of resource permissions and of resolved user permissions, so that {@link
+ * UserRolesSyncer} can limit a sync to the roles affected by a resource permission change and only
+ * write the users whose permissions actually changed.
+ *
+ * <p>Fingerprints are kept in Redis (next to the other user roles sync keys) so that every fiat
+ * instance compares against the state last written by any of them.
+ */
+@Slf4j
+@Component
+@ConditionalOnExpression("${fiat.write-mode.enabled:true}")
+public class PermissionChangeTracker {
+  private static final String KEY_USER_ROLES = "user_roles";
+  private static final String KEY_RESOURCE_FINGERPRINTS = "resource_fingerprints";
+  private static final String KEY_USER_FINGERPRINTS = "user_fingerprints";
+  private static final String KEY_LAST_FULL_SYNC_TIME = "last_full_sync_time";
+
+  private static final String SEPARATOR = "\n";
+  private static final int HMGET_BATCH_SIZE = 1000;
+
+  private final List<ResourceProvider<? extends Resource>> resourceProviders;
+  private final FiatAdminConfig fiatAdminConfig;
+  private final RedisClientDelegate redisClientDelegate;
+  private final UserRolesSyncerConfig configurationProperties;
+
+  @Autowired
+  public PermissionChangeTracker(
+      List<ResourceProvider<? extends Resource>> resourceProviders,
+      FiatAdminConfig fiatAdminConfig,
+      RedisClientDelegate redisClientDelegate,
+      UserRolesSyncerConfig configurationProperties) {
+    this.resourceProviders = resourceProviders;
+    this.fiatAdminConfig = fiatAdminConfig;
+    this.redisClientDelegate = redisClientDelegate;
+    this.configurationProperties = configurationProperties;
+  }
+
+  /**
+   * @return true if no full sync has been recorded within the configured full sync interval
+   */
+  public boolean isFullSyncDue() {
+    String lastFullSyncTime =
+        redisClientDelegate.withCommandsClient(
+            (Function<JedisCommands, String>) c -> c.get(key(KEY_LAST_FULL_SYNC_TIME)));
+    return lastFullSyncTime == null
+        || System.currentTimeMillis() - Long.parseLong(lastFullSyncTime)
+            >= configurationProperties.getIncrementalSyncConfig().getFullSyncIntervalMs();
+  }
+
+  public void recordFullSync(long syncTime) {
+    redisClientDelegate.withCommandsClient(
+        c -> {
+          c.set(key(KEY_LAST_FULL_SYNC_TIME), String.valueOf(syncTime));
+        });
+  }
+
+  /**
+   * Compares the permissions of every resource currently reported by the resource providers with
+   * the fingerprints recorded by {@link #recordResourceChanges(ResourceChanges)}.
+   */
+  public ResourceChanges detectResourceChanges() throws ProviderException {
+    Map<String, String> current = new HashMap<>();
+    for (ResourceProvider<? extends Resource> provider : resourceProviders) {
+      for (Resource resource : provider.getAll()) {
+        if (resource.getName() == null || resource.getResourceType() == null) {
+          continue;
+        }
+        if (resource instanceof Resource.AccessControlled || resource instanceof ServiceAccount) {
+          current.put(resourceKey(resource), resourceFingerprint(resource));
+        }
+      }
+    }
+
+    Map<String, String> previous =
+        redisClientDelegate.withCommandsClient(
+            (Function<JedisCommands, Map<String, String>>)
+                c -> c.hgetAll(key(KEY_RESOURCE_FINGERPRINTS)));
+
+    ResourceChanges changes = new ResourceChanges(previous.isEmpty());
+    current.forEach(
+        (resourceKey, fingerprint) -> {
+          String previousFingerprint = previous.get(resourceKey);
+          if (!fingerprint.equals(previousFingerprint)) {
+            changes.modified.put(resourceKey, fingerprint);
+            changes.affect(resourceKey, previousFingerprint);
+            changes.affect(resourceKey, fingerprint);
+          }
+        });
+    previous.forEach(
+        (resourceKey, fingerprint) -> {
+          if (!current.containsKey(resourceKey)) {
+            changes.removed.add(resourceKey);
+            changes.affect(resourceKey, fingerprint);
+          }
+        });
+
+    if (changes.hasChanges()) {
+      // admins are granted every restricted resource
+      fiatAdminConfig.getAdmin().getRoles().forEach(changes.affectedRoles::add);
+    }
+
+    log.debug(
+        "Detected {} modified and {} removed resources affecting roles: {}",
+        changes.modified.size(),
+        changes.removed.size(),
+        changes.affectedRoles);
+    return changes;
+  }
+
+  /** Records the fingerprints of the given changes, once the affected users have been synced. */
+  public void recordResourceChanges(ResourceChanges changes) {
+    if (!changes.hasChanges()) {
+      return;
+    }
+
+    redisClientDelegate.withCommandsClient(
+        c -> {
+          if (!changes.modified.isEmpty()) {
+            c.hset(key(KEY_RESOURCE_FINGERPRINTS), changes.modified);
+          }
+          if (!changes.removed.isEmpty()) {
+            c.hdel(key(KEY_RESOURCE_FINGERPRINTS), changes.removed.toArray(new String[0]));
+          }
+        });
+  }
+
+  /**
+   * @return fingerprints of the given user permissions, keyed by user id
+   */
+  public Map<String, String> fingerprintUserPermissions(Map<String, UserPermission> permissions) {
+    return permissions.entrySet().stream()
+        .collect(Collectors.toMap(Map.Entry::getKey, e -> userPermissionFingerprint(e.getValue())));
+  }
+
+  /**
+   * @return the subset of {@code fingerprints} that differ from the recorded ones
+   */
+  public Map<String, String> changedUserPermissions(Map<String, String> fingerprints) {
+    Map<String, String> changed = new HashMap<>();
+    for (List<String> ids :
+        Lists.partition(new ArrayList<>(fingerprints.keySet()), HMGET_BATCH_SIZE)) {
+      List<String> previous =
+          redisClientDelegate.withCommandsClient(
+              (Function<JedisCommands, List<String>>)
+                  c -> c.hmget(key(KEY_USER_FINGERPRINTS), ids.toArray(new String[0])));
+      for (int i = 0; i < ids.size(); i++) {
+        String fingerprint = fingerprints.get(ids.get(i));
+        if (!fingerprint.equals(previous.get(i))) {
+          changed.put(ids.get(i), fingerprint);
+        }
+      }
+    }
+    return changed;
+  }
+
+  public void recordUserPermissions(Map<String, String> fingerprints) {
+    if (fingerprints.isEmpty()) {
+      return;
+    }
+
+    redisClientDelegate.withCommandsClient(
+        c -> {
+          c.hset(key(KEY_USER_FINGERPRINTS), fingerprints);
+        });
+  }
+
+  /**
+   * Forgets the recorded fingerprint of a user whose permissions were written or removed outside of
+   * a sync, so that the next sync writes the user again.
+   */
+  public void forgetUserPermissions(String userId) {
+    redisClientDelegate.withCommandsClient(
+        c -> {
+          c.hdel(key(KEY_USER_FINGERPRINTS), userId);
+        });
+  }
+
+  /**
+   * A resource fingerprint is the hash of its permissions followed by the roles it grants access
+   * to, so that the roles a resource used to grant access to are known once it changes.
+   */
+  static String resourceFingerprint(Resource resource) {
+    Set<String> roles = new TreeSet<>();
+    StringBuilder canonical = new StringBuilder();
+    if (resource instanceof Resource.AccessControlled) {
+      Permissions permissions = ((Resource.AccessControlled) resource).getPermissions();
+      if (permissions != null && permissions.isRestricted()) {
+        for (Authorization authorization : Authorization.values()) {
+          Set<String> groups = sorted(permissions.get(authorization));
+          canonical.append(authorization).append('=').append(groups).append(';');
+          roles.addAll(groups);
+        }
+      }
+    } else if (resource instanceof ServiceAccount) {
+      Set<String> memberOf = sorted(((ServiceAccount) resource).getMemberOf());
+      canonical.append("memberOf=").append(memberOf);
+      roles.addAll(memberOf);
+    }
+
+    List<String> parts = new ArrayList<>();
+    parts.add(hash(canonical.toString()));
+    parts.addAll(roles);
+    return String.join(SEPARATOR, parts);
+  }
+
+  static String userPermissionFingerprint(UserPermission permission) {
+    StringBuilder canonical =
+        new StringBuilder()
+            .append(permission.isAdmin())
+            .append(';')
+            .append(permission.isAccountManager())
+            .append(';');
+    permission.getRoles().stream()
+        .map(role -> role.getName() + ":" + role.getSource())
+        .sorted()
+        .forEach(role -> canonical.append(role).append(';'));
+    permission.getAllResources().stream()
+        .filter(resource -> !(resource instanceof Role))
+        .map(resource -> resourceKey(resource) + "=" + resourceFingerprint(resource))
+        .sorted()
+        .forEach(resource -> canonical.append(resource).append(';'));
+    return hash(canonical.toString());
+  }
+
+  private static String resourceKey(Resource resource) {
+    return resource.getResourceType().getName().toLowerCase(Locale.ROOT)
+        + ":"
+        + resource.getName().toLowerCase(Locale.ROOT);
+  }
+
+  private static Set<String> sorted(Collection<String> groups) {
+    if (groups == null) {
+      return Collections.emptySet();
+    }
+    return groups.stream()
+        .filter(group -> group != null && !group.isEmpty())
+        .map(group -> group.trim().toLowerCase(Locale.ROOT))
+        .collect(Collectors.toCollection(TreeSet::new));
+  }
+
+  private static String hash(String value) {
+    return Hashing.sha256().hashString(value, StandardCharsets.UTF_8).toString();
+  }
+
+  private String key(String name) {
+    return String.format(
+        "%s:%s:%s",
+        configurationProperties.getSynchronizationConfig().getPrefix(), KEY_USER_ROLES, name);
+  }
+
+  /** The resources whose permissions changed since the last recorded sync. */
+  public static class ResourceChanges {
+    private static final String SERVICE_ACCOUNT_KEY_PREFIX =
+        ResourceType.SERVICE_ACCOUNT.getName().toLowerCase(Locale.ROOT) + ":";
+
+    /**
+     * True if nothing has been recorded yet, in which case the affected roles are unknown and a
+     * full sync is required.
+     */
+    @Getter private final boolean initial;
+
+    /** Roles that were, or now are, granted access to a changed resource. */
+    @Getter private final Set<String> affectedRoles = new HashSet<>();
+
+    /** Service accounts whose own membership changed. */
+    @Getter private final Set<String> affectedServiceAccounts = new HashSet<>();
+
+    /** True if an unrestricted resource changed, or a resource became (un)restricted. */
+    @Getter private boolean unrestrictedChanged;
+
+    private final Map<String, String> modified = new HashMap<>();
+    private final Set<String> removed = new HashSet<>();
+
+    ResourceChanges(boolean initial) {
+      this.initial = initial;
+    }
+
+    public boolean hasChanges() {
+      return !modified.isEmpty() || !removed.isEmpty();
+    }
+
+    private void affect(String resourceKey, String fingerprint) {
+      if (fingerprint == null) {
+        return;
+      }
+
+      String[] parts = fingerprint.split(SEPARATOR);
+      if (parts.length == 1) {
+        unrestrictedChanged = true;
+      }
+      for (int i = 1; i < parts.length; i++) {
+        affectedRoles.add(parts[i]);
+      }
+      if (resourceKey.startsWith(SERVICE_ACCOUNT_KEY_PREFIX)) {
+        affectedServiceAccounts.add(resourceKey.substring(SERVICE_ACCOUNT_KEY_PREFIX.length()));
+      }
+    }
+  }
+}
@@ -71,6 +71,7 @@ public class UserRolesSyncer {
   private final RedisClientDelegate redisClientDelegate;
   private final UserRolesSyncerConfig configurationProperties;
   private final Synchronizer synchronizer;
+  private final PermissionChangeTracker changeTracker;
 
   private final Registry registry;
   private final Gauge userRolesSyncCount;
@@ -82,7 +83,6 @@ public class UserRolesSyncer {
   private static final AtomicReference<CountDownLatch> globalLatch = new AtomicReference<>(null);
   private final AtomicReference<String> lastSyncTime = new AtomicReference<>(null);
 
-  @Autowired
   public UserRolesSyncer(
       DiscoveryStatusListener discoveryStatusListener,
       Registry registry,
@@ -94,6 +94,33 @@ public class UserRolesSyncer {
       RedisClientDelegate redisClientDelegate,
       UserRolesSyncerConfig configurationProperties,
       Synchronizer synchronizer) {
+    this(
+        discoveryStatusListener,
+        registry,
+        lockManager,
+        permissionsRepository,
+        permissionsResolver,
+        serviceAccountProvider,
+        healthIndicator,
+        redisClientDelegate,
+        configurationProperties,
+        synchronizer,
+        null);
+  }
+
+  @Autowired
+  public UserRolesSyncer(
+      DiscoveryStatusListener discoveryStatusListener,
+      Registry registry,
+      LockManager lockManager,
+      PermissionsRepository permissionsRepository,
+      PermissionsResolver permissionsResolver,
+      ResourceProvider<ServiceAccount> serviceAccountProvider,
+      ResourceProvidersHealthIndicator healthIndicator,
+      RedisClientDelegate redisClientDelegate,
+      UserRolesSyncerConfig configurationProperties,
+      Synchronizer synchronizer,
+      PermissionChangeTracker changeTracker) {
     this.discoveryStatusListener = discoveryStatusListener;
 
     this.lockManager = lockManager;
@@ -104,6 +131,7 @@ public class UserRolesSyncer {
     this.redisClientDelegate = redisClientDelegate;
     this.configurationProperties = configurationProperties;
     this.synchronizer = synchronizer;
+    this.changeTracker = changeTracker;
 
     this.registry = registry;
     this.userRolesSyncCount = registry.gauge(metricName("syncCount"));
@@ -136,8 +164,12 @@ public class UserRolesSyncer {
         lockOptions,
         () -> {
           try {
-            timeIt("syncTime", () -> userRolesSyncCount.set(this.syncAndReturn(new ArrayList<>())));
+            timeIt(
+                "syncTime",
+                () -> userRolesSyncCount.set(this.syncAndReturn(new ArrayList<>(), true)));
             log.info("user roles synced");
+            // a no-op unless a prune is due, see RedisPermissionsRepository
+            permissionsRepository.pruneUnreferencedResources();
           } catch (Exception e) {
             log.error("User roles synchronization failed", e);
             userRolesSyncCount.set(-1);
@@ -146,16 +178,24 @@ public class UserRolesSyncer {
   }
 
   public long syncAndReturn(List<String> roles) {
+    return syncAndReturn(roles, false);
+  }
+
+  /**
+   * @param scheduled true for the periodic sync, which is limited to the users affected by resource
+   *     permission changes when incremental sync is enabled
+   */
+  private long syncAndReturn(List<String> roles, boolean scheduled) {
     log.debug("Attempting to sync the following user roles: {}", roles);
     if (this.configurationProperties.getSynchronizationConfig().isEnabled()) {
       log.info("since synchronization is enabled, forcing a sync of all user roles");
-      return doSynchronizedUserRolesSync(new ArrayList<>());
+      return doSynchronizedUserRolesSync(new ArrayList<>(), scheduled);
     } else {
-      return syncUserRoles(roles);
+      return syncUserRoles(roles, scheduled);
     }
   }
 
-  private long doSynchronizedUserRolesSync(List<String> roles) {
+  private long doSynchronizedUserRolesSync(List<String> roles, boolean scheduled) {
     // this is the timestamp at which a thread attempts to refresh
     long syncAttemptTime = System.currentTimeMillis();
     log.debug("Attempting to sync user roles at: {}", new Date(syncAttemptTime));
@@ -210,7 +250,7 @@ public class UserRolesSyncer {
                               (Function<JedisCommands, String>) c -> c.get(userRolesCountKey()));
                       return Long.parseLong(lastKnownSyncCount);
                     }
-                    return syncUserRoles(roles);
+                    return syncUserRoles(roles, scheduled);
                   });
 
           // update in-mem last sync time by getting the most recent value
@@ -289,7 +329,9 @@ public class UserRolesSyncer {
     return count;
   }
 
-  private long syncUserRoles(List<String> roles) {
+  private long syncUserRoles(List<String> roles, boolean scheduled) {
+    boolean incremental = scheduled && isIncrementalSyncEnabled();
+
     FixedBackOff backoff = new FixedBackOff();
     backoff.setInterval(this.configurationProperties.getRetryIntervalMs());
     backoff.setMaxAttempts(
@@ -314,6 +356,10 @@ public class UserRolesSyncer {
 
     while (true) {
       try {
+        if (incremental) {
+          return syncChangedUserRoles();
+        }
+
         Map<String, UserPermission> combo = new HashMap<>();
         // force a refresh of the unrestricted user in case the backing repository is empty:
         combo.put(UnrestrictedResourceConfig.UNRESTRICTED_USERNAME, new UserPermission());
@@ -363,6 +409,58 @@ public class UserRolesSyncer {
     }
   }
 
+  /**
+   * Syncs the users and service accounts holding a role that is affected by a resource permission
+   * change since the last sync, falling back to a full sync when one is due.
+   */
+  private long syncChangedUserRoles() {
+    long syncStartTime = System.currentTimeMillis();
+    PermissionChangeTracker.ResourceChanges changes = changeTracker.detectResourceChanges();
+    boolean fullSync = changes.isInitial() || changeTracker.isFullSyncDue();
+
+    Map<String, UserPermission> combo = new HashMap<>();
+    if (fullSync) {
+      combo.put(UnrestrictedResourceConfig.UNRESTRICTED_USERNAME, new UserPermission());
+      combo.putAll(getUserPermissions(null));
+      combo.putAll(getServiceAccountsAsMap(null));
+    } else {
+      if (changes.isUnrestrictedChanged()) {
+        combo.put(UnrestrictedResourceConfig.UNRESTRICTED_USERNAME, new UserPermission());
+      }
+      if (!changes.getAffectedRoles().isEmpty()) {
+        List<String> affectedRoles = new ArrayList<>(changes.getAffectedRoles());
+        combo.putAll(getUserPermissions(affectedRoles));
+        combo.putAll(getServiceAccountsAsMap(affectedRoles));
+      }
+      if (!changes.getAffectedServiceAccounts().isEmpty()) {
+        serviceAccountProvider.getAll().stream()
+            .filter(
+                serviceAccount ->
+                    changes
+                        .getAffectedServiceAccounts()
+                        .contains(serviceAccount.getName().toLowerCase()))
+            .map(ServiceAccount::toUserPermission)
+            .forEach(permission -> combo.put(permission.getId(), permission));
+      }
+      log.info(
+          "Incrementally syncing {} users affected by resource permission changes (roles: {})",
+          combo.size(),
+          changes.getAffectedRoles());
+    }
+
+    long count = updateUserPermissions(combo, !fullSync);
+    changeTracker.recordResourceChanges(changes);
+    if (fullSync) {
+      changeTracker.recordFullSync(syncStartTime);
+    }
+    return count;
+  }
+
+  private boolean isIncrementalSyncEnabled() {
+    return changeTracker != null
+        && this.configurationProperties.getIncrementalSyncConfig().isEnabled();
+  }
+
   private boolean isServerHealthy() {
     return healthIndicator.health().getStatus() == Status.UP;
   }
@@ -406,6 +504,15 @@ public class UserRolesSyncer {
   }
 
   public long updateUserPermissions(Map<String, UserPermission> permissionsById) {
+    return updateUserPermissions(permissionsById, false);
+  }
+
+  /**
+   * @param writeChangedOnly when true (and incremental sync is enabled), only the users whose
+   *     resolved permissions differ from the last written ones are written to the repository
+   */
+  private long updateUserPermissions(
+      Map<String, UserPermission> permissionsById, boolean writeChangedOnly) {
     log.debug("updating permissions for {} users", permissionsById.size());
     if (permissionsById.remove(UnrestrictedResourceConfig.UNRESTRICTED_USERNAME) != null) {
       timeIt(
@@ -439,7 +546,28 @@ public class UserRolesSyncer {
               "syncUsers",
               () -> {
                 Map<String, UserPermission> resolved = permissionsResolver.resolve(extUsers);
-                permissionsRepository.putAllById(resolved);
+                if (!isIncrementalSyncEnabled()) {
+                  permissionsRepository.putAllById(resolved);
+                  return resolved.size();
+                }
+
+                Map<String, String> fingerprints =
+                    changeTracker.fingerprintUserPermissions(resolved);
+                Map<String, String> changedFingerprints =
+                    writeChangedOnly
+                        ? changeTracker.changedUserPermissions(fingerprints)
+                        : fingerprints;
+                Map<String, UserPermission> changed = new HashMap<>(resolved);
+                changed.keySet().retainAll(changedFingerprints.keySet());
+                log.debug(
+                    "Writing permissions of {} out of {} resolved users",
+                    changed.size(),
+                    resolved.size());
+
+                if (!changed.isEmpty()) {
+                  permissionsRepository.putAllById(changed);
+                }
+                changeTracker.recordUserPermissions(changedFingerprints);
                 return resolved.size();
               });
     }
@@ -414,6 +414,101 @@ class RedisPermissionsRepositorySpec extends Specification {
     result == ["testuser1": testUser1.getRoles(), "testuser2": testUser2.getRoles(), "testuser3": testUser3.getRoles()]
   }
 
+  def "should store resources once when resources are deduplicated"() {
+    setup:
+    configProps.repository.deduplicateResources = true
+    def abcRead = new Permissions.Builder().add(Authorization.READ, "abc").build()
+    Application app1 = new Application().setName("app").setPermissions(abcRead)
+    Role role1 = new Role("abc")
+    setCompressed("unittests:permissions-v2:testuser1:applications",
+               '{"app":{"name":"app","permissions":{"READ":["abc"]}}}')
+
+    when:
+    repo.putAllById([
+        "testuser1": new UserPermission().setId("testUser1").setApplications([app1] as Set).setRoles([role1] as Set),
+        "testuser2": new UserPermission().setId("testUser2").setApplications([app1] as Set).setRoles([role1] as Set)
+    ])
+
+    then:
+    jedis.hlen("unittests:resources:applications") == 1
+    getCompressed("unittests:permissions-v3:testuser1:applications") == '["app"]'
+    getCompressed("unittests:permissions-v3:testuser2:applications") == '["app"]'
+    getCompressed("unittests:permissions-v2:testuser1:applications") == null
+    getCompressed("unittests:permissions-v2:testuser1:roles") == '{"abc":{"name":"abc"}}'
+    repo.get("testuser1").get().getApplications() == [app1] as Set
+    repo.get("testuser2").get().getApplications() == [app1] as Set
+
+    when: "a user has not been written since resources were deduplicated"
+    jedis.sadd("unittests:users", "testuser3")
+    setCompressed("unittests:permissions-v2:testuser3:applications",
+               '{"app":{"name":"app","permissions":{"READ":["abc"]}}}')
+
+    then:
+    repo.get("testuser3").get().getApplications() == [app1] as Set
+  }
+
+  def "should keep the latest shared copy of a resource"() {
+    setup:
+    configProps.repository.deduplicateResources = true
+    Application app = new Application().setName("app")
+    Application restrictedApp = new Application().setName("app")
+        .setPermissions(new Permissions.Builder().add(Authorization.READ, "abc").build())
+
+    when:
+    repo.putAllById([
+        "testuser1": new UserPermission().setId("testUser1").setApplications([app] as Set),
+        "testuser2": new UserPermission().setId("testUser2").setApplications([app] as Set)
+    ])
+    clock.tick(Duration.ofSeconds(1))
+    repo.put(new UserPermission().setId("testUser2").setApplications([restrictedApp] as Set))
+
+    then: "a later single user put replaces the shared copy"
+    repo.get("testuser1").get().getApplications() == [restrictedApp] as Set
+
+    when: "a write that started before the last one completes"
+    clock.tick(Duration.ofSeconds(-2))
+    repo.put(new UserPermission().setId("testUser1").setApplications([app] as Set))
+
+    then:
+    repo.get("testuser1").get().getApplications() == [restrictedApp] as Set
+  }
+
+  def "should prune shared resources that are no longer referenced"() {
+    setup:
+    configProps.repository.deduplicateResources = true
+    Application app1 = new Application().setName("app1")
+    Application app2 = new Application().setName("app2")
+    Application app3 = new Application().setName("app3")
+
+    when:
+    repo.putAllById([
+        "testuser1": new UserPermission().setId("testUser1").setApplications([app1, app2] as Set),
+        "testuser2": new UserPermission().setId("testUser2").setApplications([app1] as Set)
+    ])
+    repo.putAllById([
+        "testuser1": new UserPermission().setId("testUser1").setApplications([app1] as Set)
+    ])
+
+    then: "writes never remove shared copies"
+    jedis.hkeys("unittests:resources:applications") == ["app1", "app2"] as Set
+
+    when:
+    repo.pruneUnreferencedResources()
+
+    then:
+    jedis.hkeys("unittests:resources:applications") == ["app1"] as Set
+    jedis.hkeys("unittests:resources:applications:versions") == ["app1"] as Set
+    repo.get("testuser2").get().getApplications() == [app1] as Set
+
+    when: "a prune ran within the prune interval"
+    repo.put(new UserPermission().setId("testUser1").setApplications([app3] as Set))
+    repo.put(new UserPermission().setId("testUser1").setApplications([app1] as Set))
+    repo.pruneUnreferencedResources()
+
+    then:
+    jedis.hkeys("unittests:resources:applications") == ["app1", "app3"] as Set
+  }
+
   def "should delete the specified user"() {
     given:
     jedis.keys("*").size() == 0
@@ -20,13 +20,16 @@ import com.fasterxml.jackson.annotation.JsonInclude
 import com.fasterxml.jackson.databind.ObjectMapper
 import com.netflix.spectator.api.NoopRegistry
 import com.netflix.spectator.api.Registry
+import com.netflix.spinnaker.fiat.config.FiatAdminConfig
 import com.netflix.spinnaker.fiat.config.ResourceProvidersHealthIndicator
 import com.netflix.spinnaker.fiat.config.UnrestrictedResourceConfig
 import com.netflix.spinnaker.fiat.config.UserRolesSyncerConfig
+import com.netflix.spinnaker.fiat.model.Authorization
 import com.netflix.spinnaker.fiat.model.UserPermission
 import com.netflix.spinnaker.fiat.model.resources.Account
 import com.netflix.spinnaker.fiat.model.resources.Application
 import com.netflix.spinnaker.fiat.model.resources.BuildService
+import com.netflix.spinnaker.fiat.model.resources.Permissions
 import com.netflix.spinnaker.fiat.model.resources.Role
 import com.netflix.spinnaker.fiat.model.resources.ServiceAccount
 import com.netflix.spinnaker.fiat.permissions.ExternalUser
@@ -720,6 +723,93 @@ class UserRolesSyncerSpec extends Specification {
             .forEach({ it -> repo.get(it.getId()).get() == it.merge(unrestrictedUser) })
   }
 
+  def "should only sync users affected by resource permission changes when incremental sync is enabled"() {
+    setup:
+    def extRoleA = new Role("extRoleA").setSource(Role.Source.EXTERNAL)
+    def extRoleB = new Role("extRoleB").setSource(Role.Source.EXTERNAL)
+    repo.put(new UserPermission().setId("user1").setRoles([extRoleA] as Set))
+    repo.put(new UserPermission().setId("user2").setRoles([extRoleB] as Set))
+
+    def app = new Application()
+        .setName("app1")
+        .setPermissions(new Permissions.Builder().add(Authorization.READ, "extrolea").build())
+    def applicationProvider = Mock(ResourceProvider) {
+      getAll() >> { [app] as Set }
+    }
+    def serviceAccountProvider = Mock(ResourceProvider) {
+      getAll() >> []
+    }
+    def permissionsResolver = Mock(PermissionsResolver) {
+      resolveUnrestrictedUser() >> new UserPermission().setId(UNRESTRICTED)
+    }
+    def lockManager = Mock(LockManager) {
+      acquireLock(_ as LockManager.LockOptions, _ as Runnable) >> { LockManager.LockOptions options, Runnable onLockAcquired ->
+        onLockAcquired.run()
+        return null
+      }
+    }
+
+    UserRolesSyncerConfig config = new UserRolesSyncerConfig()
+    config.getIncrementalSyncConfig().setEnabled(true)
+    def redisClientDelegate = new JedisClientDelegate(jedisPool)
+    def changeTracker = new PermissionChangeTracker(
+        [applicationProvider, serviceAccountProvider],
+        new FiatAdminConfig(),
+        redisClientDelegate,
+        config
+    )
+
+    @Subject
+    def syncer = new UserRolesSyncer(
+        new DiscoveryStatusListener(true),
+        registry,
+        lockManager,
+        repo,
+        permissionsResolver,
+        serviceAccountProvider,
+        new AlwaysUpHealthIndicator(),
+        redisClientDelegate,
+        config,
+        null,
+        changeTracker
+    )
+
+    when: "no resource permissions have been recorded yet"
+    syncer.schedule()
+
+    then: "all users are synced"
+    1 * permissionsResolver.resolve({ it*.id as Set == ["user1", "user2"] as Set }) >> { List<ExternalUser> users -> resolve(users, app) }
+
+    when: "no resource permissions changed"
+    syncer.schedule()
+
+    then:
+    0 * permissionsResolver.resolve(_)
+
+    when: "the permissions of an application changed"
+    app = new Application()
+        .setName("app1")
+        .setPermissions(new Permissions.Builder()
+            .add(Authorization.READ, "extrolea")
+            .add(Authorization.WRITE, "extrolea")
+            .build())
+    syncer.schedule()
+
+    then: "only the users holding an affected role are synced"
+    1 * permissionsResolver.resolve({ it*.id == ["user1"] }) >> { List<ExternalUser> users -> resolve(users, app) }
+    repo.get("user1").get().getApplications()*.getPermissions() == [app.getPermissions()]
+  }
+
+  private static Map<String, UserPermission> resolve(List<ExternalUser> users, Application app) {
+    return users.collectEntries { user ->
+      def permission = new UserPermission().setId(user.id).setRoles(user.externalRoles as Set)
+      if (user.externalRoles*.name.contains("extrolea")) {
+        permission.setApplications([app] as Set)
+      }
+      [(user.id): permission]
+    }
+  }
+
   class AlwaysUpHealthIndicator extends ResourceProvidersHealthIndicator {
     @Override
     protected void doHealthCheck(Health.Builder builder) throws Exception {
@@ -61,7 +61,7 @@ public class ResourcesConfig {
   Front50Api front50Api(OkHttp3ClientConfiguration okHttpClientConfig) {
     return new Retrofit.Builder()
         .baseUrl(RetrofitUtils.getBaseUrl(front50Endpoint))
-        .client(okHttpClientConfig.createForRetrofit2().build())
+        .client(okHttpClientConfig.createForRetrofit2(front50Endpoint).build())
         .addCallAdapterFactory(ErrorHandlingExecutorCallAdapterFactory.getInstance())
         .addConverterFactory(JacksonConverterFactory.create(objectMapper))
         .build()
@@ -91,7 +91,7 @@ public class ResourcesConfig {
   ClouddriverApi clouddriverApi(OkHttp3ClientConfiguration okHttpClientConfig) {
     return new Retrofit.Builder()
         .baseUrl(RetrofitUtils.getBaseUrl(clouddriverEndpoint))
-        .client(okHttpClientConfig.createForRetrofit2().build())
+        .client(okHttpClientConfig.createForRetrofit2(clouddriverEndpoint).build())
         .addCallAdapterFactory(ErrorHandlingExecutorCallAdapterFactory.getInstance())
         .addConverterFactory(JacksonConverterFactory.create(objectMapper))
         .build()
@@ -145,7 +145,7 @@ public class ResourcesConfig {
       OkHttp3ClientConfiguration okHttpClientConfig) {
     return new Retrofit.Builder()
         .baseUrl(RetrofitUtils.getBaseUrl(igorEndpoint))
-        .client(okHttpClientConfig.createForRetrofit2().build())
+        .client(okHttpClientConfig.createForRetrofit2(igorEndpoint).build())
         .addCallAdapterFactory(ErrorHandlingExecutorCallAdapterFactory.getInstance())
         .addConverterFactory(JacksonConverterFactory.create(objectMapper))
         .build()
@@ -22,6 +22,7 @@ import com.netflix.spinnaker.fiat.permissions.ExternalUser;
 import com.netflix.spinnaker.fiat.permissions.PermissionResolutionException;
 import com.netflix.spinnaker.fiat.permissions.PermissionsRepository;
 import com.netflix.spinnaker.fiat.permissions.PermissionsResolver;
+import com.netflix.spinnaker.fiat.roles.PermissionChangeTracker;
 import com.netflix.spinnaker.fiat.roles.UserRolesSyncer;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
@@ -50,6 +51,10 @@ public class RolesController {
 
   @Autowired @Setter UserRolesSyncer syncer;
 
+  @Autowired(required = false)
+  @Setter
+  PermissionChangeTracker changeTracker;
+
   @RequestMapping(value = "/{userId:.+}", method = RequestMethod.POST)
   public void putUserPermission(@PathVariable String userId) {
     try {
@@ -61,6 +66,7 @@ public class RolesController {
           userPermission.getRoles().stream().map(Role::getName).collect(Collectors.toList()));
 
       permissionsRepository.put(userPermission);
+      forgetUserPermissions(userPermission.getId());
     } catch (PermissionResolutionException pre) {
       throw new UserPermissionModificationException(pre);
     }
@@ -88,6 +94,7 @@ public class RolesController {
           externalRoles);
 
       permissionsRepository.put(userPermission);
+      forgetUserPermissions(userPermission.getId());
     } catch (PermissionResolutionException pre) {
       throw new UserPermissionModificationException(pre);
     }
@@ -95,7 +102,9 @@ public class RolesController {
 
   @RequestMapping(value = "/{userId:.+}", method = RequestMethod.DELETE)
   public void deleteUserPermission(@PathVariable String userId) {
-    permissionsRepository.remove(ControllerSupport.convert(userId));
+    String convertedUserId = ControllerSupport.convert(userId);
+    permissionsRepository.remove(convertedUserId);
+    forgetUserPermissions(convertedUserId);
   }
 
   @RequestMapping(value = "/sync", method = RequestMethod.POST)
@@ -122,4 +131,11 @@ public class RolesController {
         specificRoles);
     return syncer.syncServiceAccount(serviceAccountId, specificRoles);
   }
+
+  /** Makes the next incremental sync write the user, as it was written outside of a sync. */
+  private void forgetUserPermissions(String userId) {
+    if (changeTracker != null) {
+      changeTracker.forgetUserPermissions(userId);
+    }
+  }
 }
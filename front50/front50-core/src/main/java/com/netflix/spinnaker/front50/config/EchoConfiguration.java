@@ -37,7 +37,7 @@ public class EchoConfiguration {
       @Value("${services.echo.base-url}") String baseUrl) {
     return new Retrofit.Builder()
         .baseUrl(RetrofitUtils.getBaseUrl(baseUrl))
-        .client(okHttpClientConfig.createForRetrofit2().build())
+        .client(okHttpClientConfig.createForRetrofit2(baseUrl).build())
         .addConverterFactory(CustomConverterFactory.create())
         .addCallAdapterFactory(ErrorHandlingExecutorCallAdapterFactory.getInstance())
         .build()
@@ -88,6 +88,21 @@ public class StorageServiceConfigurationProperties {
      */
     private boolean optimizeCacheRefreshes;
 
+    /**
+     * When true, and either the storage service or the object key loader provides an {@link
+     * com.netflix.spinnaker.front50.model.ObjectChangeFeed}, cache refreshes apply the changes
+     * reported by the feed instead of listing every object key. Ignored when optimized cache
+     * refreshes are enabled.
+     */
+    private boolean useChangeFeed;
+
+    /**
+     * How often a change feed refresh lists every object key instead, reconciling the cache with
+     * any change the feed missed (e.g. a SQL row committed later than the overlap window allows
+     * for). Zero or less disables these periodic full refreshes.
+     */
+    private long changeFeedFullRefreshMs = TimeUnit.MINUTES.toMillis(30);
+
     public PerObjectType setThreadPool(int threadPool) {
       if (threadPool <= 1) {
         throw new IllegalArgumentException("threadPool must be >= 1");
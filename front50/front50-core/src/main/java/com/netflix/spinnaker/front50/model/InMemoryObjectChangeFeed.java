@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.netflix.spinnaker.front50.model;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An {@link ObjectChangeFeed} backed by a bounded, in-memory log of recorded changes.
+ *
+ * <p>Changes are recorded explicitly (by tests, or by a subclass that receives notifications from
+ * a storage backend). Each recorded change is assigned a per-type sequence number which serves as
+ * the cursor. Once more than {@code maxRetainedChanges} changes of a type are recorded the oldest
+ * are dropped, and callers holding a cursor that predates them are told to reset.
+ *
+ * <p>Key listings are delegated to the underlying {@link StorageService}.
+ */
+public class InMemoryObjectChangeFeed implements ObjectKeyLoader, ObjectChangeFeed {
+  private final StorageService storageService;
+  private final int maxRetainedChanges;
+  private final Map<ObjectType, ChangeLog> changeLogs = new EnumMap<>(ObjectType.class);
+
+  public InMemoryObjectChangeFeed(StorageService storageService, int maxRetainedChanges) {
+    if (maxRetainedChanges < 1) {
+      throw new IllegalArgumentException("maxRetainedChanges must be >= 1");
+    }
+    this.storageService = storageService;
+    this.maxRetainedChanges = maxRetainedChanges;
+  }
+
+  @Override
+  public Map<String, Long> listObjectKeys(ObjectType objectType) {
+    return storageService.listObjectKeys(objectType);
+  }
+
+  @Override
+  public boolean supportsChangeFeed(ObjectType objectType) {
+    return true;
+  }
+
+  @Override
+  public long currentCursor(ObjectType objectType) {
+    ChangeLog changeLog = changeLog(objectType);
+    synchronized (changeLog) {
+      return changeLog.lastSequence;
+    }
+  }
+
+  @Override
+  public ObjectChanges changesSince(ObjectType objectType, long cursor) {
+    ChangeLog changeLog = changeLog(objectType);
+    synchronized (changeLog) {
+      if (cursor < changeLog.firstRetainedSequence() - 1) {
+        return ObjectChanges.reset(changeLog.lastSequence);
+      }
+
+      Map<String, Long> modifiedKeys = new HashMap<>();
+      Set<String> deletedKeys = new HashSet<>();
+      for (Change change : changeLog.changes) {
+        if (change.sequence <= cursor) {
+          continue;
+        }
+
+        // last change to a given key wins
+        if (change.deleted) {
+          modifiedKeys.remove(change.key);
+          deletedKeys.add(change.key);
+        } else {
+          deletedKeys.remove(change.key);
+          modifiedKeys.put(change.key, change.timestamp);
+        }
+      }
+
+      return ObjectChanges.of(modifiedKeys, deletedKeys, Math.max(cursor, changeLog.lastSequence));
+    }
+  }
+
+  /** Record that the object with the given key was added or updated at {@code timestamp}. */
+  public void recordModification(ObjectType objectType, String key, long timestamp) {
+    record(objectType, key, timestamp, false);
+  }
+
+  /** Record that the object with the given key was deleted at {@code timestamp}. */
+  public void recordDeletion(ObjectType objectType, String key, long timestamp) {
+    record(objectType, key, timestamp, true);
+  }
+
+  private void record(ObjectType objectType, String key, long timestamp, boolean deleted) {
+    ChangeLog changeLog = changeLog(objectType);
+    synchronized (changeLog) {
+      changeLog.changes.addLast(new Change(++changeLog.lastSequence, key, timestamp, deleted));
+      while (changeLog.changes.size() > maxRetainedChanges) {
+        changeLog.changes.removeFirst();
+      }
+    }
+  }
+
+  private ChangeLog changeLog(ObjectType objectType) {
+    synchronized (changeLogs) {
+      return changeLogs.computeIfAbsent(objectType, t -> new ChangeLog());
+    }
+  }
+
+  private static class ChangeLog {
+    final Deque<Change> changes = new ArrayDeque<>();
+    long lastSequence;
+
+    long firstRetainedSequence() {
+      return changes.isEmpty() ? lastSequence + 1 : changes.peekFirst().sequence;
+    }
+  }
+
+  private static class Change {
+    final long sequence;
+    final String key;
+    final long timestamp;
+    final boolean deleted;
+
+    Change(long sequence, String key, long timestamp, boolean deleted) {
+      this.sequence = sequence;
+      this.key = key;
+      this.timestamp = timestamp;
+      this.deleted = deleted;
+    }
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.netflix.spinnaker.front50.model;
+
+/**
+ * A backend-neutral source of incremental object changes.
+ *
+ * <p>Implementations hand out an opaque cursor per {@link ObjectType}. Every change made after a
+ * cursor was handed out is returned by a subsequent call to {@link #changesSince(ObjectType,
+ * long)}, allowing {@link StorageServiceSupport} to apply increments to its cache instead of
+ * diffing a full key listing on every refresh.
+ *
+ * <p>Either a {@link StorageService} or an {@link ObjectKeyLoader} may implement this interface.
+ */
+public interface ObjectChangeFeed {
+
+  /**
+   * @return true if changes (including deletes) to objects of {@code objectType} are reported
+   */
+  boolean supportsChangeFeed(ObjectType objectType);
+
+  /**
+   * @return a cursor positioned at the most recent change of {@code objectType}
+   */
+  long currentCursor(ObjectType objectType);
+
+  /**
+   * @param objectType {@link ObjectType} of the changes to return
+   * @param cursor cursor returned by {@link #currentCursor(ObjectType)} or a previous call
+   * @return all changes made after {@code cursor}, or {@link ObjectChanges#reset(long)} if the feed
+   *     can no longer account for every change since {@code cursor}
+   */
+  ObjectChanges changesSince(ObjectType objectType, long cursor);
+}
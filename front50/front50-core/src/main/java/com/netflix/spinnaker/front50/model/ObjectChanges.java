@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.netflix.spinnaker.front50.model;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/** The set of object keys modified or deleted since a {@link ObjectChangeFeed} cursor. */
+public final class ObjectChanges {
+  private final Map<String, Long> modifiedKeys;
+  private final Set<String> deletedKeys;
+  private final long cursor;
+  private final boolean resetRequired;
+
+  private ObjectChanges(
+      Map<String, Long> modifiedKeys, Set<String> deletedKeys, long cursor, boolean resetRequired) {
+    this.modifiedKeys = modifiedKeys;
+    this.deletedKeys = deletedKeys;
+    this.cursor = cursor;
+    this.resetRequired = resetRequired;
+  }
+
+  /**
+   * @param modifiedKeys Key: Last Modified Timestamp for every added or updated object
+   * @param deletedKeys keys of every deleted object
+   * @param cursor cursor to pass to the next {@link ObjectChangeFeed#changesSince} call
+   */
+  public static ObjectChanges of(
+      Map<String, Long> modifiedKeys, Set<String> deletedKeys, long cursor) {
+    return new ObjectChanges(
+        Collections.unmodifiableMap(modifiedKeys),
+        Collections.unmodifiableSet(deletedKeys),
+        cursor,
+        false);
+  }
+
+  /**
+   * Indicates that changes were lost (e.g. events expired before being consumed) and that callers
+   * must fall back to a full listing.
+   *
+   * @param cursor cursor to pass to the next {@link ObjectChangeFeed#changesSince} call once the
+   *     full listing is complete
+   */
+  public static ObjectChanges reset(long cursor) {
+    return new ObjectChanges(Collections.emptyMap(), Collections.emptySet(), cursor, true);
+  }
+
+  public Map<String, Long> getModifiedKeys() {
+    return modifiedKeys;
+  }
+
+  public Set<String> getDeletedKeys() {
+    return deletedKeys;
+  }
+
+  public long getCursor() {
+    return cursor;
+  }
+
+  public boolean isResetRequired() {
+    return resetRequired;
+  }
+
+  public boolean isEmpty() {
+    return modifiedKeys.isEmpty() && deletedKeys.isEmpty();
+  }
+}
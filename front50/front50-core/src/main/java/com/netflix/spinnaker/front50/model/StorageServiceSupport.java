@@ -63,6 +63,7 @@ public abstract class StorageServiceSupport<T extends Timestamped> {
   private final StorageService service;
   private final Scheduler scheduler;
   private final ObjectKeyLoader objectKeyLoader;
+  private final ObjectChangeFeed changeFeed;
   private final Registry registry;
   private final CircuitBreakerRegistry circuitBreakerRegistry;
   private StorageServiceConfigurationProperties.PerObjectType configProperties;
@@ -73,9 +74,12 @@ public abstract class StorageServiceSupport<T extends Timestamped> {
   private final Counter removeCounter; // Deletes discovered during refresh
   private final Counter updateCounter; // Updates discovered during refresh
   private final Counter mismatchedIdCounter; // Items whose id does not match its cache key
+  private final Counter changeFeedResetCounter; // Change feed refreshes that required a full listing
 
   private final AtomicLong lastRefreshedTime = new AtomicLong();
   private final AtomicLong lastSeenStorageTime = new AtomicLong();
+  private final AtomicLong changeFeedCursor = new AtomicLong();
+  private final AtomicLong lastChangeFeedFullRefreshTime = new AtomicLong();
 
   AtomicReference<CountDownLatch> globalLatch = new AtomicReference<>(null);
 
@@ -91,6 +95,7 @@ public abstract class StorageServiceSupport<T extends Timestamped> {
     this.service = service;
     this.scheduler = scheduler;
     this.objectKeyLoader = objectKeyLoader;
+    this.changeFeed = resolveChangeFeed(objectKeyLoader, service);
     this.configProperties = configurationProperties;
     this.registry = registry;
     this.circuitBreakerRegistry = circuitBreakerRegistry;
@@ -115,6 +120,9 @@ public abstract class StorageServiceSupport<T extends Timestamped> {
     this.mismatchedIdCounter =
         registry.counter(
             registry.createId("storageServiceSupport.mismatchedIds", "objectType", typeName));
+    this.changeFeedResetCounter =
+        registry.counter(
+            registry.createId("storageServiceSupport.changeFeedResets", "objectType", typeName));
 
     registry.gauge(
         registry.createId("storageServiceSupport.cacheSize", "objectType", typeName),
@@ -141,6 +149,35 @@ public abstract class StorageServiceSupport<T extends Timestamped> {
         log.info("Optimized refreshes are now enabled for versioned {} objects.", objectType);
       }
     }
+
+    if (configProperties.isUseChangeFeed()) {
+      if (changeFeed == null || !changeFeed.supportsChangeFeed(objectType)) {
+        log.warn(
+            "Change feed refresh is not available to {} objects since neither the storage service nor the object key loader reports their changes.",
+            objectType);
+        configProperties.setUseChangeFeed(false);
+      } else {
+        log.info(
+            "Change feed refreshes are now enabled for {} objects (feed: {}).",
+            objectType,
+            changeFeed.getClass().getSimpleName());
+      }
+    }
+  }
+
+  /**
+   * An explicitly configured object key loader (e.g. one that listens for storage notifications)
+   * takes precedence over a change feed provided by the storage service itself.
+   */
+  private static ObjectChangeFeed resolveChangeFeed(
+      ObjectKeyLoader objectKeyLoader, StorageService service) {
+    if (objectKeyLoader instanceof ObjectChangeFeed) {
+      return (ObjectChangeFeed) objectKeyLoader;
+    }
+    if (service instanceof ObjectChangeFeed) {
+      return (ObjectChangeFeed) service;
+    }
+    return null;
   }
 
   @PostConstruct
@@ -367,6 +404,9 @@ public abstract class StorageServiceSupport<T extends Timestamped> {
     if (configProperties.isOptimizeCacheRefreshes()) {
       log.debug("Running optimized cache refresh");
       allItemsCache.set(fetchAllItemsOptimized(allItemsCache.get()));
+    } else if (configProperties.isUseChangeFeed()) {
+      log.debug("Running change feed cache refresh");
+      allItemsCache.set(fetchAllItemsFromChangeFeed(allItemsCache.get()));
     } else {
       log.debug("Running unoptimized cache refresh");
       allItemsCache.set(fetchAllItems(allItemsCache.get()));
@@ -447,9 +487,46 @@ public abstract class StorageServiceSupport<T extends Timestamped> {
       log.debug("Modified object keys: {}", value("keys", modifiedKeys));
     }
 
+    List<String> objectKeys =
+        modifiedKeys.stream().map(Map.Entry::getKey).collect(Collectors.toList());
+    loadModifiedObjects(objectKeys, resultMap, keyToId, numRemoved);
+
+    Set<T> result = new HashSet<>(resultMap.values());
+    this.lastRefreshedTime.set(refreshTime);
+    this.lastSeenStorageTime.set(storageLastModified);
+
+    int resultSize = result.size();
+    addCounter.increment(numAdded.get());
+    updateCounter.increment(numUpdated.get());
+    removeCounter.increment(existingSize + numAdded.get() - resultSize);
+    if (numAdded.get() > 0 || numUpdated.get() > 0 || numRemoved.get() > 0) {
+      log.info(
+          "Fetched {} {} objects after adding {} objects, updating {} objects and removing {} objects with a delta of {}.",
+          value("resultSize", resultSize),
+          value("objectType", objectType.group),
+          value("numAdded", numAdded.get()),
+          value("numUpdated", numUpdated.get()),
+          value("numRemoved", numRemoved.get()),
+          value("delta", resultSize - existingSize));
+    }
+
+    return result;
+  }
+
+  /**
+   * Load the objects with the given keys into {@code resultMap}, removing any that no longer exist.
+   *
+   * @param objectKeys keys of added or modified objects
+   * @param resultMap cached items, keyed by object key
+   * @param keyToId object key to id of every previously cached item
+   * @param numRemoved incremented for every object that no longer exists
+   */
+  private void loadModifiedObjects(
+      List<String> objectKeys,
+      Map<String, T> resultMap,
+      Map<String, String> keyToId,
+      AtomicLong numRemoved) {
     try {
-      List<String> objectKeys =
-          modifiedKeys.stream().map(Map.Entry::getKey).collect(Collectors.toList());
       List<T> objects = service.loadObjects(objectType, objectKeys);
 
       Map<String, T> objectsById =
@@ -469,15 +546,14 @@ public abstract class StorageServiceSupport<T extends Timestamped> {
         }
       }
     } catch (UnsupportedOperationException e) {
-      Observable.fromIterable(modifiedKeys)
+      Observable.fromIterable(objectKeys)
           .buffer(10)
           .flatMap(
               ids ->
                   Observable.fromIterable(ids)
                       .flatMap(
-                          entry -> {
+                          key -> {
                             try {
-                              String key = entry.getKey();
                               T object = (T) service.loadObject(objectType, key);
 
                               if (!key.equals(buildObjectKey(object))) {
@@ -494,7 +570,7 @@ public abstract class StorageServiceSupport<T extends Timestamped> {
 
                               return Observable.just(object);
                             } catch (NotFoundException e2) {
-                              resultMap.remove(keyToId.get(entry.getKey()));
+                              resultMap.remove(keyToId.get(key));
                               numRemoved.getAndIncrement();
                               return Observable.empty();
                             }
@@ -505,15 +581,110 @@ public abstract class StorageServiceSupport<T extends Timestamped> {
           .blockingGet()
           .forEach(item -> resultMap.put(buildObjectKey(item), item));
     }
+  }
+
+  /**
+   * Apply any changes reported by the change feed since the last refresh to the previously cached
+   * items. Falls back to a full listing when nothing has been cached yet, when the change feed can
+   * no longer account for every change since the last refresh, and every {@link
+   * StorageServiceConfigurationProperties.PerObjectType#getChangeFeedFullRefreshMs()} to reconcile
+   * any change the feed missed without noticing.
+   *
+   * @param existingItems Previously cached items
+   * @return Refreshed items
+   */
+  @VisibleForTesting
+  Set<T> fetchAllItemsFromChangeFeed(Set<T> existingItems) {
+    long refreshTime = System.currentTimeMillis();
+    long fullRefreshMs = configProperties.getChangeFeedFullRefreshMs();
+    boolean fullRefreshDue =
+        fullRefreshMs > 0 && refreshTime - lastChangeFeedFullRefreshTime.get() >= fullRefreshMs;
+    if (existingItems == null || fullRefreshDue) {
+      if (existingItems != null) {
+        log.debug("Running periodic full refresh of {} objects", objectType.group);
+      }
+      // position the cursor _before_ listing so that no change made during the listing is missed
+      long cursor = changeFeed.currentCursor(objectType);
+      Set<T> result = fetchAllItems(existingItems);
+      changeFeedCursor.set(cursor);
+      lastChangeFeedFullRefreshTime.set(refreshTime);
+      return result;
+    }
+
+    long storageLastModified = readLastModified();
+
+    ObjectChanges changes = changeFeed.changesSince(objectType, changeFeedCursor.get());
+    if (changes.isResetRequired()) {
+      log.warn(
+          "Change feed is unable to provide every {} change since cursor {}, performing a full refresh",
+          value("objectType", objectType.group),
+          value("cursor", changeFeedCursor.get()));
+      changeFeedResetCounter.increment();
+      Set<T> result = fetchAllItems(existingItems);
+      changeFeedCursor.set(changes.getCursor());
+      lastChangeFeedFullRefreshTime.set(refreshTime);
+      return result;
+    }
+
+    if (changes.isEmpty()) {
+      this.lastRefreshedTime.set(refreshTime);
+      this.lastSeenStorageTime.set(storageLastModified);
+      changeFeedCursor.set(changes.getCursor());
+      return existingItems;
+    }
+
+    int existingSize = existingItems.size();
+    AtomicLong numAdded = new AtomicLong();
+    AtomicLong numRemoved = new AtomicLong();
+    AtomicLong numUpdated = new AtomicLong();
+
+    Map<String, String> keyToId = new HashMap<>();
+    Map<String, T> resultMap = new HashMap<>();
+    for (T item : existingItems) {
+      if (isIdNotNull(item)) {
+        String objectKey = buildObjectKey(item);
+        keyToId.put(objectKey, objectKey);
+        resultMap.put(objectKey, item);
+      }
+    }
+
+    for (String deletedKey : changes.getDeletedKeys()) {
+      if (resultMap.remove(buildObjectKey(deletedKey)) != null) {
+        numRemoved.getAndIncrement();
+      }
+    }
+
+    List<String> objectKeys = new ArrayList<>();
+    changes
+        .getModifiedKeys()
+        .forEach(
+            (key, modTime) -> {
+              String objectKey = buildObjectKey(key);
+              T existingItem = resultMap.get(objectKey);
+              if (existingItem == null) {
+                numAdded.getAndIncrement();
+                objectKeys.add(objectKey);
+              } else if (existingItem.getLastModified() == null
+                  || modTime > existingItem.getLastModified()) {
+                numUpdated.getAndIncrement();
+                objectKeys.add(objectKey);
+              }
+            });
+
+    if (!objectKeys.isEmpty()) {
+      log.debug("Modified object keys: {}", value("keys", objectKeys));
+      loadModifiedObjects(objectKeys, resultMap, keyToId, numRemoved);
+    }
 
     Set<T> result = new HashSet<>(resultMap.values());
     this.lastRefreshedTime.set(refreshTime);
     this.lastSeenStorageTime.set(storageLastModified);
+    changeFeedCursor.set(changes.getCursor());
 
     int resultSize = result.size();
     addCounter.increment(numAdded.get());
     updateCounter.increment(numUpdated.get());
-    removeCounter.increment(existingSize + numAdded.get() - resultSize);
+    removeCounter.increment(numRemoved.get());
     if (numAdded.get() > 0 || numUpdated.get() > 0 || numRemoved.get() > 0) {
       log.info(
           "Fetched {} {} objects after adding {} objects, updating {} objects and removing {} objects with a delta of {}.",
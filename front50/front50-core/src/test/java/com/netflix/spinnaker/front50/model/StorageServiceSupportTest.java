@@ -16,10 +16,12 @@
 package com.netflix.spinnaker.front50.model;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.netflix.spectator.api.NoopRegistry;
@@ -100,4 +102,107 @@ class StorageServiceSupportTest {
 
     verify(storageService).loadObjectsNewerThan(eq(ObjectType.PIPELINE), anyLong());
   }
+
+  @Test
+  void fetchAllItemsFromChangeFeedAppliesIncrements() {
+    InMemoryObjectChangeFeed changeFeed = new InMemoryObjectChangeFeed(storageService, 10);
+    TestDAO changeFeedDAO =
+        new TestDAO(
+            storageService,
+            scheduler,
+            changeFeed,
+            new StorageServiceConfigurationProperties.PerObjectType().setUseChangeFeed(true),
+            new NoopRegistry(),
+            CircuitBreakerRegistry.ofDefaults());
+
+    Pipeline pipeline1 = pipeline("pipeline1", 100L);
+    Pipeline pipeline2 = pipeline("pipeline2", 100L);
+    doReturn(Map.of("pipeline1", 100L, "pipeline2", 100L))
+        .when(storageService)
+        .listObjectKeys(ObjectType.PIPELINE);
+    doReturn(List.of(pipeline1, pipeline2))
+        .when(storageService)
+        .loadObjects(eq(ObjectType.PIPELINE), anyList());
+
+    Set<Pipeline> initialItems = changeFeedDAO.fetchAllItemsFromChangeFeed(null);
+    assertThat(initialItems).containsExactlyInAnyOrder(pipeline1, pipeline2);
+
+    Pipeline updatedPipeline1 = pipeline("pipeline1", 200L);
+    doReturn(List.of(updatedPipeline1))
+        .when(storageService)
+        .loadObjects(ObjectType.PIPELINE, List.of("pipeline1"));
+    changeFeed.recordModification(ObjectType.PIPELINE, "pipeline1", 200L);
+    changeFeed.recordDeletion(ObjectType.PIPELINE, "pipeline2", 200L);
+
+    Set<Pipeline> refreshedItems = changeFeedDAO.fetchAllItemsFromChangeFeed(initialItems);
+    assertThat(refreshedItems)
+        .singleElement()
+        .extracting(Pipeline::getLastModified)
+        .isEqualTo(200L);
+
+    // the full listing is only performed once
+    verify(storageService).listObjectKeys(ObjectType.PIPELINE);
+  }
+
+  @Test
+  void fetchAllItemsFromChangeFeedResetsWhenChangesAreLost() {
+    InMemoryObjectChangeFeed changeFeed = new InMemoryObjectChangeFeed(storageService, 1);
+    TestDAO changeFeedDAO =
+        new TestDAO(
+            storageService,
+            scheduler,
+            changeFeed,
+            new StorageServiceConfigurationProperties.PerObjectType().setUseChangeFeed(true),
+            new NoopRegistry(),
+            CircuitBreakerRegistry.ofDefaults());
+
+    doReturn(Map.of()).when(storageService).listObjectKeys(ObjectType.PIPELINE);
+    Set<Pipeline> initialItems = changeFeedDAO.fetchAllItemsFromChangeFeed(null);
+    assertThat(initialItems).isEmpty();
+
+    // only one change is retained, so the first one is lost
+    changeFeed.recordModification(ObjectType.PIPELINE, "pipeline1", 100L);
+    changeFeed.recordModification(ObjectType.PIPELINE, "pipeline2", 100L);
+
+    changeFeedDAO.fetchAllItemsFromChangeFeed(initialItems);
+    verify(storageService, times(2)).listObjectKeys(ObjectType.PIPELINE);
+  }
+
+  @Test
+  void fetchAllItemsFromChangeFeedPeriodicallyListsEveryObject() throws InterruptedException {
+    InMemoryObjectChangeFeed changeFeed = new InMemoryObjectChangeFeed(storageService, 10);
+    TestDAO changeFeedDAO =
+        new TestDAO(
+            storageService,
+            scheduler,
+            changeFeed,
+            new StorageServiceConfigurationProperties.PerObjectType()
+                .setUseChangeFeed(true)
+                .setChangeFeedFullRefreshMs(1),
+            new NoopRegistry(),
+            CircuitBreakerRegistry.ofDefaults());
+
+    doReturn(Map.of()).when(storageService).listObjectKeys(ObjectType.PIPELINE);
+    Set<Pipeline> initialItems = changeFeedDAO.fetchAllItemsFromChangeFeed(null);
+    assertThat(initialItems).isEmpty();
+
+    // a change the feed never reported is picked up by the next full refresh
+    Pipeline pipeline1 = pipeline("pipeline1", 100L);
+    doReturn(Map.of("pipeline1", 100L)).when(storageService).listObjectKeys(ObjectType.PIPELINE);
+    doReturn(List.of(pipeline1))
+        .when(storageService)
+        .loadObjects(eq(ObjectType.PIPELINE), anyList());
+    Thread.sleep(10);
+
+    assertThat(changeFeedDAO.fetchAllItemsFromChangeFeed(initialItems)).containsExactly(pipeline1);
+    verify(storageService, times(2)).listObjectKeys(ObjectType.PIPELINE);
+  }
+
+  private static Pipeline pipeline(String id, Long lastModified) {
+    Pipeline pipeline = new Pipeline();
+    pipeline.setId(id);
+    pipeline.setName(id);
+    pipeline.setLastModified(lastModified);
+    return pipeline;
+  }
 }
@@ -31,6 +31,7 @@ import com.netflix.spinnaker.front50.api.model.pipeline.Pipeline;
 import com.netflix.spinnaker.front50.jackson.mixins.PipelineMixins;
 import com.netflix.spinnaker.front50.jackson.mixins.TimestampedMixins;
 import com.netflix.spinnaker.front50.model.DefaultObjectKeyLoader;
+import com.netflix.spinnaker.front50.model.GcsObjectChangeFeed;
 import com.netflix.spinnaker.front50.model.GcsStorageService;
 import com.netflix.spinnaker.front50.model.ObjectKeyLoader;
 import com.netflix.spinnaker.front50.model.ObjectType;
@@ -40,6 +41,8 @@ import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.reactivex.rxjava3.schedulers.Schedulers;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
 import java.util.Collections;
 import java.util.concurrent.Executors;
 import org.slf4j.Logger;
@@ -47,6 +50,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -107,6 +111,28 @@ public class GcsConfig {
     return service;
   }
 
+  @Bean
+  @ConditionalOnProperty("spinnaker.gcs.change-feed.enabled")
+  public ObjectKeyLoader gcsObjectChangeFeed(
+      GcsStorageService storageService,
+      @Qualifier("gcsCredentials") Credentials credentials,
+      GcsProperties gcsProperties,
+      Registry registry)
+      throws IOException {
+    GcsObjectChangeFeed changeFeed =
+        new GcsObjectChangeFeed(
+            storageService,
+            gcsProperties.getRootFolder(),
+            gcsProperties.getProject(),
+            gcsProperties.getChangeFeed().getTopic(),
+            getInstanceId(),
+            gcsProperties.getChangeFeed().getMaxRetainedChanges(),
+            credentials,
+            registry);
+    changeFeed.start();
+    return changeFeed;
+  }
+
   @Bean
   @ConditionalOnMissingBean(RestTemplate.class)
   public RestTemplate restTemplate() {
@@ -169,4 +195,12 @@ public class GcsConfig {
         registry,
         circuitBreakerRegistry);
   }
+
+  private static String getInstanceId() {
+    try {
+      return InetAddress.getLocalHost().getHostName();
+    } catch (UnknownHostException e) {
+      throw new IllegalStateException(e);
+    }
+  }
 }
@@ -30,6 +30,8 @@ public class GcsProperties {
 
   private String project = "";
 
+  private ChangeFeed changeFeed = new ChangeFeed();
+
   public String getBucket() {
     return bucket;
   }
@@ -73,4 +75,47 @@ public class GcsProperties {
   public void setProject(String project) {
     this.project = project;
   }
+
+  public ChangeFeed getChangeFeed() {
+    return changeFeed;
+  }
+
+  public void setChangeFeed(ChangeFeed changeFeed) {
+    this.changeFeed = changeFeed;
+  }
+
+  /** Pub/Sub notifications of bucket changes, used to refresh caches incrementally. */
+  public static class ChangeFeed {
+    private boolean enabled;
+
+    /** Topic that the bucket publishes object change notifications to. */
+    private String topic;
+
+    /** Maximum number of changes of each object type retained between cache refreshes. */
+    private int maxRetainedChanges = 10000;
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public String getTopic() {
+      return topic;
+    }
+
+    public void setTopic(String topic) {
+      this.topic = topic;
+    }
+
+    public int getMaxRetainedChanges() {
+      return maxRetainedChanges;
+    }
+
+    public void setMaxRetainedChanges(int maxRetainedChanges) {
+      this.maxRetainedChanges = maxRetainedChanges;
+    }
+  }
 }
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.netflix.spinnaker.front50.model;
+
+import static net.logstash.logback.argument.StructuredArguments.value;
+
+import com.google.api.gax.core.FixedCredentialsProvider;
+import com.google.auth.Credentials;
+import com.google.cloud.pubsub.v1.AckReplyConsumer;
+import com.google.cloud.pubsub.v1.Subscriber;
+import com.google.cloud.pubsub.v1.SubscriptionAdminClient;
+import com.google.cloud.pubsub.v1.SubscriptionAdminSettings;
+import com.google.protobuf.Duration;
+import com.google.pubsub.v1.ExpirationPolicy;
+import com.google.pubsub.v1.ProjectSubscriptionName;
+import com.google.pubsub.v1.ProjectTopicName;
+import com.google.pubsub.v1.PubsubMessage;
+import com.google.pubsub.v1.Subscription;
+import com.netflix.spectator.api.Registry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link ObjectChangeFeed} fed by GCS Pub/Sub object change notifications.
+ *
+ * <p>Every front50 instance must see every notification, so a subscription to {@code topic} that
+ * is unique to this instance is created on startup and deleted on shutdown. Subscriptions that are
+ * leaked (e.g. by an instance that was killed) expire after a day of inactivity.
+ *
+ * <p>Notifications are not guaranteed to be delivered in order. Changes are recorded in the order
+ * they are received; StorageServiceSupport reloads every reported key, so an out of order
+ * notification at worst delays a change until the next notification for the same key.
+ */
+public class GcsObjectChangeFeed extends InMemoryObjectChangeFeed {
+  private static final Logger log = LoggerFactory.getLogger(GcsObjectChangeFeed.class);
+
+  private static final String EVENT_TYPE = "eventType";
+  private static final String OBJECT_ID = "objectId";
+  private static final String EVENT_TIME = "eventTime";
+  private static final String OVERWRITTEN_BY_GENERATION = "overwrittenByGeneration";
+
+  private static final long SUBSCRIPTION_TTL_SECONDS = 24 * 60 * 60;
+
+  private final String rootFolder;
+  private final String project;
+  private final String topic;
+  private final String subscription;
+  private final Credentials credentials;
+  private final Registry registry;
+
+  private Subscriber subscriber;
+
+  public GcsObjectChangeFeed(
+      StorageService storageService,
+      String rootFolder,
+      String project,
+      String topic,
+      String instanceId,
+      int maxRetainedChanges,
+      Credentials credentials,
+      Registry registry) {
+    super(storageService, maxRetainedChanges);
+    this.rootFolder = rootFolder.endsWith("/") ? rootFolder : rootFolder + "/";
+    this.project = project;
+    this.topic = topic;
+    this.subscription = topic + "-" + instanceId.replaceAll("[^a-zA-Z0-9-_.~+%]", "-");
+    this.credentials = credentials;
+    this.registry = registry;
+  }
+
+  public synchronized void start() throws IOException {
+    ProjectSubscriptionName subscriptionName = ProjectSubscriptionName.of(project, subscription);
+
+    try (SubscriptionAdminClient client = subscriptionAdminClient()) {
+      client.createSubscription(
+          Subscription.newBuilder()
+              .setName(subscriptionName.toString())
+              .setTopic(ProjectTopicName.of(project, topic).toString())
+              .setAckDeadlineSeconds(10)
+              .setExpirationPolicy(
+                  ExpirationPolicy.newBuilder()
+                      .setTtl(Duration.newBuilder().setSeconds(SUBSCRIPTION_TTL_SECONDS)))
+              .build());
+    }
+
+    subscriber =
+        Subscriber.newBuilder(subscriptionName, this::receiveMessage)
+            .setCredentialsProvider(FixedCredentialsProvider.create(credentials))
+            .build();
+    subscriber.startAsync().awaitRunning();
+    log.info(
+        "Listening for GCS object change notifications on {}",
+        value("subscription", subscriptionName));
+  }
+
+  /**
+   * Stops listening for notifications and deletes the subscription. Only the first call has any
+   * effect, since Spring may call this both as a {@link PreDestroy} method and as the inferred
+   * destroy method of the bean.
+   */
+  @Override
+  @PreDestroy
+  public synchronized void shutdown() {
+    if (subscriber == null) {
+      return;
+    }
+
+    log.debug("Stopping ...");
+    Subscriber subscriber = this.subscriber;
+    this.subscriber = null;
+    subscriber.stopAsync().awaitTerminated();
+    try (SubscriptionAdminClient client = subscriptionAdminClient()) {
+      client.deleteSubscription(ProjectSubscriptionName.of(project, subscription));
+    } catch (Exception e) {
+      log.warn("Unable to delete subscription {}, it will expire", subscription, e);
+    }
+    log.debug("Stopped");
+  }
+
+  private SubscriptionAdminClient subscriptionAdminClient() throws IOException {
+    return SubscriptionAdminClient.create(
+        SubscriptionAdminSettings.newBuilder()
+            .setCredentialsProvider(FixedCredentialsProvider.create(credentials))
+            .build());
+  }
+
+  private void receiveMessage(PubsubMessage message, AckReplyConsumer consumer) {
+    try {
+      handleNotification(message.getAttributesMap());
+    } catch (Exception e) {
+      log.error("Failed to handle notification (attributes: {})", message.getAttributesMap(), e);
+      registry.counter("gcs.changeFeed.errors").increment();
+    }
+    consumer.ack();
+  }
+
+  void handleNotification(Map<String, String> attributes) {
+    String objectName = attributes.get(OBJECT_ID);
+    if (objectName == null || !objectName.startsWith(rootFolder)) {
+      return;
+    }
+
+    Optional<KeyWithObjectType> keyWithObjectType =
+        buildObjectKey(objectName.substring(rootFolder.length()));
+    if (keyWithObjectType.isEmpty()) {
+      return;
+    }
+
+    ObjectType objectType = keyWithObjectType.get().objectType;
+    String key = keyWithObjectType.get().key;
+    long eventTime = parseEventTime(attributes.get(EVENT_TIME));
+    String eventType = attributes.getOrDefault(EVENT_TYPE, "");
+
+    log.debug(
+        "Received Notification (objectType: {}, type: {}, key: {}, delta: {})",
+        value("objectType", objectType),
+        value("type", eventType),
+        value("key", key),
+        value("delta", System.currentTimeMillis() - eventTime));
+
+    switch (eventType) {
+      case "OBJECT_FINALIZE":
+        recordModification(objectType, key, eventTime);
+        break;
+      case "OBJECT_ARCHIVE":
+      case "OBJECT_DELETE":
+        // an overwritten object is reported by the OBJECT_FINALIZE of its replacement
+        if (!attributes.containsKey(OVERWRITTEN_BY_GENERATION)) {
+          recordDeletion(objectType, key, eventTime);
+        }
+        break;
+      default:
+        // OBJECT_METADATA_UPDATE does not change the stored object
+        break;
+    }
+  }
+
+  /**
+   * @param relativeName object name relative to the root folder, e.g. {@code
+   *     applications/app/specification.json}
+   */
+  private static Optional<KeyWithObjectType> buildObjectKey(String relativeName) {
+    int groupEnd = relativeName.indexOf('/');
+    int filenameStart = relativeName.lastIndexOf('/');
+    if (groupEnd < 0 || filenameStart <= groupEnd) {
+      // e.g. the last-modified marker of a group
+      return Optional.empty();
+    }
+
+    String group = relativeName.substring(0, groupEnd);
+    String key = relativeName.substring(groupEnd + 1, filenameStart);
+    String filename = relativeName.substring(filenameStart + 1);
+
+    return Arrays.stream(ObjectType.values())
+        .filter(o -> o.group.equals(group))
+        .filter(o -> o.getDefaultMetadataFilename(true).equals(filename))
+        .findFirst()
+        .map(objectType -> new KeyWithObjectType(objectType, key));
+  }
+
+  private static long parseEventTime(String eventTime) {
+    if (eventTime == null) {
+      return System.currentTimeMillis();
+    }
+    try {
+      return Instant.parse(eventTime).toEpochMilli();
+    } catch (DateTimeParseException e) {
+      return System.currentTimeMillis();
+    }
+  }
+
+  private static class KeyWithObjectType {
+    final ObjectType objectType;
+    final String key;
+
+    KeyWithObjectType(ObjectType objectType, String key) {
+      this.objectType = objectType;
+      this.key = key;
+    }
+  }
+}
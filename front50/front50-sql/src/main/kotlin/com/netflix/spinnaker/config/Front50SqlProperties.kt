@@ -29,4 +29,10 @@ class Front50SqlProperties {
    * How frequently to refresh health information (e.g. for the health endpoint).
    */
   var healthIntervalMillis: Long = Duration.ofSeconds(30).toMillis()
+
+  /**
+   * How far before the last seen `last_modified_at` a change feed scan starts, to pick up rows
+   * committed after others with a later `last_modified_at`.
+   */
+  var changeFeedOverlapMillis: Long = Duration.ofSeconds(5).toMillis()
 }
@@ -68,7 +68,7 @@ class SqlStorageService(
   private val chunkSize: Int,
   private val poolName: String,
   private val front50SqlProperties: Front50SqlProperties
-) : StorageService, BulkStorageService, AdminOperations {
+) : StorageService, BulkStorageService, AdminOperations, ObjectChangeFeed {
 
   companion object {
     private val log = LoggerFactory.getLogger(SqlStorageService::class.java)
@@ -237,6 +237,62 @@ class SqlStorageService(
     return resultMap
   }
 
+  /**
+   * Only tables that soft delete can report deletions via `last_modified_at`.
+   */
+  override fun supportsChangeFeed(objectType: ObjectType): Boolean {
+    return definitionsByType[objectType]!!.supportsHistory
+  }
+
+  override fun currentCursor(objectType: ObjectType): Long {
+    return getLastModified(objectType)
+  }
+
+  /**
+   * Scans for rows whose `last_modified_at` is newer than [cursor].
+   *
+   * Rows are not necessarily committed in `last_modified_at` order, so the scan re-reads a window of
+   * [Front50SqlProperties.changeFeedOverlapMillis] before the cursor. Changes that have already been
+   * applied are harmless to re-apply.
+   */
+  override fun changesSince(objectType: ObjectType, cursor: Long): ObjectChanges {
+    val idField = field("id", String::class.java)
+    val isDeletedField = field("is_deleted", Boolean::class.java)
+
+    val records = withPool(poolName) {
+      jooq.withRetry(sqlRetryProperties.reads) { ctx ->
+        ctx
+          .select(idField, lastModifiedField, isDeletedField)
+          .from(table(definitionsByType[objectType]!!.tableName))
+          .where(lastModifiedField.greaterThan(cursor - front50SqlProperties.changeFeedOverlapMillis))
+          .fetch()
+      }
+    }
+
+    val modifiedKeys = mutableMapOf<String, Long>()
+    val deletedKeys = mutableSetOf<String>()
+    var nextCursor = cursor
+    for (record in records) {
+      val lastModified = record.get(lastModifiedField)
+      if (record.get(isDeletedField)) {
+        deletedKeys.add(record.get(idField))
+      } else {
+        modifiedKeys[record.get(idField)] = lastModified
+      }
+      nextCursor = maxOf(nextCursor, lastModified)
+    }
+
+    log.debug(
+      "Found {} modified and {} deleted {} objects with last_modified_at value greater than {}",
+      modifiedKeys.size,
+      deletedKeys.size,
+      objectType,
+      cursor
+    )
+
+    return ObjectChanges.of(modifiedKeys, deletedKeys, nextCursor)
+  }
+
   override fun deleteObject(objectType: ObjectType, objectKey: String) {
     withPool(poolName) {
       jooq.transactional(sqlRetryProperties.transactions) { ctx ->
@@ -36,9 +36,13 @@ import org.jooq.impl.DSL.field
 import org.jooq.impl.DSL.table
 import strikt.api.expectThat
 import strikt.api.expectThrows
+import strikt.assertions.contains
+import strikt.assertions.containsKey
 import strikt.assertions.hasSize
 import strikt.assertions.isEmpty
 import strikt.assertions.isEqualTo
+import strikt.assertions.isFalse
+import strikt.assertions.isGreaterThanOrEqualTo
 import strikt.assertions.isNotEmpty
 import strikt.assertions.isNotEqualTo
 import strikt.assertions.isNotNull
@@ -141,6 +145,43 @@ internal object SqlStorageServiceTests : JUnit5Minutests {
             expectThat(it.createdAt).isNotNull()
           }
         }
+
+        test("changesSince reports modified and deleted applications") {
+          listOf("application002", "application003").forEach { applicationName ->
+            sqlStorageService.storeObject(
+              ObjectType.APPLICATION,
+              applicationName,
+              Application().apply {
+                name = applicationName
+                lastModified = 100
+              }
+            )
+          }
+
+          val cursor = sqlStorageService.currentCursor(ObjectType.APPLICATION)
+
+          sqlStorageService.storeObject(
+            ObjectType.APPLICATION,
+            "application002",
+            Application().apply {
+              name = "application002"
+              lastModified = cursor + 1000
+            }
+          )
+          sqlStorageService.deleteObject(ObjectType.APPLICATION, "application003")
+
+          val changes = sqlStorageService.changesSince(ObjectType.APPLICATION, cursor)
+          expectThat(changes.isResetRequired).isFalse()
+          expectThat(changes.modifiedKeys["application002"]).isEqualTo(cursor + 1000)
+          expectThat(changes.modifiedKeys).not().containsKey("application003")
+          expectThat(changes.deletedKeys).contains("application003")
+          expectThat(changes.cursor).isGreaterThanOrEqualTo(cursor + 1000)
+        }
+
+        test("changesSince is only supported for soft deleted types") {
+          expectThat(sqlStorageService.supportsChangeFeed(ObjectType.APPLICATION)).isTrue()
+          expectThat(sqlStorageService.supportsChangeFeed(ObjectType.ENTITY_TAGS)).isFalse()
+        }
       }
 
       context("Pipeline") {
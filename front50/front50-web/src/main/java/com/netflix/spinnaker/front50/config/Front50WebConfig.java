@@ -51,6 +51,7 @@ import org.springframework.core.Ordered;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -94,6 +95,18 @@ public class Front50WebConfig implements WebMvcConfigurer {
     return frb;
   }
 
+  /**
+   * Lets clients that poll the application list (e.g. gate) send an {@code If-None-Match} header,
+   * and get a 304 rather than the whole list when it has not changed.
+   */
+  @Bean
+  public FilterRegistrationBean<ShallowEtagHeaderFilter> applicationsETagFilter() {
+    FilterRegistrationBean<ShallowEtagHeaderFilter> frb =
+        new FilterRegistrationBean<>(new ShallowEtagHeaderFilter());
+    frb.addUrlPatterns("/v2/applications");
+    return frb;
+  }
+
   @Bean
   public ItemDAOHealthIndicator applicationDAOHealthIndicator(
       ApplicationDAO applicationDAO, TaskScheduler taskScheduler) {
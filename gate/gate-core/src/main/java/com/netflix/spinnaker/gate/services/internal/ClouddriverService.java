@@ -16,6 +16,7 @@ import retrofit2.Call;
 import retrofit2.http.Body;
 import retrofit2.http.DELETE;
 import retrofit2.http.GET;
+import retrofit2.http.Header;
 import retrofit2.http.Headers;
 import retrofit2.http.POST;
 import retrofit2.http.PUT;
@@ -60,6 +61,12 @@ public interface ClouddriverService {
   @GET("applications?restricted=false")
   Call<List> getAllApplicationsUnrestricted(@Query("expand") boolean expand);
 
+  /** Responds with a 304 if the application list still matches {@code ifNoneMatch}. */
+  @Headers("Accept: application/json")
+  @GET("applications?restricted=false")
+  Call<List> getAllApplicationsUnrestricted(
+      @Query("expand") boolean expand, @Header("If-None-Match") String ifNoneMatch);
+
   @Headers("Accept: application/json")
   @GET("applications/{name}")
   Call<Map> getApplication(@Path("name") String name);
@@ -26,6 +26,7 @@ import retrofit2.Call;
 import retrofit2.http.Body;
 import retrofit2.http.DELETE;
 import retrofit2.http.GET;
+import retrofit2.http.Header;
 import retrofit2.http.POST;
 import retrofit2.http.PUT;
 import retrofit2.http.Path;
@@ -38,6 +39,10 @@ public interface Front50Service {
   @GET("v2/applications?restricted=false")
   Call<List<Map>> getAllApplicationsUnrestricted();
 
+  /** Responds with a 304 if the application list still matches {@code ifNoneMatch}. */
+  @GET("v2/applications?restricted=false")
+  Call<List<Map>> getAllApplicationsUnrestricted(@Header("If-None-Match") String ifNoneMatch);
+
   @GET("v2/applications/{applicationName}")
   Call<Map> getApplication(@Path("applicationName") String applicationName);
 
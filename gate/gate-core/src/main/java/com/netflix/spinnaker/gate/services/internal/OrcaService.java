@@ -8,12 +8,14 @@ import retrofit2.Call;
 import retrofit2.http.Body;
 import retrofit2.http.DELETE;
 import retrofit2.http.GET;
+import retrofit2.http.Header;
 import retrofit2.http.Headers;
 import retrofit2.http.PATCH;
 import retrofit2.http.POST;
 import retrofit2.http.PUT;
 import retrofit2.http.Path;
 import retrofit2.http.Query;
+import retrofit2.http.Streaming;
 
 public interface OrcaService {
   @Headers("Content-type: application/context+json")
@@ -38,6 +40,22 @@ public interface OrcaService {
       @Query("pipelineNameFilter") String pipelineNameFilter,
       @Query("pipelineLimit") Integer pipelineLimit);
 
+  /**
+   * Same as {@link #getPipelines}, but the (possibly compressed) response body is returned as is
+   * so that it can be streamed to the client.
+   */
+  @Streaming
+  @Headers("Accept: application/json")
+  @GET("v2/applications/{application}/pipelines")
+  Call<ResponseBody> streamPipelines(
+      @Path("application") String app,
+      @Query("limit") Integer limit,
+      @Query("statuses") String statuses,
+      @Query("expand") Boolean expand,
+      @Query("pipelineNameFilter") String pipelineNameFilter,
+      @Query("pipelineLimit") Integer pipelineLimit,
+      @Header("Accept-Encoding") String acceptEncoding);
+
   /** Retrieve pipeline executions for a project. Orca returns a list of PipelineExecution. */
   @Headers("Accept: application/json")
   @GET("projects/{projectId}/pipelines")
@@ -75,6 +93,21 @@ public interface OrcaService {
       @Query("statuses") String statuses,
       @Query("expand") boolean expand);
 
+  /**
+   * Same as {@link #getSubsetOfExecutions}, but the (possibly compressed) response body is
+   * returned as is so that it can be streamed to the client.
+   */
+  @Streaming
+  @Headers("Accept: application/json")
+  @GET("pipelines")
+  Call<ResponseBody> streamSubsetOfExecutions(
+      @Query("pipelineConfigIds") String pipelineConfigIds,
+      @Query("executionIds") String executionIds,
+      @Query("limit") Integer limit,
+      @Query("statuses") String statuses,
+      @Query("expand") boolean expand,
+      @Header("Accept-Encoding") String acceptEncoding);
+
   @GET("/pipelines/failedStages")
   Call<List<Object>> getFailedStagesForPipelineExecution(
       @Query("executionId") String executionId,
@@ -19,6 +19,7 @@ import com.netflix.spectator.api.Registry;
 import com.netflix.spinnaker.gate.ratelimit.RateLimitPrincipalProvider;
 import com.netflix.spinnaker.gate.ratelimit.RateLimiter;
 import com.netflix.spinnaker.gate.ratelimit.RateLimitingFilter;
+import com.netflix.spinnaker.gate.ratelimit.ReconcilingRedisRateLimiter;
 import com.netflix.spinnaker.gate.ratelimit.RedisRateLimitPrincipalProvider;
 import com.netflix.spinnaker.gate.ratelimit.RedisRateLimiter;
 import com.netflix.spinnaker.gate.ratelimit.StaticRateLimitPrincipalProvider;
@@ -41,11 +42,20 @@ public class RateLimiterConfig {
   RateLimiterConfiguration rateLimiterConfiguration;
 
   @Bean
-  @ConditionalOnExpression("${rate-limit.redis.enabled:false}")
+  @ConditionalOnExpression(
+      "${rate-limit.redis.enabled:false} && !${rate-limit.local-buckets.enabled:false}")
   RateLimiter redisRateLimiter(JedisPool jedisPool) {
     return new RedisRateLimiter(jedisPool);
   }
 
+  @Bean
+  @ConditionalOnExpression(
+      "${rate-limit.redis.enabled:false} && ${rate-limit.local-buckets.enabled:false}")
+  RateLimiter reconcilingRedisRateLimiter(JedisPool jedisPool, Registry registry) {
+    return new ReconcilingRedisRateLimiter(
+        jedisPool, registry, rateLimiterConfiguration.getLocalBuckets().getMaxUnsyncedRequests());
+  }
+
   @Bean
   @ConditionalOnExpression("${rate-limit.redis.enabled:false}")
   RateLimitPrincipalProvider redisRateLimiterPrincipalProvider(JedisPool jedisPool) {
@@ -80,6 +80,12 @@ public class RateLimiterConfiguration {
    */
   private List<String> ignoring = new ArrayList<>();
 
+  /**
+   * Enforces rate limits in process and reconciles them with redis in the background, rather than
+   * making a round trip to redis on every request. Only applies when redis is enabled.
+   */
+  private LocalBuckets localBuckets = new LocalBuckets();
+
   public int getCapacity() {
     return capacity;
   }
@@ -144,6 +150,14 @@ public class RateLimiterConfiguration {
     this.ignoring = ignoring;
   }
 
+  public LocalBuckets getLocalBuckets() {
+    return localBuckets;
+  }
+
+  public void setLocalBuckets(LocalBuckets localBuckets) {
+    this.localBuckets = localBuckets;
+  }
+
   public int getFilterOrder() {
     return filterOrder;
   }
@@ -194,4 +208,45 @@ public class RateLimiterConfiguration {
       this.override = override;
     }
   }
+
+  public static class LocalBuckets {
+    private boolean enabled = false;
+
+    /**
+     * How often the requests served by this instance are written to redis, and the requests served
+     * by other instances are read back. Rate limits are enforced against counts that are at most
+     * this stale.
+     */
+    private long syncIntervalMs = 1000;
+
+    /**
+     * The number of requests a principal may make before they are written to redis ahead of the
+     * next sync interval. Lower values improve accuracy at the cost of more redis round trips.
+     */
+    private int maxUnsyncedRequests = 10;
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public long getSyncIntervalMs() {
+      return syncIntervalMs;
+    }
+
+    public int getMaxUnsyncedRequests() {
+      return maxUnsyncedRequests;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public void setSyncIntervalMs(long syncIntervalMs) {
+      this.syncIntervalMs = syncIntervalMs;
+    }
+
+    public void setMaxUnsyncedRequests(int maxUnsyncedRequests) {
+      this.maxUnsyncedRequests = maxUnsyncedRequests;
+    }
+  }
 }
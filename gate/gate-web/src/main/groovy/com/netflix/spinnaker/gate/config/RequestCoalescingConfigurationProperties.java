@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.gate.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "request-coalescing")
+public class RequestCoalescingConfigurationProperties {
+  /**
+   * defaults to false. When enabled, concurrent identical reads (e.g. many deck tabs polling an
+   * application's server groups or executions) made on behalf of users with the same permissions
+   * share a single upstream call.
+   */
+  private boolean enabled;
+
+  /**
+   * How long the result of a coalesced read is reused for subsequent identical reads. Defaults to
+   * 0, which only shares calls that are in flight at the same time.
+   */
+  private long cacheTtlMs = 0;
+
+  /** The maximum number of results retained when cacheTtlMs is greater than 0. */
+  private long maxCacheEntries = 1000;
+}
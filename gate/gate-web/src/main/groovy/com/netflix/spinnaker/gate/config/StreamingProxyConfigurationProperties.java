@@ -0,0 +1,37 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.gate.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "streaming-proxy")
+public class StreamingProxyConfigurationProperties {
+  /**
+   * defaults to false. When enabled, read-only endpoints that return an upstream response without
+   * modifying it (e.g. execution history) copy the upstream bytes to the client as they arrive,
+   * instead of deserializing, re-serializing and buffering the whole response in gate. Responses
+   * streamed this way are sent with chunked encoding unless the upstream sets a Content-Length.
+   */
+  private boolean enabled;
+
+  /** Size of the buffer used to copy each streamed response. */
+  private int bufferSizeBytes = 64 * 1024;
+}
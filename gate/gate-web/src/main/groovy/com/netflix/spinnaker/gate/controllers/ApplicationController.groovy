@@ -19,6 +19,7 @@ package com.netflix.spinnaker.gate.controllers
 import com.netflix.spinnaker.gate.services.ApplicationService
 import com.netflix.spinnaker.gate.services.ExecutionHistoryService
 import com.netflix.spinnaker.gate.services.TaskService
+import com.netflix.spinnaker.gate.services.UpstreamResponseStreamer
 import com.netflix.spinnaker.kork.web.exceptions.NotFoundException
 import groovy.util.logging.Slf4j
 
@@ -37,6 +38,9 @@ import org.springframework.web.bind.annotation.RequestMethod
 import org.springframework.web.bind.annotation.RequestParam
 import org.springframework.web.bind.annotation.RestController
 
+import jakarta.servlet.http.HttpServletRequest
+import jakarta.servlet.http.HttpServletResponse
+
 import static net.logstash.logback.argument.StructuredArguments.value
 
 @RequestMapping("/applications")
@@ -61,6 +65,9 @@ class ApplicationController {
   @Autowired
   Environment environment
 
+  @Autowired
+  UpstreamResponseStreamer upstreamResponseStreamer
+
   @Operation(summary = "Retrieve a list of applications")
   @RequestMapping(method = RequestMethod.GET)
   @PostFilter("hasPermission(filterObject.get('name'), 'APPLICATION', 'READ')")
@@ -121,8 +128,14 @@ class ApplicationController {
                     @RequestParam(value = "statuses", required = false) String statuses,
                     @RequestParam(value = "expand", required = false) Boolean expand,
                     @RequestParam(value = "pipelineNameFilter", required = false) String pipelineNameFilter,
-                    @RequestParam(value = "pipelineLimit", required = false) Integer pipelineLimit) {
+                    @RequestParam(value = "pipelineLimit", required = false) Integer pipelineLimit,
+                    HttpServletRequest request,
+                    HttpServletResponse response) {
     def listLimit = limit ?: environment.getProperty(PIPELINE_EXECUTION_LIMIT, Integer, 10)
+    if (upstreamResponseStreamer.enabled) {
+      executionHistoryService.streamPipelines(application, listLimit, statuses, expand, pipelineNameFilter, pipelineLimit, request, response)
+      return null
+    }
     executionHistoryService.getPipelines(application, listLimit, statuses, expand, pipelineNameFilter, pipelineLimit)
   }
 
@@ -15,10 +15,14 @@
  */
 package com.netflix.spinnaker.gate.controllers;
 
+import com.netflix.spinnaker.gate.services.UpstreamResponseStreamer;
 import com.netflix.spinnaker.gate.services.internal.OrcaServiceSelector;
 import com.netflix.spinnaker.kork.retrofit.Retrofit2SyncCall;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -32,10 +36,13 @@ import org.springframework.web.bind.annotation.RestController;
 public class ExecutionsController {
 
   private OrcaServiceSelector orcaServiceSelector;
+  private UpstreamResponseStreamer upstreamResponseStreamer;
 
   @Autowired
-  public ExecutionsController(OrcaServiceSelector orcaServiceSelector) {
+  public ExecutionsController(
+      OrcaServiceSelector orcaServiceSelector, UpstreamResponseStreamer upstreamResponseStreamer) {
     this.orcaServiceSelector = orcaServiceSelector;
+    this.upstreamResponseStreamer = upstreamResponseStreamer;
   }
 
   @Operation(
@@ -67,12 +74,27 @@ public class ExecutionsController {
               description =
                   "Expands each execution object in the resulting list. If this value is missing, it is defaulted to true.")
           @RequestParam(value = "expand", defaultValue = "true")
-          boolean expand) {
+          boolean expand,
+      HttpServletRequest request,
+      HttpServletResponse response)
+      throws IOException {
     if ((executionIds == null || executionIds.trim().isEmpty())
         && (pipelineConfigIds == null || pipelineConfigIds.trim().isEmpty())) {
       return Collections.emptyList();
     }
 
+    if (upstreamResponseStreamer.isEnabled()) {
+      upstreamResponseStreamer.stream(
+          request,
+          response,
+          acceptEncoding ->
+              orcaServiceSelector
+                  .select()
+                  .streamSubsetOfExecutions(
+                      pipelineConfigIds, executionIds, limit, statuses, expand, acceptEncoding));
+      return null;
+    }
+
     return Retrofit2SyncCall.execute(
         orcaServiceSelector
             .select()
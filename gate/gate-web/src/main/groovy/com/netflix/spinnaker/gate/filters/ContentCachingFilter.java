@@ -22,6 +22,7 @@ import jakarta.servlet.FilterConfig;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.ServletRequest;
 import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import org.springframework.web.util.ContentCachingResponseWrapper;
@@ -30,8 +31,25 @@ import org.springframework.web.util.ContentCachingResponseWrapper;
  * This filter simply buffers/caches the response so that the Content-Length header can be set.
  * Setting the Content-Length header prevents a response from being transferred with chunked
  * encoding which may be problematic for some http clients.
+ *
+ * <p>Handlers that stream large upstream responses can opt out of buffering by writing to {@link
+ * #unbuffered(HttpServletRequest, HttpServletResponse)} instead of the response they were given.
  */
 public class ContentCachingFilter implements Filter {
+  static final String UNBUFFERED_RESPONSE_ATTRIBUTE =
+      ContentCachingFilter.class.getName() + ".UNBUFFERED_RESPONSE";
+
+  /**
+   * @return the response underneath the caching wrapper installed by this filter, or {@code
+   *     response} if the filter is not installed. Writes to the returned response are sent to the
+   *     client as they are made (without a Content-Length header unless one is set explicitly).
+   */
+  public static HttpServletResponse unbuffered(
+      HttpServletRequest request, HttpServletResponse response) {
+    Object unbuffered = request.getAttribute(UNBUFFERED_RESPONSE_ATTRIBUTE);
+    return unbuffered instanceof HttpServletResponse ? (HttpServletResponse) unbuffered : response;
+  }
+
   @Override
   public void init(FilterConfig filterConfig) {}
 
@@ -42,7 +60,12 @@ public class ContentCachingFilter implements Filter {
     ContentCachingResponseWrapper responseWrapper =
         new ContentCachingResponseWrapper((HttpServletResponse) response);
 
-    chain.doFilter(request, responseWrapper);
+    request.setAttribute(UNBUFFERED_RESPONSE_ATTRIBUTE, response);
+    try {
+      chain.doFilter(request, responseWrapper);
+    } finally {
+      request.removeAttribute(UNBUFFERED_RESPONSE_ATTRIBUTE);
+    }
     responseWrapper.copyBodyToResponse();
   }
 
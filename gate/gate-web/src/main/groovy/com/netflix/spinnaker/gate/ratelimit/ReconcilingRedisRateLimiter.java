@@ -0,0 +1,228 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.netflix.spinnaker.gate.ratelimit;
+
+import com.netflix.spectator.api.Counter;
+import com.netflix.spectator.api.DistributionSummary;
+import com.netflix.spectator.api.Registry;
+import com.netflix.spectator.api.Timer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.exceptions.JedisException;
+
+/**
+ * A {@link RateLimiter} that enforces each principal's bucket in process and reconciles the
+ * consumed counts with Redis in the background, so that requests never wait on Redis.
+ *
+ * <p>Buckets use the same fixed windows and Redis keys as {@link RedisRateLimiter}. The count for a
+ * principal is the last count read from Redis (which includes requests served by other gate
+ * instances) plus the requests served locally since. Counts are written to Redis every {@code
+ * rate-limit.local-buckets.sync-interval-ms}, or sooner once a principal accrues {@code
+ * rate-limit.local-buckets.max-unsynced-requests} requests, in a single pipelined round trip for
+ * all principals. Until then requests served by other instances are not visible locally.
+ */
+public class ReconcilingRedisRateLimiter implements RateLimiter {
+
+  private static final Logger log = LoggerFactory.getLogger(ReconcilingRedisRateLimiter.class);
+
+  /**
+   * Adds ARGV[1] to the count of the bucket in KEYS[1], starting a window of ARGV[2] milliseconds
+   * if the bucket does not exist. Returns the new count and the milliseconds left in the window.
+   */
+  private static final String INCREMENT_SCRIPT =
+      "local count = redis.call('INCRBY', KEYS[1], ARGV[1])\n"
+          + "local ttl = redis.call('PTTL', KEYS[1])\n"
+          + "if ttl < 0 then\n"
+          + "  redis.call('PEXPIRE', KEYS[1], ARGV[2])\n"
+          + "  ttl = tonumber(ARGV[2])\n"
+          + "end\n"
+          + "return {count, ttl}";
+
+  private final JedisPool jedisPool;
+  private final int maxUnsyncedRequests;
+
+  private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+  private final ExecutorService reconcileExecutor =
+      Executors.newSingleThreadExecutor(
+          r -> {
+            Thread thread = new Thread(r, "rateLimitReconciler");
+            thread.setDaemon(true);
+            return thread;
+          });
+  private final AtomicBoolean reconcilePending = new AtomicBoolean();
+
+  private final Timer reconcileTimer;
+  private final Counter reconcileErrors;
+  private final DistributionSummary drift;
+
+  public ReconcilingRedisRateLimiter(
+      JedisPool jedisPool, Registry registry, int maxUnsyncedRequests) {
+    this.jedisPool = jedisPool;
+    this.maxUnsyncedRequests = maxUnsyncedRequests;
+
+    this.reconcileTimer = registry.timer("rateLimit.reconcile.duration");
+    this.reconcileErrors = registry.counter("rateLimit.reconcile.errors");
+    this.drift = registry.distributionSummary("rateLimit.reconcile.drift");
+  }
+
+  @Override
+  public Rate incrementAndGetRate(RateLimitPrincipal principal) {
+    Bucket bucket = buckets.computeIfAbsent(principal.getName(), Bucket::new);
+
+    Rate rate;
+    boolean reconcile;
+    synchronized (bucket) {
+      long now = System.currentTimeMillis();
+      if (now >= bucket.reset) {
+        // requests not yet reconciled belong to a window that has already expired in Redis
+        bucket.startWindow(now, principal.getRateSeconds());
+      }
+      bucket.capacity = principal.getCapacity();
+      bucket.rateSeconds = principal.getRateSeconds();
+      bucket.unsynced++;
+
+      int count = (int) Math.min(Integer.MAX_VALUE, bucket.synced + bucket.unsynced);
+      rate = new Rate();
+      rate.capacity = bucket.capacity;
+      rate.rateSeconds = bucket.rateSeconds;
+      rate.remaining = Math.max(bucket.capacity - count, 0);
+      // 5 seconds are added here to allow for a degree of time drift between server and client.
+      rate.reset = bucket.reset + 5;
+      rate.throttled = count > bucket.capacity;
+
+      reconcile = bucket.unsynced >= maxUnsyncedRequests;
+    }
+
+    if (reconcile && reconcilePending.compareAndSet(false, true)) {
+      reconcileExecutor.execute(this::reconcile);
+    }
+    return rate;
+  }
+
+  /** Writes the requests served locally to Redis and reads back the count of every bucket. */
+  @Scheduled(fixedDelayString = "${rate-limit.local-buckets.sync-interval-ms:1000}")
+  public void reconcile() {
+    reconcilePending.set(false);
+
+    Map<Bucket, Long> drained = new LinkedHashMap<>();
+    long now = System.currentTimeMillis();
+    for (Bucket bucket : buckets.values()) {
+      synchronized (bucket) {
+        if (bucket.unsynced == 0 && now >= bucket.reset) {
+          // idle since its window expired, recreated on the principal's next request
+          buckets.remove(bucket.name, bucket);
+        } else {
+          // buckets without local requests are still read back to pick up other instances' requests
+          drained.put(bucket, bucket.unsynced);
+          bucket.unsynced = 0;
+        }
+      }
+    }
+    if (drained.isEmpty()) {
+      return;
+    }
+
+    long start = System.nanoTime();
+    try (Jedis jedis = jedisPool.getResource()) {
+      List<Response<Object>> responses = new ArrayList<>(drained.size());
+      Pipeline pipeline = jedis.pipelined();
+      for (Map.Entry<Bucket, Long> entry : drained.entrySet()) {
+        Bucket bucket = entry.getKey();
+        responses.add(
+            pipeline.eval(
+                INCREMENT_SCRIPT,
+                Collections.singletonList(getRedisKey(bucket.name)),
+                List.of(
+                    String.valueOf(entry.getValue()),
+                    String.valueOf(TimeUnit.SECONDS.toMillis(bucket.rateSeconds)))));
+      }
+      pipeline.sync();
+
+      int i = 0;
+      now = System.currentTimeMillis();
+      for (Map.Entry<Bucket, Long> entry : drained.entrySet()) {
+        @SuppressWarnings("unchecked")
+        List<Long> result = (List<Long>) responses.get(i++).get();
+        entry.getKey().reconciled(entry.getValue(), result.get(0), now + result.get(1));
+      }
+    } catch (JedisException e) {
+      log.error("failed reconciling rate limits, will retry", e);
+      reconcileErrors.increment();
+      drained.forEach(
+          (bucket, count) -> {
+            synchronized (bucket) {
+              bucket.unsynced += count;
+            }
+          });
+    } finally {
+      reconcileTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  public void shutdown() {
+    reconcileExecutor.shutdownNow();
+  }
+
+  private static String getRedisKey(String name) {
+    return "rateLimit:" + name;
+  }
+
+  private class Bucket {
+    final String name;
+    int capacity;
+    int rateSeconds;
+
+    /** The count last read from Redis, including requests served by other instances. */
+    long synced;
+
+    /** Requests served locally that have not been written to Redis yet. */
+    long unsynced;
+
+    long reset;
+
+    Bucket(String name) {
+      this.name = name;
+    }
+
+    void startWindow(long now, int rateSeconds) {
+      synced = 0;
+      unsynced = 0;
+      reset = now + TimeUnit.SECONDS.toMillis(rateSeconds);
+    }
+
+    synchronized void reconciled(long written, long count, long reset) {
+      // the locally estimated count the written requests were served with, vs the actual count
+      drift.record(Math.max(count - (synced + written), 0));
+      this.synced = count;
+      this.reset = reset;
+    }
+  }
+}
@@ -35,6 +35,8 @@ import org.springframework.http.HttpStatus
 import org.springframework.scheduling.annotation.Scheduled
 import org.springframework.security.core.context.SecurityContextHolder
 import org.springframework.stereotype.Component
+import retrofit2.Call
+import retrofit2.Response
 
 import java.util.concurrent.Callable
 import java.util.concurrent.ExecutionException
@@ -42,6 +44,7 @@ import java.util.concurrent.ExecutorService
 import java.util.concurrent.Executors
 import java.util.concurrent.Future
 import java.util.concurrent.atomic.AtomicReference
+import java.util.function.Function
 import java.util.stream.Collectors
 
 @CompileStatic
@@ -56,6 +59,10 @@ class ApplicationService {
   private AtomicReference<List<Map>> allApplicationsCache
   private ApplicationConfigurationProperties applicationConfigurationProperties
 
+  private final AtomicReference<ApplicationListSnapshot> front50ApplicationsSnapshot = new AtomicReference<>()
+  private final AtomicReference<ApplicationListSnapshot> clouddriverApplicationsSnapshot = new AtomicReference<>()
+  private volatile MergedApplications lastMergedApplications
+
   @Autowired
   ApplicationService(
     ServiceConfiguration serviceConfiguration,
@@ -111,10 +118,23 @@ class ApplicationService {
       }
     }
 
+    // neither list changed since they were last merged (both responded with a 304)
+    ApplicationListSnapshot front50Snapshot = front50ApplicationsSnapshot.get()
+    ApplicationListSnapshot clouddriverSnapshot = clouddriverApplicationsSnapshot.get()
+    MergedApplications previous = lastMergedApplications
+    if (previous != null && previous.isMergeOf(front50Snapshot, clouddriverSnapshot, expandClusterNames)) {
+      log.debug("Application lists are unchanged, skipping merge")
+      return previous.applications
+    }
+
     List<Map> flat = (List<Map>) all?.flatten()?.toList()
-    return mergeApps(flat, serviceConfiguration.getService('front50')).collect {
+    List<Map<String, Object>> applications = mergeApps(flat, serviceConfiguration.getService('front50')).collect {
       it.attributes
-    } as List<Map>
+    } as List<Map<String, Object>>
+    if (front50Snapshot != null && clouddriverSnapshot != null) {
+      lastMergedApplications = new MergedApplications(front50Snapshot, clouddriverSnapshot, expandClusterNames, applications)
+    }
+    return applications
   }
 
   List<Map> getAllApplications() {
@@ -212,11 +232,12 @@ class ApplicationService {
 
   private Collection<Callable<List<Map>>> buildApplicationListRetrievers(boolean expandClusterNames) {
     [
-      new Front50ApplicationListRetriever(front50Service, allApplicationsCache) as Callable<List<Map>>,
+      new Front50ApplicationListRetriever(front50Service, allApplicationsCache, front50ApplicationsSnapshot) as Callable<List<Map>>,
       new ClouddriverApplicationListRetriever(
         clouddriverServiceSelector.select(),
         allApplicationsCache,
-        expandClusterNames) as Callable<List<Map>>
+        expandClusterNames,
+        clouddriverApplicationsSnapshot) as Callable<List<Map>>
     ]
   }
 
@@ -324,14 +345,15 @@ class ApplicationService {
     List<Map> front50Apps, clouddriverApps
     try {
       Future<List<Map>> front50future = executorService.submit(
-        new Front50ApplicationListRetriever(front50Service, allApplicationsCache) as Callable<List<Map>>
+        new Front50ApplicationListRetriever(front50Service, allApplicationsCache, front50ApplicationsSnapshot) as Callable<List<Map>>
       )
 
       Future<List<Map>> clouddriverFuture = executorService.submit(
         new ClouddriverApplicationListRetriever(
           clouddriverServiceSelector.select(),
           allApplicationsCache,
-          expandClusterNames) as Callable<List<Map>>
+          expandClusterNames,
+          clouddriverApplicationsSnapshot) as Callable<List<Map>>
       )
       // capture the results from both front50 and clouddriver
       front50Apps = front50future.get()
@@ -402,14 +424,90 @@ class ApplicationService {
     return result
   }
 
+  /**
+   * Fetches an application list, sending the ETag of the previously fetched list (if any) so that an
+   * unchanged list is neither transferred nor parsed again.
+   *
+   * @param snapshot the previously fetched list, updated with the fetched list
+   * @param variant identifies the request parameters, a snapshot fetched with other parameters is not reused
+   * @param callForETag creates the request, with an {@code If-None-Match} header unless the ETag is null
+   */
+  static List<Map> fetchApplicationList(AtomicReference<ApplicationListSnapshot> snapshot,
+                                        String variant,
+                                        Function<String, Call> callForETag) {
+    ApplicationListSnapshot previous = snapshot?.get()
+    if (previous?.variant != variant) {
+      previous = null
+    }
+
+    Response response
+    try {
+      response = Retrofit2SyncCall.executeCall(callForETag.apply(previous?.etag))
+    } catch (SpinnakerHttpException e) {
+      if (previous != null && e.responseCode == HttpStatus.NOT_MODIFIED.value()) {
+        return previous.applications
+      }
+      throw e
+    }
+
+    if (previous != null && response.code() == HttpStatus.NOT_MODIFIED.value()) {
+      return previous.applications
+    }
+
+    List<Map> applications = response.body() as List<Map>
+    if (snapshot != null && response.isSuccessful()) {
+      snapshot.set(new ApplicationListSnapshot(variant, response.headers().get("ETag"), applications))
+    }
+    return applications
+  }
+
+  static class ApplicationListSnapshot {
+    final String variant
+    final String etag
+    final List<Map> applications
+
+    ApplicationListSnapshot(String variant, String etag, List<Map> applications) {
+      this.variant = variant
+      this.etag = etag
+      this.applications = applications
+    }
+  }
+
+  private static class MergedApplications {
+    final ApplicationListSnapshot front50
+    final ApplicationListSnapshot clouddriver
+    final boolean expandClusterNames
+    final List<Map<String, Object>> applications
+
+    MergedApplications(ApplicationListSnapshot front50,
+                       ApplicationListSnapshot clouddriver,
+                       boolean expandClusterNames,
+                       List<Map<String, Object>> applications) {
+      this.front50 = front50
+      this.clouddriver = clouddriver
+      this.expandClusterNames = expandClusterNames
+      this.applications = applications
+    }
+
+    boolean isMergeOf(ApplicationListSnapshot front50,
+                      ApplicationListSnapshot clouddriver,
+                      boolean expandClusterNames) {
+      return this.front50.is(front50) && this.clouddriver.is(clouddriver) && this.expandClusterNames == expandClusterNames
+    }
+  }
+
   static class Front50ApplicationListRetriever extends MdcWrappedCallable<List<Map>> {
     private final Front50Service front50
     private final AtomicReference<List<Map>> allApplicationsCache
+    private final AtomicReference<ApplicationListSnapshot> snapshot
     private final Object principal
 
-    Front50ApplicationListRetriever(Front50Service front50, AtomicReference<List<Map>> allApplicationsCache) {
+    Front50ApplicationListRetriever(Front50Service front50,
+                                    AtomicReference<List<Map>> allApplicationsCache,
+                                    AtomicReference<ApplicationListSnapshot> snapshot = null) {
       this.front50 = front50
       this.allApplicationsCache = allApplicationsCache
+      this.snapshot = snapshot
       this.principal = SecurityContextHolder.context?.authentication?.principal
     }
 
@@ -418,7 +516,11 @@ class ApplicationService {
       try {
         AuthenticatedRequest.propagate({
           try {
-            return AuthenticatedRequest.allowAnonymous { Retrofit2SyncCall.execute(front50.getAllApplicationsUnrestricted()) }
+            return AuthenticatedRequest.allowAnonymous {
+              fetchApplicationList(snapshot, "front50", { String etag ->
+                etag ? front50.getAllApplicationsUnrestricted(etag) : front50.getAllApplicationsUnrestricted()
+              } as Function<String, Call>)
+            }
           } catch (SpinnakerHttpException e) {
             if (e.responseCode == 404) {
               return []
@@ -476,13 +578,16 @@ class ApplicationService {
     private final Object principal
     private final AtomicReference<List<Map>> allApplicationsCache
     private final boolean expandClusterNames
+    private final AtomicReference<ApplicationListSnapshot> snapshot
 
     ClouddriverApplicationListRetriever(ClouddriverService clouddriver,
                                         AtomicReference<List<Map>> allApplicationsCache,
-                                        boolean expandClusterNames) {
+                                        boolean expandClusterNames,
+                                        AtomicReference<ApplicationListSnapshot> snapshot = null) {
       this.clouddriver = clouddriver
       this.allApplicationsCache = allApplicationsCache
       this.expandClusterNames = expandClusterNames
+      this.snapshot = snapshot
       this.principal = SecurityContextHolder.context?.authentication?.principal
     }
 
@@ -491,7 +596,11 @@ class ApplicationService {
       try {
         AuthenticatedRequest.propagate({
           try {
-            return AuthenticatedRequest.allowAnonymous { Retrofit2SyncCall.execute(clouddriver.getAllApplicationsUnrestricted(expandClusterNames)) }
+            return AuthenticatedRequest.allowAnonymous {
+              fetchApplicationList(snapshot, "expand=${expandClusterNames}".toString(), { String etag ->
+                etag ? clouddriver.getAllApplicationsUnrestricted(expandClusterNames, etag) : clouddriver.getAllApplicationsUnrestricted(expandClusterNames)
+              } as Function<String, Call>)
+            }
           } catch (SpinnakerHttpException e) {
             if (e.responseCode == 404) {
               return []
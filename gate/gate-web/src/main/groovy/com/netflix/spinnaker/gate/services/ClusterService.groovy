@@ -37,8 +37,13 @@ class ClusterService {
   @Autowired
   ProviderLookupService providerLookupService
 
+  @Autowired(required = false)
+  RequestCoalescer requestCoalescer = RequestCoalescer.disabled()
+
   Map getClusters(String app, String selectorKey) {
-    Retrofit2SyncCall.execute(clouddriverServiceSelector.select().getClusters(app))
+    return (Map) requestCoalescer.execute("getClusters", [app]) {
+      Retrofit2SyncCall.execute(clouddriverServiceSelector.select().getClusters(app))
+    }
   }
 
   List<Map> getClustersForAccount(String app, String account, String selectorKey) {
@@ -22,6 +22,8 @@ import com.netflix.spinnaker.gate.services.internal.OrcaServiceSelector
 import com.netflix.spinnaker.kork.retrofit.Retrofit2SyncCall
 import groovy.transform.CompileStatic
 import groovy.util.logging.Slf4j
+import jakarta.servlet.http.HttpServletRequest
+import jakarta.servlet.http.HttpServletResponse
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.stereotype.Component
 
@@ -32,16 +34,37 @@ class ExecutionHistoryService {
   @Autowired
   OrcaServiceSelector orcaServiceSelector
 
+  @Autowired
+  UpstreamResponseStreamer upstreamResponseStreamer
+
+  @Autowired(required = false)
+  RequestCoalescer requestCoalescer = RequestCoalescer.disabled()
+
   List<Map<String, Object>> getTasks(String app, Integer page, Integer limit, String statuses) {
     Preconditions.checkNotNull(app)
 
-    Retrofit2SyncCall.execute(orcaServiceSelector.select().getTasks(app, page, limit, statuses))
+    return (List<Map<String, Object>>) requestCoalescer.execute("getTasks", [app, page, limit, statuses]) {
+      Retrofit2SyncCall.execute(orcaServiceSelector.select().getTasks(app, page, limit, statuses))
+    }
   }
 
   List<Map<String, Object>> getPipelines(String app, Integer limit, String statuses, Boolean expand, String pipelineNameFilter = null, Integer pipelineLimit = null) {
     Preconditions.checkNotNull(app)
-    def pipelines = Retrofit2SyncCall.execute(orcaServiceSelector.select().getPipelines(app, limit, statuses, expand, pipelineNameFilter, pipelineLimit))
+    def pipelines = (List<Map<String, Object>>) requestCoalescer.execute("getPipelines", [app, limit, statuses, expand, pipelineNameFilter, pipelineLimit]) {
+      Retrofit2SyncCall.execute(orcaServiceSelector.select().getPipelines(app, limit, statuses, expand, pipelineNameFilter, pipelineLimit))
+    }
     log.debug("received {} executions for application: {}", pipelines.size(), app)
     return pipelines
   }
+
+  /**
+   * Streams the same executions as {@link #getPipelines} straight from orca to the response.
+   */
+  void streamPipelines(String app, Integer limit, String statuses, Boolean expand, String pipelineNameFilter, Integer pipelineLimit,
+                       HttpServletRequest request, HttpServletResponse response) {
+    Preconditions.checkNotNull(app)
+    upstreamResponseStreamer.stream(request, response) { String acceptEncoding ->
+      orcaServiceSelector.select().streamPipelines(app, limit, statuses, expand, pipelineNameFilter, pipelineLimit, acceptEncoding)
+    }
+  }
 }
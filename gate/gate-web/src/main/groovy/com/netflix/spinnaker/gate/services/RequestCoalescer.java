@@ -0,0 +1,238 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.gate.services;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.netflix.spectator.api.Counter;
+import com.netflix.spectator.api.NoopRegistry;
+import com.netflix.spectator.api.Registry;
+import com.netflix.spinnaker.fiat.model.UserPermission;
+import com.netflix.spinnaker.fiat.shared.FiatPermissionEvaluator;
+import com.netflix.spinnaker.fiat.shared.FiatStatus;
+import com.netflix.spinnaker.gate.config.RequestCoalescingConfigurationProperties;
+import com.netflix.spinnaker.security.AuthenticatedRequest;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Shares one upstream call among concurrent identical reads.
+ *
+ * <p>Reads are identical when they are for the same operation and parameters, on behalf of users
+ * whose permissions are equal, i.e. for whom the upstream service returns the same result. With
+ * fiat enabled that is the user's permissions as cached by {@link FiatPermissionEvaluator},
+ * otherwise reads are only shared by the same user. Results may additionally be reused for a short
+ * time after the call completes, see {@link RequestCoalescingConfigurationProperties}.
+ *
+ * <p>Results are shared between callers and must not be modified. Failures are shared with the
+ * callers waiting on the failed call, but are never reused.
+ */
+@Component
+public class RequestCoalescer {
+  private final RequestCoalescingConfigurationProperties properties;
+  private final FiatStatus fiatStatus;
+  private final FiatPermissionEvaluator fiatPermissionEvaluator;
+
+  private final ConcurrentHashMap<Key, CompletableFuture<Optional<Object>>> inFlight =
+      new ConcurrentHashMap<>();
+  private final Cache<Key, Optional<Object>> recent;
+
+  /** Keyed by the identity of the views cached by the FiatPermissionEvaluator. */
+  private final Cache<UserPermission.View, PermissionKey> permissionKeys =
+      CacheBuilder.newBuilder().weakKeys().build();
+
+  private final Counter coalescedCounter;
+  private final Counter cacheHitCounter;
+
+  @Autowired
+  public RequestCoalescer(
+      RequestCoalescingConfigurationProperties properties,
+      Registry registry,
+      FiatStatus fiatStatus,
+      FiatPermissionEvaluator fiatPermissionEvaluator) {
+    this.properties = properties;
+    this.fiatStatus = fiatStatus;
+    this.fiatPermissionEvaluator = fiatPermissionEvaluator;
+    this.recent =
+        CacheBuilder.newBuilder()
+            .expireAfterWrite(Math.max(properties.getCacheTtlMs(), 0), TimeUnit.MILLISECONDS)
+            .maximumSize(properties.getMaxCacheEntries())
+            .build();
+
+    this.coalescedCounter = registry.counter("requestCoalescing.coalesced");
+    this.cacheHitCounter = registry.counter("requestCoalescing.cacheHits");
+  }
+
+  /** @return a coalescer that always makes the upstream call */
+  public static RequestCoalescer disabled() {
+    return new RequestCoalescer(
+        new RequestCoalescingConfigurationProperties(), new NoopRegistry(), null, null);
+  }
+
+  /**
+   * @param operation identifies the upstream call
+   * @param params every parameter that the result of the upstream call depends on (may contain
+   *     nulls)
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T execute(String operation, List<?> params, Supplier<T> upstream) {
+    if (!properties.isEnabled()) {
+      return upstream.get();
+    }
+
+    Key key = new Key(operation, params, permissionKey());
+    if (properties.getCacheTtlMs() > 0) {
+      Optional<Object> cached = recent.getIfPresent(key);
+      if (cached != null) {
+        cacheHitCounter.increment();
+        return (T) cached.orElse(null);
+      }
+    }
+
+    CompletableFuture<Optional<Object>> call = new CompletableFuture<>();
+    CompletableFuture<Optional<Object>> existing = inFlight.putIfAbsent(key, call);
+    if (existing != null) {
+      coalescedCounter.increment();
+      return (T) await(existing).orElse(null);
+    }
+
+    try {
+      T result = upstream.get();
+      if (properties.getCacheTtlMs() > 0) {
+        recent.put(key, Optional.ofNullable(result));
+      }
+      call.complete(Optional.ofNullable(result));
+      return result;
+    } catch (Throwable t) {
+      // including checked exceptions thrown from groovy, so that waiting callers are released
+      call.completeExceptionally(t);
+      throw t;
+    } finally {
+      inFlight.remove(key, call);
+    }
+  }
+
+  private static Optional<Object> await(CompletableFuture<Optional<Object>> call) {
+    try {
+      return call.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  /** @return an object that is equal for users with the same permissions */
+  private Object permissionKey() {
+    String user = AuthenticatedRequest.getSpinnakerUser().orElse(null);
+    String accounts = AuthenticatedRequest.getSpinnakerAccounts().orElse(null);
+    if (user != null && fiatStatus != null && fiatStatus.isEnabled()) {
+      UserPermission.View permission = fiatPermissionEvaluator.getPermission(user);
+      if (permission != null) {
+        PermissionKey permissionKey =
+            permissionKeys.asMap().computeIfAbsent(permission, PermissionKey::new);
+        return Arrays.asList(permissionKey, accounts);
+      }
+    }
+    return Arrays.asList(user, accounts);
+  }
+
+  private static final class Key {
+    private final String operation;
+    private final List<?> params;
+    private final Object permissionKey;
+    private final int hashCode;
+
+    Key(String operation, List<?> params, Object permissionKey) {
+      this.operation = operation;
+      this.params = params;
+      this.permissionKey = permissionKey;
+      this.hashCode = Objects.hash(operation, params, permissionKey);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key key = (Key) o;
+      return hashCode == key.hashCode
+          && operation.equals(key.operation)
+          && Objects.equals(params, key.params)
+          && permissionKey.equals(key.permissionKey);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+
+  /** The permissions of a user, regardless of the user's name. */
+  private static final class PermissionKey {
+    private final UserPermission.View permission;
+    private final int hashCode;
+
+    PermissionKey(UserPermission.View source) {
+      permission = new UserPermission.View();
+      permission.setAccounts(source.getAccounts());
+      permission.setApplications(source.getApplications());
+      permission.setServiceAccounts(source.getServiceAccounts());
+      permission.setRoles(source.getRoles());
+      permission.setBuildServices(source.getBuildServices());
+      permission.setExtensionResources(source.getExtensionResources());
+      permission.setAdmin(source.isAdmin());
+      permission.setAccountManager(source.isAccountManager());
+      permission.setLegacyFallback(source.isLegacyFallback());
+      permission.setAllowAccessToUnknownApplications(source.isAllowAccessToUnknownApplications());
+      hashCode = permission.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof PermissionKey)) {
+        return false;
+      }
+      PermissionKey that = (PermissionKey) o;
+      return hashCode == that.hashCode && permission.equals(that.permission);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+}
@@ -43,9 +43,14 @@ class ServerGroupService {
   @Autowired
   ProviderLookupService providerLookupService
 
+  @Autowired(required = false)
+  RequestCoalescer requestCoalescer = RequestCoalescer.disabled()
+
   List getForApplication(String applicationName, String expand, String cloudProvider, String clusters, String selectorKey) {
     String commandKey = Boolean.valueOf(expand) ? "getExpandedServerGroupsForApplication" : "getServerGroupsForApplication"
-    Retrofit2SyncCall.execute(clouddriverServiceSelector.select().getServerGroups(applicationName, expand, cloudProvider, clusters))
+    return (List) requestCoalescer.execute(commandKey, [applicationName, cloudProvider, clusters]) {
+      Retrofit2SyncCall.execute(clouddriverServiceSelector.select().getServerGroups(applicationName, expand, cloudProvider, clusters))
+    }
   }
 
   List getForApplications(List<String> applications, String cloudProvider, String selectorKey) {
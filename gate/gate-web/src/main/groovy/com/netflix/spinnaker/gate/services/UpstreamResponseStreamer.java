@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.gate.services;
+
+import com.netflix.spinnaker.gate.config.StreamingProxyConfigurationProperties;
+import com.netflix.spinnaker.gate.filters.ContentCachingFilter;
+import com.netflix.spinnaker.kork.retrofit.Retrofit2SyncCall;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.function.Function;
+import okhttp3.ResponseBody;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import retrofit2.Call;
+import retrofit2.Response;
+
+/**
+ * Copies an upstream response body to the client without deserializing it or buffering it in full.
+ *
+ * <p>When the client accepts gzip, the upstream is asked for gzip as well and the compressed bytes
+ * are passed through as is. Otherwise OkHttp decompresses the upstream response transparently.
+ */
+@Component
+public class UpstreamResponseStreamer {
+  private static final String GZIP = "gzip";
+
+  private final StreamingProxyConfigurationProperties properties;
+
+  public UpstreamResponseStreamer(StreamingProxyConfigurationProperties properties) {
+    this.properties = properties;
+  }
+
+  public boolean isEnabled() {
+    return properties.isEnabled();
+  }
+
+  /**
+   * @param upstreamCall creates the upstream call given the Accept-Encoding to send (null to let
+   *     OkHttp negotiate and decompress)
+   */
+  public void stream(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      Function<String, Call<ResponseBody>> upstreamCall)
+      throws IOException {
+    boolean passThroughGzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+    Response<ResponseBody> upstreamResponse =
+        Retrofit2SyncCall.executeCall(upstreamCall.apply(passThroughGzip ? GZIP : null));
+
+    HttpServletResponse unbuffered = ContentCachingFilter.unbuffered(request, response);
+    try (ResponseBody body = upstreamResponse.body()) {
+      unbuffered.setStatus(upstreamResponse.code());
+      if (body == null) {
+        return;
+      }
+
+      if (body.contentType() != null) {
+        unbuffered.setContentType(body.contentType().toString());
+      }
+      String contentEncoding = upstreamResponse.headers().get(HttpHeaders.CONTENT_ENCODING);
+      if (contentEncoding != null) {
+        unbuffered.setHeader(HttpHeaders.CONTENT_ENCODING, contentEncoding);
+        unbuffered.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+      }
+      if (body.contentLength() >= 0) {
+        unbuffered.setContentLengthLong(body.contentLength());
+      }
+
+      byte[] buffer = new byte[properties.getBufferSizeBytes()];
+      InputStream inputStream = body.byteStream();
+      OutputStream outputStream = unbuffered.getOutputStream();
+      int read;
+      while ((read = inputStream.read(buffer)) != -1) {
+        outputStream.write(buffer, 0, read);
+      }
+      outputStream.flush();
+    }
+  }
+
+  static boolean acceptsGzip(String acceptEncoding) {
+    if (acceptEncoding == null) {
+      return false;
+    }
+
+    for (String coding : acceptEncoding.split(",")) {
+      String[] parts = coding.trim().split(";");
+      if (!parts[0].trim().equalsIgnoreCase(GZIP)) {
+        continue;
+      }
+      for (int i = 1; i < parts.length; i++) {
+        String parameter = parts[i].trim().replace(" ", "");
+        if (parameter.matches("q=0(\\.0*)?")) {
+          return false;
+        }
+      }
+      return true;
+    }
+    return false;
+  }
+}
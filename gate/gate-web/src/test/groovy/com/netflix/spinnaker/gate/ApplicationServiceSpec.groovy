@@ -25,7 +25,10 @@ import com.netflix.spinnaker.gate.services.internal.Front50Service
 import com.netflix.spinnaker.gate.services.internal.ClouddriverService
 import com.netflix.spinnaker.kork.retrofit.exceptions.SpinnakerHttpException
 import com.netflix.spinnaker.kork.web.exceptions.NotFoundException
+import okhttp3.Headers
 import okhttp3.MediaType
+import okhttp3.Protocol
+import okhttp3.Request
 import okhttp3.ResponseBody
 import retrofit2.Response
 import retrofit2.Retrofit
@@ -314,6 +317,55 @@ class ApplicationServiceSpec extends Specification {
     email = "foo@bar.bz"
   }
 
+  void "should reuse the merged applications when neither application list changed"() {
+    given:
+    def clouddriverApp = [name: name.toUpperCase(), attributes: [name: name], clusters: [prod: [[name: "cluster-name"]]]]
+    def front50App = [name: name.toLowerCase(), email: email]
+    def service = applicationService()
+
+    when:
+    service.refreshApplicationsCache()
+    def apps = service.getAllApplications()
+
+    then:
+    1 * clouddriver.getAllApplicationsUnrestricted(true) >> Calls.response(Response.success([clouddriverApp], Headers.of("ETag", '"clouddriver"')))
+    1 * front50.getAllApplicationsUnrestricted() >> Calls.response(Response.success([front50App], Headers.of("ETag", '"front50"')))
+    apps[0].email == email
+
+    when:
+    service.refreshApplicationsCache()
+
+    then:
+    1 * clouddriver.getAllApplicationsUnrestricted(true, '"clouddriver"') >> Calls.response(notModified())
+    1 * front50.getAllApplicationsUnrestricted('"front50"') >> Calls.response(notModified())
+    service.getAllApplications().is(apps)
+
+    when:
+    service.refreshApplicationsCache()
+
+    then:
+    1 * clouddriver.getAllApplicationsUnrestricted(true, '"clouddriver"') >> Calls.response(notModified())
+    1 * front50.getAllApplicationsUnrestricted('"front50"') >> Calls.response(Response.success([front50App + [email: "new@bar.bz"]], Headers.of("ETag", '"front50-2"')))
+    service.getAllApplications()[0].email == "new@bar.bz"
+    service.getAllApplications()[0].accounts == "prod"
+
+    where:
+    name = "foo"
+    email = "foo@bar.bz"
+  }
+
+  private static <T> Response<T> notModified() {
+    return Response.error(
+      ResponseBody.create(MediaType.parse("application/json"), ""),
+      new okhttp3.Response.Builder()
+        .code(304)
+        .message("Not Modified")
+        .protocol(Protocol.HTTP_1_1)
+        .request(new Request.Builder().url("http://localhost/").build())
+        .build()
+    )
+  }
+
   void "should properly merge accounts for retrieved apps with clusterNames"() {
     given:
     def clouddriverApp1 = [name: name.toUpperCase(), attributes: [name: name], clusterNames: [prod: ["cluster-prod"]]]
@@ -23,6 +23,7 @@ import com.netflix.spinnaker.config.okhttp3.OkHttpClientProvider
 import com.netflix.spinnaker.fiat.shared.FiatClientConfigurationProperties
 import com.netflix.spinnaker.fiat.shared.FiatStatus
 import com.netflix.spinnaker.gate.config.ServiceConfiguration
+import com.netflix.spinnaker.gate.config.StreamingProxyConfigurationProperties
 import com.netflix.spinnaker.gate.config.controllers.PipelineControllerConfigProperties
 import com.netflix.spinnaker.gate.controllers.ApplicationController
 import com.netflix.spinnaker.gate.controllers.PipelineController
@@ -228,6 +229,11 @@ class FunctionalSpec extends Specification {
       executionHistoryService
     }
 
+    @Bean
+    UpstreamResponseStreamer upstreamResponseStreamer() {
+      new UpstreamResponseStreamer(new StreamingProxyConfigurationProperties())
+    }
+
     @Bean
     CredentialsService credentialsService() {
       credentialsService
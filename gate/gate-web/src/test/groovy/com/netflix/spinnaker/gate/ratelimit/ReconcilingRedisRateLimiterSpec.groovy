@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.netflix.spinnaker.gate.ratelimit
+
+import com.netflix.spectator.api.NoopRegistry
+import com.netflix.spinnaker.kork.jedis.EmbeddedRedis
+import redis.clients.jedis.JedisPool
+import redis.clients.jedis.exceptions.JedisConnectionException
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+class ReconcilingRedisRateLimiterSpec extends Specification {
+
+  @Shared
+  @AutoCleanup("destroy")
+  EmbeddedRedis embeddedRedis
+
+  def setupSpec() {
+    embeddedRedis = EmbeddedRedis.embed()
+    embeddedRedis.jedis.flushDB()
+  }
+
+  def cleanup() {
+    embeddedRedis.jedis.flushDB()
+  }
+
+  def 'should enforce capacity locally between reconciliations'() {
+    given:
+    def subject = new ReconcilingRedisRateLimiter((JedisPool) embeddedRedis.pool, new NoopRegistry(), 100)
+    def principal = new RateLimitPrincipal('user@example.com', 10, 2, false)
+
+    when:
+    def rates = (1..3).collect { subject.incrementAndGetRate(principal) }
+
+    then:
+    rates*.remaining == [1, 0, 0]
+    rates*.throttled == [false, false, true]
+    embeddedRedis.jedis.get('rateLimit:user@example.com') == null
+
+    when:
+    subject.reconcile()
+
+    then:
+    embeddedRedis.jedis.get('rateLimit:user@example.com') == '3'
+    embeddedRedis.jedis.pttl('rateLimit:user@example.com') > 0
+  }
+
+  def 'should include requests served by other instances once reconciled'() {
+    given:
+    def pool = (JedisPool) embeddedRedis.pool
+    def instance1 = new ReconcilingRedisRateLimiter(pool, new NoopRegistry(), 100)
+    def instance2 = new ReconcilingRedisRateLimiter(pool, new NoopRegistry(), 100)
+    def principal = new RateLimitPrincipal('user@example.com', 10, 10, false)
+
+    when:
+    2.times { instance1.incrementAndGetRate(principal) }
+    3.times { instance2.incrementAndGetRate(principal) }
+    instance1.reconcile()
+    instance2.reconcile()
+    instance1.reconcile()
+
+    then:
+    instance1.incrementAndGetRate(principal).remaining == 4
+    instance2.incrementAndGetRate(principal).remaining == 4
+  }
+
+  def 'should keep serving requests and retain counts while redis is unavailable'() {
+    given:
+    def pool = Mock(JedisPool)
+    def subject = new ReconcilingRedisRateLimiter(pool, new NoopRegistry(), 100)
+    def principal = new RateLimitPrincipal('user@example.com', 10, 10, false)
+
+    when:
+    2.times { subject.incrementAndGetRate(principal) }
+    subject.reconcile()
+
+    then:
+    1 * pool.getResource() >> { throw new JedisConnectionException('unavailable') }
+    subject.incrementAndGetRate(principal).remaining == 7
+  }
+}
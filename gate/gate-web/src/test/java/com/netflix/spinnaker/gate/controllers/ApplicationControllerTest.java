@@ -31,6 +31,7 @@ import com.netflix.spinnaker.gate.config.ServiceConfiguration;
 import com.netflix.spinnaker.gate.services.ApplicationService;
 import com.netflix.spinnaker.gate.services.ExecutionHistoryService;
 import com.netflix.spinnaker.gate.services.TaskService;
+import com.netflix.spinnaker.gate.services.UpstreamResponseStreamer;
 import com.netflix.spinnaker.gate.services.internal.ClouddriverService;
 import com.netflix.spinnaker.gate.services.internal.ClouddriverServiceSelector;
 import com.netflix.spinnaker.gate.services.internal.Front50Service;
@@ -83,6 +84,8 @@ class ApplicationControllerTest {
 
   @MockitoBean PipelineController pipelineController;
 
+  @MockitoBean UpstreamResponseStreamer upstreamResponseStreamer;
+
   @BeforeEach
   void setup() {
     when(clouddriverSelector.select()).thenReturn(clouddriver);
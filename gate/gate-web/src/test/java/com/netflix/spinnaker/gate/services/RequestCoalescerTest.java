@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.gate.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.netflix.spectator.api.DefaultRegistry;
+import com.netflix.spectator.api.Registry;
+import com.netflix.spinnaker.fiat.model.UserPermission;
+import com.netflix.spinnaker.fiat.model.resources.Application;
+import com.netflix.spinnaker.fiat.shared.FiatPermissionEvaluator;
+import com.netflix.spinnaker.fiat.shared.FiatStatus;
+import com.netflix.spinnaker.gate.config.RequestCoalescingConfigurationProperties;
+import com.netflix.spinnaker.security.AuthenticatedRequest;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RequestCoalescerTest {
+  private final RequestCoalescingConfigurationProperties properties =
+      new RequestCoalescingConfigurationProperties();
+  private final Registry registry = new DefaultRegistry();
+  private final FiatStatus fiatStatus = mock(FiatStatus.class);
+  private final FiatPermissionEvaluator fiatPermissionEvaluator =
+      mock(FiatPermissionEvaluator.class);
+
+  private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+  @BeforeEach
+  void setup() {
+    properties.setEnabled(true);
+  }
+
+  @AfterEach
+  void cleanup() {
+    AuthenticatedRequest.clear();
+  }
+
+  @Test
+  void sharesInFlightCallAmongIdenticalReads() throws Exception {
+    RequestCoalescer coalescer =
+        new RequestCoalescer(properties, registry, fiatStatus, fiatPermissionEvaluator);
+    CountDownLatch release = new CountDownLatch(1);
+
+    CompletableFuture<List<String>> leader =
+        CompletableFuture.supplyAsync(
+            () ->
+                coalescer.execute(
+                    "getPipelines",
+                    List.of("app"),
+                    () -> {
+                      upstreamCalls.incrementAndGet();
+                      await(release);
+                      return List.of("execution");
+                    }));
+    while (upstreamCalls.get() == 0) {
+      Thread.sleep(10);
+    }
+
+    CompletableFuture<List<String>> follower =
+        CompletableFuture.supplyAsync(
+            () ->
+                coalescer.execute(
+                    "getPipelines",
+                    List.of("app"),
+                    () -> {
+                      upstreamCalls.incrementAndGet();
+                      return List.of("another execution");
+                    }));
+    while (registry.counter("requestCoalescing.coalesced").count() == 0) {
+      Thread.sleep(10);
+    }
+    release.countDown();
+
+    assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo(List.of("execution"));
+    assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo(List.of("execution"));
+    assertThat(upstreamCalls).hasValue(1);
+
+    // nothing is retained once the call completes
+    coalescer.execute("getPipelines", List.of("app"), upstreamCalls::incrementAndGet);
+    assertThat(upstreamCalls).hasValue(2);
+  }
+
+  @Test
+  void reusesResultsWithinTtlForUsersWithTheSamePermissions() {
+    properties.setCacheTtlMs(60_000);
+    when(fiatStatus.isEnabled()).thenReturn(true);
+    when(fiatPermissionEvaluator.getPermission("alice")).thenReturn(permission("alice", "app"));
+    when(fiatPermissionEvaluator.getPermission("bob")).thenReturn(permission("bob", "app"));
+    when(fiatPermissionEvaluator.getPermission("carol")).thenReturn(permission("carol", "other"));
+    RequestCoalescer coalescer =
+        new RequestCoalescer(properties, registry, fiatStatus, fiatPermissionEvaluator);
+
+    assertThat(executeAs("alice", coalescer)).isEqualTo(1);
+    assertThat(executeAs("bob", coalescer)).isEqualTo(1);
+    assertThat(executeAs("carol", coalescer)).isEqualTo(2);
+    assertThat(registry.counter("requestCoalescing.cacheHits").count()).isEqualTo(1);
+  }
+
+  @Test
+  void doesNotShareReadsBetweenUsersWithoutFiat() {
+    properties.setCacheTtlMs(60_000);
+    RequestCoalescer coalescer =
+        new RequestCoalescer(properties, registry, fiatStatus, fiatPermissionEvaluator);
+
+    assertThat(executeAs("alice", coalescer)).isEqualTo(1);
+    assertThat(executeAs("bob", coalescer)).isEqualTo(2);
+    assertThat(executeAs("alice", coalescer)).isEqualTo(1);
+  }
+
+  @Test
+  void doesNotReuseFailures() {
+    properties.setCacheTtlMs(60_000);
+    RequestCoalescer coalescer =
+        new RequestCoalescer(properties, registry, fiatStatus, fiatPermissionEvaluator);
+
+    assertThatThrownBy(
+            () ->
+                coalescer.execute(
+                    "getPipelines",
+                    List.of("app"),
+                    () -> {
+                      throw new IllegalStateException("upstream failure");
+                    }))
+        .isInstanceOf(IllegalStateException.class);
+
+    assertThat(coalescer.execute("getPipelines", List.of("app"), () -> "executions"))
+        .isEqualTo("executions");
+  }
+
+  private int executeAs(String user, RequestCoalescer coalescer) {
+    AuthenticatedRequest.setUser(user);
+    try {
+      return coalescer.execute("getPipelines", List.of("app"), upstreamCalls::incrementAndGet);
+    } finally {
+      AuthenticatedRequest.clear();
+    }
+  }
+
+  private static UserPermission.View permission(String user, String application) {
+    return new UserPermission()
+        .setId(user)
+        .setApplications(Set.of(new Application().setName(application)))
+        .getView();
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
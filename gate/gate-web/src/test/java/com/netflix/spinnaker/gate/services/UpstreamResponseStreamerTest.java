@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.gate.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.netflix.spinnaker.gate.config.StreamingProxyConfigurationProperties;
+import com.netflix.spinnaker.gate.filters.ContentCachingFilter;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import okhttp3.Headers;
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import retrofit2.Response;
+import retrofit2.mock.Calls;
+
+class UpstreamResponseStreamerTest {
+  private static final byte[] GZIPPED_BODY = {0x1f, (byte) 0x8b, 0x08, 0x00};
+
+  private final StreamingProxyConfigurationProperties properties =
+      new StreamingProxyConfigurationProperties();
+
+  private UpstreamResponseStreamer streamer;
+
+  @BeforeEach
+  void setup() {
+    properties.setEnabled(true);
+    properties.setBufferSizeBytes(2);
+    streamer = new UpstreamResponseStreamer(properties);
+  }
+
+  @Test
+  void passesCompressedBodyThroughWhenClientAcceptsGzip() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/executions");
+    request.addHeader("Accept-Encoding", "deflate, gzip");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    List<String> requestedEncodings = new ArrayList<>();
+
+    streamer.stream(
+        request,
+        response,
+        acceptEncoding -> {
+          requestedEncodings.add(acceptEncoding);
+          return Calls.response(
+              Response.success(
+                  ResponseBody.create(GZIPPED_BODY, MediaType.get("application/json")),
+                  Headers.of("Content-Encoding", "gzip")));
+        });
+
+    assertThat(requestedEncodings).containsExactly("gzip");
+    assertThat(response.getStatus()).isEqualTo(200);
+    assertThat(response.getContentType()).startsWith("application/json");
+    assertThat(response.getHeader("Content-Encoding")).isEqualTo("gzip");
+    assertThat(response.getHeader("Vary")).isEqualTo("Accept-Encoding");
+    assertThat(response.getContentLengthLong()).isEqualTo(GZIPPED_BODY.length);
+    assertThat(response.getContentAsByteArray()).isEqualTo(GZIPPED_BODY);
+  }
+
+  @Test
+  void letsOkHttpNegotiateEncodingWhenClientDoesNotAcceptGzip() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/executions");
+    request.addHeader("Accept-Encoding", "gzip;q=0, identity");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    List<String> requestedEncodings = new ArrayList<>();
+
+    streamer.stream(
+        request,
+        response,
+        acceptEncoding -> {
+          requestedEncodings.add(acceptEncoding);
+          return Calls.response(ResponseBody.create("[]", MediaType.get("application/json")));
+        });
+
+    assertThat(requestedEncodings).containsExactly((String) null);
+    assertThat(response.getHeader("Content-Encoding")).isNull();
+    assertThat(response.getContentAsString()).isEqualTo("[]");
+  }
+
+  @Test
+  void bypassesContentCachingFilter() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/executions");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    new ContentCachingFilter()
+        .doFilter(
+            request,
+            response,
+            new MockFilterChain() {
+              @Override
+              public void doFilter(ServletRequest req, ServletResponse res) throws IOException {
+                streamer.stream(
+                    (HttpServletRequest) req,
+                    (HttpServletResponse) res,
+                    acceptEncoding ->
+                        Calls.response(
+                            ResponseBody.create("[{}]", MediaType.get("application/json"))));
+                // written through, rather than held back until the filter completes
+                assertThat(response.isCommitted()).isTrue();
+              }
+            });
+
+    assertThat(response.getContentAsString()).isEqualTo("[{}]");
+  }
+
+  @Test
+  void parsesAcceptEncoding() {
+    assertThat(UpstreamResponseStreamer.acceptsGzip(null)).isFalse();
+    assertThat(UpstreamResponseStreamer.acceptsGzip("identity")).isFalse();
+    assertThat(UpstreamResponseStreamer.acceptsGzip("GZIP")).isTrue();
+    assertThat(UpstreamResponseStreamer.acceptsGzip("br, gzip;q=0.8")).isTrue();
+    assertThat(UpstreamResponseStreamer.acceptsGzip("gzip; q=0.0")).isFalse();
+  }
+}
@@ -23,6 +23,7 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 public class DockerRegistryProperties {
   private boolean enabled;
   private Integer itemUpperThreshold;
+  private DeltaPolling deltaPolling = new DeltaPolling();
 
   public boolean isEnabled() {
     return enabled;
@@ -39,4 +40,42 @@ public class DockerRegistryProperties {
   public void setItemUpperThreshold(Integer itemUpperThreshold) {
     this.itemUpperThreshold = itemUpperThreshold;
   }
+
+  public DeltaPolling getDeltaPolling() {
+    return deltaPolling;
+  }
+
+  public void setDeltaPolling(DeltaPolling deltaPolling) {
+    this.deltaPolling = deltaPolling;
+  }
+
+  /**
+   * Once an account has been fully polled, only request the tags that clouddriver reports as
+   * changed since the previous poll.
+   */
+  public static class DeltaPolling {
+    private boolean enabled;
+
+    /**
+     * How far before the previous cursor to look for changes. Clouddriver caches the tags of an
+     * account with several agents, each of which may publish its changes after another's.
+     */
+    private long lookbackMs = 10 * 60 * 1000;
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public long getLookbackMs() {
+      return lookbackMs;
+    }
+
+    public void setLookbackMs(long lookbackMs) {
+      this.lookbackMs = lookbackMs;
+    }
+  }
 }
@@ -46,7 +46,7 @@ class EchoConfig {
 
         new Retrofit.Builder()
             .baseUrl(RetrofitUtils.getBaseUrl(address))
-            .client(okHttpClientConfig.createForRetrofit2().build())
+            .client(okHttpClientConfig.createForRetrofit2(address).build())
             .addConverterFactory(CustomConverterFactory.create())
             .addCallAdapterFactory(ErrorHandlingExecutorCallAdapterFactory.getInstance())
             .build()
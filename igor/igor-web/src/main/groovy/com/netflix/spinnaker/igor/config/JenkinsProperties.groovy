@@ -57,6 +57,12 @@ class JenkinsProperties implements BuildServerProperties<JenkinsProperties.Jenki
 
         Integer itemUpperThreshold;
 
+        // The number of jobs whose builds are polled concurrently, one at a time by default
+        Integer pollParallelism = 1
+
+        // The maximum number of build requests per second made while polling, unlimited if not set
+        Double pollRequestsPerSecond
+
         String trustStore
         String trustStoreType = KeyStore.getDefaultType()
         String trustStorePassword
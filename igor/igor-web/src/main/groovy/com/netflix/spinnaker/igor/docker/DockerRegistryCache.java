@@ -17,14 +17,20 @@ package com.netflix.spinnaker.igor.docker;
 
 import static java.lang.String.format;
 
+import com.google.common.collect.Lists;
 import com.netflix.spinnaker.igor.IgorConfigurationProperties;
 import com.netflix.spinnaker.kork.jedis.RedisClientDelegate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
+import redis.clients.jedis.Response;
 
 @Service
 @Qualifier("DockerRegistryCache")
@@ -36,6 +42,8 @@ public class DockerRegistryCache {
   // an "empty" placeholder.
   private static final String EMPTY_DIGEST = "~";
 
+  private static final int PIPELINE_BATCH_SIZE = 1000;
+
   private final RedisClientDelegate redisClientDelegate;
   private final IgorConfigurationProperties igorConfigurationProperties;
 
@@ -79,6 +87,104 @@ public class DockerRegistryCache {
         });
   }
 
+  /**
+   * Reads the last digest of many images, with one pipelined round trip to redis per batch of
+   * images rather than one per image.
+   *
+   * @param imageIds image keys, as returned by {@link #getImages(String)}
+   * @return the last digest of each image that has one
+   */
+  public Map<String, String> getLastDigests(Collection<String> imageIds) {
+    Map<String, String> digests = new HashMap<>();
+    for (List<String> batch : Lists.partition(new ArrayList<>(imageIds), PIPELINE_BATCH_SIZE)) {
+      List<Response<String>> responses = new ArrayList<>(batch.size());
+      redisClientDelegate.withPipeline(
+          p -> {
+            for (String imageId : batch) {
+              responses.add(p.hget(imageId, "digest"));
+            }
+            redisClientDelegate.syncPipeline(p);
+          });
+
+      for (int i = 0; i < batch.size(); i++) {
+        String digest = responses.get(i).get();
+        if (digest != null && !digest.equals(EMPTY_DIGEST)) {
+          digests.put(batch.get(i), digest);
+        }
+      }
+    }
+    return digests;
+  }
+
+  /**
+   * Writes the last digest of many images, with one pipelined round trip to redis per batch of
+   * images rather than one per image.
+   *
+   * @param digestsByImageId digests keyed by image key; a null digest is recorded as empty
+   */
+  public void setLastDigests(Map<String, String> digestsByImageId) {
+    List<String> imageIds = new ArrayList<>(digestsByImageId.keySet());
+    for (List<String> batch : Lists.partition(imageIds, PIPELINE_BATCH_SIZE)) {
+      redisClientDelegate.withPipeline(
+          p -> {
+            for (String imageId : batch) {
+              String digest = digestsByImageId.get(imageId);
+              p.hset(imageId, "digest", digest == null ? EMPTY_DIGEST : digest);
+            }
+            redisClientDelegate.syncPipeline(p);
+          });
+    }
+  }
+
+  /**
+   * @return the subset of the given image keys that are cached, checked with one pipelined round
+   *     trip to redis per batch of images
+   */
+  public Set<String> getCachedImages(Collection<String> imageIds) {
+    Set<String> cached = new HashSet<>();
+    for (List<String> batch : Lists.partition(new ArrayList<>(imageIds), PIPELINE_BATCH_SIZE)) {
+      List<Response<Boolean>> responses = new ArrayList<>(batch.size());
+      redisClientDelegate.withPipeline(
+          p -> {
+            for (String imageId : batch) {
+              responses.add(p.exists(imageId));
+            }
+            redisClientDelegate.syncPipeline(p);
+          });
+
+      for (int i = 0; i < batch.size(); i++) {
+        if (Boolean.TRUE.equals(responses.get(i).get())) {
+          cached.add(batch.get(i));
+        }
+      }
+    }
+    return cached;
+  }
+
+  /**
+   * @return the time up to which the tags of the account have been polled from clouddriver, as
+   *     reported by clouddriver, or null if the account has never been fully polled
+   */
+  public Long getChangeCursor(String account) {
+    return redisClientDelegate.withCommandsClient(
+        c -> {
+          String cursor = c.get(makeChangeCursorKey(account));
+          return cursor == null ? null : Long.parseLong(cursor);
+        });
+  }
+
+  public void setChangeCursor(String account, long cursor) {
+    redisClientDelegate.withCommandsClient(
+        c -> {
+          c.set(makeChangeCursorKey(account), Long.toString(cursor));
+        });
+  }
+
+  /** Not matched by {@link #makeIndexPattern(String, String)}. */
+  private String makeChangeCursorKey(String account) {
+    return format("%s:%s:changeCursor:%s", prefix(), ID, account);
+  }
+
   static String makeIndexPattern(String prefix, String account) {
     return format("%s:%s:v2:%s:*", prefix, ID, account);
   }
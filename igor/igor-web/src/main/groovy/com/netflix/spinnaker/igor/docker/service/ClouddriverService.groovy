@@ -30,6 +30,14 @@ interface ClouddriverService {
     @GET('dockerRegistry/images/find')
     Call<List<TaggedImage>> getImagesByAccount(@Query('account') String account, @Query('includeDetails') Boolean includeDetails)
 
+    /**
+     * Only returns the tags that clouddriver cached or saw change at or after {@code changedSince}.
+     */
+    @GET('dockerRegistry/images/find')
+    Call<List<TaggedImage>> getImagesByAccount(@Query('account') String account,
+                                               @Query('includeDetails') Boolean includeDetails,
+                                               @Query('changedSince') Long changedSince)
+
     @GET('credentials')
     Call<List<ClouddriverAccount>> getAllAccounts()
 
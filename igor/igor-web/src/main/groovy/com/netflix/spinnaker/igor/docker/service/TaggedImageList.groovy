@@ -30,4 +30,6 @@ class TaggedImage {
     String date
     String branch
     Map<String, Object> artifact
+    /** When clouddriver cached the tag or saw its digest change, if it records it */
+    Long changedAt
 }
@@ -16,6 +16,8 @@
 
 package com.netflix.spinnaker.igor.jenkins
 
+import com.google.common.util.concurrent.RateLimiter
+import com.google.common.util.concurrent.ThreadFactoryBuilder
 import com.netflix.spectator.api.BasicTag
 import com.netflix.spectator.api.Registry
 import com.netflix.spinnaker.igor.IgorConfigurationProperties
@@ -39,11 +41,18 @@ import com.netflix.spinnaker.kork.retrofit.Retrofit2SyncCall
 import com.netflix.spinnaker.kork.retrofit.exceptions.SpinnakerServerException
 import com.netflix.spinnaker.security.AuthenticatedRequest
 import groovy.time.TimeCategory
+import jakarta.annotation.PreDestroy
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.beans.factory.annotation.Value
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty
 import org.springframework.scheduling.TaskScheduler
 import org.springframework.stereotype.Service
+
+import java.util.concurrent.Callable
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
 import java.util.stream.Collectors
 
 import static net.logstash.logback.argument.StructuredArguments.kv
@@ -60,6 +69,8 @@ class JenkinsBuildMonitor extends CommonPollingMonitor<JobDelta, JobPollingDelta
     private final boolean pollingEnabled
     private final Optional<EchoService> echoService
     private final JenkinsProperties jenkinsProperties
+    private final Map<String, RateLimiter> buildRequestRateLimiters = new ConcurrentHashMap<>()
+    private final Map<String, ExecutorService> pollExecutors = new ConcurrentHashMap<>()
 
     @Autowired
     JenkinsBuildMonitor(IgorConfigurationProperties properties,
@@ -101,6 +112,11 @@ class JenkinsBuildMonitor extends CommonPollingMonitor<JobDelta, JobPollingDelta
     /**
      * Gets a list of jobs for this master & processes builds between last poll stamp and a sliding upper bound stamp,
      * the cursor will be used to advanced to the upper bound when all builds are completed in the commit phase.
+     *
+     * Jobs whose last build (as reported in the list of jobs) has not moved since the cursor are skipped without
+     * requesting their builds. The remaining jobs are processed by the `pollParallelism` threads of the master, which
+     * are created on its first poll and kept until the monitor is destroyed.
+     * The cursors of all jobs are read from the cache up front, in bulk.
      */
     @Override
     protected JobPollingDelta generateDelta(PollContext ctx) {
@@ -111,29 +127,66 @@ class JenkinsBuildMonitor extends CommonPollingMonitor<JobDelta, JobPollingDelta
         registry.timer("pollingMonitor.jenkins.retrieveProjects", [new BasicTag("partition", master)]).record {
             JenkinsService jenkinsService = buildServices.getService(master) as JenkinsService
             List<Project> jobs = jenkinsService.getProjects()?.getList() ?:[]
-            jobs.forEach( { job -> processBuildsOfProject(jenkinsService, master, job, delta)})
+            List<String> jobNames = jobs.findAll { it.lastBuild }*.name
+            Map<String, Long> cursors = jobNames ? cache.getLastPollCycleTimestamps(master, jobNames) : [:]
+            int parallelism = getHost(master)?.pollParallelism ?: 1
+            if (parallelism <= 1 || jobs.size() <= 1) {
+                jobs.forEach( { job -> addIfPresent(delta, processBuildsOfProject(jenkinsService, master, job, cursors[job.name])) })
+            } else {
+                processBuildsOfProjects(jenkinsService, master, jobs, cursors, parallelism).forEach( { addIfPresent(delta, it) })
+            }
         }
         return new JobPollingDelta(master: master, items: delta)
     }
 
-    private void processBuildsOfProject(JenkinsService jenkinsService, String master, Project job, List<JobDelta> delta) {
+    private List<JobDelta> processBuildsOfProjects(JenkinsService jenkinsService, String master, List<Project> jobs, Map<String, Long> cursors, int parallelism) {
+        ExecutorService executor = pollExecutors.computeIfAbsent(master, {
+            Executors.newFixedThreadPool(
+                parallelism,
+                new ThreadFactoryBuilder().setNameFormat("${getName()}-${master}-%d").setDaemon(true).build()
+            )
+        })
+        List<Future<JobDelta>> futures = jobs.collect { job ->
+            executor.submit({ processBuildsOfProject(jenkinsService, master, job, cursors[job.name]) } as Callable<JobDelta>)
+        }
+        try {
+            // preserve the order of the jobs, as when polling sequentially
+            return futures.collect { it.get() }
+        } catch (Exception e) {
+            futures.forEach({ it.cancel(true) })
+            throw e
+        }
+    }
+
+    @PreDestroy
+    void shutdownPollExecutors() {
+        pollExecutors.values().forEach({ it.shutdownNow() })
+        pollExecutors.clear()
+    }
+
+    private static void addIfPresent(List<JobDelta> delta, JobDelta jobDelta) {
+        if (jobDelta != null) {
+            delta.add(jobDelta)
+        }
+    }
+
+    private JobDelta processBuildsOfProject(JenkinsService jenkinsService, String master, Project job, Long cursor) {
         if (!job.lastBuild) {
             log.trace("[{}:{}] has no builds skipping...", kv("master", master), kv("job", job.name))
-            return
+            return null
         }
 
         try {
-            Long cursor = cache.getLastPollCycleTimestamp(master, job.name)
             Long lastBuildStamp = job.lastBuild.timestamp as Long
             Date upperBound = new Date(lastBuildStamp)
             if (cursor == lastBuildStamp) {
                 log.trace("[${master}:${job.name}] is up to date. skipping")
-                return
+                return null
             }
 
             if (!cursor && !igorProperties.spinnaker.build.handleFirstBuilds) {
                 cache.setLastPollCycleTimestamp(master, job.name, lastBuildStamp)
-                return
+                return null
             }
 
             List<Build> allBuilds = getBuilds(jenkinsService, master, job, cursor, lastBuildStamp)
@@ -146,7 +199,7 @@ class JenkinsBuildMonitor extends CommonPollingMonitor<JobDelta, JobPollingDelta
                 completedBuilds = onlyInLookBackWindow(completedBuilds)
             }
 
-            delta.add(new JobDelta(
+            return new JobDelta(
                 cursor: cursor,
                 name: job.name,
                 lastBuildStamp: lastBuildStamp,
@@ -154,17 +207,19 @@ class JenkinsBuildMonitor extends CommonPollingMonitor<JobDelta, JobPollingDelta
                 lowerBound: lowerBound,
                 completedBuilds: completedBuilds,
                 runningBuilds: currentlyBuilding
-            ))
+            )
 
         } catch (e) {
             log.error("Error processing builds for [{}:{}]", kv("master", master), kv("job", job.name), e)
             if (e instanceof SpinnakerServerException) {
                 log.error("Error communicating with jenkins for [{}:{}]: {}", kv("master", master), kv("job", job.name), kv("url", e.url), e)
             }
+            return null
         }
     }
 
     private List<Build> getBuilds(JenkinsService jenkinsService, String master, Project job, Long cursor, Long lastBuildStamp) {
+        getBuildRequestRateLimiter(master)?.acquire()
         if (!cursor) {
             log.debug("[${master}:${job.name}] setting new cursor to ${lastBuildStamp}")
             return jenkinsService.getBuilds(job.name) ?: []
@@ -196,9 +251,9 @@ class JenkinsBuildMonitor extends CommonPollingMonitor<JobDelta, JobPollingDelta
 
         delta.items.stream().forEach { job ->
             // post events for finished builds
+            Set<Integer> eventsPosted = cache.getEventsPosted(master, job.name, job.cursor, job.completedBuilds*.number)
             job.completedBuilds.forEach { build ->
-                Boolean eventPosted = cache.getEventPosted(master, job.name, job.cursor, build.number)
-                if (!eventPosted) {
+                if (!eventsPosted.contains(build.number)) {
                     if (sendEvents) {
                         postEvent(new Project(name: job.name, lastBuild: build), master)
                         log.debug("[${master}:${job.name}]:${build.number} event posted")
@@ -222,7 +277,23 @@ class JenkinsBuildMonitor extends CommonPollingMonitor<JobDelta, JobPollingDelta
 
     @Override
     protected Integer getPartitionUpperThreshold(String partition) {
-        return jenkinsProperties.masters.find { partition == it.name }?.itemUpperThreshold
+        return getHost(partition)?.itemUpperThreshold
+    }
+
+    private JenkinsProperties.JenkinsHost getHost(String master) {
+        return jenkinsProperties.masters?.find { master == it.name }
+    }
+
+    private RateLimiter getBuildRequestRateLimiter(String master) {
+        Double requestsPerSecond = getHost(master)?.pollRequestsPerSecond
+        if (!requestsPerSecond) {
+            return null
+        }
+        RateLimiter rateLimiter = buildRequestRateLimiters.computeIfAbsent(master, { RateLimiter.create(requestsPerSecond) })
+        if (rateLimiter.rate != requestsPerSecond) {
+            rateLimiter.rate = requestsPerSecond
+        }
+        return rateLimiter
     }
 
     private void postEvent(Project project, String master) {
@@ -15,12 +15,14 @@
  */
 package com.netflix.spinnaker.igor.jenkins;
 
+import com.google.common.collect.Lists;
 import com.netflix.spinnaker.igor.IgorConfigurationProperties;
 import com.netflix.spinnaker.kork.jedis.RedisClientDelegate;
 import java.util.*;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import redis.clients.jedis.Response;
 
 /** Shared cache of build details for jenkins */
 @Service
@@ -28,6 +30,8 @@ public class JenkinsCache {
 
   private static final String POLL_STAMP = "lastPollCycleTimestamp";
 
+  private static final int PIPELINE_BATCH_SIZE = 1000;
+
   private final RedisClientDelegate redisClientDelegate;
   private final IgorConfigurationProperties igorConfigurationProperties;
 
@@ -114,6 +118,63 @@ public class JenkinsCache {
         });
   }
 
+  /**
+   * Reads the poll cycle timestamps of many jobs of a master, with one pipelined round trip to
+   * redis per batch of jobs rather than one per job.
+   *
+   * @return the timestamp of each job that has one
+   */
+  public Map<String, Long> getLastPollCycleTimestamps(String master, Collection<String> jobs) {
+    Map<String, Long> timestamps = new HashMap<>();
+    for (List<String> batch : Lists.partition(new ArrayList<>(jobs), PIPELINE_BATCH_SIZE)) {
+      List<Response<String>> responses = new ArrayList<>(batch.size());
+      redisClientDelegate.withPipeline(
+          p -> {
+            for (String job : batch) {
+              responses.add(p.hget(makeKey(master, job), POLL_STAMP));
+            }
+            redisClientDelegate.syncPipeline(p);
+          });
+
+      for (int i = 0; i < batch.size(); i++) {
+        String ts = responses.get(i).get();
+        if (ts != null) {
+          timestamps.put(batch.get(i), Long.parseLong(ts));
+        }
+      }
+    }
+    return timestamps;
+  }
+
+  /**
+   * Reads whether events have been posted for many builds of a job with a single HMGET.
+   *
+   * @return the build numbers for which an event has been posted
+   */
+  public Set<Integer> getEventsPosted(
+      String master, String job, Long cursor, Collection<Integer> buildNumbers) {
+    if (buildNumbers.isEmpty()) {
+      return new HashSet<>();
+    }
+
+    List<Integer> numbers = new ArrayList<>(buildNumbers);
+    String key = makeKey(master, job) + ":" + POLL_STAMP + ":" + cursor;
+    List<String> posted =
+        redisClientDelegate.withCommandsClient(
+            c -> {
+              return c.hmget(
+                  key, numbers.stream().map(n -> Integer.toString(n)).toArray(String[]::new));
+            });
+
+    Set<Integer> result = new HashSet<>();
+    for (int i = 0; i < numbers.size(); i++) {
+      if (posted.get(i) != null) {
+        result.add(numbers.get(i));
+      }
+    }
+    return result;
+  }
+
   public Boolean getEventPosted(String master, String job, Long cursor, Integer buildNumber) {
     String key = makeKey(master, job) + ":" + POLL_STAMP + ":" + cursor;
     return redisClientDelegate.withCommandsClient(
@@ -37,7 +37,7 @@ public class KeelConfig {
     return new Retrofit.Builder()
         .baseUrl(RetrofitUtils.getBaseUrl(keelBaseUrl))
         .addConverterFactory(JacksonConverterFactory.create())
-        .client(okHttpClientConfig.createForRetrofit2().build())
+        .client(okHttpClientConfig.createForRetrofit2(keelBaseUrl).build())
         .addCallAdapterFactory(ErrorHandlingExecutorCallAdapterFactory.getInstance())
         .build()
         .create(KeelService.class);
@@ -41,11 +41,14 @@ import com.netflix.spinnaker.security.AuthenticatedRequest;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -118,14 +121,72 @@ public class DockerMonitor
     return new PollContext((String) account.get("name"), account);
   }
 
+  /**
+   * When delta polling is enabled and the account has been fully polled before, only the tags that
+   * clouddriver reports as changed since the last cursor are requested, and only those tags are
+   * looked up in the cache rather than scanning every cached key of the account.
+   */
   @Override
   public DockerPollingDelta generateDelta(PollContext ctx) {
     String account = (String) ctx.context.get("name");
     Boolean trackDigests = (Boolean) ctx.context.getOrDefault("trackDigests", false);
 
+    Long cursor = isDeltaPollingEnabled() ? cache.getChangeCursor(account) : null;
+    if (cursor != null) {
+      return generateIncrementalDelta(account, cursor, trackDigests);
+    }
+
     log.trace("Checking new tags for {}", account);
     Set<String> cachedImages = cache.getImages(account);
 
+    List<TaggedImage> images = getImages(account, null);
+
+    List<ImageDelta> delta =
+        buildDelta(DockerRegistryCache.ID, account, cachedImages, images, trackDigests);
+
+    log.info("Found {} new images for {}. Images: {}", delta.size(), account, delta);
+
+    DockerPollingDelta pollingDelta = new DockerPollingDelta(delta, cachedImages);
+    if (isDeltaPollingEnabled()) {
+      pollingDelta.setAccount(account);
+      pollingDelta.setChangeCursor(maxChangedAt(images, null));
+    }
+    return pollingDelta;
+  }
+
+  private DockerPollingDelta generateIncrementalDelta(
+      String account, long cursor, boolean trackDigests) {
+    long changedSince = cursor - dockerRegistryProperties.getDeltaPolling().getLookbackMs();
+    log.trace("Checking tags changed since {} for {}", changedSince, account);
+
+    List<TaggedImage> images = getImages(account, changedSince);
+
+    Set<String> cachedImages =
+        cache.getCachedImages(
+            images.stream()
+                .filter(it -> it != null)
+                .map(it -> makeImageId(DockerRegistryCache.ID, account, it))
+                .collect(Collectors.toList()));
+
+    List<ImageDelta> delta =
+        buildDelta(DockerRegistryCache.ID, account, cachedImages, images, trackDigests);
+
+    log.info(
+        "Found {} new images among {} changed tags for {}. Images: {}",
+        delta.size(),
+        images.size(),
+        account,
+        delta);
+
+    DockerPollingDelta pollingDelta = new DockerPollingDelta(delta, cachedImages);
+    // the cursor is only recorded once the account has been indexed
+    pollingDelta.setIndexed(true);
+    pollingDelta.setAccount(account);
+    pollingDelta.setChangeCursor(maxChangedAt(images, cursor));
+    return pollingDelta;
+  }
+
+  private List<TaggedImage> getImages(String account, Long changedSince) {
     long startTime = System.currentTimeMillis();
     // Netflix is adding `includeDetails` flag to `getImagesByAccount`, in order to get a detailed
     // response from the registry
@@ -133,7 +194,11 @@ public class DockerMonitor
         AuthenticatedRequest.allowAnonymous(
             () ->
                 Retrofit2SyncCall.execute(
-                    dockerRegistryAccounts.getService().getImagesByAccount(account, true)));
+                    changedSince == null
+                        ? dockerRegistryAccounts.getService().getImagesByAccount(account, true)
+                        : dockerRegistryAccounts
+                            .getService()
+                            .getImagesByAccount(account, true, changedSince)));
 
     long endTime = System.currentTimeMillis();
     log.debug(
@@ -145,32 +210,92 @@ public class DockerMonitor
             Collections.singleton(new BasicTag("account", account)))
         .record(System.currentTimeMillis() - startTime, TimeUnit.MILLISECONDS);
 
-    List<ImageDelta> delta = new ArrayList<>();
+    return images;
+  }
+
+  private boolean isDeltaPollingEnabled() {
+    return dockerRegistryProperties != null
+        && dockerRegistryProperties.getDeltaPolling().isEnabled();
+  }
+
+  /**
+   * @return the latest time at which clouddriver reports one of the images as changed, or the
+   *     given cursor if none is later (e.g. clouddriver does not report when images change)
+   */
+  private static Long maxChangedAt(List<TaggedImage> images, Long cursor) {
+    Long max = cursor;
+    for (TaggedImage image : images) {
+      if (image != null
+          && image.getChangedAt() != null
+          && (max == null || image.getChangedAt() > max)) {
+        max = image.getChangedAt();
+      }
+    }
+    return max;
+  }
+
+  /**
+   * Compares the images reported by clouddriver with the cache. When tracking digests, the last
+   * digests of all previously seen images are read from the cache in bulk up front.
+   */
+  protected List<ImageDelta> buildDelta(
+      String cacheId,
+      String account,
+      Set<String> cachedImages,
+      List<TaggedImage> images,
+      boolean trackDigests) {
+    Map<String, TaggedImage> imagesById = new LinkedHashMap<>();
     images.stream()
         .filter(it -> it != null)
-        .forEach(
-            image -> {
-              String imageId =
-                  new DockerRegistryV2Key(
-                          igorProperties.getSpinnaker().getJedis().getPrefix(),
-                          DockerRegistryCache.ID,
-                          account,
-                          image.getRepository(),
-                          image.getTag())
-                      .toString();
-              UpdateType updateType = getUpdateType(cachedImages, imageId, image, trackDigests);
-              if (updateType.isUpdateCache()) {
-                delta.add(new ImageDelta(imageId, image, updateType.isSendEvent()));
-              }
-            });
+        .forEach(image -> imagesById.put(makeImageId(cacheId, account, image), image));
 
-    log.info("Found {} new images for {}. Images: {}", delta.size(), account, delta);
+    Map<String, String> lastDigests =
+        trackDigests
+            ? cache.getLastDigests(
+                imagesById.keySet().stream()
+                    .filter(cachedImages::contains)
+                    .collect(Collectors.toList()))
+            : Collections.emptyMap();
+
+    List<ImageDelta> delta = new ArrayList<>();
+    imagesById.forEach(
+        (imageId, image) -> {
+          UpdateType updateType =
+              getUpdateType(
+                  cachedImages, imageId, image, trackDigests, () -> lastDigests.get(imageId));
+          if (updateType.isUpdateCache()) {
+            delta.add(new ImageDelta(imageId, image, updateType.isSendEvent()));
+          }
+        });
+    return delta;
+  }
 
-    return new DockerPollingDelta(delta, cachedImages);
+  private String makeImageId(String cacheId, String account, TaggedImage image) {
+    return new DockerRegistryV2Key(
+            igorProperties.getSpinnaker().getJedis().getPrefix(),
+            cacheId,
+            account,
+            image.getRepository(),
+            image.getTag())
+        .toString();
   }
 
   protected UpdateType getUpdateType(
       Set<String> cachedImages, String imageId, TaggedImage image, boolean trackDigests) {
+    return getUpdateType(
+        cachedImages,
+        imageId,
+        image,
+        trackDigests,
+        () -> cache.getLastDigest(image.getAccount(), image.getRepository(), image.getTag()));
+  }
+
+  private UpdateType getUpdateType(
+      Set<String> cachedImages,
+      String imageId,
+      TaggedImage image,
+      boolean trackDigests,
+      Supplier<String> lastDigestSupplier) {
     if (!cachedImages.contains(imageId)) {
       // We have not seen this tag before; do a full update
       return UpdateType.full();
@@ -181,8 +306,7 @@ public class DockerMonitor
       return UpdateType.none();
     }
 
-    String lastDigest =
-        cache.getLastDigest(image.getAccount(), image.getRepository(), image.getTag());
+    String lastDigest = lastDigestSupplier.get();
     if (lastDigest != null && lastDigest.equals(image.getDigest()) || image.getDigest() == null) {
       return UpdateType.none();
     }
@@ -207,16 +331,15 @@ public class DockerMonitor
    */
   @Override
   public void commitDelta(DockerPollingDelta delta, boolean sendEvents) {
-    delta.getItems().stream()
-        .filter(it -> it != null)
-        .forEach(
-            item -> {
-              if (item != null) {
-                cache.setLastDigest(
-                    item.getImage().getAccount(),
-                    item.getImage().getRepository(),
-                    item.getImage().getTag(),
-                    item.getImage().getDigest());
+    // digests are written in bulk once the events have been sent; as before, the digest of an
+    // image whose event could not be sent is still recorded, but those of later images are not
+    Map<String, String> digests = new LinkedHashMap<>();
+    try {
+      delta.getItems().stream()
+          .filter(it -> it != null)
+          .forEach(
+              item -> {
+                digests.put(item.getImageId(), item.getImage().getDigest());
                 log.info(
                     "New tagged image: {}, {}. Digest is now [{}].",
                     kv("account", item.getImage().getAccount()),
@@ -224,7 +347,7 @@ public class DockerMonitor
                     item.getImage().getDigest());
 
                 if (sendEvents && item.isSendEvent()) {
-                  postEvent(delta.getCachedImages(), item.getImage(), item.getImageId());
+                  postEvent(delta.isIndexed(), item.getImage(), item.getImageId());
                 } else {
                   if (!sendEvents) {
                     registry
@@ -240,8 +363,14 @@ public class DockerMonitor
                         .increment();
                   }
                 }
-              }
-            });
+              });
+    } finally {
+      cache.setLastDigests(digests);
+    }
+
+    if (delta.getChangeCursor() != null) {
+      cache.setChangeCursor(delta.getAccount(), delta.getChangeCursor());
+    }
   }
 
   @Override
@@ -250,6 +379,15 @@ public class DockerMonitor
   }
 
   public void postEvent(Set<String> cachedImagesForAccount, TaggedImage image, String imageId) {
+    postEvent(
+        cachedImagesForAccount != null && !cachedImagesForAccount.isEmpty(), image, imageId);
+  }
+
+  /**
+   * @param indexed whether the account has indexed images; no event is published otherwise, which
+   *     protects against a flushed redis
+   */
+  public void postEvent(boolean indexed, TaggedImage image, String imageId) {
     if (!echoService.isPresent()) {
       log.warn("Cannot send tagged image notification: Echo is not enabled");
       registry
@@ -257,7 +395,7 @@ public class DockerMonitor
           .increment();
       return;
     }
-    if (cachedImagesForAccount == null || cachedImagesForAccount.isEmpty()) {
+    if (!indexed) {
       // avoid publishing an event if this account has no indexed images (protects against a flushed
       // redis)
       return;
@@ -354,10 +492,19 @@ public class DockerMonitor
   public static class DockerPollingDelta implements PollingDelta<ImageDelta> {
     private List<ImageDelta> items;
     private Set<String> cachedImages;
+    private String account;
+    /**
+     * Whether the account had indexed images before this delta, events are only sent if so. By
+     * default, whether any of its images are cached.
+     */
+    private boolean indexed;
+    /** Recorded for the account once the delta is committed, when delta polling */
+    private Long changeCursor;
 
     public DockerPollingDelta(List<ImageDelta> items, Set<String> cachedImages) {
       this.items = items;
       this.cachedImages = cachedImages;
+      this.indexed = cachedImages != null && !cachedImages.isEmpty();
     }
   }
 
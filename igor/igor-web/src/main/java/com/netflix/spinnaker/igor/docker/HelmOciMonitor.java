@@ -35,7 +35,6 @@ import com.netflix.spinnaker.kork.discovery.DiscoveryStatusListener;
 import com.netflix.spinnaker.kork.dynamicconfig.DynamicConfigService;
 import com.netflix.spinnaker.kork.retrofit.Retrofit2SyncCall;
 import com.netflix.spinnaker.security.AuthenticatedRequest;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -147,24 +146,8 @@ public class HelmOciMonitor extends DockerMonitor {
             Collections.singleton(new BasicTag("account", account)))
         .record(System.currentTimeMillis() - startTime, TimeUnit.MILLISECONDS);
 
-    List<ImageDelta> delta = new ArrayList<>();
-    images.stream()
-        .filter(it -> it != null)
-        .forEach(
-            image -> {
-              String imageId =
-                  new DockerRegistryV2Key(
-                          igorProperties.getSpinnaker().getJedis().getPrefix(),
-                          HelmOciDockerRegistryCache.ID,
-                          account,
-                          image.getRepository(),
-                          image.getTag())
-                      .toString();
-              UpdateType updateType = getUpdateType(cachedImages, imageId, image, trackDigests);
-              if (updateType.isUpdateCache()) {
-                delta.add(new ImageDelta(imageId, image, updateType.isSendEvent()));
-              }
-            });
+    List<ImageDelta> delta =
+        buildDelta(HelmOciDockerRegistryCache.ID, account, cachedImages, images, trackDigests);
 
     log.info("Found {} new images for {}. Images: {}", delta.size(), account, delta);
 
@@ -172,7 +155,7 @@ public class HelmOciMonitor extends DockerMonitor {
   }
 
   @Override
-  public void postEvent(Set<String> cachedImagesForAccount, TaggedImage image, String imageId) {
+  public void postEvent(boolean indexed, TaggedImage image, String imageId) {
     if (!echoService.isPresent()) {
       log.warn("Cannot send tagged Helm OCI image notification: Echo is not enabled");
       registry
@@ -180,7 +163,7 @@ public class HelmOciMonitor extends DockerMonitor {
           .increment();
       return;
     }
-    if (cachedImagesForAccount == null || cachedImagesForAccount.isEmpty()) {
+    if (!indexed) {
       // avoid publishing an event if this account has no indexed images (protects against aflushed
       // redis)
       return;
@@ -21,11 +21,13 @@ import com.netflix.spectator.api.NoopRegistry
 import com.netflix.spinnaker.igor.IgorConfigurationProperties
 import com.netflix.spinnaker.igor.config.DockerRegistryProperties
 import com.netflix.spinnaker.igor.docker.model.DockerRegistryAccounts
+import com.netflix.spinnaker.igor.docker.service.ClouddriverService
 import com.netflix.spinnaker.igor.docker.service.TaggedImage
 import com.netflix.spinnaker.igor.history.EchoService
 import com.netflix.spinnaker.igor.history.model.DockerEvent
 import com.netflix.spinnaker.igor.keel.KeelService
 import com.netflix.spinnaker.igor.polling.LockService
+import com.netflix.spinnaker.igor.polling.PollContext
 import com.netflix.spinnaker.kork.discovery.DiscoveryStatusListener
 import com.netflix.spinnaker.kork.dynamicconfig.DynamicConfigService
 import org.springframework.scheduling.TaskScheduler
@@ -198,6 +200,41 @@ class DockerMonitorSpec extends Specification {
     "tag" | null      | null         | false       || false       | false
   }
 
+  void 'should only request tags changed since the cursor when delta polling'() {
+    given:
+    dockerRegistryProperties.deltaPolling.enabled = true
+    dockerRegistryProperties.deltaPolling.lookbackMs = 100
+    def subject = createSubject()
+    def clouddriverService = Mock(ClouddriverService)
+    dockerRegistryAccounts.service >> clouddriverService
+
+    and: 'a previously cached tag and a new tag'
+    def cachedTag = new TaggedImage(account: 'account', registry: 'registry', repository: 'repository', tag: 'cached', digest: 'sha1', changedAt: 1500L)
+    def newTag = new TaggedImage(account: 'account', registry: 'registry', repository: 'repository', tag: 'new', digest: 'sha2', changedAt: 2000L)
+    def cachedTagKey = new DockerRegistryV2Key(properties.spinnaker.jedis.prefix, DockerRegistryCache.ID, 'account', 'repository', 'cached').toString()
+
+    when:
+    def delta = subject.generateDelta(new PollContext('account', [name: 'account']))
+
+    then:
+    1 * dockerRegistryCache.getChangeCursor('account') >> 1000L
+    0 * dockerRegistryCache.getImages(_)
+    1 * clouddriverService.getImagesByAccount('account', true, 900L) >> Calls.response([cachedTag, newTag])
+    1 * dockerRegistryCache.getCachedImages({ it.size() == 2 }) >> ([cachedTagKey] as Set)
+    delta.items*.image == [newTag]
+    delta.indexed
+    delta.changeCursor == 2000L
+
+    when:
+    subject.commitDelta(delta, true)
+
+    then:
+    1 * dockerRegistryCache.setLastDigests([(delta.items[0].imageId): 'sha2'])
+    1 * echoService.postEvent(_) >> Calls.response(null)
+    1 * keelService.sendArtifactEvent(_) >> Calls.response(null)
+    1 * dockerRegistryCache.setChangeCursor('account', 2000L)
+  }
+
   @Unroll
   def "should retrieve itemUpperThreshold #upperThreshold for #partition with fallback value #fallbackThreshold from igor properties"() {
     given:
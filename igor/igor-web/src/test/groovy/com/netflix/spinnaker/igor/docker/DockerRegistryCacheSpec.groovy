@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the 'License');
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an 'AS IS' BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.igor.docker
+
+import com.netflix.spinnaker.igor.IgorConfigurationProperties
+import com.netflix.spinnaker.kork.jedis.EmbeddedRedis
+import com.netflix.spinnaker.kork.jedis.JedisClientDelegate
+import com.netflix.spinnaker.kork.jedis.RedisClientDelegate
+import redis.clients.jedis.JedisPool
+import spock.lang.Specification
+import spock.lang.Subject
+
+class DockerRegistryCacheSpec extends Specification {
+
+    EmbeddedRedis embeddedRedis = EmbeddedRedis.embed()
+
+    RedisClientDelegate redisClientDelegate = new JedisClientDelegate(embeddedRedis.pool as JedisPool)
+
+    IgorConfigurationProperties igorConfigurationProperties = new IgorConfigurationProperties()
+
+    @Subject
+    DockerRegistryCache cache = new DockerRegistryCache(redisClientDelegate, igorConfigurationProperties)
+
+    void cleanup() {
+        embeddedRedis.pool.resource.withCloseable {
+            it.flushDB()
+        }
+        embeddedRedis.destroy()
+    }
+
+    void 'digests of many images are written and read at once'() {
+        given:
+        def tag1 = key('repo', 'tag1')
+        def tag2 = key('repo', 'tag2')
+        def tag3 = key('repo', 'tag3')
+
+        when:
+        cache.setLastDigests([(tag1): 'sha256:1', (tag2): null])
+
+        then:
+        cache.getImages('account') == [tag1, tag2] as Set
+        cache.getLastDigests([tag1, tag2, tag3]) == [(tag1): 'sha256:1']
+        cache.getLastDigest('account', 'repo', 'tag1') == 'sha256:1'
+        cache.getLastDigest('account', 'repo', 'tag2') == null
+    }
+
+    private String key(String repository, String tag) {
+        return new DockerRegistryV2Key(
+            igorConfigurationProperties.spinnaker.jedis.prefix, DockerRegistryCache.ID, 'account', repository, tag
+        ).toString()
+    }
+}
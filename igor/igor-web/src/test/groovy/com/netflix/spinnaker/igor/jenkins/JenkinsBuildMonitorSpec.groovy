@@ -87,7 +87,7 @@ class   JenkinsBuildMonitorSpec extends Specification {
         monitor.pollSingle(new PollContext(MASTER))
 
         then:
-        0 * cache.getLastPollCycleTimestamp(MASTER, 'job2')
+        0 * cache.getLastPollCycleTimestamps(_, _)
         0 * cache.setLastPollCycleTimestamp(_,_,_)
     }
 
@@ -97,9 +97,9 @@ class   JenkinsBuildMonitorSpec extends Specification {
         def lastBuild = new Build(number: 1, timestamp: '1494624092610', building: false, result: 'SUCCESS')
 
         and:
-        cache.getLastPollCycleTimestamp(MASTER, 'job') >> previousCursor
+        cache.getLastPollCycleTimestamps(MASTER, ['job']) >> [job: previousCursor]
         jenkinsService.getProjects() >> new ProjectsList(list: [ new Project(name: 'job', lastBuild: lastBuild) ])
-        cache.getEventPosted(_,_,_,_) >> false
+        cache.getEventsPosted(_,_,_,_) >> ([] as Set)
         jenkinsService.getBuilds('job') >> [lastBuild ]
 
         when:
@@ -115,9 +115,9 @@ class   JenkinsBuildMonitorSpec extends Specification {
         def lastBuild = new Build(number: 1, timestamp: '1494624092610', building: false, result: 'SUCCESS')
 
         and:
-        cache.getLastPollCycleTimestamp(MASTER, 'job') >> previousCursor
+        cache.getLastPollCycleTimestamps(MASTER, ['job']) >> [job: previousCursor]
         jenkinsService.getProjects() >> new ProjectsList(list: [ new Project(name: 'job', lastBuild: lastBuild) ])
-        cache.getEventPosted(_,_,_,_) >> false
+        cache.getEventsPosted(_,_,_,_) >> ([] as Set)
         jenkinsService.getBuilds('job') >> [lastBuild ]
 
         when:
@@ -142,9 +142,9 @@ class   JenkinsBuildMonitorSpec extends Specification {
         assert new Date(stamp3 as Long) < new Date(stamp4 as Long)
 
         and:
-        cache.getLastPollCycleTimestamp(MASTER, 'job') >> (previousCursor as Long)
+        cache.getLastPollCycleTimestamps(MASTER, ['job']) >> [job: previousCursor as Long]
         jenkinsService.getProjects() >> new ProjectsList(list: [ new Project(name: 'job', lastBuild: lastBuild) ])
-        cache.getEventPosted(_,_,_,_) >> false
+        cache.getEventsPosted(_,_,_,_) >> ([] as Set)
         jenkinsService.getBuilds('job') >> [
             new Build(number: 1, timestamp: stamp1, building: false, result: 'SUCCESS'),
             new Build(number: 2, timestamp: stamp1, building: true, result: null),
@@ -176,9 +176,9 @@ class   JenkinsBuildMonitorSpec extends Specification {
         assert new Date(stamp3 as Long) < new Date(stamp4 as Long)
 
         and:
-        cache.getLastPollCycleTimestamp(MASTER, 'job') >> (previousCursor as Long)
+        cache.getLastPollCycleTimestamps(MASTER, ['job']) >> [job: previousCursor as Long]
         jenkinsService.getProjects() >> new ProjectsList(list: [ new Project(name: 'job', lastBuild: lastBuild) ])
-        cache.getEventPosted(_,_,_,_) >> false
+        cache.getEventsPosted(_,_,_,_) >> ([] as Set)
         jenkinsService.getBuilds('job') >> [
             new Build(number: 1, timestamp: stamp1, building: false, result: 'SUCCESS'),
             new Build(number: 2, timestamp: stamp1, building: false, result: 'FAILURE'),
@@ -230,6 +230,10 @@ class   JenkinsBuildMonitorSpec extends Specification {
             new Build(number: 3, timestamp: nowMinus5min, building: false, result: 'SUCCESS', duration: durationOf1min)
         ]
 
+        and: 'no cursors or posted events'
+        cache.getLastPollCycleTimestamps(MASTER, _) >> [:]
+        cache.getEventsPosted(_, _, _, _) >> ([] as Set)
+
         when:
         monitor.pollSingle(new PollContext(MASTER))
 
@@ -266,6 +270,10 @@ class   JenkinsBuildMonitorSpec extends Specification {
             new Build(number: 3, timestamp: nowMinus30min, building: false, result: 'SUCCESS', duration: durationOf1min)
         ]
 
+        and: 'no cursors or posted events'
+        cache.getLastPollCycleTimestamps(MASTER, _) >> [:]
+        cache.getEventsPosted(_, _, _, _) >> ([] as Set)
+
         and:
         monitor.log = Mock(Logger);
 
@@ -283,4 +291,54 @@ class   JenkinsBuildMonitorSpec extends Specification {
         and: 'Builds are not processed for job3'
         1 * echoService.postEvent({ it.content.project.name == 'job3'} as Event)
     }
+
+    def 'should poll jobs concurrently and skip jobs whose last build has not moved'() {
+        given:
+        long now = System.currentTimeMillis()
+        long nowMinus30min = now - (30 * 60 * 1000) // 30 minutes ago
+        long durationOf1min = 60000
+
+        igorConfigurationProperties.spinnaker.build.processBuildsOlderThanLookBackWindow = true
+
+        and: 'a master polled by up to 4 threads'
+        def jenkinsProperties = new JenkinsProperties(masters: [
+            new JenkinsProperties.JenkinsHost(name: MASTER, address: 'http://jenkins', pollParallelism: 4)
+        ])
+        monitor = new JenkinsBuildMonitor(
+            igorConfigurationProperties,
+            new NoopRegistry(),
+            new DynamicConfigService.NoopDynamicConfig(),
+            new DiscoveryStatusListener(true),
+            Optional.empty(),
+            cache,
+            new BuildServices().tap { addServices([MASTER: jenkinsService]) },
+            true,
+            Optional.of(echoService),
+            jenkinsProperties,
+            Mock(TaskScheduler)
+        )
+
+        and: 'ten jobs, of which job0 is up to date'
+        jenkinsService.getProjects() >> new ProjectsList(list: (0..9).collect {
+            new Project(name: "job${it}", lastBuild: new Build(number: it, timestamp: now))
+        })
+        cache.getLastPollCycleTimestamps(MASTER, _) >> (0..9).collectEntries {
+            ["job${it}".toString(), it == 0 ? now : nowMinus30min - 1]
+        }
+        cache.getEventsPosted(_, _, _, _) >> ([] as Set)
+
+        when:
+        monitor.pollSingle(new PollContext(MASTER))
+
+        then:
+        0 * jenkinsService.getBuilds('job0')
+        interaction {
+            (1..9).each { n ->
+                1 * jenkinsService.getBuilds("job${n}".toString()) >> [
+                    new Build(number: n, timestamp: nowMinus30min, building: false, result: 'SUCCESS', duration: durationOf1min)
+                ]
+            }
+        }
+        9 * echoService.postEvent(_) >> Calls.response("")
+    }
 }
@@ -147,4 +147,26 @@ class JenkinsCacheSpec extends Specification {
         then:
         secondInstance.getJobNames(master) == ['job1']
     }
+
+    void 'reads poll cycle timestamps of many jobs at once'() {
+        given:
+        cache.setLastPollCycleTimestamp(master, 'job1', 1L)
+        cache.setLastPollCycleTimestamp(master, 'job2', 2L)
+        cache.setLastPollCycleTimestamp(test, 'job3', 3L)
+
+        expect:
+        cache.getLastPollCycleTimestamps(master, ['job1', 'job2', 'job3']) == [job1: 1L, job2: 2L]
+        cache.getLastPollCycleTimestamps(master, []) == [:]
+    }
+
+    void 'reads which of many builds had events posted at once'() {
+        given:
+        cache.setEventPosted(master, 'job1', 1L, 1)
+        cache.setEventPosted(master, 'job1', 1L, 3)
+        cache.setEventPosted(master, 'job1', 2L, 2)
+
+        expect:
+        cache.getEventsPosted(master, 'job1', 1L, [1, 2, 3, 4]) == [1, 3] as Set
+        cache.getEventsPosted(master, 'job1', 1L, []) == [] as Set
+    }
 }
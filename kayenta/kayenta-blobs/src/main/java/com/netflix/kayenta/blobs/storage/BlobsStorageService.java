@@ -27,6 +27,7 @@ import com.netflix.kayenta.azure.security.AzureNamedAccountCredentials;
 import com.netflix.kayenta.canary.CanaryConfig;
 import com.netflix.kayenta.index.CanaryConfigIndex;
 import com.netflix.kayenta.index.config.CanaryConfigIndexAction;
+import com.netflix.kayenta.metrics.MetricValuesEncoding;
 import com.netflix.kayenta.security.AccountCredentialsRepository;
 import com.netflix.kayenta.storage.ObjectType;
 import com.netflix.kayenta.storage.StorageService;
@@ -190,7 +191,9 @@ public class BlobsStorageService implements StorageService {
     }
 
     try {
-      byte[] bytes = kayentaObjectMapper.writeValueAsBytes(obj);
+      byte[] bytes =
+          MetricValuesEncoding.storageWriter(kayentaObjectMapper, objectType)
+              .writeValueAsBytes(obj);
       CloudBlockBlob blob = getBlockBlobReference(azureContainer, path);
       blob.getProperties().setContentType("application/json");
       uploadFromByteArray(blob, bytes, 0, bytes.length);
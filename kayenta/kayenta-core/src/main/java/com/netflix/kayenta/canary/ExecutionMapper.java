@@ -26,6 +26,7 @@ import com.netflix.kayenta.canary.orca.CanaryStageNames;
 import com.netflix.kayenta.canary.providers.metrics.QueryConfigUtils;
 import com.netflix.kayenta.canary.results.CanaryJudgeResult;
 import com.netflix.kayenta.canary.results.CanaryResult;
+import com.netflix.kayenta.metrics.MetricsFetchConfigurationProperties;
 import com.netflix.spectator.api.Id;
 import com.netflix.spectator.api.Registry;
 import com.netflix.spinnaker.orca.api.pipeline.models.ExecutionStatus;
@@ -61,6 +62,7 @@ public class ExecutionMapper {
   private final ExecutionLauncher executionLauncher;
   private final ExecutionRepository executionRepository;
   private final boolean includeAuthentication;
+  private final int fetchParallelism;
 
   private final Id pipelineRunId;
   private final Id failureId;
@@ -73,6 +75,7 @@ public class ExecutionMapper {
       Optional<List<CanaryScopeFactory>> canaryScopeFactories,
       ExecutionLauncher executionLauncher,
       ExecutionRepository executionRepository,
+      MetricsFetchConfigurationProperties fetchConfiguration,
       @Value("${kayenta.include-spring-security-authentication-in-pipeline-context:false}")
           boolean includeAuthentication) {
 
@@ -83,6 +86,7 @@ public class ExecutionMapper {
     this.executionLauncher = executionLauncher;
     this.executionRepository = executionRepository;
     this.includeAuthentication = includeAuthentication;
+    this.fetchParallelism = Math.max(1, fetchConfiguration.getParallelism());
 
     this.pipelineRunId = registry.createId("canary.pipelines.initiated");
     this.failureId = registry.createId("canary.pipelines.startupFailed");
@@ -325,9 +329,13 @@ public class ExecutionMapper {
                     "Cannot render scope to json"); // TODO: this seems like cheating
               }
 
+              // fetches form fetchParallelism chains that run concurrently, metric i waits for
+              // metric i - fetchParallelism
               String currentStageId = stagePrefix + index;
               String previousStageId =
-                  (index == 0) ? CanaryStageNames.REFID_SET_CONTEXT : stagePrefix + (index - 1);
+                  (index < fetchParallelism)
+                      ? CanaryStageNames.REFID_SET_CONTEXT
+                      : stagePrefix + (index - fetchParallelism);
 
               return Maps.newHashMap(
                   new ImmutableMap.Builder<String, Object>()
@@ -438,23 +446,19 @@ public class ExecutionMapper {
             resolvedMetricsAccountName,
             resolvedStorageAccountName);
 
-    int maxMetricIndex =
-        canaryConfig.getMetrics().size()
-            - 1; // 0 based naming, so we want the last index value, not the count
-    String lastControlFetchRefid = CanaryStageNames.REFID_FETCH_CONTROL_PREFIX + maxMetricIndex;
-    String lastExperimentFetchRefid =
-        CanaryStageNames.REFID_FETCH_EXPERIMENT_PREFIX + maxMetricIndex;
+    // the mixer waits for the last fetch of every chain
+    int metricCount = canaryConfig.getMetrics().size();
+    ImmutableList.Builder<String> lastFetchRefids = new ImmutableList.Builder<>();
+    for (int index = Math.max(0, metricCount - fetchParallelism); index < metricCount; index++) {
+      lastFetchRefids.add(CanaryStageNames.REFID_FETCH_CONTROL_PREFIX + index);
+      lastFetchRefids.add(CanaryStageNames.REFID_FETCH_EXPERIMENT_PREFIX + index);
+    }
 
     Map<String, Object> mixMetricSetsContext =
         Maps.newHashMap(
             new ImmutableMap.Builder<String, Object>()
                 .put("refId", CanaryStageNames.REFID_MIX_METRICS)
-                .put(
-                    "requisiteStageRefIds",
-                    new ImmutableList.Builder()
-                        .add(lastControlFetchRefid)
-                        .add(lastExperimentFetchRefid)
-                        .build())
+                .put("requisiteStageRefIds", lastFetchRefids.build())
                 .put("user", "[anonymous]")
                 .put("storageAccountName", resolvedStorageAccountName)
                 .put("controlRefidPrefix", CanaryStageNames.REFID_FETCH_CONTROL_PREFIX)
@@ -27,21 +27,30 @@ import com.netflix.kayenta.atlas.config.KayentaSerializationConfigurationPropert
 import com.netflix.kayenta.canary.CanaryMetricSetQueryConfig;
 import com.netflix.kayenta.metrics.MapBackedMetricsServiceRepository;
 import com.netflix.kayenta.metrics.MetricSetMixerService;
+import com.netflix.kayenta.metrics.MetricValuesEncoding;
+import com.netflix.kayenta.metrics.MetricsFetchConfigurationProperties;
 import com.netflix.kayenta.metrics.MetricsRetryConfigurationProperties;
 import com.netflix.kayenta.metrics.MetricsServiceRepository;
 import com.netflix.kayenta.security.AccountCredentialsRepository;
 import com.netflix.kayenta.security.MapBackedAccountCredentialsRepository;
 import com.netflix.kayenta.service.MetricSetPairListService;
+import com.netflix.kayenta.storage.CachingStorageService;
 import com.netflix.kayenta.storage.MapBackedStorageServiceRepository;
+import com.netflix.kayenta.storage.StorageCacheConfigurationProperties;
+import com.netflix.kayenta.storage.StorageObjectCache;
+import com.netflix.kayenta.storage.StorageObjectCacheTaskInterceptor;
 import com.netflix.kayenta.storage.StorageService;
 import com.netflix.kayenta.storage.StorageServiceRepository;
+import com.netflix.spectator.api.Registry;
 import com.netflix.spinnaker.kork.jackson.ObjectMapperSubtypeConfigurer;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
@@ -61,7 +70,11 @@ import org.springframework.context.annotation.Primary;
   "com.netflix.kayenta.persistence.config",
   "com.netflix.kayenta.retrofit.config"
 })
-@EnableConfigurationProperties(MetricsRetryConfigurationProperties.class)
+@EnableConfigurationProperties({
+  MetricsRetryConfigurationProperties.class,
+  MetricsFetchConfigurationProperties.class,
+  StorageCacheConfigurationProperties.class
+})
 public class KayentaConfiguration {
 
   @Bean
@@ -82,11 +95,35 @@ public class KayentaConfiguration {
     return new MetricSetMixerService();
   }
 
+  @Bean
+  @ConditionalOnProperty("kayenta.storage.cache.enabled")
+  StorageObjectCache storageObjectCache(
+      StorageCacheConfigurationProperties storageCacheConfigurationProperties, Registry registry) {
+    return new StorageObjectCache(storageCacheConfigurationProperties, registry);
+  }
+
+  @Bean
+  @ConditionalOnProperty("kayenta.storage.cache.enabled")
+  StorageObjectCacheTaskInterceptor storageObjectCacheTaskInterceptor(
+      StorageObjectCache storageObjectCache) {
+    return new StorageObjectCacheTaskInterceptor(storageObjectCache);
+  }
+
   @Bean
   @ConditionalOnMissingBean(StorageServiceRepository.class)
   StorageServiceRepository storageServiceRepository(
-      @Autowired(required = false) Optional<List<StorageService>> storageServices) {
-    return new MapBackedStorageServiceRepository(storageServices.orElse(Collections.emptyList()));
+      @Autowired(required = false) Optional<List<StorageService>> storageServices,
+      Optional<StorageObjectCache> storageObjectCache) {
+    List<StorageService> services = storageServices.orElse(Collections.emptyList());
+    if (storageObjectCache.isPresent()) {
+      services =
+          services.stream()
+              .map(
+                  storageService ->
+                      new CachingStorageService(storageService, storageObjectCache.get()))
+              .collect(Collectors.toList());
+    }
+    return new MapBackedStorageServiceRepository(services);
   }
 
   @Bean
@@ -142,6 +179,10 @@ public class KayentaConfiguration {
             SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS,
             kayentaSerializationConfigurationProperties.isWriteDurationsAsTimestamps());
 
+    if (kayentaSerializationConfigurationProperties.isCompactMetricValuesInStorage()) {
+      MetricValuesEncoding.enableCompactStorage(objectMapper);
+    }
+
     JavaTimeModule module = new JavaTimeModule();
     objectMapper.registerModule(module);
   }
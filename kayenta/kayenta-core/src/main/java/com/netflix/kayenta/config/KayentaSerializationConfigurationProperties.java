@@ -24,4 +24,11 @@ public class KayentaSerializationConfigurationProperties {
   private boolean writeDatesAsTimestamps = false;
 
   private boolean writeDurationsAsTimestamps = false;
+
+  /**
+   * Store metric set values as compact binary strings rather than JSON arrays. Older versions of
+   * kayenta cannot read them, so this should only be enabled once every instance sharing the
+   * storage has been upgraded.
+   */
+  private boolean compactMetricValuesInStorage = false;
 }
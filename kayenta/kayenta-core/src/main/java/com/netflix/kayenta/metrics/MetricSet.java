@@ -17,6 +17,8 @@
 package com.netflix.kayenta.metrics;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import jakarta.validation.constraints.NotNull;
 import java.util.List;
 import java.util.Map;
@@ -44,7 +46,13 @@ public class MetricSet {
 
   @NotNull @Getter private long stepMillis;
 
-  @NotNull @Singular @Getter private List<Double> values;
+  /** Backed by a {@link PrimitiveDoubleList}; missing data points are {@link Double#NaN}. */
+  @NotNull
+  @Singular
+  @Getter
+  @JsonSerialize(using = MetricValuesEncoding.Serializer.class)
+  @JsonDeserialize(using = MetricValuesEncoding.Deserializer.class)
+  private List<Double> values;
 
   @Singular @Getter private Map<String, String> attributes;
 
@@ -68,7 +76,7 @@ public class MetricSet {
     this.endTimeMillis = endTimeMillis;
     this.endTimeIso = endTimeIso;
     this.stepMillis = stepMillis;
-    this.values = values;
+    this.values = values == null ? null : PrimitiveDoubleList.copyOf(values);
     this.attributes = attributes;
     this.metricSetKey = metricSetKey;
   }
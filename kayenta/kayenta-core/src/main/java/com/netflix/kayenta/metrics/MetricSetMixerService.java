@@ -19,7 +19,6 @@ package com.netflix.kayenta.metrics;
 import com.netflix.kayenta.canary.CanaryMetricConfig;
 import java.util.*;
 import java.util.stream.Collectors;
-import java.util.stream.DoubleStream;
 import org.springframework.util.StringUtils;
 
 public class MetricSetMixerService {
@@ -65,18 +64,12 @@ public class MetricSetMixerService {
 
     // If we know how many data points we should expect, pad the array to contain that number.
     // This typically only happens when one side (control or experiment) have no data at all.
-    if (controlMetricSet.expectedDataPoints() > controlValues.size()) {
-      controlValues = new ArrayList<>(controlValues);
-      while (controlMetricSet.expectedDataPoints() > controlValues.size()) {
-        controlValues.add(Double.NaN);
-      }
-    }
-    if (experimentMetricSet.expectedDataPoints() > experimentValues.size()) {
-      experimentValues = new ArrayList<>(experimentValues);
-      while (experimentMetricSet.expectedDataPoints() > experimentValues.size()) {
-        experimentValues.add(Double.NaN);
-      }
-    }
+    controlValues =
+        PrimitiveDoubleList.copyOf(controlValues)
+            .padTo((int) controlMetricSet.expectedDataPoints());
+    experimentValues =
+        PrimitiveDoubleList.copyOf(experimentValues)
+            .padTo((int) experimentMetricSet.expectedDataPoints());
 
     MetricSetPair.MetricSetPairBuilder metricSetPairBuilder =
         MetricSetPair.builder()
@@ -154,11 +147,8 @@ public class MetricSetMixerService {
   }
 
   protected MetricSet makeTemplate(MetricSet template, Map<String, String> tags) {
-    List<Double> values =
-        DoubleStream.generate(() -> Double.NaN)
-            .limit(template.expectedDataPoints())
-            .boxed()
-            .collect(Collectors.toList());
+    double[] values = new double[(int) template.expectedDataPoints()];
+    Arrays.fill(values, Double.NaN);
 
     return MetricSet.builder()
         .attributes(template.getAttributes())
@@ -168,7 +158,7 @@ public class MetricSetMixerService {
         .stepMillis(template.getStepMillis())
         .endTimeIso(template.getEndTimeIso())
         .endTimeMillis(template.getEndTimeMillis())
-        .values(values)
+        .values(PrimitiveDoubleList.wrap(values))
         .tags(tags)
         .build();
   }
@@ -16,7 +16,10 @@
 
 package com.netflix.kayenta.metrics;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import jakarta.validation.constraints.NotNull;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import lombok.*;
@@ -32,7 +35,13 @@ public class MetricSetPair {
 
   @NotNull @Singular @Getter private Map<String, String> tags;
 
-  @NotNull @Singular @Getter private Map<String, List<Double>> values;
+  /** Each list is backed by a {@link PrimitiveDoubleList}. */
+  @NotNull
+  @Singular
+  @Getter
+  @JsonSerialize(contentUsing = MetricValuesEncoding.Serializer.class)
+  @JsonDeserialize(contentUsing = MetricValuesEncoding.Deserializer.class)
+  private Map<String, List<Double>> values;
 
   @NotNull @Singular @Getter private Map<String, MetricSetScope> scopes;
 
@@ -48,11 +57,24 @@ public class MetricSetPair {
     this.name = name;
     this.id = id;
     this.tags = tags;
-    this.values = values;
+    this.values = toPrimitiveValues(values);
     this.scopes = scopes;
     this.attributes = attributes;
   }
 
+  private static Map<String, List<Double>> toPrimitiveValues(Map<String, List<Double>> values) {
+    if (values == null) {
+      return null;
+    }
+
+    Map<String, List<Double>> primitiveValues = new LinkedHashMap<>(values.size());
+    values.forEach(
+        (scope, scopeValues) ->
+            primitiveValues.put(
+                scope, scopeValues == null ? null : PrimitiveDoubleList.copyOf(scopeValues)));
+    return primitiveValues;
+  }
+
   @Builder
   @ToString
   @AllArgsConstructor
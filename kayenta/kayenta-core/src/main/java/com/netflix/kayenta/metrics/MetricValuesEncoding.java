@@ -0,0 +1,223 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.kayenta.metrics;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.netflix.kayenta.storage.ObjectType;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * JSON encodings of metric values.
+ *
+ * <p>Values are written as a JSON array of numbers, as they always have been, except when writing
+ * metric sets to storage with compact storage enabled ({@code
+ * kayenta.serialization.compact-metric-values-in-storage}). They are then written as a single
+ * base64 string of the raw IEEE 754 doubles, gzipped when that is smaller. Both forms are always
+ * read, directly into a {@link PrimitiveDoubleList}.
+ *
+ * <p>Compact storage should only be enabled once every kayenta instance sharing the storage
+ * account can read it.
+ */
+public final class MetricValuesEncoding {
+
+  /** Per-call writer attribute that selects the compact encoding. */
+  static final String COMPACT_ATTRIBUTE = "kayenta.metricValues.compact";
+
+  /** Default attribute of the object mapper that enables the compact encoding for storage. */
+  static final String COMPACT_STORAGE_ATTRIBUTE = "kayenta.metricValues.compactStorage";
+
+  private static final byte RAW = 1;
+  private static final byte GZIP = 2;
+
+  /** Below this many values, gzip is not worth trying. */
+  private static final int COMPRESSION_THRESHOLD = 64;
+
+  private MetricValuesEncoding() {}
+
+  public static void enableCompactStorage(ObjectMapper objectMapper) {
+    objectMapper.setDefaultAttributes(
+        objectMapper
+            .getSerializationConfig()
+            .getAttributes()
+            .withSharedAttribute(COMPACT_STORAGE_ATTRIBUTE, Boolean.TRUE));
+  }
+
+  /**
+   * @return a writer for storing objects of the given type, which encodes metric values compactly
+   *     if the object mapper has compact storage enabled
+   */
+  public static ObjectWriter storageWriter(ObjectMapper objectMapper, ObjectType objectType) {
+    boolean compact =
+        (objectType == ObjectType.METRIC_SET_LIST || objectType == ObjectType.METRIC_SET_PAIR_LIST)
+            && Boolean.TRUE.equals(
+                objectMapper
+                    .getSerializationConfig()
+                    .getAttributes()
+                    .getAttribute(COMPACT_STORAGE_ATTRIBUTE));
+    return compact
+        ? objectMapper.writer().withAttribute(COMPACT_ATTRIBUTE, Boolean.TRUE)
+        : objectMapper.writer();
+  }
+
+  static String encode(double[] values) {
+    ByteBuffer raw = ByteBuffer.allocate(1 + values.length * Double.BYTES);
+    raw.put(RAW);
+    for (double value : values) {
+      raw.putDouble(value);
+    }
+    byte[] encoded = raw.array();
+
+    if (values.length >= COMPRESSION_THRESHOLD) {
+      ByteArrayOutputStream compressed = new ByteArrayOutputStream(encoded.length / 2);
+      compressed.write(GZIP);
+      try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+        gzip.write(encoded, 1, encoded.length - 1);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      if (compressed.size() < encoded.length) {
+        encoded = compressed.toByteArray();
+      }
+    }
+
+    return Base64.getEncoder().encodeToString(encoded);
+  }
+
+  static double[] decode(String encoded) {
+    byte[] bytes = Base64.getDecoder().decode(encoded);
+    if (bytes.length == 0) {
+      throw new IllegalArgumentException("Encoded metric values are empty");
+    }
+
+    ByteBuffer raw;
+    switch (bytes[0]) {
+      case RAW:
+        raw = ByteBuffer.wrap(bytes, 1, bytes.length - 1);
+        break;
+      case GZIP:
+        try (InputStream gzip =
+            new GZIPInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1))) {
+          raw = ByteBuffer.wrap(gzip.readAllBytes());
+        } catch (IOException e) {
+          throw new IllegalArgumentException("Encoded metric values are not valid gzip", e);
+        }
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown metric values encoding " + bytes[0]);
+    }
+
+    if (raw.remaining() % Double.BYTES != 0) {
+      throw new IllegalArgumentException("Encoded metric values are truncated");
+    }
+    double[] values = new double[raw.remaining() / Double.BYTES];
+    raw.asDoubleBuffer().get(values);
+    return values;
+  }
+
+  public static class Serializer extends StdSerializer<List<Double>> {
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Serializer() {
+      super((Class) List.class);
+    }
+
+    @Override
+    public void serialize(List<Double> value, JsonGenerator gen, SerializerProvider provider)
+        throws IOException {
+      double[] values = PrimitiveDoubleList.copyOf(value).array();
+      if (Boolean.TRUE.equals(provider.getAttribute(COMPACT_ATTRIBUTE))) {
+        gen.writeString(encode(values));
+      } else {
+        gen.writeArray(values, 0, values.length);
+      }
+    }
+  }
+
+  public static class Deserializer extends StdDeserializer<List<Double>> {
+
+    public Deserializer() {
+      super(List.class);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Double> deserialize(JsonParser p, DeserializationContext ctxt)
+        throws IOException {
+      if (p.currentToken() == JsonToken.VALUE_STRING) {
+        try {
+          return PrimitiveDoubleList.wrap(decode(p.getText()));
+        } catch (IllegalArgumentException e) {
+          throw ctxt.weirdStringException(p.getText(), List.class, e.getMessage());
+        }
+      }
+      if (!p.isExpectedStartArrayToken()) {
+        return (List<Double>) ctxt.handleUnexpectedToken(List.class, p);
+      }
+
+      double[] values = new double[64];
+      int size = 0;
+      JsonToken token;
+      while ((token = p.nextToken()) != JsonToken.END_ARRAY) {
+        double value;
+        switch (token) {
+          case VALUE_NUMBER_INT:
+          case VALUE_NUMBER_FLOAT:
+            value = p.getDoubleValue();
+            break;
+          case VALUE_NULL:
+            value = Double.NaN;
+            break;
+          case VALUE_STRING:
+            // NaN and infinities are written as strings
+            try {
+              value = Double.parseDouble(p.getText());
+            } catch (NumberFormatException e) {
+              throw ctxt.weirdStringException(p.getText(), Double.class, "not a valid double");
+            }
+            break;
+          default:
+            return (List<Double>) ctxt.handleUnexpectedToken(Double.class, p);
+        }
+
+        if (size == values.length) {
+          values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = value;
+      }
+
+      return PrimitiveDoubleList.wrap(size == values.length ? values : Arrays.copyOf(values, size));
+    }
+  }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.kayenta.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/** Configuration of how a canary run fetches its metrics from metrics stores. */
+@Data
+@ConfigurationProperties("kayenta.metrics.fetch")
+public class MetricsFetchConfigurationProperties {
+
+  /**
+   * Number of metrics of each scope (control and experiment) that a canary run fetches at once.
+   * The default of 1 fetches one metric after another.
+   */
+  private int parallelism = 1;
+
+  /**
+   * Maximum number of concurrent queries this instance makes against each type of metrics store,
+   * keyed by metrics store type (e.g. {@code prometheus}). Types that are not listed are not
+   * limited. Retries count against the limit, the backoff between them does not.
+   */
+  private Map<String, Integer> maxConcurrentQueries = new HashMap<>();
+}
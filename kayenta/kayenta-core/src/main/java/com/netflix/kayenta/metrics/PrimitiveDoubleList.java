@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.kayenta.metrics;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * An immutable {@code List<Double>} backed by a primitive {@code double[]}, so that metric values
+ * take 8 bytes each rather than a boxed {@link Double} and a reference. Null values are stored as
+ * {@link Double#NaN}, which is how kayenta represents missing data points.
+ *
+ * <p>Boxing only happens when elements are read through the {@link java.util.List} interface;
+ * {@link #getDouble(int)} and {@link #toDoubleArray()} avoid it.
+ */
+@JsonSerialize(using = MetricValuesEncoding.Serializer.class)
+public final class PrimitiveDoubleList extends AbstractList<Double> implements RandomAccess {
+
+  private static final PrimitiveDoubleList EMPTY = new PrimitiveDoubleList(new double[0]);
+
+  private final double[] values;
+
+  private PrimitiveDoubleList(double[] values) {
+    this.values = values;
+  }
+
+  /** The array is not copied, and must not be modified afterwards. */
+  public static PrimitiveDoubleList wrap(double[] values) {
+    return values.length == 0 ? EMPTY : new PrimitiveDoubleList(values);
+  }
+
+  public static PrimitiveDoubleList copyOf(Collection<? extends Number> values) {
+    if (values instanceof PrimitiveDoubleList) {
+      return (PrimitiveDoubleList) values;
+    }
+
+    double[] copy = new double[values.size()];
+    int i = 0;
+    for (Number value : values) {
+      copy[i++] = value == null ? Double.NaN : value.doubleValue();
+    }
+    return wrap(copy);
+  }
+
+  /** @return the values padded with {@link Double#NaN} to the given size */
+  public PrimitiveDoubleList padTo(int size) {
+    if (size <= values.length) {
+      return this;
+    }
+
+    double[] padded = Arrays.copyOf(values, size);
+    Arrays.fill(padded, values.length, size, Double.NaN);
+    return new PrimitiveDoubleList(padded);
+  }
+
+  public double getDouble(int index) {
+    return values[index];
+  }
+
+  public double[] toDoubleArray() {
+    return values.clone();
+  }
+
+  @Override
+  public Double get(int index) {
+    return values[index];
+  }
+
+  @Override
+  public int size() {
+    return values.length;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (o instanceof PrimitiveDoubleList) {
+      return Arrays.equals(values, ((PrimitiveDoubleList) o).values);
+    }
+    return super.equals(o);
+  }
+
+  @Override
+  public int hashCode() {
+    return super.hashCode();
+  }
+
+  /** Package-private, for encoding without a copy. */
+  double[] array() {
+    return values;
+  }
+}
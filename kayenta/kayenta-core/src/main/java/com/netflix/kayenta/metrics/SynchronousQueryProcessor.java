@@ -35,6 +35,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -47,17 +49,23 @@ public class SynchronousQueryProcessor {
   private final StorageServiceRepository storageServiceRepository;
   private final Registry registry;
   private final MetricsRetryConfigurationProperties retryConfiguration;
+  private final MetricsFetchConfigurationProperties fetchConfiguration;
+
+  /** Limits concurrent queries per metrics store type, see {@link #getQueryPermits}. */
+  private final Map<String, Semaphore> queryPermits = new ConcurrentHashMap<>();
 
   @Autowired
   public SynchronousQueryProcessor(
       MetricsServiceRepository metricsServiceRepository,
       StorageServiceRepository storageServiceRepository,
       Registry registry,
-      MetricsRetryConfigurationProperties retryConfiguration) {
+      MetricsRetryConfigurationProperties retryConfiguration,
+      MetricsFetchConfigurationProperties fetchConfiguration) {
     this.metricsServiceRepository = metricsServiceRepository;
     this.storageServiceRepository = storageServiceRepository;
     this.registry = registry;
     this.retryConfiguration = retryConfiguration;
+    this.fetchConfiguration = fetchConfiguration;
   }
 
   public String executeQuery(
@@ -78,6 +86,7 @@ public class SynchronousQueryProcessor {
 
     CanaryMetricConfig canaryMetricConfig = canaryConfig.getMetrics().get(metricIndex);
     List<MetricSet> metricSetList = null;
+    Semaphore permits = getQueryPermits(metricsService.getType());
 
     // TODO: retry mechanism should be extracted to separate class
     int retries = 0;
@@ -86,9 +95,18 @@ public class SynchronousQueryProcessor {
     while (!success) {
       try {
         registry.counter(queryId.withTag("retries", retries + "")).increment();
-        metricSetList =
-            metricsService.queryMetrics(
-                metricsAccountName, canaryConfig, canaryMetricConfig, canaryScope);
+        if (permits != null) {
+          permits.acquireUninterruptibly();
+        }
+        try {
+          metricSetList =
+              metricsService.queryMetrics(
+                  metricsAccountName, canaryConfig, canaryMetricConfig, canaryScope);
+        } finally {
+          if (permits != null) {
+            permits.release();
+          }
+        }
         success = true;
       } catch (SpinnakerServerException e) {
         boolean retryable = isRetryable(e);
@@ -146,6 +164,23 @@ public class SynchronousQueryProcessor {
     return metricSetListId;
   }
 
+  /**
+   * @return the permits for querying the given type of metrics store, or null if its concurrent
+   *     queries are not limited
+   */
+  private Semaphore getQueryPermits(String metricsStoreType) {
+    if (metricsStoreType == null) {
+      return null;
+    }
+    Integer maxConcurrentQueries =
+        fetchConfiguration.getMaxConcurrentQueries().get(metricsStoreType);
+    if (maxConcurrentQueries == null || maxConcurrentQueries <= 0) {
+      return null;
+    }
+    return queryPermits.computeIfAbsent(
+        metricsStoreType, type -> new Semaphore(maxConcurrentQueries, true));
+  }
+
   private long getBackoffPeriodMs(int retryAttemptNumber) {
     // The retries range from 1..max, but we want the backoff periods to range from Math.pow(2,
     // 0)..Math.pow(2, max-1).
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.kayenta.storage;
+
+import com.netflix.spinnaker.kork.web.exceptions.NotFoundException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link StorageService} that stores the object types held by a {@link StorageObjectCache} in
+ * memory, writing them to the underlying storage service behind.
+ *
+ * <p>Loads of those types that are not held by this instance are read from storage. Objects stored
+ * by another instance are found there, as the writes are flushed before a task completes.
+ */
+public class CachingStorageService implements StorageService {
+
+  private final StorageService delegate;
+  private final StorageObjectCache cache;
+
+  public CachingStorageService(StorageService delegate, StorageObjectCache cache) {
+    this.delegate = delegate;
+    this.cache = cache;
+  }
+
+  @Override
+  public boolean servicesAccount(String accountName) {
+    return delegate.servicesAccount(accountName);
+  }
+
+  @Override
+  public <T> T loadObject(String accountName, ObjectType objectType, String objectKey)
+      throws IllegalArgumentException, NotFoundException {
+    if (!cache.isCached(objectType)) {
+      return delegate.loadObject(accountName, objectType, objectKey);
+    }
+
+    T obj = cache.get(accountName, objectType, objectKey);
+    if (obj != null) {
+      return obj;
+    }
+    return delegate.loadObject(accountName, objectType, objectKey);
+  }
+
+  @Override
+  public <T> void storeObject(
+      String accountName,
+      ObjectType objectType,
+      String objectKey,
+      T obj,
+      String filename,
+      boolean isAnUpdate) {
+    if (cache.isCached(objectType)) {
+      cache.put(delegate, accountName, objectType, objectKey, obj, filename, isAnUpdate);
+    } else {
+      delegate.storeObject(accountName, objectType, objectKey, obj, filename, isAnUpdate);
+    }
+  }
+
+  @Override
+  public void deleteObject(String accountName, ObjectType objectType, String objectKey) {
+    cache.invalidate(accountName, objectType, objectKey);
+    delegate.deleteObject(accountName, objectType, objectKey);
+  }
+
+  @Override
+  public List<Map<String, Object>> listObjectKeys(
+      String accountName, ObjectType objectType, List<String> applications, boolean skipIndex) {
+    return delegate.listObjectKeys(accountName, objectType, applications, skipIndex);
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.kayenta.storage;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/** Configuration of the in-memory cache of objects passed between canary stages. */
+@Data
+@ConfigurationProperties("kayenta.storage.cache")
+public class StorageCacheConfigurationProperties {
+
+  private boolean enabled = false;
+
+  /** Maximum number of metric values held in memory, across all cached objects. */
+  private long maxValues = 10_000_000;
+
+  /** Number of threads writing cached objects to their storage account. */
+  private int writeBehindThreads = 4;
+
+  /** Delay before the first retry of a failed write, doubled on every further retry. */
+  private long writeRetryInitialBackoffMs = 1_000;
+
+  /** Maximum delay between retries of a failed write. */
+  private long writeRetryMaxBackoffMs = 60_000;
+
+  /** Number of attempts at writing an object before it is given up on. */
+  private int writeRetryMaxAttempts = 10;
+
+  /** How long a task that has completed waits for pending writes before failing. */
+  private long flushTimeoutMs = 60_000;
+
+  /** How long shutdown waits for pending writes. */
+  private long shutdownTimeoutMs = 30_000;
+}
@@ -0,0 +1,334 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.kayenta.storage;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.netflix.kayenta.metrics.MetricSet;
+import com.netflix.kayenta.metrics.MetricSetPair;
+import com.netflix.spectator.api.Registry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Holds the metric set lists and metric set pair lists that canary stages pass to each other, so
+ * that a stage running in the same instance as the one that stored an object reads it from memory.
+ *
+ * <p>Objects are written to their storage account behind, by a fixed pool of threads. A failed
+ * write is retried with an exponential backoff, up to a configured number of attempts, unless the
+ * object is replaced or deleted first. Until the write completes, the object is always readable
+ * from this instance, even if it has been evicted. Stages running in other instances read it from
+ * storage, so a task tracks the writes it makes and flushes them before it hands its outputs on,
+ * see {@link StorageObjectCacheTaskInterceptor}.
+ */
+@Slf4j
+public class StorageObjectCache {
+
+  private final StorageCacheConfigurationProperties configuration;
+  private final Registry registry;
+  private final ScheduledExecutorService writeBehindExecutor;
+
+  private final Cache<Key, Object> objects;
+  private final Map<Key, PendingWrite> pendingWrites = new ConcurrentHashMap<>();
+  private final ThreadLocal<List<PendingWrite>> trackedWrites = new ThreadLocal<>();
+
+  public StorageObjectCache(StorageCacheConfigurationProperties configuration, Registry registry) {
+    this(
+        configuration,
+        registry,
+        Executors.newScheduledThreadPool(
+            configuration.getWriteBehindThreads(),
+            new ThreadFactoryBuilder()
+                .setNameFormat(StorageObjectCache.class.getSimpleName() + "-%d")
+                .setDaemon(true)
+                .build()));
+  }
+
+  StorageObjectCache(
+      StorageCacheConfigurationProperties configuration,
+      Registry registry,
+      ScheduledExecutorService writeBehindExecutor) {
+    this.configuration = configuration;
+    this.registry = registry;
+    this.writeBehindExecutor = writeBehindExecutor;
+    this.objects =
+        CacheBuilder.newBuilder()
+            .maximumWeight(configuration.getMaxValues())
+            .weigher((Key key, Object obj) -> weigh(obj))
+            .build();
+
+    registry.gauge("kayenta.storage.cache.size", objects, Cache::size);
+    registry.gauge("kayenta.storage.cache.pendingWrites", pendingWrites, Map::size);
+  }
+
+  public boolean isCached(ObjectType objectType) {
+    return objectType == ObjectType.METRIC_SET_LIST
+        || objectType == ObjectType.METRIC_SET_PAIR_LIST;
+  }
+
+  /** Caches the object and writes it to the given storage service behind. */
+  public <T> void put(
+      StorageService storageService,
+      String accountName,
+      ObjectType objectType,
+      String objectKey,
+      T obj,
+      String filename,
+      boolean isAnUpdate) {
+    Key key = new Key(accountName, objectType, objectKey);
+    objects.put(key, obj);
+
+    PendingWrite pendingWrite =
+        new PendingWrite(
+            obj,
+            () ->
+                storageService.storeObject(
+                    accountName, objectType, objectKey, obj, filename, isAnUpdate));
+    PendingWrite previous = pendingWrites.put(key, pendingWrite);
+    if (previous != null) {
+      previous.cancel();
+    }
+    List<PendingWrite> tracked = trackedWrites.get();
+    if (tracked != null) {
+      tracked.add(pendingWrite);
+    }
+    write(key, pendingWrite, 1, 0, configuration.getWriteRetryInitialBackoffMs());
+  }
+
+  private void write(
+      Key key, PendingWrite pendingWrite, int attempt, long delayMs, long nextDelayMs) {
+    try {
+      pendingWrite.attempt =
+          writeBehindExecutor.schedule(
+              () -> attemptWrite(key, pendingWrite, attempt, nextDelayMs),
+              delayMs,
+              TimeUnit.MILLISECONDS);
+    } catch (RejectedExecutionException e) {
+      log.error(
+          "Shutting down, {} {} will not be written to storage account {}",
+          key.objectType.getGroup(),
+          key.objectKey,
+          key.accountName);
+      pendingWrites.remove(key, pendingWrite);
+      pendingWrite.done.completeExceptionally(e);
+    }
+  }
+
+  private void attemptWrite(Key key, PendingWrite pendingWrite, int attempt, long backoffMs) {
+    if (pendingWrite.done.isDone()) {
+      // The object has been replaced or deleted since this write was scheduled.
+      return;
+    }
+    try {
+      pendingWrite.store.run();
+      pendingWrites.remove(key, pendingWrite);
+      pendingWrite.done.complete(null);
+    } catch (Exception e) {
+      registry.counter("kayenta.storage.cache.writeBehindFailures").increment();
+      if (attempt >= configuration.getWriteRetryMaxAttempts()) {
+        log.error(
+            "Failed to write {} {} to storage account {}, giving up after {} attempts",
+            key.objectType.getGroup(),
+            key.objectKey,
+            key.accountName,
+            attempt,
+            e);
+        pendingWrites.remove(key, pendingWrite);
+        pendingWrite.done.completeExceptionally(e);
+        return;
+      }
+      log.warn(
+          "Failed to write {} {} to storage account {}, retrying in {}ms",
+          key.objectType.getGroup(),
+          key.objectKey,
+          key.accountName,
+          backoffMs,
+          e);
+      write(
+          key,
+          pendingWrite,
+          attempt + 1,
+          backoffMs,
+          Math.min(backoffMs * 2, configuration.getWriteRetryMaxBackoffMs()));
+    }
+  }
+
+  /** @return the object if it is held by this instance, otherwise null */
+  @SuppressWarnings("unchecked")
+  public <T> T get(String accountName, ObjectType objectType, String objectKey) {
+    Key key = new Key(accountName, objectType, objectKey);
+    Object obj = objects.getIfPresent(key);
+    if (obj == null) {
+      PendingWrite pendingWrite = pendingWrites.get(key);
+      obj = pendingWrite == null ? null : pendingWrite.obj;
+    }
+    registry
+        .counter("kayenta.storage.cache.reads", "hit", String.valueOf(obj != null))
+        .increment();
+    return (T) obj;
+  }
+
+  /** Drops the object, and its write if that has not started yet. */
+  public void invalidate(String accountName, ObjectType objectType, String objectKey) {
+    Key key = new Key(accountName, objectType, objectKey);
+    objects.invalidate(key);
+    PendingWrite pendingWrite = pendingWrites.remove(key);
+    if (pendingWrite != null) {
+      pendingWrite.cancel();
+    }
+  }
+
+  /** Starts tracking the objects put by the current thread, until {@link #stopTrackingWrites}. */
+  public void trackWrites() {
+    trackedWrites.set(new ArrayList<>());
+  }
+
+  public void stopTrackingWrites() {
+    trackedWrites.remove();
+  }
+
+  /**
+   * Waits for the objects put by the current thread since {@link #trackWrites} to be written to
+   * storage, so that other instances can read them. Writes made by other threads are not waited
+   * for.
+   *
+   * @throws IllegalStateException if they are not all written within the given timeout, or a write
+   *     has been given up on
+   */
+  public void flushTrackedWrites(long timeoutMs) throws InterruptedException {
+    List<PendingWrite> tracked = trackedWrites.get();
+    if (tracked != null) {
+      flush(tracked, timeoutMs);
+      tracked.clear();
+    }
+  }
+
+  public void flushTrackedWrites() throws InterruptedException {
+    flushTrackedWrites(configuration.getFlushTimeoutMs());
+  }
+
+  private static void flush(Collection<PendingWrite> writes, long timeoutMs)
+      throws InterruptedException {
+    if (writes.isEmpty()) {
+      return;
+    }
+    try {
+      CompletableFuture.allOf(writes.stream().map(w -> w.done).toArray(CompletableFuture[]::new))
+          .get(timeoutMs, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      throw new IllegalStateException(
+          "Timed out after " + timeoutMs + "ms writing cached objects to storage", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Failed writing cached objects to storage", e.getCause());
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() throws InterruptedException {
+    try {
+      flush(new ArrayList<>(pendingWrites.values()), configuration.getShutdownTimeoutMs());
+    } catch (IllegalStateException e) {
+      log.warn("Shut down with {} objects not yet written to storage", pendingWrites.size());
+    } finally {
+      writeBehindExecutor.shutdownNow();
+    }
+  }
+
+  private static int weigh(Object obj) {
+    int weight = 1;
+    if (obj instanceof List) {
+      for (Object element : (List<?>) obj) {
+        if (element instanceof MetricSet && ((MetricSet) element).getValues() != null) {
+          weight += ((MetricSet) element).getValues().size();
+        } else if (element instanceof MetricSetPair
+            && ((MetricSetPair) element).getValues() != null) {
+          for (List<Double> values : ((MetricSetPair) element).getValues().values()) {
+            weight += values == null ? 0 : values.size();
+          }
+        }
+      }
+    }
+    return weight;
+  }
+
+  private static class PendingWrite {
+    final Object obj;
+    final Runnable store;
+    final CompletableFuture<Void> done = new CompletableFuture<>();
+    volatile Future<?> attempt;
+
+    PendingWrite(Object obj, Runnable store) {
+      this.obj = obj;
+      this.store = store;
+    }
+
+    /** Stops retrying the write, the attempt in progress (if any) is left to finish. */
+    void cancel() {
+      done.complete(null);
+      Future<?> attempt = this.attempt;
+      if (attempt != null) {
+        attempt.cancel(false);
+      }
+    }
+  }
+
+  private static class Key {
+    final String accountName;
+    final ObjectType objectType;
+    final String objectKey;
+
+    Key(String accountName, ObjectType objectType, String objectKey) {
+      this.accountName = accountName;
+      this.objectType = objectType;
+      this.objectKey = objectKey;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key key = (Key) o;
+      return accountName.equals(key.accountName)
+          && objectType.equals(key.objectType)
+          && objectKey.equals(key.objectKey);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(accountName, objectType, objectKey);
+    }
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.kayenta.storage;
+
+import com.netflix.spinnaker.orca.api.pipeline.Task;
+import com.netflix.spinnaker.orca.api.pipeline.TaskExecutionInterceptor;
+import com.netflix.spinnaker.orca.api.pipeline.TaskResult;
+import com.netflix.spinnaker.orca.api.pipeline.models.ExecutionStatus;
+import com.netflix.spinnaker.orca.api.pipeline.models.StageExecution;
+
+/**
+ * Flushes the {@link StorageObjectCache} writes made by a task once it has completed, before its
+ * outputs are handed on to the next task, which may run in another instance. Only the task's own
+ * writes are waited for, not those of tasks running concurrently in this instance.
+ *
+ * <p>If the writes do not complete in time, or are given up on, the task fails rather than passing
+ * on the ids of objects that cannot be read from storage.
+ */
+public class StorageObjectCacheTaskInterceptor implements TaskExecutionInterceptor {
+
+  private final StorageObjectCache storageObjectCache;
+
+  public StorageObjectCacheTaskInterceptor(StorageObjectCache storageObjectCache) {
+    this.storageObjectCache = storageObjectCache;
+  }
+
+  @Override
+  public StageExecution beforeTaskExecution(Task task, StageExecution stage) {
+    storageObjectCache.trackWrites();
+    return stage;
+  }
+
+  @Override
+  public TaskResult afterTaskExecution(Task task, StageExecution stage, TaskResult taskResult) {
+    if (taskResult.getStatus() != ExecutionStatus.RUNNING) {
+      try {
+        storageObjectCache.flushTrackedWrites();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Interrupted writing cached objects to storage", e);
+      }
+    }
+    return taskResult;
+  }
+
+  @Override
+  public void finallyAfterTaskExecution(
+      Task task, StageExecution stage, TaskResult taskResult, Exception e) {
+    storageObjectCache.stopTrackingWrites();
+  }
+}
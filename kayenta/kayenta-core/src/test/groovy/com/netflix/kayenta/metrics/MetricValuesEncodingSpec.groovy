@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.kayenta.metrics
+
+import com.fasterxml.jackson.core.type.TypeReference
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.netflix.kayenta.atlas.config.KayentaSerializationConfigurationProperties
+import com.netflix.kayenta.config.KayentaConfiguration
+import com.netflix.kayenta.storage.ObjectType
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class MetricValuesEncodingSpec extends Specification {
+
+  ObjectMapper objectMapper = newObjectMapper(false)
+  ObjectMapper compactObjectMapper = newObjectMapper(true)
+
+  MetricSet metricSet = MetricSet.builder()
+    .name('cpu')
+    .tag('region', 'us-west-2')
+    .startTimeMillis(0)
+    .endTimeMillis(240000)
+    .stepMillis(60000)
+    .values([1.5d, Double.NaN, 3d, Double.POSITIVE_INFINITY])
+    .build()
+
+  void "values are backed by a primitive list"() {
+    expect:
+    metricSet.values instanceof PrimitiveDoubleList
+    Arrays.equals(metricSet.values.toDoubleArray(), [1.5d, Double.NaN, 3d, Double.POSITIVE_INFINITY] as double[])
+  }
+
+  void "values are written as a json array by default"() {
+    when:
+    def json = objectMapper.readTree(objectMapper.writeValueAsString(metricSet))
+
+    then:
+    json.get('values').isArray()
+    json.get('values').size() == 4
+  }
+
+  @Unroll
+  void "storage writer for #objectType with compact storage #enabled is compact: #compact"() {
+    given:
+    def mapper = enabled ? compactObjectMapper : objectMapper
+
+    when:
+    def json = mapper.readTree(MetricValuesEncoding.storageWriter(mapper, objectType).writeValueAsString(metricSet))
+
+    then:
+    json.get('values').isTextual() == compact
+
+    where:
+    objectType                       | enabled || compact
+    ObjectType.METRIC_SET_LIST       | true    || true
+    ObjectType.METRIC_SET_PAIR_LIST  | true    || true
+    ObjectType.CANARY_CONFIG         | true    || false
+    ObjectType.METRIC_SET_LIST       | false   || false
+  }
+
+  void "metric sets round trip through both encodings"() {
+    given:
+    def writer = MetricValuesEncoding.storageWriter(compactObjectMapper, ObjectType.METRIC_SET_LIST)
+
+    when:
+    List<MetricSet> compact = objectMapper.readValue(
+      writer.writeValueAsString([metricSet]), new TypeReference<List<MetricSet>>() {})
+    List<MetricSet> plain = objectMapper.readValue(
+      objectMapper.writeValueAsString([metricSet]), new TypeReference<List<MetricSet>>() {})
+
+    then:
+    compact[0].values.equals(metricSet.values)
+    plain[0].values.equals(metricSet.values)
+    compact[0].values instanceof PrimitiveDoubleList
+    plain[0].values instanceof PrimitiveDoubleList
+  }
+
+  void "metric set pairs round trip through the compact encoding"() {
+    given:
+    MetricSetPair pair = MetricSetPair.builder()
+      .name('cpu')
+      .id('id')
+      .value('control', [1d, 2d])
+      .value('experiment', [])
+      .build()
+    def writer = MetricValuesEncoding.storageWriter(compactObjectMapper, ObjectType.METRIC_SET_PAIR_LIST)
+
+    when:
+    MetricSetPair read = objectMapper.readValue(writer.writeValueAsString(pair), MetricSetPair)
+
+    then:
+    read.values.control == [1d, 2d]
+    read.values.experiment == []
+    read.values.control instanceof PrimitiveDoubleList
+  }
+
+  void "nulls and non-numeric strings in json arrays are read"() {
+    when:
+    MetricSet read = objectMapper.readValue('{"name":"cpu","values":[1,null,"NaN","-Infinity",2.5]}', MetricSet)
+
+    then:
+    Arrays.equals(read.values.toDoubleArray(), [1d, Double.NaN, Double.NaN, Double.NEGATIVE_INFINITY, 2.5d] as double[])
+  }
+
+  void "long series are compressed when that is smaller"() {
+    given:
+    double[] values = new double[1440]
+    Arrays.fill(values, 42d)
+
+    when:
+    String encoded = MetricValuesEncoding.encode(values)
+
+    then:
+    encoded.length() < values.length * Double.BYTES
+    Arrays.equals(MetricValuesEncoding.decode(encoded), values)
+  }
+
+  void "malformed encodings are rejected"() {
+    when:
+    objectMapper.readValue('{"name":"cpu","values":"AAEC"}', MetricSet)
+
+    then:
+    thrown(IOException)
+  }
+
+  private static ObjectMapper newObjectMapper(boolean compactMetricValuesInStorage) {
+    def objectMapper = new ObjectMapper()
+    def properties = new KayentaSerializationConfigurationProperties()
+    properties.setCompactMetricValuesInStorage(compactMetricValuesInStorage)
+    KayentaConfiguration.configureObjectMapperFeatures(objectMapper, properties)
+    return objectMapper
+  }
+}
@@ -47,6 +47,7 @@ import java.net.SocketTimeoutException;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import okhttp3.MediaType;
 import okhttp3.Request;
 import okhttp3.ResponseBody;
@@ -55,6 +56,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import retrofit2.Retrofit;
@@ -68,6 +70,10 @@ public class SynchronousQueryProcessorTest {
   private static final int ATTEMPTS = 5;
   @Mock MetricsRetryConfigurationProperties retryConfiguration;
 
+  @Spy
+  MetricsFetchConfigurationProperties fetchConfiguration =
+      new MetricsFetchConfigurationProperties();
+
   @Mock MetricsService metricsService;
   @Mock StorageService storageService;
 
@@ -262,6 +268,34 @@ public class SynchronousQueryProcessorTest {
     verifyNoMoreInteractions(storageService);
   }
 
+  @Test
+  public void releasesQueryPermitsBetweenRetries() throws IOException {
+    fetchConfiguration.setMaxConcurrentQueries(Map.of("test", 1));
+    when(metricsService.getType()).thenReturn("test");
+    List response = asList(mock(MetricSet.class));
+    when(metricsService.queryMetrics(
+            anyString(),
+            any(CanaryConfig.class),
+            any(CanaryMetricConfig.class),
+            any(CanaryScope.class)))
+        .thenThrow(new IOException())
+        .thenReturn(response);
+
+    processor.executeQuery(
+        METRICS, STORAGE, mock(CanaryConfig.class, RETURNS_DEEP_STUBS), 1, mock(CanaryScope.class));
+    processor.executeQuery(
+        METRICS, STORAGE, mock(CanaryConfig.class, RETURNS_DEEP_STUBS), 1, mock(CanaryScope.class));
+
+    verify(metricsService, times(3))
+        .queryMetrics(
+            anyString(),
+            any(CanaryConfig.class),
+            any(CanaryMetricConfig.class),
+            any(CanaryScope.class));
+    verify(storageService, times(2))
+        .storeObject(eq(STORAGE), eq(ObjectType.METRIC_SET_LIST), any(), eq(response));
+  }
+
   private SpinnakerHttpException getSpinnakerHttpException(int status) {
     String url = "https://metrics";
 
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.kayenta.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.netflix.kayenta.canary.CanaryConfig;
+import com.netflix.kayenta.metrics.MetricSet;
+import com.netflix.spectator.api.NoopRegistry;
+import com.netflix.spinnaker.kork.web.exceptions.NotFoundException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class CachingStorageServiceTest {
+
+  private static final String ACCOUNT = "storage-account";
+
+  private final StorageCacheConfigurationProperties configuration =
+      new StorageCacheConfigurationProperties();
+  private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+  private final StorageService delegate = mock(StorageService.class);
+  private final StorageObjectCache cache =
+      new StorageObjectCache(configuration, new NoopRegistry(), executor);
+  private final CachingStorageService storageService = new CachingStorageService(delegate, cache);
+
+  private final List<MetricSet> metricSetList =
+      List.of(MetricSet.builder().name("cpu").values(List.of(1d, 2d)).build());
+
+  @AfterEach
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void metricSetListsAreReadFromMemoryAndWrittenBehind() throws Exception {
+    CountDownLatch writeStarted = new CountDownLatch(1);
+    CountDownLatch completeWrite = new CountDownLatch(1);
+    doAnswer(
+            invocation -> {
+              writeStarted.countDown();
+              completeWrite.await();
+              return null;
+            })
+        .when(delegate)
+        .storeObject(any(), any(), any(), any(), any(), anyBoolean());
+
+    storageService.storeObject(ACCOUNT, ObjectType.METRIC_SET_LIST, "id", metricSetList);
+    assertThat(writeStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+    List<MetricSet> loaded =
+        storageService.loadObject(ACCOUNT, ObjectType.METRIC_SET_LIST, "id");
+    assertThat(loaded).isSameAs(metricSetList);
+    verify(delegate, never()).loadObject(any(), any(), any());
+
+    completeWrite.countDown();
+    executor.shutdown();
+    assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+    verify(delegate)
+        .storeObject(
+            eq(ACCOUNT),
+            eq(ObjectType.METRIC_SET_LIST),
+            eq("id"),
+            eq(metricSetList),
+            isNull(),
+            eq(true));
+  }
+
+  @Test
+  public void otherObjectTypesAreWrittenThrough() {
+    CanaryConfig canaryConfig = CanaryConfig.builder().name("config").build();
+
+    storageService.storeObject(
+        ACCOUNT, ObjectType.CANARY_CONFIG, "id", canaryConfig, "config.json", false);
+
+    verify(delegate)
+        .storeObject(ACCOUNT, ObjectType.CANARY_CONFIG, "id", canaryConfig, "config.json", false);
+  }
+
+  @Test
+  public void loadsOfObjectsNotHeldAreReadFromStorage() {
+    when(delegate.loadObject(ACCOUNT, ObjectType.METRIC_SET_LIST, "id"))
+        .thenThrow(new NotFoundException("not found"));
+
+    assertThatThrownBy(() -> storageService.loadObject(ACCOUNT, ObjectType.METRIC_SET_LIST, "id"))
+        .isInstanceOf(NotFoundException.class);
+    verify(delegate, times(1)).loadObject(ACCOUNT, ObjectType.METRIC_SET_LIST, "id");
+  }
+
+  @Test
+  public void failedWritesAreRetriedUntilTheySucceed() throws Exception {
+    configuration.setWriteRetryInitialBackoffMs(10);
+    doThrow(new IllegalStateException("unavailable"))
+        .doThrow(new IllegalStateException("unavailable"))
+        .doNothing()
+        .when(delegate)
+        .storeObject(any(), any(), any(), any(), any(), anyBoolean());
+
+    cache.trackWrites();
+    storageService.storeObject(ACCOUNT, ObjectType.METRIC_SET_LIST, "id", metricSetList);
+    cache.flushTrackedWrites(5_000);
+
+    verify(delegate, times(3))
+        .storeObject(
+            eq(ACCOUNT),
+            eq(ObjectType.METRIC_SET_LIST),
+            eq("id"),
+            eq(metricSetList),
+            isNull(),
+            eq(true));
+  }
+
+  @Test
+  public void flushFailsIfWritesDoNotCompleteInTime() {
+    doThrow(new IllegalStateException("unavailable"))
+        .when(delegate)
+        .storeObject(any(), any(), any(), any(), any(), anyBoolean());
+
+    cache.trackWrites();
+    storageService.storeObject(ACCOUNT, ObjectType.METRIC_SET_LIST, "id", metricSetList);
+
+    assertThatThrownBy(() -> cache.flushTrackedWrites(100))
+        .isInstanceOf(IllegalStateException.class);
+    List<MetricSet> loaded =
+        storageService.loadObject(ACCOUNT, ObjectType.METRIC_SET_LIST, "id");
+    assertThat(loaded).isSameAs(metricSetList);
+  }
+
+  @Test
+  public void failedWritesAreGivenUpOnAfterTheMaximumNumberOfAttempts() {
+    configuration.setWriteRetryInitialBackoffMs(10);
+    configuration.setWriteRetryMaxAttempts(3);
+    doThrow(new IllegalStateException("unavailable"))
+        .when(delegate)
+        .storeObject(any(), any(), any(), any(), any(), anyBoolean());
+
+    cache.trackWrites();
+    storageService.storeObject(ACCOUNT, ObjectType.METRIC_SET_LIST, "id", metricSetList);
+
+    assertThatThrownBy(() -> cache.flushTrackedWrites(5_000))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("Failed writing");
+    verify(delegate, times(3)).storeObject(any(), any(), any(), any(), any(), anyBoolean());
+  }
+
+  @Test
+  public void flushOnlyWaitsForTheWritesOfTheCurrentThread() throws Exception {
+    CountDownLatch completeWrite = new CountDownLatch(1);
+    doAnswer(
+            invocation -> {
+              completeWrite.await();
+              return null;
+            })
+        .when(delegate)
+        .storeObject(any(), any(), any(), any(), any(), anyBoolean());
+    Thread otherTask =
+        new Thread(
+            () ->
+                storageService.storeObject(
+                    ACCOUNT, ObjectType.METRIC_SET_LIST, "other", metricSetList));
+    otherTask.start();
+    otherTask.join();
+
+    cache.trackWrites();
+    cache.flushTrackedWrites(100);
+    cache.stopTrackingWrites();
+    completeWrite.countDown();
+  }
+
+  @Test
+  public void writesRejectedOnShutdownFailTheFlush() {
+    executor.shutdownNow();
+
+    cache.trackWrites();
+    storageService.storeObject(ACCOUNT, ObjectType.METRIC_SET_LIST, "id", metricSetList);
+
+    assertThatThrownBy(() -> cache.flushTrackedWrites(100))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("Failed writing");
+    verify(delegate, never()).storeObject(any(), any(), any(), any(), any(), anyBoolean());
+  }
+}
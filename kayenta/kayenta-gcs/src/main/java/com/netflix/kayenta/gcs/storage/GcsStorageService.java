@@ -31,6 +31,7 @@ import com.netflix.kayenta.canary.CanaryConfig;
 import com.netflix.kayenta.google.security.GoogleNamedAccountCredentials;
 import com.netflix.kayenta.index.CanaryConfigIndex;
 import com.netflix.kayenta.index.config.CanaryConfigIndexAction;
+import com.netflix.kayenta.metrics.MetricValuesEncoding;
 import com.netflix.kayenta.security.AccountCredentialsRepository;
 import com.netflix.kayenta.storage.ObjectType;
 import com.netflix.kayenta.storage.StorageService;
@@ -247,7 +248,9 @@ public class GcsStorageService implements StorageService {
     }
 
     try {
-      byte[] bytes = kayentaObjectMapper.writeValueAsBytes(obj);
+      byte[] bytes =
+          MetricValuesEncoding.storageWriter(kayentaObjectMapper, objectType)
+              .writeValueAsBytes(obj);
       StorageObject object = new StorageObject().setBucket(bucketName).setName(path);
       ByteArrayContent content = new ByteArrayContent("application/json", bytes);
 
@@ -17,6 +17,7 @@
 package com.netflix.kayenta.judge
 
 import java.util
+import java.util.concurrent.ForkJoinPool
 
 import com.netflix.kayenta.canary.results._
 import com.netflix.kayenta.canary.{CanaryClassifierThresholdsConfig, CanaryConfig, CanaryJudge}
@@ -27,12 +28,13 @@ import com.netflix.kayenta.judge.preprocessing.Transforms
 import com.netflix.kayenta.judge.scorers.ScoringHelper
 import com.netflix.kayenta.judge.stats.DescriptiveStatistics
 import com.netflix.kayenta.judge.utils.MapUtils
-import com.netflix.kayenta.metrics.MetricSetPair
+import com.netflix.kayenta.metrics.{MetricSetPair, PrimitiveDoubleList}
 import com.typesafe.scalalogging.StrictLogging
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.stereotype.Component
 
 import scala.collection.JavaConverters._
+import scala.collection.parallel.ForkJoinTaskSupport
 
 case class Metric(name: String, values: Array[Double], label: String)
 
@@ -44,6 +46,11 @@ class NetflixACAJudge extends CanaryJudge with StrictLogging {
 
   private final val judgeName = "NetflixACAJudge-v1.0"
 
+  private lazy val classificationPool: ForkJoinPool = {
+    val parallelism = Option(netflixJudgeConfigurationProperties).map(_.getParallelism).filter(_ > 0)
+    new ForkJoinPool(parallelism.getOrElse(Runtime.getRuntime.availableProcessors))
+  }
+
   override def isVisible: Boolean = true
   override def getName: String = judgeName
 
@@ -51,15 +58,22 @@ class NetflixACAJudge extends CanaryJudge with StrictLogging {
                      scoreThresholds: CanaryClassifierThresholdsConfig,
                      metricSetPairList: util.List[MetricSetPair]): CanaryJudgeResult = {
 
-    //Metric Classification
-    val metricResults = metricSetPairList.asScala.toList.map { metricPair =>
+    //Metric Classification, in parallel across metrics
+    val metricPairs = metricSetPairList.asScala.toVector.par
+    metricPairs.tasksupport = new ForkJoinTaskSupport(classificationPool)
+    val metricResults = metricPairs.map { metricPair =>
       classifyMetric(canaryConfig, metricPair)
-    }
+    }.toList
 
     val scoringHelper = new ScoringHelper(judgeName)
     scoringHelper.score(canaryConfig, scoreThresholds, metricResults)
   }
 
+  private def toArray(values: util.List[java.lang.Double]): Array[Double] = values match {
+    case primitive: PrimitiveDoubleList => primitive.toDoubleArray
+    case _ => values.asScala.map(_.toDouble).toArray
+  }
+
   /**
     * Metric Transformations
     */
@@ -95,8 +109,8 @@ class NetflixACAJudge extends CanaryJudge with StrictLogging {
       case None => throw new IllegalArgumentException(s"Could not find metric config for ${metric.getName}")
     }
 
-    val experimentValues = metric.getValues.get("experiment").asScala.map(_.toDouble).toArray
-    val controlValues = metric.getValues.get("control").asScala.map(_.toDouble).toArray
+    val experimentValues = toArray(metric.getValues.get("experiment"))
+    val controlValues = toArray(metric.getValues.get("control"))
 
     val experiment = Metric(metric.getName, experimentValues, label="Canary")
     val control = Metric(metric.getName, controlValues, label="Baseline")
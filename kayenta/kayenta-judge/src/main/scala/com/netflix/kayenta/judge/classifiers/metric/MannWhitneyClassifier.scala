@@ -19,7 +19,7 @@ package com.netflix.kayenta.judge.classifiers.metric
 import com.netflix.kayenta.judge.Metric
 import com.netflix.kayenta.judge.preprocessing.Transforms
 import com.netflix.kayenta.judge.stats.EffectSizes
-import com.netflix.kayenta.mannwhitney.MannWhitney
+import com.netflix.kayenta.mannwhitney.{MannWhitney, SortedSamples}
 
 case class MannWhitneyResult(lowerConfidence: Double, upperConfidence: Double, estimate: Double, deviation: Double, effectSize: Double)
 case class ComparisonResult(classification: MetricClassificationLabel, reason: Option[String], deviation: Double, effectSize: Double)
@@ -43,17 +43,26 @@ class MannWhitneyClassifier(tolerance: Double=0.25,
     val experiment = if(addNoise) addGaussianNoise(experimentValues) else experimentValues
     val control = if(addNoise) addGaussianNoise(controlValues) else controlValues
 
+    //Sort the data once for the test and the effect size
+    val samples = new SortedSamples(experiment, control)
+
     //Perform the Mann-Whitney U Test
-    val testResult = mw.mannWhitneyUTest(experiment, control, confLevel)
+    val testResult = mw.mannWhitneyUTest(samples, confLevel, 0.0)
     val confInterval = testResult.confidenceInterval
     val estimate = testResult.estimate
 
     //Calculate the deviation (Effect Size) between the experiment and control
     val deviation = calculateDeviation(experiment, control)
-    val effectSize = calculateEffectSize(experiment, control, effectSizeMeasure)
+    val effectSize = calculateEffectSize(samples, experiment, control, effectSizeMeasure)
     MannWhitneyResult(confInterval(0), confInterval(1), estimate, deviation, effectSize)
   }
 
+  private def sorted(values: Array[Double]): Array[Double] = {
+    val sorted = values.clone()
+    java.util.Arrays.sort(sorted)
+    sorted
+  }
+
   /**
     * Add Gaussian noise to the input array
     * Scale the amplitude of the noise based on the input values
@@ -89,10 +98,10 @@ class MannWhitneyClassifier(tolerance: Double=0.25,
   /**
     * Calculate the effect size between the experiment and control
     */
-  private def calculateEffectSize(experiment: Array[Double], control: Array[Double], measure: String): Double = {
+  private def calculateEffectSize(samples: SortedSamples, experiment: Array[Double], control: Array[Double], measure: String): Double = {
     if(measure=="cles"){
       // Use the Common Language Effect Size (CLES) Measure
-      EffectSizes.cles(control, experiment)
+      EffectSizes.cles(samples)
     }else{
       //Use the Mean Ratio (difference in means) Measure
       EffectSizes.meanRatio(control, experiment)
@@ -164,7 +173,7 @@ class MannWhitneyClassifier(tolerance: Double=0.25,
     }
 
     //Check if the experiment and control data are equal
-    if (experiment.values.sorted.sameElements(control.values.sorted)) {
+    if (sorted(experiment.values).sameElements(sorted(control.values))) {
       val reason = s"The ${experiment.label} and ${control.label} data are identical"
       return MetricClassification(Pass, Some(reason), 1.0, critical = false)
     }
@@ -21,6 +21,9 @@ public class NetflixJudgeConfigurationProperties {
   private double tolerance = 0.25;
   private double confLevel = 0.98;
 
+  /** Number of metrics classified at once, defaults to the number of available processors. */
+  private int parallelism = 0;
+
   public void setTolerance(double tolerance) {
     this.tolerance = tolerance;
   }
@@ -36,4 +39,12 @@ public class NetflixJudgeConfigurationProperties {
   public double getConfLevel() {
     return confLevel;
   }
+
+  public void setParallelism(int parallelism) {
+    this.parallelism = parallelism;
+  }
+
+  public int getParallelism() {
+    return parallelism;
+  }
 }
@@ -4,7 +4,7 @@ import com.netflix.kayenta.judge.Metric
 import com.netflix.kayenta.judge.stats.DescriptiveStatistics._
 import org.apache.commons.math3.util.FastMath
 import org.apache.commons.math3.stat.StatUtils
-import org.apache.commons.math3.stat.ranking._
+import com.netflix.kayenta.mannwhitney.SortedSamples
 
 object EffectSizes {
 
@@ -69,10 +69,18 @@ object EffectSizes {
     * The formula has been transformed to minimize accuracy errors
     */
   def cles(control: Array[Double], experiment: Array[Double]): Double = {
-    val m = experiment.length
-    val n = control.length
-    val ranks = new NaturalRanking(NaNStrategy.MAXIMAL, TiesStrategy.AVERAGE).rank(experiment ++ control)
-    val r1 = ranks.take(m).sum
+    cles(new SortedSamples(experiment, control))
+  }
+
+  /**
+    * Common Language Effect Size (CLES)
+    * The common language effect size is the proportion of pairs where x is higher than y.
+    * Computed from samples that are already sorted, with the experiment as x and the control as y
+    */
+  def cles(samples: SortedSamples): Double = {
+    val m = samples.xLength
+    val n = samples.yLength
+    val r1 = samples.rankStatistics(0.0).rankSum
     (2 * r1 - m * (m + 1)) / (2 * n * m)
   }
 
@@ -18,7 +18,6 @@ package com.netflix.kayenta.mannwhitney
 
 import org.apache.commons.math3.analysis.UnivariateFunction
 import org.apache.commons.math3.distribution.NormalDistribution
-import org.apache.commons.math3.stat.ranking._
 
 case class MannWhitneyParams(mu: Double, confidenceLevel: Double, controlData: Array[Double], experimentData: Array[Double])
 case class MannWhitneyResult(confidenceInterval: Array[Double], estimate: Double)
@@ -44,7 +43,15 @@ class MannWhitney {
     * @return a confidence interval and an estimate of the location parameter
     */
   def mannWhitneyUTest(x: Array[Double], y: Array[Double], confidenceLevel: Double = 0.95, mu: Double = 0.0): MannWhitneyResult = {
-    val (confidenceInterval, estimate) = calculateConfidenceInterval(x, y, confidenceLevel, mu)
+    mannWhitneyUTest(new SortedSamples(x, y), confidenceLevel, mu)
+  }
+
+  /**
+    * Performs a two-sample, two-sided Mann-Whitney U test on samples that have already been sorted, so that
+    * callers can reuse them for other rank statistics.
+    */
+  def mannWhitneyUTest(samples: SortedSamples, confidenceLevel: Double, mu: Double): MannWhitneyResult = {
+    val (confidenceInterval, estimate) = calculateConfidenceInterval(samples, confidenceLevel, mu)
     MannWhitneyResult(confidenceInterval, estimate)
   }
 
@@ -56,43 +63,34 @@ class MannWhitney {
   }
 
   def wilcoxonDiff(mu: Double, quantile: Double, x: Array[Double], y: Array[Double]): Double = {
-    val xLen = x.length.toDouble
-    val yLen = y.length.toDouble
-
-    val dr = new NaturalRanking(NaNStrategy.MAXIMAL, TiesStrategy.AVERAGE).rank(x.map(_ - mu) ++ y)
-    val ntiesCi = dr.groupBy(identity).mapValues(_.length)
-    val dz = {
-      for (e <- x.indices) yield dr(e)
-    }.sum - xLen * (xLen + 1) / 2 - xLen * yLen / 2
-    val correctionCi = (if (dz.signum.isNaN) 0 else dz.signum) * 0.5
-    val sigmaCi = Math.sqrt(
-      (xLen * yLen / 12) *
-        (
-          (xLen + yLen + 1)
-            - ntiesCi.mapValues(v => Math.pow(v, 3) - v).values.sum
-            / ((xLen + yLen) * (xLen + yLen - 1))
-          )
-    )
-    if (sigmaCi == 0) throw new IllegalArgumentException("cannot compute confidence interval when all observations are tied")
-    (dz - correctionCi) / sigmaCi - quantile
+    new SortedSamples(x, y).wilcoxonDiff(mu, quantile)
   }
 
   protected def calculateConfidenceInterval(x: Array[Double],
                                             y: Array[Double],
                                             confidenceLevel: Double,
                                             mu: Double): (Array[Double], Double) = {
+    calculateConfidenceInterval(new SortedSamples(x, y), confidenceLevel, mu)
+  }
+
+  /**
+    * Every evaluation of the Wilcoxon statistic made by the root finding reuses the same sorted samples.
+    */
+  protected def calculateConfidenceInterval(samples: SortedSamples,
+                                            confidenceLevel: Double,
+                                            mu: Double): (Array[Double], Double) = {
 
     val alpha: Double = 1.0 - confidenceLevel
-    val muMin: Double = x.min - y.max
-    val muMax: Double = x.max - y.min
+    val muMin: Double = samples.sortedX.head - samples.sortedY.last
+    val muMax: Double = samples.sortedX.last - samples.sortedY.head
 
     val wilcoxonDiffWrapper = (zq: Double) => new UnivariateFunction {
-      override def value(input: Double): Double = wilcoxonDiff(input, zq, x, y)
+      override def value(input: Double): Double = samples.wilcoxonDiff(input, zq)
     }
 
     def findRoot(zq: Double): Double = {
-      val fLower = wilcoxonDiff(muMin, zq, x, y)
-      val fUpper = wilcoxonDiff(muMax, zq, x, y)
+      val fLower = samples.wilcoxonDiff(muMin, zq)
+      val fUpper = samples.wilcoxonDiff(muMax, zq)
       if (fLower <= 0) muMin
       else if (fUpper >= 0) muMax
       else BrentSolver.solve(muMin, muMax, fLower, fUpper, wilcoxonDiffWrapper(zq))
@@ -100,11 +98,10 @@ class MannWhitney {
 
     val zQuant = new NormalDistribution(0,1).inverseCumulativeProbability(alpha/2)
     val confidenceInterval: Array[Double] = Array(findRoot(-zQuant), findRoot(zQuant))
-    val fLower = wilcoxonDiff(muMin, 0, x, y)
-    val fUpper = wilcoxonDiff(muMax, 0, x, y)
+    val fLower = samples.wilcoxonDiff(muMin, 0)
+    val fUpper = samples.wilcoxonDiff(muMax, 0)
 
     val estimate = BrentSolver.solve(muMin, muMax, fLower, fUpper, wilcoxonDiffWrapper(0))
     (confidenceInterval, estimate)
   }
 }
-
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.kayenta.mannwhitney
+
+import java.lang.Double.compare
+import java.util.Arrays
+
+case class RankStatistics(rankSum: Double, tieCorrection: Double)
+
+/**
+  * Two samples, each sorted once, so that the rank statistics of x - mu in the combined sample can be computed
+  * for any location shift mu by merging the samples in linear time, rather than by shifting, combining and
+  * ranking them again.
+  *
+  * Ranks match those of NaturalRanking(NaNStrategy.MAXIMAL, TiesStrategy.AVERAGE): NaNs rank as positive
+  * infinity and tied values share their average rank.
+  */
+class SortedSamples(x: Array[Double], y: Array[Double]) {
+
+  val sortedX: Array[Double] = SortedSamples.sorted(x)
+  val sortedY: Array[Double] = SortedSamples.sorted(y)
+
+  def xLength: Int = sortedX.length
+
+  def yLength: Int = sortedY.length
+
+  /**
+    * Returns the sum of the ranks of x - mu in the combined sample, and the sum of t^3 - t over every group of
+    * t tied values in it.
+    */
+  def rankStatistics(mu: Double): RankStatistics = {
+    val m = sortedX.length
+    val n = sortedY.length
+    var i = 0
+    var j = 0
+    var position = 0
+    var rankSum = 0.0
+    var tieCorrection = 0.0
+
+    while (i < m || j < n) {
+      val value =
+        if (j >= n || (i < m && compare(sortedX(i) - mu, sortedY(j)) <= 0)) sortedX(i) - mu
+        else sortedY(j)
+
+      var tiedX = 0
+      while (i < m && compare(sortedX(i) - mu, value) == 0) {
+        tiedX += 1
+        i += 1
+      }
+      var tiedY = 0
+      while (j < n && compare(sortedY(j), value) == 0) {
+        tiedY += 1
+        j += 1
+      }
+
+      val tied = tiedX + tiedY
+      rankSum += tiedX * (position + (tied + 1) / 2.0)
+      tieCorrection += tied.toDouble * tied * tied - tied
+      position += tied
+    }
+
+    RankStatistics(rankSum, tieCorrection)
+  }
+
+  /**
+    * The normal approximation of the Wilcoxon rank-sum statistic of x - mu and y, with continuity and tie
+    * corrections, less the given quantile. See MannWhitney.wilcoxonDiff.
+    */
+  def wilcoxonDiff(mu: Double, quantile: Double): Double = {
+    val xLen = sortedX.length.toDouble
+    val yLen = sortedY.length.toDouble
+
+    val statistics = rankStatistics(mu)
+    val dz = statistics.rankSum - xLen * (xLen + 1) / 2 - xLen * yLen / 2
+    val correctionCi = (if (dz.isNaN) 0.0 else math.signum(dz)) * 0.5
+    val sigmaCi = Math.sqrt(
+      (xLen * yLen / 12) *
+        (
+          (xLen + yLen + 1)
+            - statistics.tieCorrection
+            / ((xLen + yLen) * (xLen + yLen - 1))
+          )
+    )
+    if (sigmaCi == 0) throw new IllegalArgumentException("cannot compute confidence interval when all observations are tied")
+    (dz - correctionCi) / sigmaCi - quantile
+  }
+}
+
+object SortedSamples {
+
+  private def sorted(values: Array[Double]): Array[Double] = {
+    val sorted = values.clone()
+    var i = 0
+    while (i < sorted.length) {
+      if (sorted(i).isNaN) sorted(i) = Double.PositiveInfinity
+      i += 1
+    }
+    Arrays.sort(sorted)
+    sorted
+  }
+}
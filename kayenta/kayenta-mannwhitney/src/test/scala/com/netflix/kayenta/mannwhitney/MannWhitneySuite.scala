@@ -19,6 +19,7 @@ package com.netflix.kayenta.mannwhitney
 import org.junit.jupiter.api.Assertions.assertEquals
 import org.apache.commons.math3.analysis.UnivariateFunction
 import org.apache.commons.math3.distribution.NormalDistribution
+import org.apache.commons.math3.stat.ranking.{NaNStrategy, NaturalRanking, TiesStrategy}
 import org.scalatest.funsuite.AnyFunSuite
 
 
@@ -1073,4 +1074,20 @@ class MannWhitneySuite extends AnyFunSuite {
     assertEquals(rCiu, ciUpper, E)
     assertEquals(rEst, estimate, E)
   }
+
+  test("Sorted samples rank like NaturalRanking"){
+    val x = Array(3.0, 1.0, 2.0, 2.0, Double.NaN, 5.0, 0.5)
+    val y = Array(2.0, 4.0, 1.0, 1.5, 3.0, Double.NaN, 2.5, 2.0)
+    val samples = new SortedSamples(x, y)
+
+    for (mu <- Seq(-1.0, 0.0, 0.5, 1.0)) {
+      val ranks = new NaturalRanking(NaNStrategy.MAXIMAL, TiesStrategy.AVERAGE).rank(x.map(_ - mu) ++ y)
+      val rankSum = ranks.take(x.length).sum
+      val tieCorrection = ranks.groupBy(identity).values.map(_.length.toDouble).map(t => t * t * t - t).sum
+
+      val statistics = samples.rankStatistics(mu)
+      assertEquals(rankSum, statistics.rankSum, E)
+      assertEquals(tieCorrection, statistics.tieCorrection, E)
+    }
+  }
 }
@@ -25,6 +25,7 @@ import com.netflix.kayenta.aws.security.AwsNamedAccountCredentials;
 import com.netflix.kayenta.canary.CanaryConfig;
 import com.netflix.kayenta.index.CanaryConfigIndex;
 import com.netflix.kayenta.index.config.CanaryConfigIndexAction;
+import com.netflix.kayenta.metrics.MetricValuesEncoding;
 import com.netflix.kayenta.security.AccountCredentialsRepository;
 import com.netflix.kayenta.storage.ObjectType;
 import com.netflix.kayenta.storage.StorageService;
@@ -230,7 +231,8 @@ public class S3StorageService implements StorageService {
     }
 
     try {
-      byte[] bytes = objectMapper.writeValueAsBytes(obj);
+      byte[] bytes =
+          MetricValuesEncoding.storageWriter(objectMapper, objectType).writeValueAsBytes(obj);
       String md5 =
           new String(org.apache.commons.codec.binary.Base64.encodeBase64(DigestUtils.md5(bytes)));
 
@@ -18,6 +18,7 @@ package com.netflix.kayenta.sql.storage;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.netflix.kayenta.metrics.MetricValuesEncoding;
 import com.netflix.kayenta.sql.storage.model.SqlCanaryArchive;
 import com.netflix.kayenta.sql.storage.model.SqlCanaryConfig;
 import com.netflix.kayenta.sql.storage.model.SqlMetricSetPairs;
@@ -219,7 +220,7 @@ public class SqlStorageService implements StorageService {
 
   private <T> String mapToJson(T obj, ObjectType objectType) {
     try {
-      return objectMapper.writeValueAsString(obj);
+      return MetricValuesEncoding.storageWriter(objectMapper, objectType).writeValueAsString(obj);
     } catch (IOException e) {
       throw new IllegalStateException(
           "Failed to serialize object for objectType: " + objectType, e);
@@ -8,6 +8,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.netflix.kayenta.canary.CanaryJudge;
 import com.netflix.kayenta.canary.ExecutionMapper;
 import com.netflix.kayenta.config.WebConfiguration;
+import com.netflix.kayenta.metrics.MetricsFetchConfigurationProperties;
 import com.netflix.kayenta.metrics.MetricsServiceRepository;
 import com.netflix.kayenta.security.AccountCredentials;
 import com.netflix.kayenta.security.AccountCredentialsRepository;
@@ -95,6 +96,7 @@ public abstract class BaseControllerTest {
           Optional.empty(),
           executionLauncher,
           executionRepository,
+          new MetricsFetchConfigurationProperties(),
           false);
     }
 
@@ -0,0 +1,242 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.netflix.spinnaker.kork.artifacts.artifactstore;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.google.common.hash.Hashing;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.Value;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * A local cache of artifacts in the artifact store, keyed by their reference URI.
+ *
+ * <p>References are built from a hash of the artifact's content (see {@link
+ * ArtifactStoreURISHA256Builder}), so a cached entry can never go stale and is only evicted to
+ * bound the size of the cache. Entries are kept in memory and, if a disk directory is configured,
+ * on disk where they survive restarts. Both tiers are evicted least recently used first.
+ *
+ * <p>The cache also remembers which references are known to exist in the store, so that storing
+ * the same artifact again does not have to ask the store. Unlike the artifacts, these are forgotten
+ * after a configured time, as the store may expire artifacts.
+ *
+ * <p>Failures of the disk tier are logged and treated as cache misses, they never fail a request.
+ */
+@Log4j2
+public class ArtifactStoreCache {
+  private final Cache<String, CachedArtifact> memory;
+  private final Cache<String, Boolean> knownReferences;
+  private final Path diskDirectory;
+  private final long maxDiskBytes;
+  private final AtomicLong diskBytes = new AtomicLong();
+
+  public ArtifactStoreCache(ArtifactStoreConfigurationProperties.CacheConfig config) {
+    this(config, Ticker.systemTicker());
+  }
+
+  ArtifactStoreCache(ArtifactStoreConfigurationProperties.CacheConfig config, Ticker ticker) {
+    this.memory =
+        Caffeine.newBuilder()
+            .maximumWeight(config.getMaxMemoryBytes())
+            .<String, CachedArtifact>weigher((uri, artifact) -> artifact.getContent().length)
+            .build();
+    this.knownReferences =
+        Caffeine.newBuilder()
+            .maximumSize(config.getMaxKnownReferences())
+            .expireAfterWrite(config.getKnownReferencesExpireAfterWrite())
+            .ticker(ticker)
+            .build();
+    this.maxDiskBytes = config.getMaxDiskBytes();
+    this.diskDirectory = initializeDiskDirectory(config.getDiskDirectory());
+  }
+
+  /**
+   * @return the cached artifact with the given reference, or null if it is not cached. Artifacts
+   *     found on disk are promoted to memory.
+   */
+  public CachedArtifact getIfPresent(String uri) {
+    CachedArtifact artifact = memory.getIfPresent(uri);
+    if (artifact == null && diskDirectory != null) {
+      artifact = readFromDisk(uri);
+      if (artifact != null) {
+        memory.put(uri, artifact);
+      }
+    }
+    return artifact;
+  }
+
+  public void put(String uri, CachedArtifact artifact) {
+    memory.put(uri, artifact);
+    knownReferences.put(uri, Boolean.TRUE);
+    if (diskDirectory != null) {
+      writeToDisk(uri, artifact);
+    }
+  }
+
+  /**
+   * @return true if the reference was recently stored or found in the store. Cached artifacts are
+   *     not taken as existing, they may have been expired from the store since.
+   */
+  public boolean isKnownToExist(String uri) {
+    return knownReferences.getIfPresent(uri) != null;
+  }
+
+  public void markExists(String uri) {
+    knownReferences.put(uri, Boolean.TRUE);
+  }
+
+  private Path initializeDiskDirectory(String directory) {
+    if (directory == null || directory.isBlank()) {
+      return null;
+    }
+
+    Path path = Path.of(directory);
+    try {
+      Files.createDirectories(path);
+      try (Stream<Path> files = Files.list(path)) {
+        diskBytes.set(files.mapToLong(ArtifactStoreCache::sizeOf).sum());
+      }
+      return path;
+    } catch (IOException e) {
+      log.warn("Unable to use {} to cache artifacts, only caching in memory", directory, e);
+      return null;
+    }
+  }
+
+  private CachedArtifact readFromDisk(String uri) {
+    Path file = fileFor(uri);
+    try (DataInputStream in = new DataInputStream(Files.newInputStream(file))) {
+      String application = in.readUTF();
+      byte[] content = in.readAllBytes();
+      Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+      return new CachedArtifact(content, application);
+    } catch (NoSuchFileException e) {
+      return null;
+    } catch (IOException e) {
+      log.warn("Unable to read cached artifact {} from {}, discarding it", uri, file, e);
+      delete(file);
+      return null;
+    }
+  }
+
+  private void writeToDisk(String uri, CachedArtifact artifact) {
+    Path file = fileFor(uri);
+    if (Files.exists(file)) {
+      return;
+    }
+
+    Path tmp = null;
+    try {
+      tmp = Files.createTempFile(diskDirectory, file.getFileName().toString(), ".tmp");
+      try (OutputStream os = Files.newOutputStream(tmp);
+          DataOutputStream out = new DataOutputStream(os)) {
+        out.writeUTF(artifact.getApplication());
+        out.write(artifact.getContent());
+      }
+      long size = Files.size(tmp);
+      Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+      if (diskBytes.addAndGet(size) > maxDiskBytes) {
+        evictFromDisk();
+      }
+    } catch (IOException e) {
+      log.warn("Unable to cache artifact {} in {}", uri, diskDirectory, e);
+      if (tmp != null) {
+        delete(tmp);
+      }
+    }
+  }
+
+  /** Deletes the least recently used files until the disk tier is back under its limit. */
+  private synchronized void evictFromDisk() {
+    if (diskBytes.get() <= maxDiskBytes) {
+      return;
+    }
+
+    List<Path> files;
+    try (Stream<Path> list = Files.list(diskDirectory)) {
+      files =
+          list.filter(f -> !f.getFileName().toString().endsWith(".tmp"))
+              .sorted(Comparator.comparing(ArtifactStoreCache::lastModified))
+              .collect(Collectors.toList());
+    } catch (IOException e) {
+      log.warn("Unable to list cached artifacts in {}", diskDirectory, e);
+      return;
+    }
+
+    for (Path file : files) {
+      if (diskBytes.get() <= maxDiskBytes) {
+        break;
+      }
+      long size = sizeOf(file);
+      if (delete(file)) {
+        diskBytes.addAndGet(-size);
+      }
+    }
+  }
+
+  private Path fileFor(String uri) {
+    return diskDirectory.resolve(
+        Hashing.sha256().hashString(uri, StandardCharsets.UTF_8).toString());
+  }
+
+  private static long sizeOf(Path file) {
+    try {
+      return Files.size(file);
+    } catch (IOException e) {
+      return 0;
+    }
+  }
+
+  private static FileTime lastModified(Path file) {
+    try {
+      return Files.getLastModifiedTime(file);
+    } catch (IOException e) {
+      return FileTime.fromMillis(0);
+    }
+  }
+
+  private static boolean delete(Path file) {
+    try {
+      return Files.deleteIfExists(file);
+    } catch (IOException e) {
+      log.warn("Unable to delete {}", file, e);
+      return false;
+    }
+  }
+
+  /** The content of a stored artifact along with the application that stored it. */
+  @Value
+  public static class CachedArtifact {
+    byte[] content;
+    String application;
+  }
+}
@@ -15,6 +15,7 @@
  */
 package com.netflix.spinnaker.kork.artifacts.artifactstore;
 
+import java.time.Duration;
 import java.util.List;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -60,6 +61,35 @@ public class ArtifactStoreConfigurationProperties {
     private boolean expandOverrides = false;
   }
 
+  /**
+   * Configuration for the local cache of stored artifacts, see {@link ArtifactStoreCache}. Cached
+   * entries never go stale, so the limits only bound how much is kept locally.
+   */
+  @Data
+  public static class CacheConfig {
+    private boolean enabled = true;
+
+    /** Maximum total size of the artifacts cached in memory. */
+    private long maxMemoryBytes = 32L * 1024 * 1024;
+
+    /** Directory in which to also cache artifacts on disk, not cached on disk when null. */
+    private String diskDirectory = null;
+
+    /** Maximum total size of the artifacts cached on disk. */
+    private long maxDiskBytes = 512L * 1024 * 1024;
+
+    /** Number of references remembered as existing in the store, to skip re-uploading them. */
+    private long maxKnownReferences = 10_000;
+
+    /**
+     * How long a reference is remembered as existing in the store. Must be shorter than any
+     * lifecycle rule that expires artifacts from the store, or artifacts deleted by it are never
+     * uploaded again.
+     */
+    private Duration knownReferencesExpireAfterWrite = Duration.ofHours(1);
+  }
+
   private S3ClientConfig s3 = new S3ClientConfig();
   private HelmConfig helm = new HelmConfig();
+  private CacheConfig cache = new CacheConfig();
 }
@@ -15,6 +15,7 @@
  */
 package com.netflix.spinnaker.kork.artifacts.artifactstore.s3;
 
+import com.netflix.spinnaker.kork.artifacts.artifactstore.ArtifactStoreCache;
 import com.netflix.spinnaker.kork.artifacts.artifactstore.ArtifactStoreConfigurationProperties;
 import com.netflix.spinnaker.kork.artifacts.artifactstore.ArtifactStoreGetter;
 import com.netflix.spinnaker.kork.artifacts.artifactstore.ArtifactStoreStorer;
@@ -52,19 +53,22 @@ public class S3ArtifactStoreConfiguration {
   public ArtifactStoreStorer artifactStoreStorer(
       ArtifactStoreConfigurationProperties properties,
       @Qualifier("artifactS3Client") S3Client s3Client,
-      ArtifactStoreURIBuilder artifactStoreURIBuilder) {
+      ArtifactStoreURIBuilder artifactStoreURIBuilder,
+      Optional<ArtifactStoreCache> artifactStoreCache) {
     return new S3ArtifactStoreStorer(
         s3Client,
         properties.getS3().getBucket(),
         artifactStoreURIBuilder,
-        properties.getApplicationsRegex());
+        properties.getApplicationsRegex(),
+        artifactStoreCache.orElse(null));
   }
 
   @Bean
   public ArtifactStoreGetter artifactStoreGetter(
       Optional<UserPermissionEvaluator> userPermissionEvaluator,
       ArtifactStoreConfigurationProperties properties,
-      @Qualifier("artifactS3Client") S3Client s3Client) {
+      @Qualifier("artifactS3Client") S3Client s3Client,
+      Optional<ArtifactStoreCache> artifactStoreCache) {
 
     if (userPermissionEvaluator.isEmpty()) {
       log.warn(
@@ -73,7 +77,14 @@ public class S3ArtifactStoreConfiguration {
 
     String bucket = properties.getS3().getBucket();
 
-    return new S3ArtifactStoreGetter(s3Client, userPermissionEvaluator.orElse(null), bucket);
+    return new S3ArtifactStoreGetter(
+        s3Client, userPermissionEvaluator.orElse(null), bucket, artifactStoreCache.orElse(null));
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "artifact-store.cache.enabled", matchIfMissing = true)
+  public ArtifactStoreCache artifactStoreCache(ArtifactStoreConfigurationProperties properties) {
+    return new ArtifactStoreCache(properties.getCache());
   }
 
   @Bean
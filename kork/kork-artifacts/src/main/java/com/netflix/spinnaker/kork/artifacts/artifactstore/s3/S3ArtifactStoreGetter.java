@@ -20,6 +20,8 @@ import static com.netflix.spinnaker.kork.artifacts.artifactstore.s3.S3ArtifactSt
 import com.netflix.spinnaker.kork.artifacts.ArtifactTypes;
 import com.netflix.spinnaker.kork.artifacts.artifactstore.ArtifactDecorator;
 import com.netflix.spinnaker.kork.artifacts.artifactstore.ArtifactReferenceURI;
+import com.netflix.spinnaker.kork.artifacts.artifactstore.ArtifactStoreCache;
+import com.netflix.spinnaker.kork.artifacts.artifactstore.ArtifactStoreCache.CachedArtifact;
 import com.netflix.spinnaker.kork.artifacts.artifactstore.ArtifactStoreGetter;
 import com.netflix.spinnaker.kork.artifacts.model.Artifact;
 import com.netflix.spinnaker.security.AuthenticatedRequest;
@@ -44,12 +46,26 @@ public class S3ArtifactStoreGetter implements ArtifactStoreGetter {
   private final S3Client s3Client;
   private final UserPermissionEvaluator userPermissionEvaluator;
   private final String bucket;
+  private final ArtifactStoreCache cache;
 
   public S3ArtifactStoreGetter(
       S3Client s3Client, UserPermissionEvaluator userPermissionEvaluator, String bucket) {
+    this(s3Client, userPermissionEvaluator, bucket, null);
+  }
+
+  /**
+   * @param cache optional local cache of stored artifacts. Permissions are still checked for every
+   *     read, against the application the cached artifact was stored by.
+   */
+  public S3ArtifactStoreGetter(
+      S3Client s3Client,
+      UserPermissionEvaluator userPermissionEvaluator,
+      String bucket,
+      ArtifactStoreCache cache) {
     this.s3Client = s3Client;
     this.bucket = bucket;
     this.userPermissionEvaluator = userPermissionEvaluator;
+    this.cache = cache;
   }
 
   /**
@@ -58,31 +74,49 @@ public class S3ArtifactStoreGetter implements ArtifactStoreGetter {
    */
   @Override
   public Artifact get(ArtifactReferenceURI uri, ArtifactDecorator... decorators) {
-    hasAuthorization(
-        uri,
+    String userId =
         AuthenticatedRequest.getSpinnakerUser()
             .orElseThrow(
-                () -> new NoSuchElementException("Could not authenticate due to missing user id")));
+                () -> new NoSuchElementException("Could not authenticate due to missing user id"));
+
+    CachedArtifact cached = (cache != null) ? cache.getIfPresent(uri.uri()) : null;
+    byte[] content;
+    if (cached != null) {
+      log.debug("Found cached artifact reference={}", uri.uri());
+      hasAuthorization(userId, cached.getApplication());
+      content = cached.getContent();
+    } else {
+      String application = getApplication(uri);
+      hasAuthorization(userId, application);
+      content = getContent(uri);
+      if (cache != null) {
+        cache.put(uri.uri(), new CachedArtifact(content, application));
+      }
+    }
+
+    Artifact.ArtifactBuilder builder =
+        Artifact.builder()
+            .type(ArtifactTypes.REMOTE_BASE64.getMimeType())
+            .reference(Base64.getEncoder().encodeToString(content));
 
+    if (decorators == null) {
+      return builder.build();
+    }
+
+    for (ArtifactDecorator decorator : decorators) {
+      builder = decorator.decorate(builder);
+    }
+
+    return builder.build();
+  }
+
+  private byte[] getContent(ArtifactReferenceURI uri) {
     log.debug("Attempting to get artifact reference={} s3Key={}", uri.uri(), uri.paths());
     GetObjectRequest request = GetObjectRequest.builder().bucket(bucket).key(uri.paths()).build();
 
     try {
       ResponseBytes<GetObjectResponse> resp = s3Client.getObjectAsBytes(request);
-      Artifact.ArtifactBuilder builder =
-          Artifact.builder()
-              .type(ArtifactTypes.REMOTE_BASE64.getMimeType())
-              .reference(Base64.getEncoder().encodeToString(resp.asByteArray()));
-
-      if (decorators == null) {
-        return builder.build();
-      }
-
-      for (ArtifactDecorator decorator : decorators) {
-        builder = decorator.decorate(builder);
-      }
-
-      return builder.build();
+      return resp.asByteArray();
     } catch (SdkServiceException e) {
       throw new ResponseStatusException(e.statusCode(), getErrorMessage(uri, e), e);
     } catch (Exception e) {
@@ -96,30 +130,35 @@ public class S3ArtifactStoreGetter implements ArtifactStoreGetter {
   }
 
   /**
-   * hasAuthorization will ensure that the user has proper permissions for retrieving the stored
-   * artifact
-   *
-   * @throws AuthenticationServiceException when user does not have correct permissions
+   * @return the application that stored the artifact, or null if it is not tagged with one
    */
-  private void hasAuthorization(ArtifactReferenceURI uri, String userId) {
+  private String getApplication(ArtifactReferenceURI uri) {
     GetObjectTaggingRequest request =
         GetObjectTaggingRequest.builder().bucket(bucket).key(uri.paths()).build();
 
     GetObjectTaggingResponse resp = s3Client.getObjectTagging(request);
-    Tag tag =
-        resp.tagSet().stream()
-            .filter(t -> t.key().equals(ENFORCE_PERMS_KEY))
-            .findFirst()
-            .orElse(null);
+    return resp.tagSet().stream()
+        .filter(t -> t.key().equals(ENFORCE_PERMS_KEY))
+        .map(Tag::value)
+        .findFirst()
+        .orElse(null);
+  }
 
-    if (tag == null
+  /**
+   * hasAuthorization will ensure that the user has proper permissions for retrieving the stored
+   * artifact
+   *
+   * @throws AuthenticationServiceException when user does not have correct permissions
+   */
+  private void hasAuthorization(String userId, String application) {
+    if (application == null
         || (userPermissionEvaluator != null
             && !userPermissionEvaluator.hasPermission(
-                userId, tag.value(), "application", "READ"))) {
+                userId, application, "application", "READ"))) {
       log.error(
           "Could not authenticate to retrieve artifact user={} applicationOfStoredArtifact={}",
           userId,
-          (tag == null) ? "(none)" : tag.value());
+          (application == null) ? "(none)" : application);
       throw new AuthenticationServiceException(
           userId + " does not have permission to access this artifact");
     }
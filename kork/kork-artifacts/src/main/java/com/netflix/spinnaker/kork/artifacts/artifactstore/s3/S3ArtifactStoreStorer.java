@@ -20,6 +20,8 @@ import static com.netflix.spinnaker.kork.artifacts.artifactstore.s3.S3ArtifactSt
 import com.netflix.spinnaker.kork.artifacts.ArtifactTypes;
 import com.netflix.spinnaker.kork.artifacts.artifactstore.ArtifactDecorator;
 import com.netflix.spinnaker.kork.artifacts.artifactstore.ArtifactReferenceURI;
+import com.netflix.spinnaker.kork.artifacts.artifactstore.ArtifactStoreCache;
+import com.netflix.spinnaker.kork.artifacts.artifactstore.ArtifactStoreCache.CachedArtifact;
 import com.netflix.spinnaker.kork.artifacts.artifactstore.ArtifactStoreStorer;
 import com.netflix.spinnaker.kork.artifacts.artifactstore.ArtifactStoreURIBuilder;
 import com.netflix.spinnaker.kork.artifacts.model.Artifact;
@@ -49,12 +51,27 @@ public class S3ArtifactStoreStorer implements ArtifactStoreStorer {
   private final String bucket;
   private final ArtifactStoreURIBuilder uriBuilder;
   private final Pattern applicationsPattern;
+  private final ArtifactStoreCache cache;
 
   public S3ArtifactStoreStorer(
       S3Client s3Client,
       String bucket,
       ArtifactStoreURIBuilder uriBuilder,
       String applicationsRegex) {
+    this(s3Client, bucket, uriBuilder, applicationsRegex, null);
+  }
+
+  /**
+   * @param cache optional local cache of stored artifacts, used to skip storing references that
+   *     are already known to exist
+   */
+  public S3ArtifactStoreStorer(
+      S3Client s3Client,
+      String bucket,
+      ArtifactStoreURIBuilder uriBuilder,
+      String applicationsRegex,
+      ArtifactStoreCache cache) {
+    this.cache = cache;
     this.s3Client = s3Client;
     this.bucket = bucket;
     this.uriBuilder = uriBuilder;
@@ -106,9 +123,17 @@ public class S3ArtifactStoreStorer implements ArtifactStoreStorer {
     }
 
     Artifact remoteArtifact = builder.build();
+    if (cache != null && cache.isKnownToExist(ref.uri())) {
+      log.debug("Artifact is known to exist. No need to store. reference={}", ref.uri());
+      return remoteArtifact;
+    }
+
     try {
       if (objectExists(ref)) {
         log.debug("Artifact exists. No need to store. reference={}", ref.uri());
+        if (cache != null) {
+          cache.markExists(ref.uri());
+        }
         return remoteArtifact;
       }
 
@@ -124,6 +149,9 @@ public class S3ArtifactStoreStorer implements ArtifactStoreStorer {
               .build();
 
       s3Client.putObject(request, RequestBody.fromBytes(referenceBytes));
+      if (cache != null) {
+        cache.put(ref.uri(), new CachedArtifact(referenceBytes, application));
+      }
     } catch (SdkServiceException e) {
       throw new ResponseStatusException(e.statusCode(), storeErrorMessage(ref.uri(), e), e);
     } catch (Exception e) {
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.netflix.spinnaker.kork.artifacts.artifactstore;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.netflix.spinnaker.kork.artifacts.artifactstore.ArtifactStoreCache.CachedArtifact;
+import com.netflix.spinnaker.kork.artifacts.artifactstore.ArtifactStoreConfigurationProperties.CacheConfig;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ArtifactStoreCacheTest {
+  private static final String URI = "ref://my-application/abc123";
+
+  @TempDir Path tempDir;
+
+  @Test
+  void cachedArtifactsAreKnownToExist() {
+    ArtifactStoreCache cache = new ArtifactStoreCache(config(null));
+
+    assertThat(cache.isKnownToExist(URI)).isFalse();
+    assertThat(cache.getIfPresent(URI)).isNull();
+
+    cache.put(URI, artifact("content"));
+
+    assertThat(cache.isKnownToExist(URI)).isTrue();
+    assertThat(cache.getIfPresent(URI).getContent())
+        .isEqualTo("content".getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void referencesCanBeKnownWithoutTheirContent() {
+    ArtifactStoreCache cache = new ArtifactStoreCache(config(null));
+
+    cache.markExists(URI);
+
+    assertThat(cache.isKnownToExist(URI)).isTrue();
+    assertThat(cache.getIfPresent(URI)).isNull();
+  }
+
+  @Test
+  void knownReferencesAreForgottenAfterTheyExpire() {
+    CacheConfig config = config(null);
+    config.setKnownReferencesExpireAfterWrite(Duration.ofMinutes(10));
+    AtomicLong nanos = new AtomicLong();
+    ArtifactStoreCache cache = new ArtifactStoreCache(config, nanos::get);
+
+    cache.put(URI, artifact("content"));
+    nanos.addAndGet(Duration.ofMinutes(11).toNanos());
+
+    assertThat(cache.isKnownToExist(URI)).isFalse();
+    assertThat(cache.getIfPresent(URI)).isNotNull();
+  }
+
+  @Test
+  void diskTierSurvivesANewCache() {
+    new ArtifactStoreCache(config(tempDir)).put(URI, artifact("content"));
+
+    CachedArtifact cached = new ArtifactStoreCache(config(tempDir)).getIfPresent(URI);
+
+    assertThat(cached).isNotNull();
+    assertThat(cached.getApplication()).isEqualTo("my-application");
+    assertThat(cached.getContent()).isEqualTo("content".getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void corruptDiskEntriesAreDiscarded() throws Exception {
+    new ArtifactStoreCache(config(tempDir)).put(URI, artifact("content"));
+    Path file = onlyFile();
+    Files.write(file, new byte[] {0x7f});
+
+    assertThat(new ArtifactStoreCache(config(tempDir)).getIfPresent(URI)).isNull();
+    assertThat(file).doesNotExist();
+  }
+
+  @Test
+  void leastRecentlyUsedDiskEntriesAreEvicted() throws Exception {
+    CacheConfig config = config(tempDir);
+    config.setMaxDiskBytes(150);
+    ArtifactStoreCache cache = new ArtifactStoreCache(config);
+
+    cache.put("ref://my-application/old", artifact("a".repeat(100)));
+    Files.setLastModifiedTime(onlyFile(), FileTime.fromMillis(0));
+    cache.put("ref://my-application/new", artifact("b".repeat(100)));
+
+    CachedArtifact cached = new ArtifactStoreCache(config).getIfPresent("ref://my-application/new");
+    assertThat(cached).isNotNull();
+    assertThat(new ArtifactStoreCache(config).getIfPresent("ref://my-application/old")).isNull();
+  }
+
+  private Path onlyFile() throws Exception {
+    try (Stream<Path> files = Files.list(tempDir)) {
+      return files.findFirst().orElseThrow();
+    }
+  }
+
+  private static CacheConfig config(Path diskDirectory) {
+    CacheConfig config = new CacheConfig();
+    config.setDiskDirectory(diskDirectory == null ? null : diskDirectory.toString());
+    return config;
+  }
+
+  private static CachedArtifact artifact(String content) {
+    return new CachedArtifact(content.getBytes(StandardCharsets.UTF_8), "my-application");
+  }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.netflix.spinnaker.kork.artifacts.artifactstore.s3;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ServiceClientConfiguration;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectTaggingRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectTaggingResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.model.Tag;
+
+/**
+ * A stand-in for S3 that stores objects in a local directory, implementing only the operations
+ * used by the artifact store. Counts the requests it serves so tests can assert which of them
+ * reached the store.
+ */
+class LocalFileSystemS3Client implements S3Client {
+  private final Path root;
+  private final Map<String, List<Tag>> tags = new ConcurrentHashMap<>();
+
+  final AtomicInteger getObjectRequests = new AtomicInteger();
+  final AtomicInteger getObjectTaggingRequests = new AtomicInteger();
+  final AtomicInteger listObjectsRequests = new AtomicInteger();
+  final AtomicInteger putObjectRequests = new AtomicInteger();
+
+  LocalFileSystemS3Client(Path root) {
+    this.root = root;
+  }
+
+  @Override
+  public PutObjectResponse putObject(PutObjectRequest request, RequestBody requestBody) {
+    putObjectRequests.incrementAndGet();
+    Path file = file(request.bucket(), request.key());
+    try (InputStream in = requestBody.contentStreamProvider().newStream()) {
+      Files.createDirectories(file.getParent());
+      Files.write(file, in.readAllBytes());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    tags.put(file.toString(), parseTagging(request.tagging()));
+    return PutObjectResponse.builder().build();
+  }
+
+  @Override
+  public ResponseBytes<GetObjectResponse> getObjectAsBytes(GetObjectRequest request) {
+    getObjectRequests.incrementAndGet();
+    Path file = existingFile(request.bucket(), request.key());
+    try {
+      byte[] content = Files.readAllBytes(file);
+      return ResponseBytes.fromByteArray(
+          GetObjectResponse.builder().contentLength((long) content.length).build(), content);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public GetObjectTaggingResponse getObjectTagging(GetObjectTaggingRequest request) {
+    getObjectTaggingRequests.incrementAndGet();
+    Path file = existingFile(request.bucket(), request.key());
+    return GetObjectTaggingResponse.builder()
+        .tagSet(tags.getOrDefault(file.toString(), List.of()))
+        .build();
+  }
+
+  @Override
+  public ListObjectsV2Response listObjectsV2(ListObjectsV2Request request) {
+    listObjectsRequests.incrementAndGet();
+    Path bucket = root.resolve(request.bucket());
+    if (!Files.isDirectory(bucket)) {
+      return ListObjectsV2Response.builder().build();
+    }
+
+    String prefix = request.prefix() == null ? "" : request.prefix();
+    int maxKeys = request.maxKeys() == null ? 1000 : request.maxKeys();
+    try (Stream<Path> files = Files.walk(bucket)) {
+      List<S3Object> contents =
+          files
+              .filter(Files::isRegularFile)
+              .map(f -> bucket.relativize(f).toString().replace('\\', '/'))
+              .filter(key -> key.startsWith(prefix))
+              .sorted()
+              .limit(maxKeys)
+              .map(key -> S3Object.builder().key(key).build())
+              .collect(Collectors.toList());
+      return ListObjectsV2Response.builder().contents(contents).keyCount(contents.size()).build();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public String serviceName() {
+    return SERVICE_NAME;
+  }
+
+  @Override
+  public S3ServiceClientConfiguration serviceClientConfiguration() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void close() {}
+
+  private Path file(String bucket, String key) {
+    return root.resolve(bucket).resolve(key);
+  }
+
+  private Path existingFile(String bucket, String key) {
+    Path file = file(bucket, key);
+    if (!Files.isRegularFile(file)) {
+      throw NoSuchKeyException.builder()
+          .statusCode(404)
+          .message("The specified key does not exist: " + key)
+          .build();
+    }
+    return file;
+  }
+
+  /** Parses tags in the URL query format used by {@link PutObjectRequest#tagging()}. */
+  private static List<Tag> parseTagging(String tagging) {
+    if (tagging == null || tagging.isEmpty()) {
+      return List.of();
+    }
+    return Stream.of(tagging.split("&"))
+        .map(pair -> pair.split("=", 2))
+        .map(
+            pair ->
+                Tag.builder()
+                    .key(URLDecoder.decode(pair[0], StandardCharsets.UTF_8))
+                    .value(
+                        pair.length > 1 ? URLDecoder.decode(pair[1], StandardCharsets.UTF_8) : "")
+                    .build())
+        .collect(Collectors.toList());
+  }
+}
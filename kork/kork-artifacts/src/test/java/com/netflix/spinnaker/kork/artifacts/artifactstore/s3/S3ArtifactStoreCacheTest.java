@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.netflix.spinnaker.kork.artifacts.artifactstore.s3;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.netflix.spinnaker.kork.artifacts.ArtifactTypes;
+import com.netflix.spinnaker.kork.artifacts.artifactstore.ArtifactReferenceURI;
+import com.netflix.spinnaker.kork.artifacts.artifactstore.ArtifactStoreCache;
+import com.netflix.spinnaker.kork.artifacts.artifactstore.ArtifactStoreConfigurationProperties;
+import com.netflix.spinnaker.kork.artifacts.artifactstore.ArtifactStoreURISHA256Builder;
+import com.netflix.spinnaker.kork.artifacts.model.Artifact;
+import com.netflix.spinnaker.kork.common.Header;
+import com.netflix.spinnaker.security.AuthenticatedRequest;
+import com.netflix.spinnaker.security.UserPermissionEvaluator;
+import java.nio.file.Path;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+class S3ArtifactStoreCacheTest {
+  private static final String BUCKET = "my-bucket";
+  private static final String APPLICATION = "my-application";
+  private static final String USER = "my-user";
+  private static final String REFERENCE = "aGVsbG8gd29ybGQK";
+
+  @TempDir Path tempDir;
+
+  private LocalFileSystemS3Client client;
+  private UserPermissionEvaluator userPermissionEvaluator;
+  private ArtifactStoreCache cache;
+
+  @BeforeEach
+  void setup() {
+    client = new LocalFileSystemS3Client(tempDir);
+    userPermissionEvaluator = mock(UserPermissionEvaluator.class);
+    when(userPermissionEvaluator.hasPermission(
+            eq(USER), eq(APPLICATION), eq("application"), eq("READ")))
+        .thenReturn(true);
+    cache = new ArtifactStoreCache(new ArtifactStoreConfigurationProperties.CacheConfig());
+
+    AuthenticatedRequest.set(Header.APPLICATION, APPLICATION);
+    AuthenticatedRequest.set(Header.USER, USER);
+  }
+
+  @AfterEach
+  void cleanup() {
+    AuthenticatedRequest.clear();
+  }
+
+  @Test
+  void repeatedReadsAreServedFromTheCache() {
+    Artifact stored = storer(null).store(embeddedArtifact());
+    S3ArtifactStoreGetter getter = getter();
+
+    Artifact first = getter.get(ArtifactReferenceURI.parse(stored.getReference()));
+    Artifact second = getter.get(ArtifactReferenceURI.parse(stored.getReference()));
+
+    assertThat(first.getReference()).isEqualTo(REFERENCE);
+    assertThat(second.getReference()).isEqualTo(REFERENCE);
+    assertThat(client.getObjectRequests).hasValue(1);
+    assertThat(client.getObjectTaggingRequests).hasValue(1);
+    verify(userPermissionEvaluator, times(2))
+        .hasPermission(eq(USER), eq(APPLICATION), eq("application"), eq("READ"));
+  }
+
+  @Test
+  void storedArtifactsAreReadWithoutReachingTheStore() {
+    Artifact stored = storer(cache).store(embeddedArtifact());
+
+    Artifact artifact = getter().get(ArtifactReferenceURI.parse(stored.getReference()));
+
+    assertThat(artifact.getReference()).isEqualTo(REFERENCE);
+    assertThat(client.getObjectRequests).hasValue(0);
+    assertThat(client.getObjectTaggingRequests).hasValue(0);
+  }
+
+  @Test
+  void cachedReadsStillRequirePermission() {
+    Artifact stored = storer(cache).store(embeddedArtifact());
+    AuthenticatedRequest.set(Header.USER, "another-user");
+
+    S3ArtifactStoreGetter getter = getter();
+
+    assertThatThrownBy(() -> getter.get(ArtifactReferenceURI.parse(stored.getReference())))
+        .isInstanceOf(AuthenticationServiceException.class);
+  }
+
+  @Test
+  void knownReferencesAreNotStoredAgain() {
+    S3ArtifactStoreStorer storer = storer(cache);
+
+    Artifact first = storer.store(embeddedArtifact());
+    Artifact second = storer.store(embeddedArtifact());
+
+    assertThat(second.getReference()).isEqualTo(first.getReference());
+    assertThat(client.listObjectsRequests).hasValue(1);
+    assertThat(client.putObjectRequests).hasValue(1);
+  }
+
+  @Test
+  void existingReferencesAreRemembered() {
+    storer(null).store(embeddedArtifact());
+    S3ArtifactStoreStorer storer = storer(cache);
+
+    storer.store(embeddedArtifact());
+    storer.store(embeddedArtifact());
+
+    // one check by each storer, the second store by the caching storer is skipped
+    assertThat(client.listObjectsRequests).hasValue(2);
+    assertThat(client.putObjectRequests).hasValue(1);
+  }
+
+  private S3ArtifactStoreGetter getter() {
+    return new S3ArtifactStoreGetter(client, userPermissionEvaluator, BUCKET, cache);
+  }
+
+  private S3ArtifactStoreStorer storer(ArtifactStoreCache cache) {
+    return new S3ArtifactStoreStorer(
+        client, BUCKET, new ArtifactStoreURISHA256Builder(), null, cache);
+  }
+
+  private static Artifact embeddedArtifact() {
+    return Artifact.builder()
+        .type(ArtifactTypes.EMBEDDED_BASE64.getMimeType())
+        .reference(REFERENCE)
+        .build();
+  }
+}
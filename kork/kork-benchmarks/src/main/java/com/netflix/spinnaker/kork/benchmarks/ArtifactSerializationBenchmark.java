@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.kork.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.netflix.spinnaker.kork.artifacts.model.Artifact;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Round trips the {@link Artifact}s that are passed between services with every trigger. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ArtifactSerializationBenchmark {
+  private static final TypeReference<List<Artifact>> ARTIFACTS = new TypeReference<>() {};
+
+  private ObjectMapper objectMapper;
+  private String json;
+  private List<Artifact> artifacts;
+
+  @Setup
+  public void setup() throws JsonProcessingException {
+    objectMapper = new ObjectMapper();
+    json = Fixtures.read("artifacts.json");
+    artifacts = objectMapper.readValue(json, ARTIFACTS);
+  }
+
+  @Benchmark
+  public List<Artifact> read() throws JsonProcessingException {
+    return objectMapper.readValue(json, ARTIFACTS);
+  }
+
+  @Benchmark
+  public String write() throws JsonProcessingException {
+    return objectMapper.writeValueAsString(artifacts);
+  }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.kork.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares a JMH json result file with a baseline recorded by an earlier run, writing a markdown
+ * table of the differences.
+ *
+ * <p>Exits with status 1 if any benchmark regressed by more than the threshold (a percentage), so
+ * it can gate a build. Benchmarks that are only present in one of the files are reported but never
+ * fail the comparison.
+ */
+public final class BaselineReport {
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private final List<Comparison> comparisons;
+  private final double thresholdPercent;
+
+  BaselineReport(List<Comparison> comparisons, double thresholdPercent) {
+    this.comparisons = comparisons;
+    this.thresholdPercent = thresholdPercent;
+  }
+
+  public static void main(String[] args) throws IOException {
+    if (args.length != 4) {
+      System.err.println("Usage: BaselineReport <baseline> <results> <report> <thresholdPercent>");
+      System.exit(2);
+    }
+
+    Path baseline = Path.of(args[0]);
+    Path results = Path.of(args[1]);
+    if (!Files.exists(baseline)) {
+      System.err.printf(
+          "No baseline at %s, record one by copying the results of a jmh run (%s)%n",
+          baseline, results);
+      System.exit(2);
+    }
+    if (!Files.exists(results)) {
+      System.err.printf("No results at %s, run the jmh task first%n", results);
+      System.exit(2);
+    }
+
+    BaselineReport report =
+        compare(
+            parse(Files.readString(baseline)),
+            parse(Files.readString(results)),
+            Double.parseDouble(args[3]));
+    String markdown = report.toMarkdown();
+
+    Path reportPath = Path.of(args[2]);
+    if (reportPath.getParent() != null) {
+      Files.createDirectories(reportPath.getParent());
+    }
+    Files.writeString(reportPath, markdown);
+    System.out.println(markdown);
+
+    if (report.hasRegressions()) {
+      System.exit(1);
+    }
+  }
+
+  /** Parses JMH json output, keyed by benchmark name and (sorted) parameters. */
+  static Map<String, Score> parse(String json) throws IOException {
+    Map<String, Score> scores = new LinkedHashMap<>();
+    for (JsonNode result : MAPPER.readTree(json)) {
+      StringBuilder key = new StringBuilder(result.path("benchmark").asText());
+      JsonNode params = result.path("params");
+      if (params.isObject()) {
+        Map<String, String> sorted = new TreeMap<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = params.fields();
+        while (fields.hasNext()) {
+          Map.Entry<String, JsonNode> field = fields.next();
+          sorted.put(field.getKey(), field.getValue().asText());
+        }
+        sorted.forEach((name, value) -> key.append(':').append(name).append('=').append(value));
+      }
+
+      JsonNode metric = result.path("primaryMetric");
+      scores.put(
+          key.toString(),
+          new Score(
+              result.path("mode").asText(),
+              metric.path("score").asDouble(),
+              metric.path("scoreError").asDouble(Double.NaN),
+              metric.path("scoreUnit").asText()));
+    }
+    return scores;
+  }
+
+  static BaselineReport compare(
+      Map<String, Score> baseline, Map<String, Score> results, double thresholdPercent) {
+    Map<String, Comparison> comparisons = new TreeMap<>();
+    baseline.forEach((key, score) -> comparisons.put(key, new Comparison(key, score, null)));
+    results.forEach(
+        (key, score) ->
+            comparisons.merge(
+                key,
+                new Comparison(key, null, score),
+                (b, r) -> new Comparison(key, b.baseline(), r.result())));
+    return new BaselineReport(new ArrayList<>(comparisons.values()), thresholdPercent);
+  }
+
+  List<Comparison> getComparisons() {
+    return comparisons;
+  }
+
+  boolean hasRegressions() {
+    return comparisons.stream().anyMatch(c -> c.isRegression(thresholdPercent));
+  }
+
+  String toMarkdown() {
+    StringBuilder markdown = new StringBuilder();
+    markdown
+        .append("| Benchmark | Mode | Baseline | Result | Change | |\n")
+        .append("|---|---|---:|---:|---:|---|\n");
+    for (Comparison comparison : comparisons) {
+      Score any = comparison.result() != null ? comparison.result() : comparison.baseline();
+      markdown
+          .append("| ")
+          .append(comparison.key())
+          .append(" | ")
+          .append(any.mode())
+          .append(" | ")
+          .append(format(comparison.baseline()))
+          .append(" | ")
+          .append(format(comparison.result()))
+          .append(" | ")
+          .append(
+              comparison.isComparable()
+                  ? String.format(Locale.ROOT, "%+.1f%%", comparison.changePercent())
+                  : "")
+          .append(" | ")
+          .append(status(comparison))
+          .append(" |\n");
+    }
+    markdown.append(
+        String.format(
+            Locale.ROOT,
+            "%nRegression threshold: %.1f%%, %s%n",
+            thresholdPercent,
+            hasRegressions() ? "**regressions found**" : "no regressions"));
+    return markdown.toString();
+  }
+
+  private String status(Comparison comparison) {
+    if (comparison.baseline() == null) {
+      return "new";
+    }
+    if (comparison.result() == null) {
+      return "missing";
+    }
+    return comparison.isRegression(thresholdPercent) ? "**regression**" : "";
+  }
+
+  private static String format(Score score) {
+    if (score == null) {
+      return "-";
+    }
+    if (Double.isNaN(score.error())) {
+      return String.format(Locale.ROOT, "%.3f %s", score.score(), score.unit());
+    }
+    return String.format(
+        Locale.ROOT, "%.3f ± %.3f %s", score.score(), score.error(), score.unit());
+  }
+
+  record Score(String mode, double score, double error, String unit) {
+    /** Throughput is the only JMH mode where a higher score is better. */
+    boolean higherIsBetter() {
+      return "thrpt".equals(mode);
+    }
+  }
+
+  record Comparison(String key, Score baseline, Score result) {
+    boolean isComparable() {
+      return baseline != null
+          && result != null
+          && baseline.unit().equals(result.unit())
+          && baseline.score() != 0;
+    }
+
+    /** The change of the score relative to the baseline, regardless of the mode. */
+    double changePercent() {
+      return (result.score() - baseline.score()) / baseline.score() * 100;
+    }
+
+    boolean isRegression(double thresholdPercent) {
+      if (!isComparable()) {
+        return false;
+      }
+      double change = changePercent();
+      return (baseline.higherIsBetter() ? -change : change) > thresholdPercent;
+    }
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.kork.benchmarks;
+
+import com.netflix.spinnaker.kork.expressions.ExpressionEvaluationSummary;
+import com.netflix.spinnaker.kork.expressions.ExpressionTransform;
+import com.netflix.spinnaker.kork.expressions.ExpressionsSupport;
+import com.netflix.spinnaker.kork.expressions.config.ExpressionProperties;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.common.TemplateParserContext;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+/**
+ * Evaluates the SpEL expressions of a pipeline-like map against an execution, the way orca
+ * evaluates stage contexts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExpressionsBenchmark {
+  private ExpressionsSupport expressionsSupport;
+  private ExpressionTransform expressionTransform;
+  private Map<String, Object> execution;
+  private Map<String, Object> expressions;
+  private EvaluationContext evaluationContext;
+
+  @Setup
+  public void setup() {
+    expressionsSupport =
+        new ExpressionsSupport(new Class[0], null, null, new ExpressionProperties());
+    expressionTransform =
+        new ExpressionTransform(
+            new TemplateParserContext("${", "}"), new SpelExpressionParser(), Function.identity());
+    execution = Fixtures.readMap("execution.json");
+    expressions = Fixtures.readMap("expressions.json");
+    evaluationContext = expressionsSupport.buildEvaluationContext(execution, true);
+  }
+
+  @Benchmark
+  public EvaluationContext buildEvaluationContext() {
+    return expressionsSupport.buildEvaluationContext(execution, true);
+  }
+
+  @Benchmark
+  public Map<String, Object> transformMap() {
+    return expressionTransform.transformMap(
+        expressions, evaluationContext, new ExpressionEvaluationSummary());
+  }
+
+  @Benchmark
+  public String transformString() {
+    return expressionTransform.transformString(
+        "benchmark-${trigger.parameters.version}-h${trigger.buildNumber}",
+        evaluationContext,
+        new ExpressionEvaluationSummary());
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.kork.benchmarks;
+
+import com.netflix.spectator.api.DefaultRegistry;
+import com.netflix.spinnaker.kork.jedis.telemetry.InstrumentedJedis;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import redis.clients.jedis.Jedis;
+
+/**
+ * Measures the overhead {@link InstrumentedJedis} adds to a command, using a {@link Jedis} whose
+ * commands return without touching the network.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InstrumentedJedisBenchmark {
+  /** How often percentile timers are recorded, see {@link InstrumentedJedis}. */
+  @Param({"1", "100"})
+  public int percentileSampleRate;
+
+  private Jedis direct;
+  private Jedis instrumented;
+
+  @Setup
+  public void setup() {
+    direct = new StubJedis();
+    instrumented =
+        new InstrumentedJedis(new DefaultRegistry(), direct, "benchmark", percentileSampleRate);
+  }
+
+  @Benchmark
+  public String directGet() {
+    return direct.get("key");
+  }
+
+  @Benchmark
+  public String instrumentedGet() {
+    return instrumented.get("key");
+  }
+
+  @Benchmark
+  public String instrumentedSet() {
+    return instrumented.set("key", "value");
+  }
+
+  private static class StubJedis extends Jedis {
+    @Override
+    public String get(String key) {
+      return "value";
+    }
+
+    @Override
+    public String set(String key, String value) {
+      return "OK";
+    }
+  }
+}
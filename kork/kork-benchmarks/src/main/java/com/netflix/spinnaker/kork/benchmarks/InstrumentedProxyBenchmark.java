@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.kork.benchmarks;
+
+import com.netflix.spectator.api.DefaultRegistry;
+import com.netflix.spinnaker.kork.telemetry.InstrumentedProxy;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Compares calls through each {@link InstrumentedProxy.Mode} with calling the target directly. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InstrumentedProxyBenchmark {
+  @Param({"REFLECTION", "METHOD_HANDLE"})
+  public InstrumentedProxy.Mode mode;
+
+  private Lookup direct;
+  private Lookup proxied;
+
+  @Setup
+  public void setup() {
+    direct = new MapLookup();
+    proxied =
+        InstrumentedProxy.proxy(new DefaultRegistry(), direct, "benchmark", new HashMap<>(), mode);
+  }
+
+  @Benchmark
+  public String direct() {
+    return direct.lookup("key");
+  }
+
+  @Benchmark
+  public String proxied() {
+    return proxied.lookup("key");
+  }
+
+  public interface Lookup {
+    String lookup(String key);
+  }
+
+  private static class MapLookup implements Lookup {
+    @Override
+    public String lookup(String key) {
+      return key.isEmpty() ? null : "value";
+    }
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.kork.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Reads and writes a pipeline execution with each of the {@link ObjectMapperConfigurations}. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ObjectMapperBenchmark {
+  @Param({"DEFAULT", "ECHO", "ORCA"})
+  public ObjectMapperConfigurations configuration;
+
+  private ObjectMapper objectMapper;
+  private String json;
+  private Map<String, Object> execution;
+
+  @Setup
+  public void setup() throws JsonProcessingException {
+    objectMapper = configuration.newInstance();
+    json = Fixtures.read("execution.json");
+    execution = objectMapper.readValue(json, Map.class);
+  }
+
+  @Benchmark
+  public Map<?, ?> readMap() throws JsonProcessingException {
+    return objectMapper.readValue(json, Map.class);
+  }
+
+  @Benchmark
+  public JsonNode readTree() throws JsonProcessingException {
+    return objectMapper.readTree(json);
+  }
+
+  @Benchmark
+  public String write() throws JsonProcessingException {
+    return objectMapper.writeValueAsString(execution);
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.kork.benchmarks;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES;
+import static com.fasterxml.jackson.databind.DeserializationFeature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS;
+import static com.fasterxml.jackson.databind.DeserializationFeature.READ_UNKNOWN_ENUM_VALUES_USING_DEFAULT_VALUE;
+import static com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.guava.GuavaModule;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.kotlin.KotlinModule;
+import java.util.function.Supplier;
+
+/**
+ * The {@link ObjectMapper} configurations used by the services, so they can be compared with each
+ * other.
+ *
+ * <p>kork cannot depend on the services, so {@link #ECHO} and {@link #ORCA} mirror the
+ * configuration of {@code EchoObjectMapper} and {@code OrcaObjectMapper} without their service
+ * specific mixins and (de)serializers. Keep them in sync when those mappers change.
+ */
+public enum ObjectMapperConfigurations {
+  DEFAULT(ObjectMapper::new),
+
+  ECHO(
+      () ->
+          new ObjectMapper(relaxedFactory())
+              .registerModule(new Jdk8Module())
+              .registerModule(new JavaTimeModule())
+              .disable(FAIL_ON_UNKNOWN_PROPERTIES)
+              .setSerializationInclusion(NON_NULL)),
+
+  ORCA(
+      () -> {
+        ObjectMapper instance = new ObjectMapper(relaxedFactory());
+        instance.registerModule(new Jdk8Module());
+        instance.registerModule(new GuavaModule());
+        instance.registerModule(new JavaTimeModule());
+        instance.registerModule(new KotlinModule.Builder().build());
+        instance.disable(READ_DATE_TIMESTAMPS_AS_NANOSECONDS);
+        instance.disable(WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS);
+        instance.disable(FAIL_ON_UNKNOWN_PROPERTIES);
+        instance.enable(READ_UNKNOWN_ENUM_VALUES_USING_DEFAULT_VALUE);
+        instance.setDefaultPropertyInclusion(NON_NULL);
+        return instance;
+      });
+
+  private final Supplier<ObjectMapper> factory;
+
+  ObjectMapperConfigurations(Supplier<ObjectMapper> factory) {
+    this.factory = factory;
+  }
+
+  public ObjectMapper newInstance() {
+    return factory.get();
+  }
+
+  /** The stream read constraints shared by echo and orca. */
+  private static JsonFactory relaxedFactory() {
+    return JsonFactory.builder()
+        .streamReadConstraints(
+            StreamReadConstraints.builder()
+                .maxNameLength(200_000)
+                .maxStringLength(50_000_000)
+                .maxNestingDepth(2_000)
+                .maxNumberLength(5_000)
+                .maxDocumentLength(-1)
+                .build())
+        .build();
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.kork.benchmarks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class BaselineReportTest {
+  private static final String BASELINE =
+      "["
+          + result("a.Throughput.read", "thrpt", "{\"configuration\":\"ORCA\"}", 1000, "ops/s")
+          + ","
+          + result("a.Latency.get", "avgt", "{\"rate\":\"1\",\"mode\":\"X\"}", 100, "ns/op")
+          + ","
+          + result("a.Removed.get", "avgt", "{}", 100, "ns/op")
+          + "]";
+
+  @Test
+  void keysIncludeSortedParams() throws IOException {
+    Map<String, BaselineReport.Score> scores = BaselineReport.parse(BASELINE);
+
+    assertThat(scores)
+        .containsOnlyKeys(
+            "a.Throughput.read:configuration=ORCA", "a.Latency.get:mode=X:rate=1", "a.Removed.get");
+    assertThat(scores.get("a.Latency.get:mode=X:rate=1").score()).isEqualTo(100);
+  }
+
+  @Test
+  void changesWithinThresholdAreNotRegressions() throws IOException {
+    String results =
+        "["
+            + result("a.Throughput.read", "thrpt", "{\"configuration\":\"ORCA\"}", 950, "ops/s")
+            + ","
+            + result("a.Latency.get", "avgt", "{\"mode\":\"X\",\"rate\":\"1\"}", 105, "ns/op")
+            + "]";
+
+    BaselineReport report =
+        BaselineReport.compare(BaselineReport.parse(BASELINE), BaselineReport.parse(results), 10);
+
+    assertThat(report.hasRegressions()).isFalse();
+    assertThat(report.toMarkdown()).contains("-5.0%", "+5.0%", "missing", "no regressions");
+  }
+
+  @Test
+  void lowerThroughputIsARegression() throws IOException {
+    String results =
+        "["
+            + result("a.Throughput.read", "thrpt", "{\"configuration\":\"ORCA\"}", 800, "ops/s")
+            + "]";
+
+    BaselineReport report =
+        BaselineReport.compare(BaselineReport.parse(BASELINE), BaselineReport.parse(results), 10);
+
+    assertThat(report.hasRegressions()).isTrue();
+    assertThat(report.toMarkdown()).contains("-20.0%", "**regression**");
+  }
+
+  @Test
+  void higherAverageTimeIsARegression() throws IOException {
+    String results =
+        "["
+            + result("a.Latency.get", "avgt", "{\"rate\":\"1\",\"mode\":\"X\"}", 150, "ns/op")
+            + ","
+            + result("a.New.get", "avgt", "{}", 10, "ns/op")
+            + "]";
+
+    BaselineReport report =
+        BaselineReport.compare(BaselineReport.parse(BASELINE), BaselineReport.parse(results), 10);
+
+    assertThat(report.hasRegressions()).isTrue();
+    assertThat(report.toMarkdown()).contains("+50.0%", "| new |");
+  }
+
+  @Test
+  void fasterAverageTimeIsNotARegression() throws IOException {
+    String results = "[" + result("a.Removed.get", "avgt", "{}", 50, "ns/op") + "]";
+
+    BaselineReport report =
+        BaselineReport.compare(BaselineReport.parse(BASELINE), BaselineReport.parse(results), 10);
+
+    assertThat(report.hasRegressions()).isFalse();
+  }
+
+  private static String result(
+      String benchmark, String mode, String params, double score, String unit) {
+    return String.format(
+        Locale.ROOT,
+        "{\"benchmark\":\"%s\",\"mode\":\"%s\",\"params\":%s,"
+            + "\"primaryMetric\":{\"score\":%s,\"scoreError\":1.0,\"scoreUnit\":\"%s\"}}",
+        benchmark,
+        mode,
+        params,
+        score,
+        unit);
+  }
+}
@@ -20,8 +20,15 @@ import com.netflix.spinnaker.credentials.Credentials;
 import com.netflix.spinnaker.credentials.CredentialsRepository;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
@@ -30,6 +37,10 @@ import lombok.extern.slf4j.Slf4j;
  * CredentialsLoader that expects the full list of credentials on each load, and updates the
  * credential repository on each run. It can be run once or multiple times.
  *
+ * <p>Definitions that have not changed since they were last loaded are not parsed again. They are
+ * compared with {@link Object#equals(Object)} unless a {@link #setDefinitionFingerprint definition
+ * fingerprint} is set, in which case their fingerprints are compared instead.
+ *
  * @param <T>
  * @param <U>
  */
@@ -46,8 +57,27 @@ public class BasicCredentialsLoader<T extends CredentialsDefinition, U extends C
    */
   @Setter @Getter protected boolean parallel;
 
+  /**
+   * When greater than one, changed definitions are parsed and applied on a pool of this many
+   * threads, bounding the number of credentials of this type loaded at once. This takes precedence
+   * over {@link #parallel} and, unlike it, also parallelizes parsing. The pool is kept by the
+   * loader across loads, its threads exit when they have been idle for a minute.
+   */
+  @Setter @Getter protected int parallelism = 1;
+
+  /**
+   * Computes a fingerprint of a definition's content (e.g. a hash of its serialized form), used to
+   * detect changes to definitions that do not implement {@link Object#equals(Object)}. A null
+   * fingerprint falls back to comparing the definitions themselves.
+   */
+  @Setter protected Function<? super T, ?> definitionFingerprint;
+
   // Definition is kept so we can quickly check for changes before parsing
   protected final Map<String, T> loadedDefinitions = new ConcurrentHashMap<>();
+  private final Map<String, Object> loadedFingerprints = new ConcurrentHashMap<>();
+
+  private final AtomicInteger threadCount = new AtomicInteger();
+  private ThreadPoolExecutor executor;
 
   public BasicCredentialsLoader(
       CredentialsDefinitionSource<T> definitionSource,
@@ -79,40 +109,134 @@ public class BasicCredentialsLoader<T extends CredentialsDefinition, U extends C
         .map(Credentials::getName)
         .filter(name -> !definitionNames.contains(name))
         .peek(loadedDefinitions::remove)
+        .peek(loadedFingerprints::remove)
         .forEach(credentialsRepository::delete);
 
+    if (parallelism > 1) {
+      parseAndApplyConcurrently(definitions);
+      return;
+    }
+
     List<Map.Entry<T, U>> toApply = new ArrayList<>();
 
     for (T definition : definitions) {
-      T loadedDefinition = loadedDefinitions.get(definition.getName());
-      if (loadedDefinition == null || !loadedDefinition.equals(definition)) {
-        try {
-          U cred = parser.parse(definition);
-          if (cred != null) {
-            toApply.add(Map.entry(definition, cred));
-          }
-        } catch (RuntimeException e) {
-          log.error(
-              "Error parsing credentials definition '{}'; will retry on next load",
-              definition.getName(),
-              e);
+      if (!isLoaded(definition)) {
+        U cred = parseDefinition(definition);
+        if (cred != null) {
+          toApply.add(Map.entry(definition, cred));
+        }
+      }
+    }
+
+    (parallel ? toApply.parallelStream() : toApply.stream())
+        .forEach(entry -> apply(entry.getKey(), entry.getValue()));
+  }
+
+  /**
+   * @return true if an identical definition has already been loaded into the repository
+   */
+  protected boolean isLoaded(T definition) {
+    T loadedDefinition = loadedDefinitions.get(definition.getName());
+    if (loadedDefinition == null) {
+      return false;
+    }
+    Object loadedFingerprint = loadedFingerprints.get(definition.getName());
+    if (loadedFingerprint != null) {
+      return loadedFingerprint.equals(fingerprint(definition));
+    }
+    return loadedDefinition.equals(definition);
+  }
+
+  private synchronized ExecutorService getExecutor() {
+    if (executor == null) {
+      String type = credentialsRepository.getType();
+      executor =
+          new ThreadPoolExecutor(
+              parallelism,
+              parallelism,
+              1,
+              TimeUnit.MINUTES,
+              new LinkedBlockingQueue<>(),
+              runnable -> {
+                String name = "credentialsLoader-" + type + "-" + threadCount.getAndIncrement();
+                Thread thread = new Thread(runnable, name);
+                thread.setDaemon(true);
+                return thread;
+              });
+      executor.allowCoreThreadTimeOut(true);
+    } else if (executor.getMaximumPoolSize() != parallelism) {
+      // the parallelism was changed since the last load
+      if (parallelism > executor.getMaximumPoolSize()) {
+        executor.setMaximumPoolSize(parallelism);
+        executor.setCorePoolSize(parallelism);
+      } else {
+        executor.setCorePoolSize(parallelism);
+        executor.setMaximumPoolSize(parallelism);
+      }
+    }
+    return executor;
+  }
+
+  private void parseAndApplyConcurrently(Collection<T> definitions) {
+    String type = credentialsRepository.getType();
+    ExecutorService executor = getExecutor();
+    List<Future<?>> futures = new ArrayList<>();
+
+    try {
+      for (T definition : definitions) {
+        if (!isLoaded(definition)) {
+          futures.add(
+              executor.submit(
+                  () -> {
+                    U cred = parseDefinition(definition);
+                    if (cred != null) {
+                      apply(definition, cred);
+                    }
+                  }));
         }
       }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } catch (InterruptedException e) {
+      futures.forEach(future -> future.cancel(true));
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException e) {
+      // parse and apply failures are logged by each task, this is unexpected
+      log.error("Error loading {} credentials", type, e.getCause());
     }
+  }
+
+  private U parseDefinition(T definition) {
+    try {
+      return parser.parse(definition);
+    } catch (RuntimeException e) {
+      log.error(
+          "Error parsing credentials definition '{}'; will retry on next load",
+          definition.getName(),
+          e);
+      return null;
+    }
+  }
+
+  private void apply(T definition, U credentials) {
+    try {
+      credentialsRepository.save(credentials);
+      // Only mark the definition as loaded once it has been stored in the repository;
+      // otherwise a failed save would never be retried on subsequent loads
+      loadedDefinitions.put(definition.getName(), definition);
+      Object fingerprint = fingerprint(definition);
+      if (fingerprint != null) {
+        loadedFingerprints.put(definition.getName(), fingerprint);
+      } else {
+        loadedFingerprints.remove(definition.getName());
+      }
+    } catch (RuntimeException e) {
+      log.error("Error saving credentials '{}'; will retry on next load", definition.getName(), e);
+    }
+  }
 
-    Stream<Map.Entry<T, U>> stream = parallel ? toApply.parallelStream() : toApply.stream();
-    stream.forEach(
-        entry -> {
-          T definition = entry.getKey();
-          try {
-            credentialsRepository.save(entry.getValue());
-            // Only mark the definition as loaded once it has been stored in the repository;
-            // otherwise a failed save would never be retried on subsequent loads
-            loadedDefinitions.put(definition.getName(), definition);
-          } catch (RuntimeException e) {
-            log.error(
-                "Error saving credentials '{}'; will retry on next load", definition.getName(), e);
-          }
-        });
+  private Object fingerprint(T definition) {
+    return definitionFingerprint != null ? definitionFingerprint.apply(definition) : null;
   }
 }
@@ -26,8 +26,13 @@ import com.netflix.spinnaker.credentials.Credentials;
 import com.netflix.spinnaker.credentials.CredentialsLifecycleHandler;
 import com.netflix.spinnaker.credentials.CredentialsRepository;
 import com.netflix.spinnaker.credentials.MapBackedCredentialsRepository;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.Test;
@@ -134,6 +139,107 @@ public class BasicCredentialsLoaderTest {
     assertThat(repository.getOne("good")).isNotNull();
   }
 
+  @Test
+  public void testParallelismLoadsEveryDefinitionOnBoundedThreads() {
+    CredentialsDefinitionSource<CredentialsDefinition> source =
+        mock(CredentialsDefinitionSource.class);
+    CredentialsRepository<FakeCredentials> repository =
+        new MapBackedCredentialsRepository<>(TEST_TYPE, null);
+    Set<String> threads = ConcurrentHashMap.newKeySet();
+
+    BasicCredentialsLoader<CredentialsDefinition, FakeCredentials> loader =
+        new BasicCredentialsLoader<>(
+            source,
+            account -> {
+              threads.add(Thread.currentThread().getName());
+              return new FakeCredentials(account.getName());
+            },
+            repository);
+    loader.setParallelism(4);
+
+    List<CredentialsDefinition> definitions = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      CredentialsDefinition def = mock(CredentialsDefinition.class);
+      when(def.getName()).thenReturn("cred" + i);
+      definitions.add(def);
+    }
+    when(source.getCredentialsDefinitions()).thenReturn(definitions);
+    loader.load();
+
+    assertThat(repository.getAll()).hasSize(50);
+    assertThat(threads)
+        .hasSizeBetween(1, 4)
+        .allMatch(name -> name.startsWith("credentialsLoader-" + TEST_TYPE));
+  }
+
+  @Test
+  public void testParallelLoadsReuseTheLoaderThreads() {
+    CredentialsDefinitionSource<CredentialsDefinition> source =
+        mock(CredentialsDefinitionSource.class);
+    CredentialsRepository<FakeCredentials> repository =
+        new MapBackedCredentialsRepository<>(TEST_TYPE, null);
+    Set<String> threads = ConcurrentHashMap.newKeySet();
+
+    BasicCredentialsLoader<CredentialsDefinition, FakeCredentials> loader =
+        new BasicCredentialsLoader<>(
+            source,
+            account -> {
+              threads.add(Thread.currentThread().getName());
+              return new FakeCredentials(account.getName());
+            },
+            repository);
+    loader.setParallelism(2);
+
+    for (int load = 0; load < 5; load++) {
+      List<CredentialsDefinition> definitions = new ArrayList<>();
+      for (int i = 0; i < 10; i++) {
+        CredentialsDefinition def = mock(CredentialsDefinition.class);
+        when(def.getName()).thenReturn("cred" + i);
+        definitions.add(def);
+      }
+      when(source.getCredentialsDefinitions()).thenReturn(definitions);
+      loader.load();
+    }
+
+    assertThat(threads).hasSizeBetween(1, 2);
+  }
+
+  @Test
+  public void testUnchangedFingerprintIsNotParsedAgain() {
+    CredentialsDefinitionSource<CredentialsDefinition> source =
+        mock(CredentialsDefinitionSource.class);
+    CredentialsRepository<FakeCredentials> repository =
+        new MapBackedCredentialsRepository<>(TEST_TYPE, null);
+    AtomicInteger parsed = new AtomicInteger();
+
+    BasicCredentialsLoader<CredentialsDefinition, FakeCredentials> loader =
+        new BasicCredentialsLoader<>(
+            source,
+            account -> {
+              parsed.incrementAndGet();
+              return new FakeCredentials(account.getName());
+            },
+            repository);
+    // definitions are mocks which only equal themselves, so fingerprint them by name
+    AtomicInteger version = new AtomicInteger();
+    loader.setDefinitionFingerprint(definition -> definition.getName() + ":" + version.get());
+
+    CredentialsDefinition def1 = mock(CredentialsDefinition.class);
+    when(def1.getName()).thenReturn("cred1");
+    CredentialsDefinition sameAsDef1 = mock(CredentialsDefinition.class);
+    when(sameAsDef1.getName()).thenReturn("cred1");
+
+    when(source.getCredentialsDefinitions()).thenReturn(Arrays.asList(def1));
+    loader.load();
+    when(source.getCredentialsDefinitions()).thenReturn(Arrays.asList(sameAsDef1));
+    loader.load();
+    assertThat(parsed).hasValue(1);
+
+    version.incrementAndGet();
+    loader.load();
+    assertThat(parsed).hasValue(2);
+  }
+
   @RequiredArgsConstructor
   private class FakeCredentials implements Credentials {
     @Getter private final String name;
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.credentials;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.netflix.spinnaker.credentials.definition.CredentialsDefinition;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fingerprints credentials definitions with a SHA-256 hash of their JSON serialization, so that
+ * loaders can skip unchanged definitions even when they do not implement {@code equals}.
+ *
+ * <p>A dedicated mapper is used so that {@link
+ * com.netflix.spinnaker.credentials.jackson.Sensitive} fields are hashed rather than masked, and
+ * properties and map entries are sorted so that the hash does not depend on their order. It
+ * serializes every non-transient field, whatever its visibility, and ignores Jackson annotations,
+ * so that fields hidden from the definition's JSON form (e.g. with {@code @JsonIgnore}) still
+ * change its hash.
+ */
+@Slf4j
+public class CredentialsDefinitionHasher implements Function<CredentialsDefinition, String> {
+  private final ObjectMapper mapper =
+      JsonMapper.builder()
+          .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+          .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+          .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+          .disable(MapperFeature.USE_ANNOTATIONS)
+          .visibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+          .visibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+          .build();
+
+  /**
+   * @return the hex encoded hash of the definition, or null if it cannot be serialized
+   */
+  @Override
+  @Nullable
+  public String apply(CredentialsDefinition definition) {
+    try {
+      byte[] digest =
+          MessageDigest.getInstance("SHA-256").digest(mapper.writeValueAsBytes(definition));
+      return HexFormat.of().formatHex(digest);
+    } catch (JsonProcessingException | IllegalArgumentException e) {
+      log.debug("Unable to hash credentials definition '{}'", definition.getName(), e);
+      return null;
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.credentials;
+
+import com.netflix.spinnaker.credentials.definition.BasicCredentialsLoader;
+import com.netflix.spinnaker.kork.annotations.NonnullByDefault;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+
+/**
+ * Applies the {@link CredentialsLoaderConfigurationProperties} of their credentials type to every
+ * {@link BasicCredentialsLoader} bean, whether it is registered by a {@link
+ * CredentialsTypeBaseConfiguration} or by a provider's own configuration.
+ *
+ * <p>Being a bean post processor, it binds its properties itself rather than having them injected,
+ * so that it doesn't cause other beans to be created early.
+ */
+@NonnullByDefault
+public class CredentialsLoaderConfiguration implements BeanPostProcessor, EnvironmentAware {
+  private CredentialsLoaderConfigurationProperties config =
+      new CredentialsLoaderConfigurationProperties();
+
+  @Override
+  public void setEnvironment(Environment environment) {
+    config =
+        Binder.get(environment)
+            .bind(
+                CredentialsLoaderConfigurationProperties.PREFIX,
+                CredentialsLoaderConfigurationProperties.class)
+            .orElseGet(CredentialsLoaderConfigurationProperties::new);
+  }
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) {
+    if (bean instanceof BasicCredentialsLoader) {
+      BasicCredentialsLoader<?, ?> loader = (BasicCredentialsLoader<?, ?>) bean;
+      CredentialsLoaderConfigurationProperties.Settings settings =
+          config.getSettings(loader.getCredentialsRepository().getType());
+      if (settings != null) {
+        loader.setParallelism(settings.getParallelism());
+      }
+    }
+    return bean;
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.credentials;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Data;
+import lombok.Getter;
+
+/**
+ * Settings of the credentials loaders, keyed by credentials type under
+ * `credentials.loader.types.[credentials type]`, defaulting to `credentials.loader.types.default`.
+ */
+public class CredentialsLoaderConfigurationProperties {
+  public static final String PREFIX = "credentials.loader";
+  private static final String DEFAULT_TYPE_KEY = "default";
+  @Getter private Map<String, Settings> types = new HashMap<>();
+
+  public Settings getSettings(String type) {
+    Settings settings = types.get(type);
+    if (settings != null) {
+      return settings;
+    }
+    return types.get(DEFAULT_TYPE_KEY);
+  }
+
+  @Data
+  public static class Settings {
+    /**
+     * Number of threads parsing and applying changed definitions, see {@link
+     * com.netflix.spinnaker.credentials.definition.BasicCredentialsLoader#setParallelism(int)}.
+     */
+    private int parallelism = 1;
+  }
+}
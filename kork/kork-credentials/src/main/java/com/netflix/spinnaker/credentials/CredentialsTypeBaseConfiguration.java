@@ -161,6 +161,8 @@ public class CredentialsTypeBaseConfiguration<
     values.addGenericArgumentValue(credentialsRepository);
     values.addGenericArgumentValue(properties.isParallel());
     bd.setConstructorArgumentValues(values);
+    bd.getPropertyValues().add("parallelism", properties.getParallelism());
+    bd.getPropertyValues().add("definitionFingerprint", new CredentialsDefinitionHasher());
 
     String beanName = "credentialsLoader." + properties.getType();
     ((DefaultListableBeanFactory) ((AbstractApplicationContext) context).getBeanFactory())
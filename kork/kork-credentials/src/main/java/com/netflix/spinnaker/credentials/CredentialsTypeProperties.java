@@ -32,4 +32,12 @@ public class CredentialsTypeProperties<T extends Credentials, U extends Credenti
   private final CredentialsDefinitionSource<U> defaultCredentialsSource;
   private final CredentialsParser<U, T> credentialsParser;
   private final boolean parallel;
+
+  /**
+   * Number of threads used to parse and apply changed definitions of this type, see {@link
+   * com.netflix.spinnaker.credentials.definition.BasicCredentialsLoader#setParallelism(int)}.
+   * Overridden by {@code credentials.loader.types.[type].parallelism}, see {@link
+   * CredentialsLoaderConfiguration}.
+   */
+  @Builder.Default private final int parallelism = 1;
 }
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.credentials;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.netflix.spinnaker.credentials.definition.CredentialsDefinition;
+import lombok.AllArgsConstructor;
+import org.junit.jupiter.api.Test;
+
+public class CredentialsDefinitionHasherTest {
+  private final CredentialsDefinitionHasher hasher = new CredentialsDefinitionHasher();
+
+  @Test
+  public void testHashIsStableAcrossEqualDefinitions() {
+    assertThat(hasher.apply(new TestAccount("account1", "a", "b")))
+        .isNotNull()
+        .isEqualTo(hasher.apply(new TestAccount("account1", "a", "b")));
+  }
+
+  @Test
+  public void testIgnoredAndPrivateFieldsChangeTheHash() {
+    String hash = hasher.apply(new TestAccount("account1", "a", "b"));
+
+    assertThat(hasher.apply(new TestAccount("account1", "changed", "b"))).isNotEqualTo(hash);
+    assertThat(hasher.apply(new TestAccount("account1", "a", "changed"))).isNotEqualTo(hash);
+  }
+
+  @AllArgsConstructor
+  private static class TestAccount implements CredentialsDefinition {
+    private final String name;
+    @JsonIgnore private final String ignored;
+    private final String hidden;
+
+    @Override
+    public String getName() {
+      return name;
+    }
+  }
+}
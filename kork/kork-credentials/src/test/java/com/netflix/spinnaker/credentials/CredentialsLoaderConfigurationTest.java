@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.credentials;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.netflix.spinnaker.credentials.definition.BasicCredentialsLoader;
+import com.netflix.spinnaker.credentials.definition.CredentialsDefinition;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+public class CredentialsLoaderConfigurationTest {
+
+  @Test
+  public void testParallelismIsAppliedByCredentialsType() {
+    StandardEnvironment environment = new StandardEnvironment();
+    environment
+        .getPropertySources()
+        .addFirst(
+            new MapPropertySource(
+                "test",
+                Map.of(
+                    "credentials.loader.types.default.parallelism", 2,
+                    "credentials.loader.types.kubernetes.parallelism", 8)));
+    CredentialsLoaderConfiguration configuration = new CredentialsLoaderConfiguration();
+    configuration.setEnvironment(environment);
+
+    assertThat(configuration.postProcessAfterInitialization(loader("kubernetes"), "k8s"))
+        .extracting("parallelism")
+        .isEqualTo(8);
+    assertThat(configuration.postProcessAfterInitialization(loader("azure"), "azure"))
+        .extracting("parallelism")
+        .isEqualTo(2);
+  }
+
+  @Test
+  public void testLoadersAreLeftAloneWithoutSettings() {
+    CredentialsLoaderConfiguration configuration = new CredentialsLoaderConfiguration();
+    configuration.setEnvironment(new StandardEnvironment());
+
+    assertThat(configuration.postProcessAfterInitialization(loader("kubernetes"), "k8s"))
+        .extracting("parallelism")
+        .isEqualTo(1);
+  }
+
+  private static BasicCredentialsLoader<CredentialsDefinition, Credentials> loader(String type) {
+    return new BasicCredentialsLoader<>(
+        List::of, definition -> null, new MapBackedCredentialsRepository<>(type, null));
+  }
+}
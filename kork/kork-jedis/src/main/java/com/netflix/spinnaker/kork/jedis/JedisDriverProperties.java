@@ -32,4 +32,10 @@ public class JedisDriverProperties {
    * used.
    */
   public GenericObjectPoolConfig poolConfig;
+
+  /**
+   * Record the latency percentiles of one in this many commands. Every command is still counted
+   * and timed; sampling only reduces the cost of maintaining the percentile histogram.
+   */
+  public int latencyPercentileSampleRate = 1;
 }
@@ -62,6 +62,7 @@ public class JedisPoolFactory {
             cxp.database(),
             null,
             cxp.isSSL()),
-        name);
+        name,
+        properties.latencyPercentileSampleRate);
   }
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.netflix.spinnaker.kork.jedis.telemetry;
+
+import static com.netflix.spinnaker.kork.jedis.telemetry.TelemetryHelper.*;
+
+import com.netflix.spectator.api.Clock;
+import com.netflix.spectator.api.Counter;
+import com.netflix.spectator.api.Registry;
+import com.netflix.spectator.api.Timer;
+import com.netflix.spectator.api.histogram.PercentileDistributionSummary;
+import com.netflix.spectator.api.histogram.PercentileTimer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Meter handles for the commands issued through a pool, built the first time each command is
+ * issued so that instrumenting a command neither creates ids nor looks meters up in the registry.
+ *
+ * <p>Tables are owned by an {@link InstrumentedJedisPool} and shared by every {@link
+ * InstrumentedJedis} and {@link InstrumentedPipeline} it creates, as those are created per
+ * connection and per pipeline.
+ */
+final class CommandMeters {
+
+  private final Registry registry;
+  private final String poolName;
+  private final boolean pipelined;
+  private final int percentileSampleRate;
+  private final ConcurrentMap<String, Command> commands = new ConcurrentHashMap<>();
+
+  /**
+   * @param percentileSampleRate record the latency percentiles of one in this many commands; the
+   *     latency timer itself records every command
+   */
+  CommandMeters(Registry registry, String poolName, boolean pipelined, int percentileSampleRate) {
+    this.registry = registry;
+    this.poolName = poolName;
+    this.pipelined = pipelined;
+    this.percentileSampleRate = Math.max(1, percentileSampleRate);
+  }
+
+  Command get(String command) {
+    Command meters = commands.get(command);
+    if (meters == null) {
+      meters = commands.computeIfAbsent(command, Command::new);
+    }
+    return meters;
+  }
+
+  final class Command {
+    private final String command;
+    private final Clock clock;
+    private final Timer timer;
+    private final PercentileTimer percentileTimer;
+    private final Counter successes;
+    private final Counter failures;
+    private volatile PercentileDistributionSummary payloadSize;
+
+    private Command(String command) {
+      this.command = command;
+      this.clock = registry.clock();
+      this.percentileTimer =
+          PercentileTimer.get(registry, timerId(registry, poolName, command, pipelined));
+      this.timer = registry.timer(timerId(registry, poolName, command, pipelined));
+      this.successes = registry.counter(invocationId(registry, poolName, command, pipelined, true));
+      this.failures = registry.counter(invocationId(registry, poolName, command, pipelined, false));
+    }
+
+    long start() {
+      return clock.monotonicTime();
+    }
+
+    void recordSuccess(long startTime) {
+      recordLatency(startTime);
+      successes.increment();
+    }
+
+    void recordFailure(long startTime) {
+      recordLatency(startTime);
+      failures.increment();
+    }
+
+    void recordPayloadSize(long size) {
+      PercentileDistributionSummary summary = payloadSize;
+      if (summary == null) {
+        // built on first use, as most commands never record a payload size
+        summary =
+            PercentileDistributionSummary.get(
+                registry, payloadSizeId(registry, poolName, command, pipelined));
+        payloadSize = summary;
+      }
+      summary.record(size);
+    }
+
+    private void recordLatency(long startTime) {
+      long duration = clock.monotonicTime() - startTime;
+      if (percentileSampleRate == 1
+          || ThreadLocalRandom.current().nextInt(percentileSampleRate) == 0) {
+        // also records to the timer, which shares its id
+        percentileTimer.record(duration, TimeUnit.NANOSECONDS);
+      } else {
+        timer.record(duration, TimeUnit.NANOSECONDS);
+      }
+    }
+  }
+}
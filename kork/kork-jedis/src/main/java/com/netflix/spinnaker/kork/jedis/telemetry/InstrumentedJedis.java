@@ -18,11 +18,8 @@ package com.netflix.spinnaker.kork.jedis.telemetry;
 import static com.netflix.spinnaker.kork.jedis.telemetry.TelemetryHelper.*;
 
 import com.netflix.spectator.api.Registry;
-import com.netflix.spectator.api.histogram.PercentileDistributionSummary;
-import com.netflix.spectator.api.histogram.PercentileTimer;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import redis.clients.jedis.*;
@@ -50,18 +47,33 @@ import redis.clients.jedis.util.KeyValue;
  */
 public class InstrumentedJedis extends Jedis {
 
-  private final Registry registry;
   private final Jedis delegated;
-  private final String poolName;
+  private final CommandMeters commandMeters;
+  private final CommandMeters pipelineMeters;
 
   public InstrumentedJedis(Registry registry, Jedis delegated) {
     this(registry, delegated, "unnamed");
   }
 
   public InstrumentedJedis(Registry registry, Jedis delegated, String poolName) {
-    this.registry = registry;
+    this(registry, delegated, poolName, 1);
+  }
+
+  /**
+   * @param percentileSampleRate record the latency percentiles of one in this many commands
+   */
+  public InstrumentedJedis(
+      Registry registry, Jedis delegated, String poolName, int percentileSampleRate) {
+    this(
+        delegated,
+        new CommandMeters(registry, poolName, false, percentileSampleRate),
+        new CommandMeters(registry, poolName, true, percentileSampleRate));
+  }
+
+  InstrumentedJedis(Jedis delegated, CommandMeters commandMeters, CommandMeters pipelineMeters) {
     this.delegated = delegated;
-    this.poolName = poolName;
+    this.commandMeters = commandMeters;
+    this.pipelineMeters = pipelineMeters;
   }
 
   public Jedis unwrap() {
@@ -69,61 +81,44 @@ public class InstrumentedJedis extends Jedis {
   }
 
   private <T> T instrumented(String command, Callable<T> action) {
-    return internalInstrumented(command, Optional.empty(), action);
+    return internalInstrumented(commandMeters.get(command), action);
   }
 
   private <T> T instrumented(String command, long payloadSize, Callable<T> action) {
-    return internalInstrumented(command, Optional.of(payloadSize), action);
+    CommandMeters.Command meters = commandMeters.get(command);
+    meters.recordPayloadSize(payloadSize);
+    return internalInstrumented(meters, action);
   }
 
-  private <T> T internalInstrumented(
-      String command, Optional<Long> payloadSize, Callable<T> action) {
-    payloadSize.ifPresent(
-        size ->
-            PercentileDistributionSummary.get(
-                    registry, payloadSizeId(registry, poolName, command, false))
-                .record(size));
+  private <T> T internalInstrumented(CommandMeters.Command meters, Callable<T> action) {
+    long startTime = meters.start();
     try {
-      return PercentileTimer.get(registry, timerId(registry, poolName, command, false))
-          .record(
-              () -> {
-                T result = action.call();
-                registry
-                    .counter(invocationId(registry, poolName, command, false, true))
-                    .increment();
-                return result;
-              });
+      T result = action.call();
+      meters.recordSuccess(startTime);
+      return result;
     } catch (Exception e) {
-      registry.counter(invocationId(registry, poolName, command, false, false)).increment();
+      meters.recordFailure(startTime);
       throw new InstrumentedJedisException("could not execute delegate function", e);
     }
   }
 
   private void instrumented(String command, Runnable action) {
-    internalInstrumented(command, Optional.empty(), action);
+    internalInstrumented(commandMeters.get(command), action);
   }
 
   private void instrumented(String command, long payloadSize, Runnable action) {
-    internalInstrumented(command, Optional.of(payloadSize), action);
+    CommandMeters.Command meters = commandMeters.get(command);
+    meters.recordPayloadSize(payloadSize);
+    internalInstrumented(meters, action);
   }
 
-  private void internalInstrumented(String command, Optional<Long> payloadSize, Runnable action) {
-    payloadSize.ifPresent(
-        size ->
-            PercentileDistributionSummary.get(
-                    registry, payloadSizeId(registry, poolName, command, false))
-                .record(size));
+  private void internalInstrumented(CommandMeters.Command meters, Runnable action) {
+    long startTime = meters.start();
     try {
-      PercentileTimer.get(registry, timerId(registry, poolName, command, false))
-          .record(
-              () -> {
-                action.run();
-                registry
-                    .counter(invocationId(registry, poolName, command, false, true))
-                    .increment();
-              });
+      action.run();
+      meters.recordSuccess(startTime);
     } catch (Exception e) {
-      registry.counter(invocationId(registry, poolName, command, false, false)).increment();
+      meters.recordFailure(startTime);
       throw new InstrumentedJedisException("could not execute delegate function", e);
     }
   }
@@ -2128,7 +2123,7 @@ public class InstrumentedJedis extends Jedis {
   @Override
   public Pipeline pipelined() {
     String command = "pipelined";
-    return instrumented(command, () -> new InstrumentedPipeline(registry, delegated, poolName));
+    return instrumented(command, () -> new InstrumentedPipeline(delegated, pipelineMeters));
   }
 
   @Override
@@ -22,18 +22,26 @@ import redis.clients.jedis.JedisPool;
 
 public class InstrumentedJedisPool extends JedisPool {
 
-  private final Registry registry;
   private final JedisPool delegated;
-  private final String poolName;
+  private final CommandMeters commandMeters;
+  private final CommandMeters pipelineMeters;
 
   public InstrumentedJedisPool(Registry registry, JedisPool delegated) {
     this(registry, delegated, "unnamed");
   }
 
   public InstrumentedJedisPool(Registry registry, JedisPool delegated, String poolName) {
-    this.registry = registry;
+    this(registry, delegated, poolName, 1);
+  }
+
+  /**
+   * @param percentileSampleRate record the latency percentiles of one in this many commands
+   */
+  public InstrumentedJedisPool(
+      Registry registry, JedisPool delegated, String poolName, int percentileSampleRate) {
     this.delegated = delegated;
-    this.poolName = poolName;
+    this.commandMeters = new CommandMeters(registry, poolName, false, percentileSampleRate);
+    this.pipelineMeters = new CommandMeters(registry, poolName, true, percentileSampleRate);
   }
 
   @SuppressWarnings("unchecked")
@@ -44,9 +52,12 @@ public class InstrumentedJedisPool extends JedisPool {
     return delegated;
   }
 
+  /**
+   * @return an instrumented connection, closing it returns the underlying connection to the pool
+   */
   @Override
   public Jedis getResource() {
-    return new InstrumentedJedis(registry, delegated.getResource(), poolName).unwrap();
+    return new InstrumentedJedis(delegated.getResource(), commandMeters, pipelineMeters);
   }
 
   @Override
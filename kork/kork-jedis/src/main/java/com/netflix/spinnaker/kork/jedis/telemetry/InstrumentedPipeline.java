@@ -18,11 +18,8 @@ package com.netflix.spinnaker.kork.jedis.telemetry;
 import static com.netflix.spinnaker.kork.jedis.telemetry.TelemetryHelper.*;
 
 import com.netflix.spectator.api.Registry;
-import com.netflix.spectator.api.histogram.PercentileDistributionSummary;
-import com.netflix.spectator.api.histogram.PercentileTimer;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import redis.clients.jedis.*;
@@ -41,69 +38,66 @@ import redis.clients.jedis.util.KeyValue;
 
 public class InstrumentedPipeline extends Pipeline {
 
-  private final Registry registry;
   private final Pipeline delegated;
-  private final String poolName;
+  private final CommandMeters commandMeters;
 
   public InstrumentedPipeline(Registry registry, Jedis jedis, String poolName) {
+    this(registry, jedis, poolName, 1);
+  }
+
+  /**
+   * @param percentileSampleRate record the latency percentiles of one in this many commands
+   */
+  public InstrumentedPipeline(
+      Registry registry, Jedis jedis, String poolName, int percentileSampleRate) {
+    this(jedis, new CommandMeters(registry, poolName, true, percentileSampleRate));
+  }
+
+  InstrumentedPipeline(Jedis jedis, CommandMeters commandMeters) {
     super(jedis);
-    this.registry = registry;
     this.delegated = jedis.pipelined();
-    this.poolName = poolName;
+    this.commandMeters = commandMeters;
   }
 
   private <T> T instrumented(String command, Callable<T> action) {
-    return internalInstrumented(command, Optional.empty(), action);
+    return internalInstrumented(commandMeters.get(command), action);
   }
 
   private <T> T instrumented(String command, long payloadSize, Callable<T> action) {
-    return internalInstrumented(command, Optional.of(payloadSize), action);
+    CommandMeters.Command meters = commandMeters.get(command);
+    meters.recordPayloadSize(payloadSize);
+    return internalInstrumented(meters, action);
   }
 
-  private <T> T internalInstrumented(
-      String command, Optional<Long> payloadSize, Callable<T> action) {
-    payloadSize.ifPresent(
-        size ->
-            PercentileDistributionSummary.get(
-                    registry, payloadSizeId(registry, poolName, command, true))
-                .record(size));
+  private <T> T internalInstrumented(CommandMeters.Command meters, Callable<T> action) {
+    long startTime = meters.start();
     try {
-      return PercentileTimer.get(registry, timerId(registry, poolName, command, true))
-          .record(
-              () -> {
-                T result = action.call();
-                registry.counter(invocationId(registry, poolName, command, true, true)).increment();
-                return result;
-              });
+      T result = action.call();
+      meters.recordSuccess(startTime);
+      return result;
     } catch (Exception e) {
-      registry.counter(invocationId(registry, poolName, command, true, false)).increment();
+      meters.recordFailure(startTime);
       throw new InstrumentedJedisException("could not execute delegate function", e);
     }
   }
 
   private void instrumented(String command, Runnable action) {
-    internalInstrumented(command, Optional.empty(), action);
+    internalInstrumented(commandMeters.get(command), action);
   }
 
   private void instrumented(String command, long payloadSize, Runnable action) {
-    internalInstrumented(command, Optional.of(payloadSize), action);
+    CommandMeters.Command meters = commandMeters.get(command);
+    meters.recordPayloadSize(payloadSize);
+    internalInstrumented(meters, action);
   }
 
-  private void internalInstrumented(String command, Optional<Long> payloadSize, Runnable action) {
-    payloadSize.ifPresent(
-        size ->
-            PercentileDistributionSummary.get(
-                    registry, payloadSizeId(registry, poolName, command, true))
-                .record(size));
+  private void internalInstrumented(CommandMeters.Command meters, Runnable action) {
+    long startTime = meters.start();
     try {
-      PercentileTimer.get(registry, timerId(registry, poolName, command, true))
-          .record(
-              () -> {
-                action.run();
-                registry.counter(invocationId(registry, poolName, command, true, true)).increment();
-              });
+      action.run();
+      meters.recordSuccess(startTime);
     } catch (Exception e) {
-      registry.counter(invocationId(registry, poolName, command, true, false)).increment();
+      meters.recordFailure(startTime);
       throw new InstrumentedJedisException("could not execute delegate function", e);
     }
   }
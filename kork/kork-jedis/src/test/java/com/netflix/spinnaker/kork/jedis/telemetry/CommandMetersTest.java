@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.netflix.spinnaker.kork.jedis.telemetry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.netflix.spectator.api.DefaultRegistry;
+import com.netflix.spectator.api.ManualClock;
+import com.netflix.spectator.api.Registry;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class CommandMetersTest {
+
+  private final ManualClock clock = new ManualClock();
+
+  private final Registry registry = new DefaultRegistry(clock);
+
+  @Test
+  public void buildsMetersOncePerCommand() {
+    CommandMeters meters = new CommandMeters(registry, "pool", false, 1);
+
+    assertThat(meters.get("get")).isSameAs(meters.get("get"));
+    assertThat(meters.get("set")).isNotSameAs(meters.get("get"));
+  }
+
+  @Test
+  public void recordsLatencyAndInvocations() {
+    CommandMeters.Command meters = new CommandMeters(registry, "pool", false, 1).get("set");
+
+    long startTime = meters.start();
+    clock.setMonotonicTime(clock.monotonicTime() + TimeUnit.MILLISECONDS.toNanos(5));
+    meters.recordSuccess(startTime);
+    meters.recordFailure(meters.start());
+    meters.recordPayloadSize(42);
+
+    assertThat(registry.timer(TelemetryHelper.timerId(registry, "pool", "set", false)).count())
+        .isEqualTo(2);
+    assertThat(
+            registry
+                .timer(TelemetryHelper.timerId(registry, "pool", "set", false))
+                .totalTime())
+        .isEqualTo(TimeUnit.MILLISECONDS.toNanos(5));
+    assertThat(
+            registry
+                .counter(TelemetryHelper.invocationId(registry, "pool", "set", false, true))
+                .count())
+        .isEqualTo(1);
+    assertThat(
+            registry
+                .counter(TelemetryHelper.invocationId(registry, "pool", "set", false, false))
+                .count())
+        .isEqualTo(1);
+    assertThat(
+            registry
+                .distributionSummary(TelemetryHelper.payloadSizeId(registry, "pool", "set", false))
+                .totalAmount())
+        .isEqualTo(42);
+  }
+
+  @Test
+  public void timesEveryCommandWhenPercentilesAreSampled() {
+    CommandMeters.Command meters = new CommandMeters(registry, "sampled", true, 10).get("get");
+
+    for (int i = 0; i < 100; i++) {
+      meters.recordSuccess(meters.start());
+    }
+
+    assertThat(registry.timer(TelemetryHelper.timerId(registry, "sampled", "get", true)).count())
+        .isEqualTo(100);
+  }
+}
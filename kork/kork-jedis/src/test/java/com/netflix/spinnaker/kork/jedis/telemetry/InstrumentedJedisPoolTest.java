@@ -16,11 +16,16 @@
 
 package com.netflix.spinnaker.kork.jedis.telemetry;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import com.netflix.spectator.api.DefaultRegistry;
 import com.netflix.spectator.api.Registry;
 import org.junit.jupiter.api.Test;
+import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisPool;
 
 public class InstrumentedJedisPoolTest {
@@ -36,4 +41,21 @@ public class InstrumentedJedisPoolTest {
   public void getInternalPoolReference() {
     assertNotNull(instrumentedJedisPool.getInternalPoolReference());
   }
+
+  @Test
+  public void resourcesAreInstrumented() {
+    Registry registry = new DefaultRegistry();
+    JedisPool delegated = mock(JedisPool.class);
+    Jedis jedis = mock(Jedis.class);
+    when(delegated.getResource()).thenReturn(jedis);
+    when(jedis.get("key")).thenReturn("value");
+
+    try (Jedis resource = new InstrumentedJedisPool(registry, delegated, "pool").getResource()) {
+      assertEquals("value", resource.get("key"));
+    }
+
+    assertEquals(
+        1, registry.timer(TelemetryHelper.timerId(registry, "pool", "get", false)).count());
+    verify(jedis).close();
+  }
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.kork.secrets;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.netflix.spectator.api.Registry;
+import com.netflix.spectator.api.Spectator;
+import com.netflix.spinnaker.kork.telemetry.caffeine.CaffeineStatsCounter;
+import java.util.concurrent.CompletionException;
+
+/**
+ * A bounded, concurrent cache of fetched secrets.
+ *
+ * <p>Concurrent reads of a missing entry share a single load. Once an entry is older than {@link
+ * SecretCacheProperties.Settings#getRefreshAfter()} the next read reloads it in the background,
+ * serving the current value until the reload completes and keeping it if the reload fails. Entries
+ * older than {@link SecretCacheProperties.Settings#getTtl()} are evicted, so that rotated secrets
+ * are eventually picked up without a restart.
+ *
+ * <p>Hits, misses, loads and evictions are reported as {@code secrets.cache.<name>.*} metrics.
+ */
+public class SecretCache<K, V> {
+  private final LoadingCache<K, V> cache;
+
+  /**
+   * Secret engines are created before most other beans (and may be needed to create the registry
+   * itself), so metrics are reported to the global registry unless one is given.
+   */
+  public SecretCache(
+      String name, SecretCacheProperties.Settings settings, CacheLoader<K, V> loader) {
+    this(name, settings, Spectator.globalRegistry(), loader);
+  }
+
+  public SecretCache(
+      String name,
+      SecretCacheProperties.Settings settings,
+      Registry registry,
+      CacheLoader<K, V> loader) {
+    Caffeine<Object, Object> builder =
+        Caffeine.newBuilder()
+            .maximumSize(settings.getMaximumSize())
+            .recordStats(() -> new CaffeineStatsCounter(registry, "secrets.cache." + name));
+    boolean expires = !settings.getTtl().isZero();
+    if (expires) {
+      builder.expireAfterWrite(settings.getTtl());
+    }
+    if (!settings.getRefreshAfter().isZero()
+        && (!expires || settings.getRefreshAfter().compareTo(settings.getTtl()) < 0)) {
+      builder.refreshAfterWrite(settings.getRefreshAfter());
+    }
+    this.cache = builder.build(loader);
+  }
+
+  /**
+   * @return the cached value for the given key, loading it if missing
+   * @throws SecretDecryptionException if the loader fails with a checked exception
+   */
+  public V get(K key) {
+    try {
+      return cache.get(key);
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new SecretDecryptionException(e.getCause());
+    }
+  }
+
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.kork.secrets;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the caches of fetched secrets kept by secret engines and user secret tracking. The
+ * top level settings apply to every cache and may be overridden per cache, where storage secret
+ * engines use their engine identifier (e.g. {@code s3}) as the cache name and user secrets use
+ * {@code user-secrets}.
+ */
+@Data
+@ConfigurationProperties("secrets.cache")
+public class SecretCacheProperties {
+  /** Entries older than this are evicted. Zero disables expiry. */
+  private Duration ttl = Duration.ofHours(1);
+
+  /**
+   * Entries older than this are reloaded in the background the next time they are read, serving
+   * the current value until the reload completes. Zero disables refreshing.
+   */
+  private Duration refreshAfter = Duration.ofMinutes(5);
+
+  private long maximumSize = 1000;
+
+  private Map<String, Overrides> caches = new HashMap<>();
+
+  public Settings forCache(String name) {
+    Overrides overrides = caches.getOrDefault(name, new Overrides());
+    return new Settings(
+        overrides.getTtl() != null ? overrides.getTtl() : ttl,
+        overrides.getRefreshAfter() != null ? overrides.getRefreshAfter() : refreshAfter,
+        overrides.getMaximumSize() != null ? overrides.getMaximumSize() : maximumSize);
+  }
+
+  @Data
+  public static class Overrides {
+    private Duration ttl;
+    private Duration refreshAfter;
+    private Long maximumSize;
+  }
+
+  @lombok.Value
+  public static class Settings {
+    Duration ttl;
+    Duration refreshAfter;
+    long maximumSize;
+  }
+}
@@ -30,12 +30,14 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.core.io.ResourceLoader;
 
 @AutoConfiguration
 @ComponentScan
+@EnableConfigurationProperties(SecretCacheProperties.class)
 public class SecretConfiguration {
 
   @Bean
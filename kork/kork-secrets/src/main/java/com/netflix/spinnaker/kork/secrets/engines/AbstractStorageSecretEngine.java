@@ -19,6 +19,8 @@ package com.netflix.spinnaker.kork.secrets.engines;
 import com.google.common.base.Splitter;
 import com.netflix.spinnaker.kork.secrets.EncryptedSecret;
 import com.netflix.spinnaker.kork.secrets.InvalidSecretFormatException;
+import com.netflix.spinnaker.kork.secrets.SecretCache;
+import com.netflix.spinnaker.kork.secrets.SecretCacheProperties;
 import com.netflix.spinnaker.kork.secrets.SecretDecryptionException;
 import com.netflix.spinnaker.kork.secrets.SecretEngine;
 import com.netflix.spinnaker.kork.yaml.YamlHelper;
@@ -30,48 +32,52 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import org.springframework.beans.factory.annotation.Autowired;
 
+/**
+ * Base class for secret engines that fetch secrets from files in remote storage.
+ *
+ * <p>A secret with a {@link #STORAGE_PROP_KEY} parameter refers to a value in a YAML file. Parsed
+ * files are kept in a {@link SecretCache} named after the engine {@link #identifier()}, so that
+ * secrets sharing a file download and parse it once, even when decrypted concurrently. Secrets
+ * without a key refer to the whole file, which is downloaded every time.
+ */
 public abstract class AbstractStorageSecretEngine implements SecretEngine {
   protected static final String STORAGE_BUCKET = "b";
   protected static final String STORAGE_REGION = "r";
   protected static final String STORAGE_FILE_URI = "f";
   protected static final String STORAGE_PROP_KEY = "k";
 
-  protected Map<String, Map<String, Object>> cache = new HashMap<>();
+  /**
+   * @deprecated parsed files are no longer kept here but in a {@link SecretCache}, this is only
+   *     used by the deprecated {@link #parseAsYaml(String, InputStream)} and {@link
+   *     #getParsedValue(String, String)}
+   */
+  @Deprecated protected Map<String, Map<String, Object>> cache = new HashMap<>();
+
+  private SecretCacheProperties cacheProperties = new SecretCacheProperties();
+  private volatile SecretCache<StorageFile, Map<String, Object>> parsedFiles;
+
+  @Autowired(required = false)
+  public void setCacheProperties(SecretCacheProperties cacheProperties) {
+    this.cacheProperties = cacheProperties;
+    this.parsedFiles = null;
+  }
 
   public byte[] decrypt(EncryptedSecret encryptedSecret) {
-    String fileUri = encryptedSecret.getParams().get(STORAGE_FILE_URI);
     String key = encryptedSecret.getParams().get(STORAGE_PROP_KEY);
 
-    InputStream is = null;
-    try {
-      if (key == null || !cache.containsKey(fileUri)) {
-        // We don't cache direct file references
-        is = downloadRemoteFile(encryptedSecret);
-      }
-
-      // Return the whole content as a string
-      if (key == null) {
+    if (key == null) {
+      // We don't cache direct file references
+      try (InputStream is = downloadRemoteFile(encryptedSecret)) {
+        // Return the whole content as a string
         return readAll(is);
-      }
-
-      // Parse as YAML
-      if (!cache.containsKey(fileUri)) {
-        parseAsYaml(fileUri, is);
-      }
-      return getParsedValue(fileUri, key);
-
-    } catch (IOException e) {
-      throw new SecretDecryptionException(e);
-
-    } finally {
-      if (is != null) {
-        try {
-          is.close();
-        } catch (IOException e) {
-        }
+      } catch (IOException e) {
+        throw new SecretDecryptionException(e);
       }
     }
+
+    return getParsedValue(getParsedFiles().get(new StorageFile(encryptedSecret)), key);
   }
 
   public void validate(EncryptedSecret encryptedSecret) throws InvalidSecretFormatException {
@@ -111,15 +117,32 @@ public abstract class AbstractStorageSecretEngine implements SecretEngine {
     }
   }
 
+  /**
+   * @deprecated use {@link #parseAsYaml(InputStream)}, which returns the parsed file rather than
+   *     keeping it in {@link #cache}
+   */
+  @Deprecated
   protected void parseAsYaml(String fileURI, InputStream inputStream) {
+    cache.put(fileURI, parseAsYaml(inputStream));
+  }
+
+  protected Map<String, Object> parseAsYaml(InputStream inputStream) {
     Map<String, Object> parsed = YamlHelper.newYamlSafeConstructor().load(inputStream);
-    cache.put(fileURI, parsed);
+    // the cache does not hold null values
+    return parsed != null ? parsed : Map.of();
   }
 
+  /**
+   * @deprecated use {@link #getParsedValue(Map, String)} with the parsed file
+   */
+  @Deprecated
   protected byte[] getParsedValue(String fileURI, String yamlPath)
       throws SecretDecryptionException {
-    Map<String, Object> parsed = cache.get(fileURI);
+    return getParsedValue(cache.get(fileURI), yamlPath);
+  }
 
+  protected byte[] getParsedValue(Map<String, Object> parsed, String yamlPath)
+      throws SecretDecryptionException {
     for (Iterator<String> it = Splitter.on(".").split(yamlPath).iterator(); it.hasNext(); ) {
       String pathElt = it.next();
       Object o = parsed.get(pathElt);
@@ -136,5 +159,56 @@ public abstract class AbstractStorageSecretEngine implements SecretEngine {
 
   public void clearCache() {
     cache.clear();
+    SecretCache<StorageFile, Map<String, Object>> parsedFiles = this.parsedFiles;
+    if (parsedFiles != null) {
+      parsedFiles.invalidateAll();
+    }
+  }
+
+  private SecretCache<StorageFile, Map<String, Object>> getParsedFiles() {
+    SecretCache<StorageFile, Map<String, Object>> parsedFiles = this.parsedFiles;
+    if (parsedFiles == null) {
+      synchronized (this) {
+        parsedFiles = this.parsedFiles;
+        if (parsedFiles == null) {
+          parsedFiles =
+              new SecretCache<>(
+                  identifier(),
+                  cacheProperties.forCache(identifier()),
+                  file -> {
+                    try (InputStream is = downloadRemoteFile(file.secret)) {
+                      return parseAsYaml(is);
+                    }
+                  });
+          this.parsedFiles = parsedFiles;
+        }
+      }
+    }
+    return parsedFiles;
+  }
+
+  /**
+   * Identifies a file by the parameters of a secret in it, other than the key of the secret. Keeps
+   * the first secret seen for the file to download it from.
+   */
+  private static final class StorageFile {
+    private final Map<String, String> location;
+    private final EncryptedSecret secret;
+
+    StorageFile(EncryptedSecret secret) {
+      this.location = new HashMap<>(secret.getParams());
+      this.location.remove(STORAGE_PROP_KEY);
+      this.secret = secret;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof StorageFile && location.equals(((StorageFile) o).location);
+    }
+
+    @Override
+    public int hashCode() {
+      return location.hashCode();
+    }
   }
 }
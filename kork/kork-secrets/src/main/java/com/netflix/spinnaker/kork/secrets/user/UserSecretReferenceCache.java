@@ -17,6 +17,8 @@
 
 package com.netflix.spinnaker.kork.secrets.user;
 
+import com.netflix.spinnaker.kork.secrets.SecretCache;
+import com.netflix.spinnaker.kork.secrets.SecretCacheProperties;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
@@ -24,11 +26,22 @@ import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Caches {@link UserSecretReference} URIs by resource id. This is used for tracking secrets used by
- * asynchronously loaded resources.
+ * asynchronously loaded resources. The user secrets themselves are cached by reference in a {@link
+ * SecretCache} named {@code user-secrets}, as many resources typically share the same secrets.
  */
 class UserSecretReferenceCache {
   private final Map<String, Collection<UserSecretReference>> referencesByResourceId =
       new ConcurrentHashMap<>();
+  private final SecretCache<UserSecretReference, UserSecret> secrets;
+
+  UserSecretReferenceCache(
+      UserSecretManager secretManager, SecretCacheProperties.Settings cacheSettings) {
+    this.secrets = new SecretCache<>("user-secrets", cacheSettings, secretManager::getUserSecret);
+  }
+
+  UserSecret getUserSecret(UserSecretReference reference) {
+    return secrets.get(reference);
+  }
 
   void clearReferences(String resourceId) {
     referencesByResourceId.remove(resourceId);
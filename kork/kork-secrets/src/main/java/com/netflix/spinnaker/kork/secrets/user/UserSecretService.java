@@ -21,6 +21,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.netflix.spinnaker.kork.secrets.EncryptedSecret;
 import com.netflix.spinnaker.kork.secrets.InvalidSecretFormatException;
+import com.netflix.spinnaker.kork.secrets.SecretCacheProperties;
 import com.netflix.spinnaker.kork.secrets.SecretDecryptionException;
 import com.netflix.spinnaker.kork.secrets.SecretReference;
 import com.netflix.spinnaker.kork.secrets.UnsupportedSecretEngineException;
@@ -31,15 +32,25 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Set;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.access.prepost.PostAuthorize;
 import org.springframework.stereotype.Component;
 
 @Component
-@RequiredArgsConstructor
 public class UserSecretService {
   private final UserSecretManager secretManager;
-  private final UserSecretReferenceCache cache = new UserSecretReferenceCache();
+  private final UserSecretReferenceCache cache;
+
+  public UserSecretService(UserSecretManager secretManager) {
+    this(secretManager, new SecretCacheProperties());
+  }
+
+  @Autowired
+  public UserSecretService(UserSecretManager secretManager, SecretCacheProperties cacheProperties) {
+    this.secretManager = secretManager;
+    this.cache =
+        new UserSecretReferenceCache(secretManager, cacheProperties.forCache("user-secrets"));
+  }
 
   @PostAuthorize("hasPermission(returnObject, 'READ')")
   public UserSecret getUserSecret(UserSecretReference ref) {
@@ -49,7 +60,9 @@ public class UserSecretService {
   /**
    * Replaces top level fields containing user secret URIs and external secret URIs with their
    * secret values for the given resource id. User secret references used by the resource are cached
-   * until the next time a resource with the same id is processed.
+   * until the next time a resource with the same id is processed. User secrets are read from a
+   * cache shared by all resources, configured by {@code secrets.cache.caches.user-secrets}, so a
+   * changed secret may be used until its cache entry is refreshed.
    *
    * @param resourceId id of resource being processed for secrets
    * @param object resource to replace secret references
@@ -107,7 +120,7 @@ public class UserSecretService {
     List<UserSecretReference> references = new ArrayList<>(userSecretFields.size());
     for (SecretField<UserSecretReference> field : userSecretFields) {
       references.add(field.secretReference);
-      UserSecret userSecret = secretManager.getUserSecret(field.secretReference);
+      UserSecret userSecret = cache.getUserSecret(field.secretReference);
       String secret = userSecret.getSecretString(field.secretReference);
       updates.set(field.fieldName, object.textNode(secret));
     }
@@ -137,6 +150,11 @@ public class UserSecretService {
     return cache.hasAnyReferences(resourceId);
   }
 
+  /**
+   * Finds the user secrets used by the given resource that none of the given roles may access. The
+   * secrets are fetched afresh rather than read from the cache used by {@link
+   * #replaceSecretReferences}, so that changes to their roles take effect immediately.
+   */
   public Set<String> findUnauthorizedUserSecretUris(String resourceId, Set<String> userRoles) {
     Set<String> unauthorized = new HashSet<>();
     for (var reference : cache.getReferences(resourceId)) {
@@ -16,18 +16,30 @@
 
 package com.netflix.spinnaker.kork.secrets.engines;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.netflix.spinnaker.kork.secrets.EncryptedSecret;
 import com.netflix.spinnaker.kork.secrets.SecretDecryptionException;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 public class AbstractStorageEngineTest {
   AbstractStorageSecretEngine engine;
+  AtomicInteger downloads = new AtomicInteger();
+  CountDownLatch downloadStarted = new CountDownLatch(1);
+  CountDownLatch allowDownload = new CountDownLatch(0);
 
   @BeforeEach
   public void init() {
@@ -35,7 +47,14 @@ public class AbstractStorageEngineTest {
         new AbstractStorageSecretEngine() {
           @Override
           protected InputStream downloadRemoteFile(EncryptedSecret encryptedSecret) {
-            return null;
+            downloads.incrementAndGet();
+            downloadStarted.countDown();
+            try {
+              allowDownload.await();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+            return readStream("password: hunter2\nfile: " + encryptedSecret.getParams().get("f"));
           }
 
           @Override
@@ -52,8 +71,53 @@ public class AbstractStorageEngineTest {
   @Test
   public void canParseYaml() throws SecretDecryptionException {
     ByteArrayInputStream bis = readStream("test: value\na:\n  b: othervalue\nc:\n  - d\n  - e");
-    engine.parseAsYaml("a/b", bis);
-    assertTrue(Arrays.equals("value".getBytes(), engine.getParsedValue("a/b", "test")));
-    assertTrue(Arrays.equals("othervalue".getBytes(), engine.getParsedValue("a/b", "a.b")));
+    Map<String, Object> parsed = engine.parseAsYaml(bis);
+    assertTrue(Arrays.equals("value".getBytes(), engine.getParsedValue(parsed, "test")));
+    assertTrue(Arrays.equals("othervalue".getBytes(), engine.getParsedValue(parsed, "a.b")));
+  }
+
+  @Test
+  public void downloadsFileOnceForConcurrentDecrypts() throws Exception {
+    allowDownload = new CountDownLatch(1);
+    EncryptedSecret secret =
+        EncryptedSecret.parse("encrypted:test!b:bucket!r:region!f:secrets.yml!k:password");
+
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<byte[]>> results = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        results.add(executor.submit(() -> engine.decrypt(secret)));
+      }
+      downloadStarted.await();
+      allowDownload.countDown();
+
+      for (Future<byte[]> result : results) {
+        assertTrue(Arrays.equals("hunter2".getBytes(), result.get()));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertEquals(1, downloads.get());
+  }
+
+  @Test
+  public void cachesFilesByLocation() {
+    EncryptedSecret password =
+        EncryptedSecret.parse("encrypted:test!b:bucket!r:region!f:secrets.yml!k:password");
+    EncryptedSecret file =
+        EncryptedSecret.parse("encrypted:test!b:bucket!r:region!f:secrets.yml!k:file");
+    EncryptedSecret otherFile =
+        EncryptedSecret.parse("encrypted:test!b:bucket!r:region!f:other.yml!k:file");
+
+    assertTrue(Arrays.equals("hunter2".getBytes(), engine.decrypt(password)));
+    assertTrue(Arrays.equals("secrets.yml".getBytes(), engine.decrypt(file)));
+    assertEquals(1, downloads.get());
+
+    assertTrue(Arrays.equals("other.yml".getBytes(), engine.decrypt(otherFile)));
+    assertEquals(2, downloads.get());
+
+    engine.clearCache();
+    engine.decrypt(password);
+    assertEquals(3, downloads.get());
   }
 }
@@ -23,6 +23,7 @@ import static org.mockito.BDDMockito.given;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.netflix.spinnaker.kork.secrets.SecretEngine;
+import java.util.List;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -93,6 +94,34 @@ class UserSecretServiceTest {
     assertEquals(uri, keptSecretString);
   }
 
+  @Test
+  void authorizesAgainstTheCurrentRolesOfUserSecrets() {
+    String uri = "secret://mock?n=secret-name";
+    UserSecretReference ref = UserSecretReference.parse(uri);
+    UserSecret restricted =
+        UserSecret.builder()
+            .data(new StringUserSecretData("super-secret"))
+            .metadata(UserSecretMetadata.builder().type("string").roles(List.of("dev")).build())
+            .build();
+    given(mockSecretEngine.decrypt(ref)).willReturn(restricted);
+
+    String resourceId = "some-resource-id";
+    ObjectNode resource =
+        JsonNodeFactory.instance.objectNode().put("id", resourceId).put("secret", uri);
+    userSecretService.replaceSecretReferences(resourceId, resource, Set.of());
+    assertEquals(
+        Set.of(), userSecretService.findUnauthorizedUserSecretUris(resourceId, Set.of("dev")));
+
+    UserSecret revoked =
+        UserSecret.builder()
+            .data(new StringUserSecretData("super-secret"))
+            .metadata(UserSecretMetadata.builder().type("string").roles(List.of("ops")).build())
+            .build();
+    given(mockSecretEngine.decrypt(ref)).willReturn(revoked);
+    assertEquals(
+        Set.of(uri), userSecretService.findUnauthorizedUserSecretUris(resourceId, Set.of("dev")));
+  }
+
   @Configuration(proxyBeanMethods = false)
   @EnableAutoConfiguration
   static class TestConfig {}
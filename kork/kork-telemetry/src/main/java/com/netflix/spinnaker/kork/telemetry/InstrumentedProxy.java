@@ -20,12 +20,17 @@ import static com.netflix.spinnaker.kork.telemetry.MetricTags.ResultValue.FAILUR
 import static com.netflix.spinnaker.kork.telemetry.MetricTags.ResultValue.SUCCESS;
 
 import com.google.common.base.Strings;
+import com.netflix.spectator.api.Clock;
+import com.netflix.spectator.api.Counter;
 import com.netflix.spectator.api.Id;
 import com.netflix.spectator.api.Registry;
 import com.netflix.spectator.api.histogram.PercentileTimer;
 import com.netflix.spinnaker.kork.annotations.Metered;
 import com.netflix.spinnaker.kork.telemetry.MetricTags.ResultValue;
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.*;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -48,27 +53,49 @@ import java.util.concurrent.TimeUnit;
  * <p>- A method can be ignored, causing no metrics to be collected on it. - Provided a custom
  * metric name, in case auto naming produces naming conflicts. - A list of tags added to the
  * metrics.
+ *
+ * <p>By default, target methods are invoked reflectively and their metrics are looked up on each
+ * invocation. In {@link Mode#METHOD_HANDLE} mode, a method handle and the meters of every method
+ * are resolved at proxy creation time instead.
  */
 public class InstrumentedProxy implements InvocationHandler {
 
+  public enum Mode {
+    REFLECTION,
+    METHOD_HANDLE
+  }
+
   public static <T> T proxy(Registry registry, Object target, String metricNamespace) {
     return proxy(registry, target, metricNamespace, new HashMap<>());
   }
 
-  @SuppressWarnings("unchecked")
   public static <T> T proxy(
       Registry registry, Object target, String metricNamespace, Map<String, String> tags) {
+    return proxy(registry, target, metricNamespace, tags, Mode.REFLECTION);
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <T> T proxy(
+      Registry registry,
+      Object target,
+      String metricNamespace,
+      Map<String, String> tags,
+      Mode mode) {
     final Set<Class<?>> interfaces = new LinkedHashSet<>();
     addHierarchy(interfaces, target.getClass());
 
     final Class[] proxyInterfaces =
         interfaces.stream().filter(Class::isInterface).toArray(Class[]::new);
 
+    InstrumentedProxy instrumentedProxy =
+        new InstrumentedProxy(registry, target, metricNamespace, tags);
+    InvocationHandler handler =
+        (mode == Mode.METHOD_HANDLE)
+            ? new MethodHandleInvocationHandler(instrumentedProxy, proxyInterfaces)
+            : instrumentedProxy;
+
     return (T)
-        Proxy.newProxyInstance(
-            target.getClass().getClassLoader(),
-            proxyInterfaces,
-            new InstrumentedProxy(registry, target, metricNamespace, tags));
+        Proxy.newProxyInstance(target.getClass().getClassLoader(), proxyInterfaces, handler);
   }
 
   private static final String INVOCATIONS = "invocations";
@@ -217,4 +244,119 @@ public class InstrumentedProxy implements InvocationHandler {
       this.invocationsId = invocationsId;
     }
   }
+
+  /**
+   * Invokes target methods through method handles bound to the target, recording to meters that
+   * were resolved when the proxy was created.
+   */
+  private static class MethodHandleInvocationHandler implements InvocationHandler {
+    private static final MethodType SPREAD_TYPE =
+        MethodType.methodType(Object.class, Object[].class);
+
+    private final InstrumentedProxy instrumentedProxy;
+    private final Map<Method, MethodInvoker> invokers = new HashMap<>();
+
+    MethodHandleInvocationHandler(InstrumentedProxy instrumentedProxy, Class<?>[] interfaces) {
+      this.instrumentedProxy = instrumentedProxy;
+      for (Class<?> iface : interfaces) {
+        for (Method method : iface.getMethods()) {
+          invokers.computeIfAbsent(method, this::createInvoker);
+        }
+      }
+      // the proxy also dispatches these, using the methods declared by Object
+      for (String name : Arrays.asList("hashCode", "equals", "toString")) {
+        for (Method method : Object.class.getMethods()) {
+          if (method.getName().equals(name)) {
+            invokers.computeIfAbsent(method, this::createInvoker);
+          }
+        }
+      }
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      MethodInvoker invoker = invokers.get(method);
+      if (invoker == null) {
+        return instrumentedProxy.invoke(proxy, method, args);
+      }
+      return invoker.invoke(args);
+    }
+
+    private MethodInvoker createInvoker(Method method) {
+      MethodHandle handle;
+      try {
+        handle =
+            MethodHandles.publicLookup()
+                .unreflect(method)
+                .bindTo(instrumentedProxy.target)
+                .asSpreader(Object[].class, method.getParameterCount())
+                .asType(SPREAD_TYPE);
+      } catch (IllegalAccessException e) {
+        // e.g. a non-public interface, which is left to the reflective handler
+        return null;
+      }
+
+      Registry registry = instrumentedProxy.registry;
+      MethodMetrics methodMetrics = instrumentedProxy.getMethodMetrics(method);
+      if (methodMetrics == null) {
+        return new MethodInvoker(registry, handle, null, null, null, null);
+      }
+      return new MethodInvoker(
+          registry,
+          handle,
+          registry.counter(methodMetrics.invocationsId.withTag(RESULT_KEY, SUCCESS.toString())),
+          registry.counter(methodMetrics.invocationsId.withTag(RESULT_KEY, FAILURE.toString())),
+          PercentileTimer.get(
+              registry, methodMetrics.timingId.withTag(RESULT_KEY, SUCCESS.toString())),
+          PercentileTimer.get(
+              registry, methodMetrics.timingId.withTag(RESULT_KEY, FAILURE.toString())));
+    }
+  }
+
+  private static class MethodInvoker {
+    private final Clock clock;
+    private final MethodHandle handle;
+    private final Counter successes;
+    private final Counter failures;
+    private final PercentileTimer successTiming;
+    private final PercentileTimer failureTiming;
+
+    MethodInvoker(
+        Registry registry,
+        MethodHandle handle,
+        Counter successes,
+        Counter failures,
+        PercentileTimer successTiming,
+        PercentileTimer failureTiming) {
+      this.clock = registry.clock();
+      this.handle = handle;
+      this.successes = successes;
+      this.failures = failures;
+      this.successTiming = successTiming;
+      this.failureTiming = failureTiming;
+    }
+
+    Object invoke(Object[] args) throws Throwable {
+      if (successes == null) {
+        return (Object) handle.invokeExact(args);
+      }
+
+      final long start = clock.monotonicTime();
+      boolean success = false;
+      try {
+        Object result = (Object) handle.invokeExact(args);
+        success = true;
+        return result;
+      } finally {
+        long duration = clock.monotonicTime() - start;
+        if (success) {
+          successes.increment();
+          successTiming.record(duration, TimeUnit.NANOSECONDS);
+        } else {
+          failures.increment();
+          failureTiming.record(duration, TimeUnit.NANOSECONDS);
+        }
+      }
+    }
+  }
 }
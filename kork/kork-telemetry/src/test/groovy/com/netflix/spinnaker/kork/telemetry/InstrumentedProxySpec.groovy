@@ -46,6 +46,45 @@ class InstrumentedProxySpec extends Specification {
     then:
     thrown MyException
   }
+
+  def "should record the same metrics in #mode mode"() {
+    given:
+    Registry registry = new DefaultRegistry()
+    MyContract subject = InstrumentedProxy.proxy(registry, new MyContractImpl(), "myns", [:], mode)
+
+    when:
+    subject.doStuff()
+    subject.sig1(1L)
+    subject.ignored()
+    try {
+      subject.throwError()
+    } catch (MyException ignored) {
+    }
+
+    then:
+    registry.counter("myns.doStuff.invocations", "result", "success").count() == 1
+    registry.timer("myns.doStuff.timing", "result", "success").count() == 1
+    registry.counter("sig1Long.myns.invocations", "foo", "bar", "result", "success").count() == 1
+    registry.counter("myns.throwError.invocations", "result", "failure").count() == 1
+    registry.timer("myns.throwError.timing", "result", "failure").count() == 1
+    registry.stream().noneMatch { it.id().name().startsWith("myns.ignored") }
+
+    where:
+    mode << InstrumentedProxy.Mode.values()
+  }
+
+  def "should invoke object methods on the target in method handle mode"() {
+    given:
+    def target = new MyContractImpl()
+    MyContract subject = InstrumentedProxy.proxy(
+      registry, target, "myns", [:], InstrumentedProxy.Mode.METHOD_HANDLE
+    )
+
+    expect:
+    subject.doStuff() == "did stuff"
+    subject.toString() == target.toString()
+    subject.hashCode() == target.hashCode()
+  }
 }
 
 interface MyContract {
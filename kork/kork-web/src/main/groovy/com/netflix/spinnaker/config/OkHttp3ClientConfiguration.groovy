@@ -16,6 +16,7 @@
 
 package com.netflix.spinnaker.config
 
+import com.netflix.spinnaker.config.okhttp3.OkHttpClientPoolRegistry
 import com.netflix.spinnaker.okhttp.Retrofit2EncodeCorrectionInterceptor
 import com.netflix.spinnaker.okhttp.SpinnakerRequestHeaderInterceptor
 import okhttp3.Dispatcher
@@ -34,6 +35,7 @@ import okhttp3.OkHttpClient
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.stereotype.Component
 
+import javax.annotation.Nullable
 import javax.net.ssl.KeyManagerFactory
 import javax.net.ssl.SSLContext
 import javax.net.ssl.TrustManagerFactory
@@ -66,19 +68,41 @@ class OkHttp3ClientConfiguration {
    */
   private final Retrofit2EncodeCorrectionInterceptor retrofit2EncodeCorrectionInterceptor
 
+  /**
+   * Connection pool and dispatcher threads shared by all clients, when null each client gets its own
+   */
+  private final OkHttpClientPoolRegistry poolRegistry
+
   @Autowired
   OkHttp3ClientConfiguration(OkHttpClientConfigurationProperties okHttpClientConfigurationProperties,
                              OkHttp3MetricsInterceptor okHttp3MetricsInterceptor,
                              HttpLoggingInterceptor.Level retrofit2LogLevel,
                              SpinnakerRequestHeaderInterceptor spinnakerRequestHeaderInterceptor,
                              Retrofit2EncodeCorrectionInterceptor retrofit2EncodeCorrectionInterceptor,
-                             ObjectFactory<OkHttpClient.Builder> httpClientBuilderFactory) {
+                             ObjectFactory<OkHttpClient.Builder> httpClientBuilderFactory,
+                             @Nullable OkHttpClientPoolRegistry poolRegistry) {
     this.okHttpClientConfigurationProperties = okHttpClientConfigurationProperties
     this.okHttp3MetricsInterceptor = okHttp3MetricsInterceptor
     this.retrofit2LogLevel = retrofit2LogLevel
     this.spinnakerRequestHeaderInterceptor = spinnakerRequestHeaderInterceptor
     this.retrofit2EncodeCorrectionInterceptor = retrofit2EncodeCorrectionInterceptor
     this.httpClientBuilderFactory = httpClientBuilderFactory
+    this.poolRegistry = poolRegistry
+  }
+
+  OkHttp3ClientConfiguration(OkHttpClientConfigurationProperties okHttpClientConfigurationProperties,
+                             OkHttp3MetricsInterceptor okHttp3MetricsInterceptor,
+                             HttpLoggingInterceptor.Level retrofit2LogLevel,
+                             SpinnakerRequestHeaderInterceptor spinnakerRequestHeaderInterceptor,
+                             Retrofit2EncodeCorrectionInterceptor retrofit2EncodeCorrectionInterceptor,
+                             ObjectFactory<OkHttpClient.Builder> httpClientBuilderFactory) {
+    this(okHttpClientConfigurationProperties,
+      okHttp3MetricsInterceptor,
+      retrofit2LogLevel,
+      spinnakerRequestHeaderInterceptor,
+      retrofit2EncodeCorrectionInterceptor,
+      httpClientBuilderFactory,
+      null)
   }
 
   public OkHttp3ClientConfiguration(OkHttpClientConfigurationProperties okHttpClientConfigurationProperties,
@@ -89,20 +113,32 @@ class OkHttp3ClientConfiguration {
       retrofit2LogLevel,
       null,
       null,
-      { new OkHttpClient.Builder() })
+      { new OkHttpClient.Builder() } as ObjectFactory<OkHttpClient.Builder>,
+      null)
   }
 
   /**
    * @return OkHttpClient with SpinnakerRequestHeaderInterceptor and Retrofit2EncodeCorrectionInterceptor
-   * as initial interceptors w/ <optional> key and trust stores
+   * as initial interceptors w/ <optional> key and trust stores. Per-host settings are not applied, use
+   * {@link #createForRetrofit2(String)} for clients of a single service.
    */
   OkHttpClient.Builder createForRetrofit2() {
+    return createForRetrofit2(null)
+  }
+
+  /**
+   * @param baseUrl base url of the service the client is for, used to apply any per-host settings
+   * (see {@link OkHttpClientConfigurationProperties#getHosts()})
+   * @return OkHttpClient as in {@link #createForRetrofit2()}
+   */
+  OkHttpClient.Builder createForRetrofit2(@Nullable String baseUrl) {
     if (okHttpClientConfigurationProperties.refreshableKeys.enabled) {
       // already configured via OkHttpClientCustomizer beans
-      return httpClientBuilderFactory.object
+      OkHttpClient.Builder builder = httpClientBuilderFactory.object
+      return poolRegistry ? poolRegistry.configure(builder, baseUrl) : builder
     }
 
-    OkHttpClient.Builder okHttpClientBuilder = createBasicClient()
+    OkHttpClient.Builder okHttpClientBuilder = createBasicClient(baseUrl)
 
     /**
      * {@link okhttp3.Interceptor} are sequential, insert spinnakerRequestHeaderInterceptor initially,
@@ -167,15 +203,21 @@ class OkHttp3ClientConfiguration {
     return applyConnectionSpecs(okHttpClientBuilder)
   }
 
-  private OkHttpClient.Builder createBasicClient() {
-    Dispatcher dispatcher = new Dispatcher()
-    dispatcher.setMaxRequests(okHttpClientConfigurationProperties.maxRequests)
-    dispatcher.setMaxRequestsPerHost(okHttpClientConfigurationProperties.maxRequestsPerHost)
-
+  private OkHttpClient.Builder createBasicClient(String baseUrl) {
     OkHttpClient.Builder okHttpClientBuilder = new OkHttpClient.Builder()
       .connectTimeout(okHttpClientConfigurationProperties.connectTimeoutMs, TimeUnit.MILLISECONDS)
       .readTimeout(okHttpClientConfigurationProperties.readTimeoutMs, TimeUnit.MILLISECONDS)
       .retryOnConnectionFailure(okHttpClientConfigurationProperties.retryOnConnectionFailure)
+
+    if (poolRegistry) {
+      return poolRegistry.configure(okHttpClientBuilder, baseUrl)
+    }
+
+    Dispatcher dispatcher = new Dispatcher()
+    dispatcher.setMaxRequests(okHttpClientConfigurationProperties.maxRequests)
+    dispatcher.setMaxRequestsPerHost(okHttpClientConfigurationProperties.maxRequestsPerHost)
+
+    okHttpClientBuilder
       .dispatcher(dispatcher)
       .connectionPool(new ConnectionPool(
         okHttpClientConfigurationProperties.connectionPool.maxIdleConnections,
@@ -20,6 +20,7 @@ import brave.http.HttpTracing;
 import brave.okhttp3.TracingInterceptor;
 import com.netflix.spectator.api.Registry;
 import com.netflix.spinnaker.config.okhttp3.OkHttpClientCustomizer;
+import com.netflix.spinnaker.config.okhttp3.OkHttpClientPoolRegistry;
 import com.netflix.spinnaker.kork.crypto.PasswordProvider;
 import com.netflix.spinnaker.kork.crypto.SecureRandomBuilder;
 import com.netflix.spinnaker.kork.crypto.StandardCrypto;
@@ -144,21 +145,37 @@ public class OkHttpClientComponents {
   }
 
   /**
-   * Configures connection pooling for clients.
+   * Configures a common connection pool for clients.
    *
    * @see ConnectionPool
    */
   @Bean
-  public OkHttpClientCustomizer connectionPoolCustomizer() {
+  public ConnectionPool okhttpConnectionPool() {
     var poolProperties = clientProperties.getConnectionPool();
-    var connectionPool =
-        new ConnectionPool(
-            poolProperties.getMaxIdleConnections(),
-            poolProperties.getKeepAliveDurationMs(),
-            TimeUnit.MILLISECONDS);
+    return new ConnectionPool(
+        poolProperties.getMaxIdleConnections(),
+        poolProperties.getKeepAliveDurationMs(),
+        TimeUnit.MILLISECONDS);
+  }
+
+  /** Configures connection pooling for clients. */
+  @Bean
+  public OkHttpClientCustomizer connectionPoolCustomizer(ConnectionPool connectionPool) {
     return builder -> builder.connectionPool(connectionPool);
   }
 
+  /**
+   * Shares the common dispatcher and connection pool between all clients, with per-host overrides.
+   *
+   * @see OkHttpClientConfigurationProperties#getHosts()
+   */
+  @Bean
+  public OkHttpClientPoolRegistry okHttpClientPoolRegistry(
+      Dispatcher dispatcher, ConnectionPool connectionPool, ObjectProvider<Registry> registry) {
+    return new OkHttpClientPoolRegistry(
+        clientProperties, dispatcher, connectionPool, registry.getIfAvailable());
+  }
+
   /**
    * Configures connection specifications allowed for clients.
    *
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.config.okhttp3;
+
+import com.netflix.spectator.api.Registry;
+import com.netflix.spectator.api.patterns.PolledMeter;
+import com.netflix.spinnaker.okhttp.OkHttpClientConfigurationProperties;
+import com.netflix.spinnaker.okhttp.OkHttpClientConfigurationProperties.HostProperties;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import javax.annotation.Nullable;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+
+/**
+ * Shares connection pools and dispatcher threads between the {@link OkHttpClient}s of a service,
+ * so that a service with many clients (one per downstream service or account) does not open
+ * connections and threads separately for each of them.
+ *
+ * <p>Every client shares one {@link ConnectionPool}. Each client gets its own {@link Dispatcher},
+ * limited to the configured {@code maxRequests} and {@code maxRequestsPerHost}, so that the
+ * requests to one downstream service do not hold up those to the others. Clients of hosts with
+ * their own {@link HostProperties#getMaxRequestsPerHost()} share a dispatcher per host instead.
+ * All dispatchers run their calls on the thread pool of the shared dispatcher. Hosts can also be
+ * configured to use cleartext HTTP/2 (h2c), multiplexing their requests over a single connection.
+ * Host settings only apply to clients configured with the base url of the host.
+ *
+ * <p>The number of calls queued and running in the dispatchers are reported as {@code
+ * okhttp.dispatcher.queuedCalls} and {@code okhttp.dispatcher.runningCalls}, tagged with the host
+ * of host dispatchers and summed over the dispatchers of the other clients; request metrics are
+ * recorded by {@link com.netflix.spinnaker.okhttp.OkHttp3MetricsInterceptor}.
+ */
+public class OkHttpClientPoolRegistry {
+  private static final String CLIENTS = "clients";
+
+  private final OkHttpClientConfigurationProperties properties;
+  private final Dispatcher dispatcher;
+  private final ConnectionPool connectionPool;
+  private final Registry registry;
+  private final Map<String, Dispatcher> hostDispatchers = new ConcurrentHashMap<>();
+  private final Set<Dispatcher> clientDispatchers =
+      Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+  public OkHttpClientPoolRegistry(
+      OkHttpClientConfigurationProperties properties,
+      Dispatcher dispatcher,
+      ConnectionPool connectionPool,
+      @Nullable Registry registry) {
+    this.properties = properties;
+    this.dispatcher = dispatcher;
+    this.connectionPool = connectionPool;
+    this.registry = registry;
+    monitor(
+        CLIENTS,
+        this,
+        r -> r.sum(Dispatcher::queuedCallsCount),
+        r -> r.sum(Dispatcher::runningCallsCount));
+  }
+
+  /**
+   * @return the dispatcher whose thread pool is shared by all clients
+   */
+  public Dispatcher getDispatcher() {
+    return dispatcher;
+  }
+
+  public ConnectionPool getConnectionPool() {
+    return connectionPool;
+  }
+
+  /**
+   * @return the dispatcher shared by the clients of the given host, or null if the host has no
+   *     concurrency of its own and each of its clients gets its own dispatcher
+   */
+  @Nullable
+  public Dispatcher getDispatcher(String host) {
+    HostProperties hostProperties = properties.getHosts().get(host);
+    if (hostProperties == null || hostProperties.getMaxRequestsPerHost() == null) {
+      return null;
+    }
+    return hostDispatchers.computeIfAbsent(
+        host, h -> newHostDispatcher(h, hostProperties.getMaxRequestsPerHost()));
+  }
+
+  /**
+   * Configures a client builder to use the shared connection pool, and a dispatcher and protocols
+   * as in {@link #configureDispatcher}.
+   */
+  public OkHttpClient.Builder configure(OkHttpClient.Builder builder, @Nullable String baseUrl) {
+    return configureDispatcher(builder.connectionPool(connectionPool), baseUrl);
+  }
+
+  /**
+   * Configures a client builder to use the dispatcher and protocols of the host of {@code baseUrl}
+   * if it has any, otherwise a dispatcher of its own.
+   */
+  public OkHttpClient.Builder configureDispatcher(
+      OkHttpClient.Builder builder, @Nullable String baseUrl) {
+    HttpUrl url = (baseUrl != null) ? HttpUrl.parse(baseUrl) : null;
+    Dispatcher hostDispatcher = (url != null) ? getDispatcher(url.host()) : null;
+    builder.dispatcher(hostDispatcher != null ? hostDispatcher : newClientDispatcher());
+
+    HostProperties hostProperties = (url != null) ? properties.getHosts().get(url.host()) : null;
+    if (hostProperties != null && hostProperties.isH2PriorKnowledge() && !url.isHttps()) {
+      builder.protocols(List.of(Protocol.H2_PRIOR_KNOWLEDGE));
+    }
+    return builder;
+  }
+
+  private Dispatcher newClientDispatcher() {
+    // shares the executor, and so the thread pool, of the shared dispatcher
+    Dispatcher clientDispatcher = new Dispatcher(dispatcher.executorService());
+    clientDispatcher.setMaxRequests(properties.getMaxRequests());
+    clientDispatcher.setMaxRequestsPerHost(properties.getMaxRequestsPerHost());
+    clientDispatchers.add(clientDispatcher);
+    return clientDispatcher;
+  }
+
+  private Dispatcher newHostDispatcher(String host, int maxRequestsPerHost) {
+    Dispatcher hostDispatcher = new Dispatcher(dispatcher.executorService());
+    hostDispatcher.setMaxRequests(Math.max(properties.getMaxRequests(), maxRequestsPerHost));
+    hostDispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+    monitor(host, hostDispatcher, Dispatcher::queuedCallsCount, Dispatcher::runningCallsCount);
+    return hostDispatcher;
+  }
+
+  /**
+   * Sums a count over the dispatchers of the clients, and the shared dispatcher for the clients
+   * that were configured with it directly.
+   */
+  private double sum(ToIntFunction<Dispatcher> count) {
+    synchronized (clientDispatchers) {
+      return clientDispatchers.stream().mapToInt(count).sum() + count.applyAsInt(dispatcher);
+    }
+  }
+
+  private <T> void monitor(
+      String name,
+      T monitored,
+      ToDoubleFunction<T> queued,
+      ToDoubleFunction<T> running) {
+    if (registry == null) {
+      return;
+    }
+    PolledMeter.using(registry)
+        .withName("okhttp.dispatcher.queuedCalls")
+        .withTag("dispatcher", name)
+        .monitorValue(monitored, queued);
+    PolledMeter.using(registry)
+        .withName("okhttp.dispatcher.runningCalls")
+        .withTag("dispatcher", name)
+        .monitorValue(monitored, running);
+  }
+}
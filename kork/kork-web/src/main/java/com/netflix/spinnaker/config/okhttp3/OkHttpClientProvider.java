@@ -21,8 +21,12 @@ import static java.lang.String.format;
 import com.netflix.spinnaker.config.ServiceEndpoint;
 import com.netflix.spinnaker.kork.exceptions.SystemException;
 import java.util.List;
+import javax.annotation.Nullable;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.Interceptor;
 import okhttp3.OkHttpClient;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -30,10 +34,37 @@ import org.springframework.stereotype.Component;
 public class OkHttpClientProvider {
 
   private final List<OkHttpClientBuilderProvider> providers;
+  private final OkHttpClientPoolRegistry poolRegistry;
+  private final OkHttpClient defaultClient;
 
-  @Autowired
   public OkHttpClientProvider(List<OkHttpClientBuilderProvider> providers) {
     this.providers = providers;
+    this.poolRegistry = null;
+    this.defaultClient = null;
+  }
+
+  /**
+   * @param poolRegistry optional registry of the connection pools and dispatchers to share between
+   *     clients
+   * @param defaultClient the client the builders of the providers derive from. A client whose
+   *     builder kept the dispatcher or connection pool of this client, or of the registry, gets
+   *     those of the registry; a dispatcher or connection pool set by its provider is kept.
+   */
+  public OkHttpClientProvider(
+      List<OkHttpClientBuilderProvider> providers,
+      @Nullable OkHttpClientPoolRegistry poolRegistry,
+      @Nullable OkHttpClient defaultClient) {
+    this.providers = providers;
+    this.poolRegistry = poolRegistry;
+    this.defaultClient = defaultClient;
+  }
+
+  @Autowired
+  public OkHttpClientProvider(
+      List<OkHttpClientBuilderProvider> providers,
+      ObjectProvider<OkHttpClientPoolRegistry> poolRegistry,
+      ObjectProvider<OkHttpClient> defaultClient) {
+    this(providers, poolRegistry.getIfAvailable(), defaultClient.getIfUnique());
   }
 
   /**
@@ -49,10 +80,31 @@ public class OkHttpClientProvider {
 
   public OkHttpClient getClient(ServiceEndpoint service, List<Interceptor> interceptors) {
     OkHttpClient.Builder builder = findProvider(service).get(service);
+    if (poolRegistry != null) {
+      OkHttpClient client = builder.build();
+      if (isDefault(client.connectionPool(), poolRegistry.getConnectionPool(), defaultPool())) {
+        builder.connectionPool(poolRegistry.getConnectionPool());
+      }
+      if (isDefault(client.dispatcher(), poolRegistry.getDispatcher(), defaultDispatcher())) {
+        poolRegistry.configureDispatcher(builder, service.getBaseUrl());
+      }
+    }
     interceptors.forEach(builder::addInterceptor);
     return builder.build();
   }
 
+  private ConnectionPool defaultPool() {
+    return defaultClient != null ? defaultClient.connectionPool() : null;
+  }
+
+  private Dispatcher defaultDispatcher() {
+    return defaultClient != null ? defaultClient.dispatcher() : null;
+  }
+
+  private static boolean isDefault(Object value, Object shared, @Nullable Object defaultValue) {
+    return value == shared || value == defaultValue;
+  }
+
   private OkHttpClientBuilderProvider findProvider(ServiceEndpoint service) {
     return providers.stream()
         .filter(provider -> provider.supports(service))
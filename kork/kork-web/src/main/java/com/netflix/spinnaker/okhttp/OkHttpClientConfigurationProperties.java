@@ -20,7 +20,9 @@ import com.netflix.spinnaker.kork.crypto.CipherSuites;
 import java.io.File;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -114,6 +116,37 @@ public class OkHttpClientConfigurationProperties {
   @NestedConfigurationProperty @Builder.Default
   private RefreshableKeys refreshableKeys = new RefreshableKeys();
 
+  /**
+   * Settings for the clients of a single host. Clients of every host share one connection pool.
+   *
+   * @see com.netflix.spinnaker.config.okhttp3.OkHttpClientPoolRegistry
+   */
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @Builder(toBuilder = true)
+  public static class HostProperties {
+    /**
+     * Maximum number of concurrent asynchronous requests to the host. Requests to a host with this
+     * set are dispatched separately from those to other hosts. Defaults to maxRequestsPerHost.
+     */
+    private Integer maxRequestsPerHost;
+
+    /**
+     * Whether to speak cleartext HTTP/2 (h2c) to the http:// endpoints of the host without
+     * negotiating it first, so that concurrent requests are multiplexed over a single connection.
+     * The host must support HTTP/2 with prior knowledge. HTTP/2 is always negotiated for https://
+     * endpoints when the server supports it.
+     */
+    @Builder.Default private boolean h2PriorKnowledge = false;
+  }
+
+  /**
+   * Per-host client settings, keyed by host name. Host names containing dots must be bracketed,
+   * e.g. {@code ok-http-client.hosts[clouddriver.example.com].max-requests-per-host}.
+   */
+  @Builder.Default private Map<String, HostProperties> hosts = new HashMap<>();
+
   /** Return a deep copy of this OkHttpClientConfigurationProperties object. */
   public OkHttpClientConfigurationProperties deepCopy() {
     return this.toBuilder()
@@ -122,6 +155,13 @@ public class OkHttpClientConfigurationProperties {
         .cipherSuites(new ArrayList<>(this.cipherSuites))
         .connectionPool(this.connectionPool.toBuilder().build())
         .refreshableKeys(this.refreshableKeys.toBuilder().build())
+        .hosts(copyHosts())
         .build();
   }
+
+  private Map<String, HostProperties> copyHosts() {
+    Map<String, HostProperties> copy = new HashMap<>();
+    this.hosts.forEach((host, properties) -> copy.put(host, properties.toBuilder().build()));
+    return copy;
+  }
 }
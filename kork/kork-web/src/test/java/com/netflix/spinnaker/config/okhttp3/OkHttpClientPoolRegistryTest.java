@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.config.okhttp3;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.netflix.spectator.api.DefaultRegistry;
+import com.netflix.spectator.api.Registry;
+import com.netflix.spectator.api.patterns.PolledMeter;
+import com.netflix.spinnaker.config.DefaultServiceEndpoint;
+import com.netflix.spinnaker.okhttp.OkHttpClientConfigurationProperties;
+import com.netflix.spinnaker.okhttp.OkHttpClientConfigurationProperties.HostProperties;
+import java.util.List;
+import java.util.Map;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class OkHttpClientPoolRegistryTest {
+  private final Registry registry = new DefaultRegistry();
+  private final Dispatcher dispatcher = new Dispatcher();
+  private final ConnectionPool connectionPool = new ConnectionPool();
+
+  private OkHttpClientPoolRegistry poolRegistry;
+
+  @BeforeEach
+  void setup() {
+    OkHttpClientConfigurationProperties properties =
+        OkHttpClientConfigurationProperties.builder()
+            .hosts(
+                Map.of(
+                    "clouddriver",
+                    HostProperties.builder().maxRequestsPerHost(250).build(),
+                    "front50",
+                    HostProperties.builder().h2PriorKnowledge(true).build()))
+            .build();
+    poolRegistry = new OkHttpClientPoolRegistry(properties, dispatcher, connectionPool, registry);
+  }
+
+  @Test
+  void clientsShareTheConnectionPoolButNotTheDispatcher() {
+    OkHttpClient echo = build("http://echo:8089");
+    OkHttpClient igor = build("https://igor:8088");
+    OkHttpClient unknown = build(null);
+
+    assertThat(echo.connectionPool()).isSameAs(connectionPool);
+    assertThat(igor.connectionPool()).isSameAs(connectionPool);
+    assertThat(unknown.connectionPool()).isSameAs(connectionPool);
+    assertThat(echo.dispatcher())
+        .isNotSameAs(dispatcher)
+        .isNotSameAs(igor.dispatcher())
+        .isNotSameAs(unknown.dispatcher());
+    assertThat(echo.dispatcher().getMaxRequests()).isEqualTo(100);
+    assertThat(echo.dispatcher().executorService()).isSameAs(dispatcher.executorService());
+    assertThat(echo.protocols()).contains(Protocol.HTTP_2, Protocol.HTTP_1_1);
+  }
+
+  @Test
+  void hostsWithTheirOwnConcurrencyShareADedicatedDispatcher() {
+    OkHttpClient first = build("http://clouddriver:7002");
+    OkHttpClient second = build("http://clouddriver:7002/cache");
+
+    assertThat(first.connectionPool()).isSameAs(connectionPool);
+    assertThat(first.dispatcher()).isNotSameAs(dispatcher).isSameAs(second.dispatcher());
+    assertThat(first.dispatcher().getMaxRequestsPerHost()).isEqualTo(250);
+    assertThat(first.dispatcher().getMaxRequests()).isEqualTo(250);
+    assertThat(first.dispatcher().executorService()).isSameAs(dispatcher.executorService());
+  }
+
+  @Test
+  void cleartextHttp2IsOnlyUsedForHttpEndpoints() {
+    assertThat(build("http://front50:8080").protocols())
+        .containsExactly(Protocol.H2_PRIOR_KNOWLEDGE);
+    assertThat(build("https://front50:8080").protocols())
+        .contains(Protocol.HTTP_2, Protocol.HTTP_1_1);
+  }
+
+  @Test
+  void dispatcherQueuesAreMonitored() {
+    build("http://clouddriver:7002");
+    PolledMeter.update(registry);
+
+    assertThat(
+            registry
+                .gauge(
+                    registry
+                        .createId("okhttp.dispatcher.queuedCalls")
+                        .withTag("dispatcher", "clients"))
+                .value())
+        .isEqualTo(0);
+    assertThat(
+            registry
+                .gauge(
+                    registry
+                        .createId("okhttp.dispatcher.runningCalls")
+                        .withTag("dispatcher", "clouddriver"))
+                .value())
+        .isEqualTo(0);
+  }
+
+  @Test
+  void clientProviderUsesTheSharedPoolsInsteadOfTheDefaultOnes() {
+    OkHttpClient defaultClient = new OkHttpClient();
+    OkHttpClientBuilderProvider builderProvider = service -> defaultClient.newBuilder();
+    OkHttpClientProvider clientProvider =
+        new OkHttpClientProvider(List.of(builderProvider), poolRegistry, defaultClient);
+
+    OkHttpClient client =
+        clientProvider.getClient(new DefaultServiceEndpoint("clouddriver", "http://clouddriver"));
+
+    assertThat(client.connectionPool()).isSameAs(connectionPool);
+    assertThat(client.dispatcher()).isSameAs(poolRegistry.getDispatcher("clouddriver"));
+  }
+
+  @Test
+  void clientProviderKeepsThePoolsSetByAProvider() {
+    Dispatcher providerDispatcher = new Dispatcher();
+    ConnectionPool providerConnectionPool = new ConnectionPool();
+    OkHttpClient defaultClient = new OkHttpClient();
+    OkHttpClientBuilderProvider builderProvider =
+        service ->
+            defaultClient
+                .newBuilder()
+                .dispatcher(providerDispatcher)
+                .connectionPool(providerConnectionPool);
+    OkHttpClientProvider clientProvider =
+        new OkHttpClientProvider(List.of(builderProvider), poolRegistry, defaultClient);
+
+    OkHttpClient client =
+        clientProvider.getClient(new DefaultServiceEndpoint("clouddriver", "http://clouddriver"));
+
+    assertThat(client.connectionPool()).isSameAs(providerConnectionPool);
+    assertThat(client.dispatcher()).isSameAs(providerDispatcher);
+  }
+
+  private OkHttpClient build(String baseUrl) {
+    return poolRegistry.configure(new OkHttpClient.Builder(), baseUrl).build();
+  }
+}
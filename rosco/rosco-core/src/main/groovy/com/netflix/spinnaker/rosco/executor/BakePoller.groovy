@@ -24,6 +24,7 @@ import com.netflix.spinnaker.rosco.api.BakeStatus
 import com.netflix.spinnaker.rosco.jobs.BakeRecipe
 import com.netflix.spinnaker.rosco.jobs.JobExecutor
 import com.netflix.spinnaker.rosco.persistence.BakeStore
+import com.netflix.spinnaker.rosco.persistence.IncompleteBake
 import com.netflix.spinnaker.rosco.providers.registry.CloudProviderBakeHandlerRegistry
 import groovy.util.logging.Slf4j
 import org.springframework.beans.factory.annotation.Autowired
@@ -104,63 +105,7 @@ class BakePoller implements ApplicationListener<ContextRefreshedEvent> {
     Schedulers.io().createWorker().schedulePeriodically(
       {
         try {
-          Observable.fromIterable(bakeStore.allIncompleteBakeIds.entrySet())
-            .subscribe(
-              { Map.Entry<String, Set<String>> entry ->
-                String roscoInstanceId = entry.key
-                Set<String> incompleteBakeIds = entry.value
-
-                if (roscoInstanceId != this.roscoInstanceId) {
-                  try {
-                    Observable.fromIterable(incompleteBakeIds)
-                      .subscribe(
-                        { String statusId ->
-                          BakeStatus bakeStatus = bakeStore.retrieveBakeStatusById(statusId)
-
-                          // The updatedTimestamp key will not be present if the in-flight bake is managed by an
-                          // older-style (i.e. rosco/rush) rosco instance.
-                          if (bakeStatus?.updatedTimestamp) {
-                            long currentTimeSeconds = TimeUnit.MILLISECONDS.toSeconds(bakeStore.timeInMilliseconds)
-                            long lastUpdatedTimeSeconds = TimeUnit.MILLISECONDS.toSeconds(bakeStatus.updatedTimestamp)
-                            long eTimeMinutes = TimeUnit.SECONDS.toMinutes(currentTimeSeconds - lastUpdatedTimeSeconds)
-
-                            // This can only be true if the rosco instance that owns this bake has not been updating the status.
-                            // Note that this only applies to bakes owned by _other_ rosco instances, not _this_ one.
-                            if (eTimeMinutes >= orphanedJobTimeoutMinutes) {
-                              BakeRequest bakeRequest = bakeStore.retrieveBakeRequestById(statusId)
-                              log.info("The staleness of bake $statusId ($eTimeMinutes minutes) has met or exceeded the " +
-                                       "value of orphanedJobTimeoutMinutes ($orphanedJobTimeoutMinutes minutes)" +
-                                       "(executionId: $bakeRequest.spinnaker_execution_id).")
-
-                              boolean cancellationSucceeded = bakeStore.cancelBakeById(statusId)
-
-                              if (!cancellationSucceeded) {
-                                bakeStore.removeFromIncompletes(roscoInstanceId, statusId)
-                              }
-
-                              // This will have the most up-to-date timestamp.
-                              bakeStatus = bakeStore.retrieveBakeStatusById(statusId)
-                              def tags = [success: "false", cause: "orphanTimedOut", region: bakeStore.retrieveRegionById(statusId)]
-                              long millis = bakeStatus.updatedTimestamp - bakeStatus.createdTimestamp
-                              registry.timer(registry.createId("bakesCompleted", tags)).record(millis, TimeUnit.MILLISECONDS)
-                            }
-                          }
-                        },
-                        {
-                          log.error("Error: ${it.message}")
-                        },
-                        {} as Action
-                    )
-                  } catch (Exception e) {
-                    log.error("Zombie Killer Polling Error:", e)
-                  }
-                }
-              },
-              {
-                log.error("Zombie Killer Error: ${it.message}")
-              },
-              {} as Action
-            )
+          cancelOrphanedBakes()
         } catch (Exception e) {
           log.error("Zombie Killer Polling Error:", e)
         }
@@ -168,6 +113,57 @@ class BakePoller implements ApplicationListener<ContextRefreshedEvent> {
     )
   }
 
+  /**
+   * Cancels the incomplete bakes of _other_ rosco instances whose status has not been updated for at least
+   * orphanedJobTimeoutMinutes. Only the stale bakes are retrieved from the bake store, rather than the status of
+   * every incomplete bake.
+   */
+  void cancelOrphanedBakes() {
+    long currentTimeMillis = bakeStore.timeInMilliseconds
+    long updatedBeforeMillis = currentTimeMillis - TimeUnit.MINUTES.toMillis(orphanedJobTimeoutMinutes)
+
+    Observable.fromIterable(bakeStore.retrieveStaleIncompleteBakes(updatedBeforeMillis))
+      .filter { IncompleteBake incompleteBake -> incompleteBake.roscoInstanceId != this.roscoInstanceId }
+      // The index can lag behind bakes updated by rosco instances that don't maintain it, so re-check the staleness.
+      .filter { IncompleteBake incompleteBake -> incompleteBake.bakeStatus.updatedTimestamp <= updatedBeforeMillis }
+      .subscribe(
+        { IncompleteBake incompleteBake ->
+          try {
+            cancelOrphanedBake(incompleteBake, currentTimeMillis)
+          } catch (Exception e) {
+            log.error("Zombie Killer Polling Error:", e)
+          }
+        },
+        {
+          log.error("Zombie Killer Error: ${it.message}")
+        },
+        {} as Action
+      )
+  }
+
+  private void cancelOrphanedBake(IncompleteBake incompleteBake, long currentTimeMillis) {
+    String statusId = incompleteBake.id
+    long eTimeMinutes = TimeUnit.MILLISECONDS.toMinutes(currentTimeMillis - incompleteBake.bakeStatus.updatedTimestamp)
+
+    // This can only be true if the rosco instance that owns this bake has not been updating the status.
+    BakeRequest bakeRequest = bakeStore.retrieveBakeRequestById(statusId)
+    log.info("The staleness of bake $statusId ($eTimeMinutes minutes) has met or exceeded the " +
+             "value of orphanedJobTimeoutMinutes ($orphanedJobTimeoutMinutes minutes)" +
+             "(executionId: $bakeRequest?.spinnaker_execution_id).")
+
+    boolean cancellationSucceeded = bakeStore.cancelBakeById(statusId)
+
+    if (!cancellationSucceeded) {
+      bakeStore.removeFromIncompletes(incompleteBake.roscoInstanceId, statusId)
+    }
+
+    // This will have the most up-to-date timestamp.
+    BakeStatus bakeStatus = bakeStore.retrieveBakeStatusById(statusId) ?: incompleteBake.bakeStatus
+    def tags = [success: "false", cause: "orphanTimedOut", region: incompleteBake.region]
+    long millis = bakeStatus.updatedTimestamp - bakeStatus.createdTimestamp
+    registry.timer(registry.createId("bakesCompleted", tags)).record(millis, TimeUnit.MILLISECONDS)
+  }
+
   void updateBakeStatusAndLogs(String statusId) {
     BakeStatus bakeStatus = executor.updateJob(statusId)
     def tags
@@ -133,6 +133,12 @@ interface BakeStore {
    */
   public Map<String, Set<String>> getAllIncompleteBakeIds()
 
+  /**
+   * Retrieve the incomplete bakes of all rosco instances whose status was last updated at or before
+   * updatedBeforeMilliseconds, along with their owning rosco instance id, region and bake status.
+   */
+  public List<IncompleteBake> retrieveStaleIncompleteBakes(long updatedBeforeMilliseconds)
+
   public void saveImageToBakeRelationship(String region, String image, String bakeId)
 
   public String getBakeIdFromImage(String region, String image)
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.rosco.persistence
+
+import com.netflix.spinnaker.rosco.api.BakeStatus
+import groovy.transform.CompileStatic
+import groovy.transform.ToString
+
+/**
+ * An incomplete bake, along with the rosco instance that owns it.
+ */
+@CompileStatic
+@ToString(includeNames = true)
+class IncompleteBake {
+
+  String id
+
+  String roscoInstanceId
+
+  String region
+
+  /**
+   * Includes the created and updated timestamps.
+   */
+  BakeStatus bakeStatus
+}
@@ -24,8 +24,10 @@ import com.netflix.spinnaker.rosco.api.BakeStatus
 import com.netflix.spinnaker.rosco.jobs.BakeRecipe
 import groovy.transform.CompileStatic
 import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.beans.factory.annotation.Value
 import redis.clients.jedis.JedisPool
 import redis.clients.jedis.exceptions.JedisDataException
+import redis.clients.jedis.params.ZAddParams
 
 import java.util.concurrent.TimeUnit
 
@@ -33,6 +35,12 @@ class RedisBackedBakeStore implements BakeStore {
 
   public static final String INCOMPLETE_BAKES_PREFIX = "allBakes:incomplete:"
 
+  /**
+   * Ids of the incomplete bakes of all rosco instances, scored by their updated timestamp. Deliberately not prefixed
+   * by INCOMPLETE_BAKES_PREFIX so that it isn't mistaken for an instance's set of incomplete bakes.
+   */
+  public static final String INCOMPLETE_BAKES_BY_UPDATED_TIMESTAMP_KEY = "allBakes:incompleteByUpdatedTimestamp"
+
   @Autowired
   String roscoInstanceId
 
@@ -42,6 +50,15 @@ class RedisBackedBakeStore implements BakeStore {
 
   def scriptNameToSHAMap = [:]
 
+  /**
+   * How often the index of incomplete bakes is reconciled against the incomplete bakes of all rosco instances, which
+   * instances that don't maintain the index (e.g. during a rolling deploy) let it drift from.
+   */
+  @Value('${rosco.polling.incomplete-bakes-reconcile-interval-minutes:10}')
+  long incompleteBakesReconcileIntervalMinutes = 10
+
+  private volatile long incompleteBakesReconciledAtMillis
+
   public RedisBackedBakeStore(JedisPool jedisPool, RedisClientDelegate redisClientDelegate) {
     this.jedisPool = jedisPool;
     this.redisClientDelegate = redisClientDelegate;
@@ -70,7 +87,7 @@ class RedisBackedBakeStore implements BakeStore {
             return false
           end
         """)
-        // Expected key list: "allBakes", bake id, bake key, this instance incomplete bakes key, lock key, pipeline execution key
+        // Expected key list: "allBakes", bake id, bake key, this instance incomplete bakes key, lock key, pipeline execution key, incomplete bakes index key
         // Expected arg list: createdTimestampMilliseconds, region, bake request json, bake status json, bake logs json, command, rosco instance id
         storeNewBakeStatusSHA = jedis.scriptLoad("""\
           -- Delete the bake id key.
@@ -116,6 +133,7 @@ class RedisBackedBakeStore implements BakeStore {
 
           -- Add bake id to set of incomplete bakes.
           redis.call('SADD', KEYS[4], KEYS[2])
+          redis.call('ZADD', KEYS[7], ARGV[1], KEYS[2])
 
           -- Delete the lock key key instead of just allowing it to wait out the TTL.
           redis.call('DEL', KEYS[5])
@@ -139,7 +157,7 @@ class RedisBackedBakeStore implements BakeStore {
           -- Update the bake details set on the bake key hash.
           redis.call('HSET', bake_key, 'bakeDetails', ARGV[1])
         """)
-        // Expected key list: bake id, this instance incomplete bakes key
+        // Expected key list: bake id, this instance incomplete bakes key, incomplete bakes index key
         // Expected arg list: bake status json, bake logs json, updatedTimestampMilliseconds
         def updateBakeStatusBaseScript = """\
           local existing_bake_status = redis.call('HGET', KEYS[1], 'bakeStatus')
@@ -166,12 +184,16 @@ class RedisBackedBakeStore implements BakeStore {
                        'updatedTimestamp', ARGV[3])
           end
         """
-        updateBakeStatusSHA = jedis.scriptLoad(updateBakeStatusBaseScript)
-        // Expected key list: bake id, this instance incomplete bakes key
+        updateBakeStatusSHA = jedis.scriptLoad(updateBakeStatusBaseScript + """\
+          -- Record the update in the index of incomplete bakes.
+          redis.call('ZADD', KEYS[3], ARGV[3], KEYS[1])
+        """)
+        // Expected key list: bake id, this instance incomplete bakes key, incomplete bakes index key
         // Expected arg list: bake status json, bake logs json, updatedTimestampMilliseconds
         def updateBakeStatusWithIncompleteRemovalScript = updateBakeStatusBaseScript + """\
           -- Remove bake id from set of incomplete bakes.
           redis.call('SREM', KEYS[2], KEYS[1])
+          redis.call('ZREM', KEYS[3], KEYS[1])
         """
         updateBakeStatusWithIncompleteRemovalSHA = jedis.scriptLoad(updateBakeStatusWithIncompleteRemovalScript)
         // Expected key list: bake id
@@ -208,6 +230,7 @@ class RedisBackedBakeStore implements BakeStore {
               -- Remove bake id from that rosco instance's set of incomplete bakes.
               redis.call('SREM', 'allBakes:incomplete:' .. rosco_instance_id, bake_id)
             end
+            redis.call('ZREM', '$INCOMPLETE_BAKES_BY_UPDATED_TIMESTAMP_KEY', bake_id)
 
             -- Delete the bake id key.
             redis.call('DEL', bake_id)
@@ -235,6 +258,7 @@ class RedisBackedBakeStore implements BakeStore {
               -- Remove bake id from that rosco instance's set of incomplete bakes.
               redis.call('SREM', 'allBakes:incomplete:' .. rosco_instance_id, bake_id)
             end
+            redis.call('ZREM', '$INCOMPLETE_BAKES_BY_UPDATED_TIMESTAMP_KEY', bake_id)
 
             -- Set bake state to CANCELED if still running.
             local bake_status = redis.call('HGET', bake_id, 'bakeStatus')
@@ -271,6 +295,7 @@ class RedisBackedBakeStore implements BakeStore {
             -- Remove bake id from that rosco instance's set of incomplete bakes.
             ret = redis.call('SREM', 'allBakes:incomplete:' .. rosco_instance_id, KEYS[1])
           end
+          redis.call('ZREM', '$INCOMPLETE_BAKES_BY_UPDATED_TIMESTAMP_KEY', KEYS[1])
 
           -- Update the bake status set on the bake id hash.
           redis.call('HMSET', KEYS[1],
@@ -332,7 +357,7 @@ class RedisBackedBakeStore implements BakeStore {
     def bakeStatusJson = mapper.writeValueAsString(bakeStatus)
     def bakeLogsJson = mapper.writeValueAsString(bakeStatus.logsContent ? [logsContent: bakeStatus.logsContent] : [:])
     def createdTimestampMilliseconds = timeInMilliseconds
-    def keyList = ["allBakes", bakeStatus.id, bakeKey, thisInstanceIncompleteBakesKey, lockKey.toString(), pipelineExecutionKey.toString()]
+    def keyList = ["allBakes", bakeStatus.id, bakeKey, thisInstanceIncompleteBakesKey, lockKey.toString(), pipelineExecutionKey.toString(), INCOMPLETE_BAKES_BY_UPDATED_TIMESTAMP_KEY]
     def argList = [createdTimestampMilliseconds as String, region, bakeRecipeJson, bakeRequestJson, bakeStatusJson, bakeLogsJson, command, roscoInstanceId]
     def result = evalSHA("storeNewBakeStatusSHA", keyList, argList)
 
@@ -366,7 +391,7 @@ class RedisBackedBakeStore implements BakeStore {
       scriptSHA = "updateBakeStatusWithIncompleteRemovalSHA"
     }
 
-    def keyList = [bakeStatus.id, thisInstanceIncompleteBakesKey]
+    def keyList = [bakeStatus.id, thisInstanceIncompleteBakesKey, INCOMPLETE_BAKES_BY_UPDATED_TIMESTAMP_KEY]
     def argList = [bakeStatusJson, bakeLogsJson, updatedTimestampMilliseconds + ""]
 
     evalSHA(scriptSHA, keyList, argList)
@@ -521,6 +546,7 @@ class RedisBackedBakeStore implements BakeStore {
 
     jedis.withCloseable {
       jedis.srem("$INCOMPLETE_BAKES_PREFIX$roscoInstanceId", bakeId)
+      jedis.zrem(INCOMPLETE_BAKES_BY_UPDATED_TIMESTAMP_KEY, bakeId)
     }
   }
 
@@ -547,6 +573,116 @@ class RedisBackedBakeStore implements BakeStore {
     }
   }
 
+  @Override
+  public List<IncompleteBake> retrieveStaleIncompleteBakes(long updatedBeforeMilliseconds) {
+    long nowMillis = System.currentTimeMillis()
+    if (nowMillis - incompleteBakesReconciledAtMillis >= TimeUnit.MINUTES.toMillis(incompleteBakesReconcileIntervalMinutes)) {
+      reconcileIncompleteBakesIndex()
+      incompleteBakesReconciledAtMillis = nowMillis
+    }
+
+    def jedis = jedisPool.getResource()
+
+    jedis.withCloseable {
+      List<String> bakeIds = jedis.zrangeByScore(INCOMPLETE_BAKES_BY_UPDATED_TIMESTAMP_KEY, "-inf", updatedBeforeMilliseconds as String) as List<String>
+
+      if (!bakeIds) {
+        return []
+      }
+
+      def pipeline = jedis.pipelined()
+      def responses = bakeIds.collect { String bakeId ->
+        pipeline.hmget(bakeId, "roscoInstanceId", "region", "bakeStatus", "createdTimestamp", "updatedTimestamp")
+      }
+      pipeline.sync()
+
+      List<IncompleteBake> incompleteBakes = []
+      List<String> missingBakeIds = []
+      Map<String, Long> freshBakeTimestamps = [:]
+
+      bakeIds.eachWithIndex { String bakeId, int i ->
+        def (String roscoInstanceId,
+             String region,
+             String bakeStatusJson,
+             String createdTimestampStr,
+             String updatedTimestampStr) = responses[i].get()
+
+        if (!bakeStatusJson || !updatedTimestampStr) {
+          // The bake was deleted (e.g. along with its pipeline execution) without being removed from the index.
+          missingBakeIds << bakeId
+          return
+        }
+
+        long updatedTimestamp = Long.parseLong(updatedTimestampStr)
+
+        if (updatedTimestamp > updatedBeforeMilliseconds) {
+          // The bake was updated by a rosco instance that doesn't maintain the index (e.g. during a rolling deploy), so
+          // its score is stale. Skip it and correct its score instead.
+          freshBakeTimestamps[bakeId] = updatedTimestamp
+          return
+        }
+
+        BakeStatus bakeStatus = mapper.readValue(bakeStatusJson, BakeStatus)
+        bakeStatus.createdTimestamp = Long.parseLong(createdTimestampStr)
+        bakeStatus.updatedTimestamp = updatedTimestamp
+
+        incompleteBakes << new IncompleteBake(id: bakeId, roscoInstanceId: roscoInstanceId, region: region, bakeStatus: bakeStatus)
+      }
+
+      if (missingBakeIds) {
+        jedis.zrem(INCOMPLETE_BAKES_BY_UPDATED_TIMESTAMP_KEY, missingBakeIds as String[])
+      }
+
+      if (freshBakeTimestamps) {
+        pipeline = jedis.pipelined()
+        freshBakeTimestamps.each { String bakeId, Long updatedTimestamp ->
+          // Only update existing members, so a bake that completed in the meantime isn't re-added.
+          pipeline.zadd(INCOMPLETE_BAKES_BY_UPDATED_TIMESTAMP_KEY, updatedTimestamp as double, bakeId, ZAddParams.zAddParams().xx())
+        }
+        pipeline.sync()
+      }
+
+      return incompleteBakes
+    }
+  }
+
+  /**
+   * Adds the incomplete bakes of all rosco instances that are missing from the index of incomplete bakes (e.g. bakes
+   * started before the index was introduced, or by an instance that doesn't maintain it), and removes the bakes that
+   * are no longer incomplete (e.g. completed by such an instance).
+   */
+  private void reconcileIncompleteBakesIndex() {
+    def jedis = jedisPool.getResource()
+
+    jedis.withCloseable {
+      // Read the index before the incomplete bakes, so that a bake started in between is not taken for a completed one.
+      Set<String> indexedBakeIds = jedis.zrange(INCOMPLETE_BAKES_BY_UPDATED_TIMESTAMP_KEY, 0, -1) as Set<String>
+      Set<String> incompleteBakeIds = getAllIncompleteBakeIds().values().flatten() as Set<String>
+
+      Set<String> completedBakeIds = indexedBakeIds - incompleteBakeIds
+      if (completedBakeIds) {
+        jedis.zrem(INCOMPLETE_BAKES_BY_UPDATED_TIMESTAMP_KEY, completedBakeIds as String[])
+      }
+
+      def pipeline = jedis.pipelined()
+      def responses = incompleteBakeIds.collectEntries { String bakeId ->
+        [(bakeId): pipeline.hget(bakeId, "updatedTimestamp")]
+      }
+      pipeline.sync()
+
+      pipeline = jedis.pipelined()
+      responses.each { String bakeId, response ->
+        String updatedTimestampStr = response.get()
+
+        // Bakes managed by older-style (i.e. rosco/rush) rosco instances have no updated timestamp.
+        if (updatedTimestampStr) {
+          pipeline.zadd(INCOMPLETE_BAKES_BY_UPDATED_TIMESTAMP_KEY, Double.parseDouble(updatedTimestampStr), bakeId, ZAddParams.zAddParams().nx())
+        }
+      }
+      pipeline.sync()
+    }
+  }
+
   @Override
   public void saveImageToBakeRelationship(String region, String image, String bakeId) {
     def jedis = jedisPool.getResource()
@@ -52,7 +52,7 @@ public class ServiceConfig {
      * */
     return new Retrofit.Builder()
         .baseUrl(RetrofitUtils.getBaseUrl(clouddriverBaseUrl))
-        .client(okHttpClientConfig.createForRetrofit2().build())
+        .client(okHttpClientConfig.createForRetrofit2(clouddriverBaseUrl).build())
         .addCallAdapterFactory(ErrorHandlingExecutorCallAdapterFactory.getInstance())
         .addConverterFactory(JacksonConverterFactory.create(objectMapper))
         .build()
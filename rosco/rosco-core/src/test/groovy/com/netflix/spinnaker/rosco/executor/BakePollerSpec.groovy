@@ -23,6 +23,7 @@ import com.netflix.spinnaker.rosco.api.BakeRequest
 import com.netflix.spinnaker.rosco.api.BakeStatus
 import com.netflix.spinnaker.rosco.jobs.BakeRecipe
 import com.netflix.spinnaker.rosco.persistence.BakeStore
+import com.netflix.spinnaker.rosco.persistence.IncompleteBake
 import com.netflix.spinnaker.rosco.persistence.RedisBackedBakeStore
 import com.netflix.spinnaker.rosco.providers.CloudProviderBakeHandler
 import com.netflix.spinnaker.rosco.providers.registry.CloudProviderBakeHandlerRegistry
@@ -32,6 +33,8 @@ import spock.lang.Specification
 import spock.lang.Subject
 import spock.lang.Unroll
 
+import java.util.concurrent.TimeUnit
+
 class BakePollerSpec extends Specification implements TestDefaults {
 
   private static final String JOB_ID = "123"
@@ -223,4 +226,80 @@ class BakePollerSpec extends Specification implements TestDefaults {
     }
   }
 
+  @Unroll
+  void 'orphaned bakes of other rosco instances are canceled'() {
+    setup:
+      def bakeStoreMock = Mock(RedisBackedBakeStore)
+      def registry = new DefaultRegistry()
+      def staleBakeStatus = new BakeStatus(id: JOB_ID,
+                                           resource_id: JOB_ID,
+                                           state: BakeStatus.State.RUNNING,
+                                           createdTimestamp: 0,
+                                           updatedTimestamp: 1000)
+      def canceledBakeStatus = new BakeStatus(id: JOB_ID,
+                                              resource_id: JOB_ID,
+                                              state: BakeStatus.State.CANCELED,
+                                              result: BakeStatus.Result.FAILURE,
+                                              createdTimestamp: 0,
+                                              updatedTimestamp: 5000)
+
+      @Subject
+      def bakePoller = new BakePoller(roscoInstanceId: "this-instance",
+                                      orphanedJobTimeoutMinutes: 30,
+                                      bakeStore: bakeStoreMock,
+                                      executor: Mock(JobExecutor),
+                                      cloudProviderBakeHandlerRegistry: Mock(CloudProviderBakeHandlerRegistry),
+                                      registry: registry)
+
+    when:
+      bakePoller.cancelOrphanedBakes()
+
+    then:
+      1 * bakeStoreMock.getTimeInMilliseconds() >> TimeUnit.MINUTES.toMillis(60)
+      1 * bakeStoreMock.retrieveStaleIncompleteBakes(TimeUnit.MINUTES.toMillis(30)) >> [
+        new IncompleteBake(id: JOB_ID, roscoInstanceId: "other-instance", region: SOME_REGION, bakeStatus: staleBakeStatus),
+        new IncompleteBake(id: "456", roscoInstanceId: "this-instance", region: SOME_REGION, bakeStatus: staleBakeStatus)
+      ]
+      1 * bakeStoreMock.retrieveBakeRequestById(JOB_ID) >> new BakeRequest()
+      1 * bakeStoreMock.cancelBakeById(JOB_ID) >> cancellationSucceeded
+      numRemovals * bakeStoreMock.removeFromIncompletes("other-instance", JOB_ID)
+      1 * bakeStoreMock.retrieveBakeStatusById(JOB_ID) >> canceledBakeStatus
+      0 * bakeStoreMock.cancelBakeById("456")
+      registry.timer("bakesCompleted", "success", "false", "cause", "orphanTimedOut", "region", SOME_REGION).totalTime() == TimeUnit.MILLISECONDS.toNanos(5000)
+
+    where:
+      cancellationSucceeded | numRemovals
+      true                  | 0
+      false                 | 1
+  }
+
+  void 'bakes with a stale index score but a fresh updated timestamp are not canceled'() {
+    setup:
+      def bakeStoreMock = Mock(RedisBackedBakeStore)
+      def freshBakeStatus = new BakeStatus(id: JOB_ID,
+                                           resource_id: JOB_ID,
+                                           state: BakeStatus.State.RUNNING,
+                                           createdTimestamp: 0,
+                                           updatedTimestamp: TimeUnit.MINUTES.toMillis(55))
+
+      @Subject
+      def bakePoller = new BakePoller(roscoInstanceId: "this-instance",
+                                      orphanedJobTimeoutMinutes: 30,
+                                      bakeStore: bakeStoreMock,
+                                      executor: Mock(JobExecutor),
+                                      cloudProviderBakeHandlerRegistry: Mock(CloudProviderBakeHandlerRegistry),
+                                      registry: new DefaultRegistry())
+
+    when:
+      bakePoller.cancelOrphanedBakes()
+
+    then:
+      1 * bakeStoreMock.getTimeInMilliseconds() >> TimeUnit.MINUTES.toMillis(60)
+      1 * bakeStoreMock.retrieveStaleIncompleteBakes(TimeUnit.MINUTES.toMillis(30)) >> [
+        new IncompleteBake(id: JOB_ID, roscoInstanceId: "other-instance", region: SOME_REGION, bakeStatus: freshBakeStatus)
+      ]
+      0 * bakeStoreMock.cancelBakeById(_)
+      0 * bakeStoreMock.removeFromIncompletes(_, _)
+  }
+
 }
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.rosco.manifests;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.google.common.hash.Hashing;
+import com.netflix.spinnaker.kork.artifacts.model.Artifact;
+import com.netflix.spinnaker.rosco.manifests.config.RoscoManifestCacheConfigurationProperties;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A local disk cache of downloaded artifacts, addressed by a hash of the fields that identify an
+ * artifact's content.
+ *
+ * <p>Only artifacts whose content cannot change are cached (see {@link #cacheKey(Artifact)}),
+ * anything else is downloaded on every request. Files are evicted least recently used first once
+ * the cache exceeds its configured size.
+ */
+@Slf4j
+public class ArtifactCache {
+  private static final String TMP_SUFFIX = ".tmp";
+  private static final Pattern GIT_COMMIT = Pattern.compile("[0-9a-fA-F]{40}");
+
+  /** An exact semantic version, rather than a range, of a helm chart. */
+  private static final Pattern EXACT_SEMVER =
+      Pattern.compile(
+          "v?(0|[1-9]\\d*)\\.(0|[1-9]\\d*)\\.(0|[1-9]\\d*)"
+              + "(-[0-9A-Za-z-]+(\\.[0-9A-Za-z-]+)*)?(\\+[0-9A-Za-z-]+(\\.[0-9A-Za-z-]+)*)?");
+
+  /** Serializes metadata canonically, e.g. the subPath of a git/repo artifact. */
+  private static final ObjectMapper METADATA_MAPPER =
+      new ObjectMapper().configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+  private final Path directory;
+  private final long maxSizeBytes;
+
+  /** Cached files and their sizes, in access order. */
+  private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+  private long sizeBytes;
+
+  public ArtifactCache(RoscoManifestCacheConfigurationProperties.ArtifactCache properties) {
+    this.directory =
+        Optional.ofNullable(properties.getDirectory())
+            .map(Paths::get)
+            .orElse(Paths.get(System.getProperty("java.io.tmpdir"), "rosco-artifact-cache"));
+    this.maxSizeBytes = properties.getMaxSizeBytes();
+
+    try {
+      Files.createDirectories(directory);
+      loadEntries();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to initialize artifact cache in " + directory, e);
+    }
+  }
+
+  /**
+   * Helm charts are only cached by an exact semantic version, as a range can resolve to another
+   * chart over time. A chart republished under the same version is not detected.
+   *
+   * @return the key under which the content of {@code artifact} is cached, or empty if the
+   *     artifact does not identify immutable content
+   */
+  static Optional<String> cacheKey(Artifact artifact) {
+    String type = Optional.ofNullable(artifact.getType()).orElse("");
+    String reference = Optional.ofNullable(artifact.getReference()).orElse("");
+    String version = Optional.ofNullable(artifact.getVersion()).orElse("");
+
+    boolean immutable =
+        type.startsWith("embedded/")
+            || reference.contains("@sha256:")
+            || ("helm/chart".equals(type) && EXACT_SEMVER.matcher(version).matches())
+            || ("git/repo".equals(type) && GIT_COMMIT.matcher(version).matches());
+    if (!immutable) {
+      return Optional.empty();
+    }
+
+    String metadata;
+    try {
+      // the metadata selects what is downloaded, e.g. the subPath of a git/repo artifact
+      metadata =
+          artifact.getMetadata() == null || artifact.getMetadata().isEmpty()
+              ? ""
+              : METADATA_MAPPER.writeValueAsString(artifact.getMetadata());
+    } catch (JsonProcessingException e) {
+      log.debug("Not caching artifact {} with metadata that can't be serialized", artifact, e);
+      return Optional.empty();
+    }
+
+    String identity =
+        Stream.of(
+                type,
+                artifact.getArtifactAccount(),
+                artifact.getName(),
+                version,
+                artifact.getLocation(),
+                reference,
+                metadata)
+            .map(field -> Optional.ofNullable(field).orElse(""))
+            .collect(Collectors.joining("\n"));
+    return Optional.of(Hashing.sha256().hashString(identity, StandardCharsets.UTF_8).toString());
+  }
+
+  /**
+   * Opens the cached content of {@code artifact}, downloading it from {@code source} into the cache
+   * first if needed.
+   */
+  public InputStream open(Artifact artifact, Source source) throws IOException {
+    Optional<String> key = cacheKey(artifact);
+    if (key.isEmpty()) {
+      return source.open();
+    }
+
+    Path cached = directory.resolve(key.get());
+    if (touch(key.get())) {
+      try {
+        return Files.newInputStream(cached);
+      } catch (NoSuchFileException e) {
+        // evicted since it was looked up
+        remove(key.get());
+      }
+    }
+
+    Path tmp = directory.resolve(key.get() + "-" + UUID.randomUUID() + TMP_SUFFIX);
+    try {
+      try (InputStream inputStream = source.open()) {
+        Files.copy(inputStream, tmp);
+      }
+      Files.move(tmp, cached, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(tmp);
+    }
+    // opened before it is accounted for, so that it can't be evicted in between
+    InputStream inputStream = Files.newInputStream(cached);
+    add(key.get(), Files.size(cached));
+    return inputStream;
+  }
+
+  /** Marks {@code key} as the most recently used entry, if it is cached. */
+  private synchronized boolean touch(String key) {
+    return entries.get(key) != null;
+  }
+
+  private synchronized void remove(String key) {
+    Long size = entries.remove(key);
+    if (size != null) {
+      sizeBytes -= size;
+    }
+  }
+
+  private void add(String key, long size) {
+    List<String> evicted;
+    synchronized (this) {
+      Long previous = entries.put(key, size);
+      sizeBytes += size - Optional.ofNullable(previous).orElse(0L);
+
+      evicted = new ArrayList<>();
+      Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+      while (sizeBytes > maxSizeBytes && iterator.hasNext()) {
+        Map.Entry<String, Long> eldest = iterator.next();
+        if (eldest.getKey().equals(key)) {
+          continue;
+        }
+        sizeBytes -= eldest.getValue();
+        evicted.add(eldest.getKey());
+        iterator.remove();
+      }
+    }
+
+    for (String evictedKey : evicted) {
+      try {
+        Files.deleteIfExists(directory.resolve(evictedKey));
+      } catch (IOException e) {
+        log.warn("Unable to evict {} from the artifact cache", evictedKey, e);
+      }
+    }
+  }
+
+  private void loadEntries() throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      List<Path> existing =
+          files
+              .filter(Files::isRegularFile)
+              .sorted(Comparator.comparing(ArtifactCache::lastModified))
+              .collect(Collectors.toList());
+      for (Path file : existing) {
+        String name = file.getFileName().toString();
+        if (name.endsWith(TMP_SUFFIX)) {
+          // left behind by an interrupted download
+          Files.deleteIfExists(file);
+        } else {
+          add(name, Files.size(file));
+        }
+      }
+    }
+  }
+
+  public interface Source {
+    InputStream open() throws IOException;
+  }
+
+  private static long lastModified(Path file) {
+    try {
+      return Files.getLastModifiedTime(file).toMillis();
+    } catch (IOException e) {
+      return 0;
+    }
+  }
+}
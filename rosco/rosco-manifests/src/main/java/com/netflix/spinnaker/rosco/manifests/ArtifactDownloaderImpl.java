@@ -10,22 +10,39 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
 import okhttp3.ResponseBody;
 import org.apache.commons.io.IOUtils;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 @Component
 @Slf4j
 public final class ArtifactDownloaderImpl implements ArtifactDownloader {
   private final ClouddriverService clouddriverService;
+  private final ArtifactCache artifactCache;
   private final RetrySupport retrySupport = new RetrySupport();
 
   public ArtifactDownloaderImpl(ClouddriverService clouddriverService) {
+    this(clouddriverService, Optional.empty());
+  }
+
+  @Autowired
+  public ArtifactDownloaderImpl(
+      ClouddriverService clouddriverService, Optional<ArtifactCache> artifactCache) {
     this.clouddriverService = clouddriverService;
+    this.artifactCache = artifactCache.orElse(null);
   }
 
   public InputStream downloadArtifact(Artifact artifact) throws IOException {
+    if (artifactCache == null) {
+      return fetchArtifact(artifact);
+    }
+    return artifactCache.open(artifact, () -> fetchArtifact(artifact));
+  }
+
+  private InputStream fetchArtifact(Artifact artifact) throws IOException {
     ResponseBody response =
         retrySupport.retry(
             () -> Retrofit2SyncCall.execute(clouddriverService.fetchArtifact(artifact)),
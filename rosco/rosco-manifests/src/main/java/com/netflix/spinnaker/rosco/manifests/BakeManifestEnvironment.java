@@ -51,6 +51,13 @@ public final class BakeManifestEnvironment implements AutoCloseable {
     return checkPath(stagingPath.resolve(fileName));
   }
 
+  /**
+   * @return true if {@code path} is in this environment
+   */
+  public boolean isStaged(Path path) {
+    return path.isAbsolute() && path.normalize().startsWith(stagingPath);
+  }
+
   @Override
   public void close() throws IOException {
     MoreFiles.deleteRecursively(stagingPath, ALLOW_INSECURE);
@@ -22,15 +22,22 @@ import com.netflix.spinnaker.rosco.jobs.BakeRecipe;
 import com.netflix.spinnaker.rosco.jobs.JobExecutor;
 import com.netflix.spinnaker.rosco.jobs.JobRequest;
 import com.netflix.spinnaker.security.AuthenticatedRequest;
+import jakarta.annotation.Nullable;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.UUID;
 
 public abstract class BakeManifestService<T extends BakeManifestRequest> {
   private final JobExecutor jobExecutor;
+  @Nullable private final ManifestBakeScheduler scheduler;
 
   public BakeManifestService(JobExecutor jobExecutor) {
+    this(jobExecutor, null);
+  }
+
+  public BakeManifestService(JobExecutor jobExecutor, @Nullable ManifestBakeScheduler scheduler) {
     this.jobExecutor = jobExecutor;
+    this.scheduler = scheduler;
   }
 
   public abstract Artifact bake(T bakeManifestRequest) throws IOException;
@@ -39,7 +46,21 @@ public abstract class BakeManifestService<T extends BakeManifestRequest> {
 
   public abstract boolean handles(String type);
 
+  /** Runs {@code recipe} once the scheduler has capacity for the request's template renderer. */
+  protected String doBake(T request, BakeRecipe recipe) {
+    if (scheduler == null) {
+      return doBake(recipe);
+    }
+    return scheduler.schedule(
+        request.getTemplateRenderer(),
+        () -> doBake(recipe, scheduler.getRenderTimeoutMillis()));
+  }
+
   protected String doBake(BakeRecipe recipe) {
+    return doBake(recipe, 0);
+  }
+
+  private String doBake(BakeRecipe recipe, long timeoutMillis) {
     var jobRequest =
         new JobRequest(
             recipe.getCommand(),
@@ -48,9 +69,14 @@ public abstract class BakeManifestService<T extends BakeManifestRequest> {
             AuthenticatedRequest.getSpinnakerExecutionId().orElse(null),
             false);
 
+    long startTime = System.currentTimeMillis();
     String jobId = jobExecutor.startJob(jobRequest);
     BakeStatus bakeStatus = jobExecutor.updateJob(jobId);
     while (bakeStatus == null || bakeStatus.getState() == BakeStatus.State.RUNNING) {
+      if (timeoutMillis > 0 && System.currentTimeMillis() - startTime > timeoutMillis) {
+        jobExecutor.cancelJob(jobId);
+        throw new IllegalStateException("Bake timed out after " + timeoutMillis + "ms");
+      }
       try {
         Thread.sleep(1000);
       } catch (InterruptedException ie) {
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.rosco.manifests;
+
+import com.netflix.spectator.api.Registry;
+import com.netflix.spinnaker.rosco.manifests.BakeManifestRequest.TemplateRenderer;
+import com.netflix.spinnaker.rosco.manifests.config.RoscoManifestBakeSchedulerConfigurationProperties;
+import com.netflix.spinnaker.security.AuthenticatedRequest;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounds the number of bakes that each manifest tool runs at once.
+ *
+ * <p>Bakes beyond a tool's limit wait in a queue per application, and applications take turns as
+ * bakes finish so that a burst of bakes from one application does not hold up the others.
+ */
+@Component
+@Slf4j
+public class ManifestBakeScheduler {
+  private final Registry registry;
+  private final RoscoManifestBakeSchedulerConfigurationProperties properties;
+  private final Map<String, ToolQueue> queues = new ConcurrentHashMap<>();
+
+  public ManifestBakeScheduler(
+      Registry registry, RoscoManifestBakeSchedulerConfigurationProperties properties) {
+    this.registry = registry;
+    this.properties = properties;
+  }
+
+  public long getRenderTimeoutMillis() {
+    return TimeUnit.SECONDS.toMillis(properties.getRenderTimeoutSeconds());
+  }
+
+  /**
+   * Runs {@code bake} once the tool for {@code templateRenderer} has capacity, recording how long
+   * the bake waited and how long it took to render.
+   */
+  public String schedule(TemplateRenderer templateRenderer, Supplier<String> bake) {
+    String tool = toolFor(templateRenderer);
+    String application = AuthenticatedRequest.getSpinnakerApplication().orElse("unknown");
+    ToolQueue queue = queues.computeIfAbsent(tool, this::createQueue);
+
+    long queuedAt = registry.clock().monotonicTime();
+    boolean acquired;
+    try {
+      acquired =
+          queue.acquire(application, TimeUnit.SECONDS.toNanos(properties.getQueueTimeoutSeconds()));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting to bake", e);
+    }
+    long startedAt = registry.clock().monotonicTime();
+    registry
+        .timer("manifestBakeQueueTime", "tool", tool, "acquired", String.valueOf(acquired))
+        .record(startedAt - queuedAt, TimeUnit.NANOSECONDS);
+    if (!acquired) {
+      throw new IllegalStateException(
+          String.format(
+              "Timed out after %ss waiting to bake with %s (%s bakes queued)",
+              properties.getQueueTimeoutSeconds(), tool, queue.queued()));
+    }
+
+    boolean success = false;
+    try {
+      String result = bake.get();
+      success = true;
+      return result;
+    } finally {
+      queue.release();
+      registry
+          .timer("manifestBakeRenderTime", "tool", tool, "success", String.valueOf(success))
+          .record(registry.clock().monotonicTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private ToolQueue createQueue(String tool) {
+    ToolQueue queue = new ToolQueue(properties.getMaxConcurrentBakes(tool));
+    registry.gauge(
+        registry.createId("manifestBakesActive", "tool", tool), queue, ToolQueue::active);
+    registry.gauge(
+        registry.createId("manifestBakesQueued", "tool", tool), queue, ToolQueue::queued);
+    return queue;
+  }
+
+  @SuppressWarnings("deprecation")
+  static String toolFor(TemplateRenderer templateRenderer) {
+    if (templateRenderer == null) {
+      return "unknown";
+    }
+    switch (templateRenderer) {
+      case HELM2:
+      case HELM3:
+        return "helm";
+      case KUSTOMIZE:
+      case KUSTOMIZE4:
+      case KUSTOMIZE5:
+        return "kustomize";
+      default:
+        return templateRenderer.name().toLowerCase();
+    }
+  }
+
+  /** Permits for one tool, granted round-robin between the applications waiting for them. */
+  static class ToolQueue {
+    private final int maxConcurrent;
+    private final LinkedHashMap<String, ArrayDeque<Waiter>> waiting = new LinkedHashMap<>();
+    private int active;
+    private int queued;
+
+    ToolQueue(int maxConcurrent) {
+      this.maxConcurrent = maxConcurrent;
+    }
+
+    /**
+     * @return true if a permit was acquired, false if {@code timeoutNanos} elapsed first
+     */
+    synchronized boolean acquire(String application, long timeoutNanos)
+        throws InterruptedException {
+      if (maxConcurrent <= 0 || (active < maxConcurrent && waiting.isEmpty())) {
+        active++;
+        return true;
+      }
+
+      Waiter waiter = new Waiter();
+      waiting.computeIfAbsent(application, a -> new ArrayDeque<>()).add(waiter);
+      queued++;
+
+      long deadline = System.nanoTime() + timeoutNanos;
+      try {
+        while (!waiter.granted) {
+          long remaining = deadline - System.nanoTime();
+          if (remaining <= 0) {
+            remove(application, waiter);
+            return false;
+          }
+          TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+        return true;
+      } catch (InterruptedException e) {
+        if (waiter.granted) {
+          // pass the permit on
+          release();
+        } else {
+          remove(application, waiter);
+        }
+        throw e;
+      }
+    }
+
+    synchronized void release() {
+      active--;
+      while ((maxConcurrent <= 0 || active < maxConcurrent) && !waiting.isEmpty()) {
+        Iterator<Map.Entry<String, ArrayDeque<Waiter>>> iterator = waiting.entrySet().iterator();
+        Map.Entry<String, ArrayDeque<Waiter>> next = iterator.next();
+        iterator.remove();
+
+        next.getValue().poll().granted = true;
+        queued--;
+        active++;
+        if (!next.getValue().isEmpty()) {
+          // back of the line for this application's next bake
+          waiting.put(next.getKey(), next.getValue());
+        }
+      }
+      notifyAll();
+    }
+
+    synchronized int active() {
+      return active;
+    }
+
+    synchronized int queued() {
+      return queued;
+    }
+
+    private void remove(String application, Waiter waiter) {
+      ArrayDeque<Waiter> waiters = waiting.get(application);
+      if (waiters != null && waiters.remove(waiter)) {
+        queued--;
+        if (waiters.isEmpty()) {
+          waiting.remove(application);
+        }
+      }
+    }
+  }
+
+  private static class Waiter {
+    boolean granted;
+  }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.rosco.manifests;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.netflix.spinnaker.rosco.jobs.BakeRecipe;
+import com.netflix.spinnaker.rosco.manifests.config.RoscoManifestCacheConfigurationProperties;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * An in-memory cache of rendered manifests, so that baking a chart with the same inputs as a recent
+ * bake doesn't fork helm.
+ *
+ * <p>Entries are keyed by the command that renders them, with every argument that refers to a file
+ * or directory in the bake environment replaced by a hash of its content. Identical bakes that run
+ * concurrently render once.
+ */
+public class RenderedManifestCache {
+  private final Cache<String, String> manifests;
+
+  public RenderedManifestCache(
+      RoscoManifestCacheConfigurationProperties.RenderedManifestCache properties) {
+    this.manifests =
+        CacheBuilder.newBuilder()
+            .maximumWeight(properties.getMaxSizeChars())
+            .<String, String>weigher((key, manifest) -> manifest.length())
+            .expireAfterWrite(properties.getTtlMinutes(), TimeUnit.MINUTES)
+            .build();
+  }
+
+  /**
+   * @return the manifest rendered by {@code recipe}, rendering it with {@code render} if it isn't
+   *     cached
+   */
+  public String get(BakeManifestEnvironment env, BakeRecipe recipe, Supplier<String> render)
+      throws IOException {
+    try {
+      return manifests.get(key(env, recipe.getCommand()), render::get);
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  static String key(BakeManifestEnvironment env, List<String> command) throws IOException {
+    // --values takes a comma separated list of files
+    Set<Path> stagedFiles = new HashSet<>();
+    for (String argument : command) {
+      for (String part : argument.split(",")) {
+        Path path = toStagedPath(env, part);
+        if (path != null && Files.isRegularFile(path)) {
+          stagedFiles.add(path);
+        }
+      }
+    }
+
+    Hasher hasher = Hashing.sha256().newHasher();
+    for (String argument : command) {
+      for (String part : argument.split(",", -1)) {
+        Path path = toStagedPath(env, part);
+        if (path == null || !Files.exists(path)) {
+          hasher.putString(part, StandardCharsets.UTF_8);
+        } else {
+          // staging paths are unique to each bake, their content is what identifies the output
+          hashContent(hasher, path, stagedFiles);
+        }
+        hasher.putByte((byte) ',');
+      }
+      hasher.putByte((byte) 0);
+    }
+    return hasher.hash().toString();
+  }
+
+  private static Path toStagedPath(BakeManifestEnvironment env, String argument) {
+    try {
+      Path path = Paths.get(argument);
+      return env.isStaged(path) ? path : null;
+    } catch (InvalidPathException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Hashes the content of a file, or the names and content of the files in a directory. Files that
+   * are passed to helm separately (e.g. values files downloaded alongside an extracted chart) are
+   * left out of a directory's hash, as their names are random.
+   */
+  private static void hashContent(Hasher hasher, Path path, Set<Path> stagedFiles)
+      throws IOException {
+    if (Files.isRegularFile(path)) {
+      hashFile(hasher, path);
+      return;
+    }
+
+    List<Path> files;
+    try (Stream<Path> walk = Files.walk(path)) {
+      files =
+          walk.filter(Files::isRegularFile)
+              .filter(file -> !stagedFiles.contains(file))
+              .sorted()
+              .collect(Collectors.toList());
+    }
+    for (Path file : files) {
+      hasher.putString(path.relativize(file).toString(), StandardCharsets.UTF_8);
+      hasher.putByte((byte) 0);
+      hashFile(hasher, file);
+    }
+  }
+
+  private static void hashFile(Hasher hasher, Path file) throws IOException {
+    byte[] buffer = new byte[8192];
+    try (InputStream inputStream = Files.newInputStream(file)) {
+      int read;
+      while ((read = inputStream.read(buffer)) != -1) {
+        hasher.putBytes(buffer, 0, read);
+      }
+    }
+    hasher.putLong(Files.size(file));
+  }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.rosco.manifests.config;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties("manifests.scheduler")
+public class RoscoManifestBakeSchedulerConfigurationProperties {
+  /**
+   * The number of bakes each tool (helm, helmfile, kustomize) may run at once. Further bakes queue
+   * until a running bake finishes, taking turns between applications.
+   */
+  private int maxConcurrentBakes = 16;
+
+  /** Overrides {@link #maxConcurrentBakes} for individual tools, e.g. {@code helm: 32}. */
+  private Map<String, Integer> maxConcurrentBakesByTool = new HashMap<>();
+
+  /** How long a bake may wait in the queue before it fails. */
+  private long queueTimeoutSeconds = 600;
+
+  /**
+   * How long a bake may render before it is canceled. When 0, only the timeout of the job executor
+   * applies.
+   */
+  private long renderTimeoutSeconds = 0;
+
+  public int getMaxConcurrentBakes(String tool) {
+    return maxConcurrentBakesByTool.getOrDefault(tool, maxConcurrentBakes);
+  }
+}
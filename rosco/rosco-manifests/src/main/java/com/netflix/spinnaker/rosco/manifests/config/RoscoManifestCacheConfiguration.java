@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.rosco.manifests.config;
+
+import com.netflix.spinnaker.rosco.manifests.ArtifactCache;
+import com.netflix.spinnaker.rosco.manifests.RenderedManifestCache;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(RoscoManifestCacheConfigurationProperties.class)
+public class RoscoManifestCacheConfiguration {
+
+  @Bean
+  @ConditionalOnProperty("manifests.cache.artifacts.enabled")
+  public ArtifactCache artifactCache(RoscoManifestCacheConfigurationProperties properties) {
+    return new ArtifactCache(properties.getArtifacts());
+  }
+
+  @Bean
+  @ConditionalOnProperty("manifests.cache.rendered.enabled")
+  public RenderedManifestCache renderedManifestCache(
+      RoscoManifestCacheConfigurationProperties properties) {
+    return new RenderedManifestCache(properties.getRendered());
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.rosco.manifests.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties("manifests.cache")
+public class RoscoManifestCacheConfigurationProperties {
+  private ArtifactCache artifacts = new ArtifactCache();
+  private RenderedManifestCache rendered = new RenderedManifestCache();
+
+  /**
+   * A local disk cache of downloaded artifacts. Only artifacts that identify immutable content are
+   * cached: embedded artifacts, versioned helm charts, artifacts referenced by digest and git repos
+   * at a commit.
+   */
+  @Data
+  public static class ArtifactCache {
+    private boolean enabled = false;
+
+    /** Defaults to a directory under java.io.tmpdir. */
+    private String directory;
+
+    /** The least recently used artifacts are evicted once the cache exceeds this size. */
+    private long maxSizeBytes = 1024L * 1024 * 1024;
+  }
+
+  /**
+   * An in-memory cache of helm output, keyed by the content of the chart, values and overrides
+   * passed to helm along with the rest of its command line.
+   */
+  @Data
+  public static class RenderedManifestCache {
+    private boolean enabled = false;
+
+    /** The least recently used manifests are evicted once the cache exceeds this many chars. */
+    private long maxSizeChars = 64L * 1024 * 1024;
+
+    private long ttlMinutes = 60;
+  }
+}
@@ -8,19 +8,34 @@ import com.netflix.spinnaker.rosco.jobs.BakeRecipe;
 import com.netflix.spinnaker.rosco.jobs.JobExecutor;
 import com.netflix.spinnaker.rosco.manifests.BakeManifestEnvironment;
 import com.netflix.spinnaker.rosco.manifests.BakeManifestService;
+import com.netflix.spinnaker.rosco.manifests.ManifestBakeScheduler;
+import com.netflix.spinnaker.rosco.manifests.RenderedManifestCache;
 import java.io.IOException;
 import java.util.Base64;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 @Component
 public class HelmBakeManifestService extends BakeManifestService<HelmBakeManifestRequest> {
   private final HelmTemplateUtils helmTemplateUtils;
+  private final RenderedManifestCache renderedManifestCache;
   private static final ImmutableSet<String> supportedTemplates =
       ImmutableSet.of(TemplateRenderer.HELM2.toString(), TemplateRenderer.HELM3.toString());
 
   public HelmBakeManifestService(HelmTemplateUtils helmTemplateUtils, JobExecutor jobExecutor) {
-    super(jobExecutor);
+    this(helmTemplateUtils, jobExecutor, null, Optional.empty());
+  }
+
+  @Autowired
+  public HelmBakeManifestService(
+      HelmTemplateUtils helmTemplateUtils,
+      JobExecutor jobExecutor,
+      ManifestBakeScheduler scheduler,
+      Optional<RenderedManifestCache> renderedManifestCache) {
+    super(jobExecutor, scheduler);
     this.helmTemplateUtils = helmTemplateUtils;
+    this.renderedManifestCache = renderedManifestCache.orElse(null);
   }
 
   @Override
@@ -37,7 +52,11 @@ public class HelmBakeManifestService extends BakeManifestService<HelmBakeManifes
     try (BakeManifestEnvironment env = BakeManifestEnvironment.create()) {
       BakeRecipe recipe = helmTemplateUtils.buildBakeRecipe(env, bakeManifestRequest);
 
-      String bakeResult = helmTemplateUtils.removeTestsDirectoryTemplates(doBake(recipe));
+      String output =
+          (renderedManifestCache == null)
+              ? doBake(bakeManifestRequest, recipe)
+              : renderedManifestCache.get(env, recipe, () -> doBake(bakeManifestRequest, recipe));
+      String bakeResult = helmTemplateUtils.removeTestsDirectoryTemplates(output);
       return Artifact.builder()
           .type("embedded/base64")
           .name(bakeManifestRequest.getOutputArtifactName())
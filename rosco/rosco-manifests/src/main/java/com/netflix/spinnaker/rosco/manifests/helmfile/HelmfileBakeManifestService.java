@@ -24,6 +24,7 @@ import com.netflix.spinnaker.rosco.jobs.BakeRecipe;
 import com.netflix.spinnaker.rosco.jobs.JobExecutor;
 import com.netflix.spinnaker.rosco.manifests.BakeManifestEnvironment;
 import com.netflix.spinnaker.rosco.manifests.BakeManifestService;
+import com.netflix.spinnaker.rosco.manifests.ManifestBakeScheduler;
 import java.io.IOException;
 import java.util.Base64;
 import org.springframework.stereotype.Component;
@@ -35,8 +36,10 @@ public class HelmfileBakeManifestService extends BakeManifestService<HelmfileBak
       ImmutableSet.of(TemplateRenderer.HELMFILE.toString());
 
   public HelmfileBakeManifestService(
-      HelmfileTemplateUtils helmTemplateUtils, JobExecutor jobExecutor) {
-    super(jobExecutor);
+      HelmfileTemplateUtils helmTemplateUtils,
+      JobExecutor jobExecutor,
+      ManifestBakeScheduler scheduler) {
+    super(jobExecutor, scheduler);
     this.helmfileTemplateUtils = helmTemplateUtils;
   }
 
@@ -54,7 +57,9 @@ public class HelmfileBakeManifestService extends BakeManifestService<HelmfileBak
     try (BakeManifestEnvironment env = BakeManifestEnvironment.create()) {
       BakeRecipe recipe = helmfileTemplateUtils.buildBakeRecipe(env, helmfileBakeManifestRequest);
 
-      String bakeResult = helmfileTemplateUtils.removeTestsDirectoryTemplates(doBake(recipe));
+      String bakeResult =
+          helmfileTemplateUtils.removeTestsDirectoryTemplates(
+              doBake(helmfileBakeManifestRequest, recipe));
       return Artifact.builder()
           .type("embedded/base64")
           .name(helmfileBakeManifestRequest.getOutputArtifactName())
@@ -24,6 +24,7 @@ import com.netflix.spinnaker.rosco.jobs.BakeRecipe;
 import com.netflix.spinnaker.rosco.jobs.JobExecutor;
 import com.netflix.spinnaker.rosco.manifests.BakeManifestEnvironment;
 import com.netflix.spinnaker.rosco.manifests.BakeManifestService;
+import com.netflix.spinnaker.rosco.manifests.ManifestBakeScheduler;
 import java.io.IOException;
 import java.util.Base64;
 import org.springframework.stereotype.Component;
@@ -41,8 +42,10 @@ public class KustomizeBakeManifestService
           TemplateRenderer.KUSTOMIZE5.toString());
 
   public KustomizeBakeManifestService(
-      KustomizeTemplateUtils kustomizeTemplateUtils, JobExecutor jobExecutor) {
-    super(jobExecutor);
+      KustomizeTemplateUtils kustomizeTemplateUtils,
+      JobExecutor jobExecutor,
+      ManifestBakeScheduler scheduler) {
+    super(jobExecutor, scheduler);
     this.kustomizeTemplateUtils = kustomizeTemplateUtils;
   }
 
@@ -61,7 +64,7 @@ public class KustomizeBakeManifestService
     try (BakeManifestEnvironment env = BakeManifestEnvironment.create()) {
       BakeRecipe recipe = kustomizeTemplateUtils.buildBakeRecipe(env, kustomizeBakeManifestRequest);
 
-      String bakeResult = doBake(recipe);
+      String bakeResult = doBake(kustomizeBakeManifestRequest, recipe);
       return Artifact.builder()
           .type("embedded/base64")
           .name(kustomizeBakeManifestRequest.getOutputArtifactName())
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.rosco.manifests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.netflix.spinnaker.kork.artifacts.model.Artifact;
+import com.netflix.spinnaker.rosco.manifests.config.RoscoManifestCacheConfigurationProperties;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class ArtifactCacheTest {
+  @TempDir Path directory;
+
+  private final AtomicInteger downloads = new AtomicInteger();
+
+  @Test
+  void cachesImmutableArtifacts() throws IOException {
+    ArtifactCache cache = cache(1024);
+    Artifact chart = Artifact.builder().type("helm/chart").name("app").version("1.0.0").build();
+
+    assertThat(read(cache, chart)).isEqualTo("content-1");
+    assertThat(read(cache, chart)).isEqualTo("content-1");
+    assertThat(downloads.get()).isEqualTo(1);
+  }
+
+  @Test
+  void downloadsMutableArtifactsEveryTime() throws IOException {
+    ArtifactCache cache = cache(1024);
+    Artifact repo = Artifact.builder().type("git/repo").reference("repo").version("main").build();
+
+    assertThat(read(cache, repo)).isEqualTo("content-1");
+    assertThat(read(cache, repo)).isEqualTo("content-2");
+  }
+
+  @Test
+  void evictsLeastRecentlyUsedArtifacts() throws IOException {
+    // room for two artifacts
+    ArtifactCache cache = cache(20);
+    Artifact a = Artifact.builder().type("helm/chart").name("a").version("1.0.0").build();
+    Artifact b = Artifact.builder().type("helm/chart").name("b").version("1.0.0").build();
+    Artifact c = Artifact.builder().type("helm/chart").name("c").version("1.0.0").build();
+
+    read(cache, a);
+    read(cache, b);
+    read(cache, a);
+    read(cache, c);
+
+    assertThat(read(cache, a)).isEqualTo("content-1");
+    assertThat(read(cache, b)).isEqualTo("content-4");
+  }
+
+  @Test
+  void keysArtifactsByContentIdentity() {
+    Artifact chart = Artifact.builder().type("helm/chart").name("app").version("1.0.0").build();
+
+    assertThat(ArtifactCache.cacheKey(chart))
+        .isEqualTo(ArtifactCache.cacheKey(chart.toBuilder().uuid("other").build()));
+    assertThat(ArtifactCache.cacheKey(chart))
+        .isNotEqualTo(ArtifactCache.cacheKey(chart.toBuilder().version("1.0.1").build()));
+    assertThat(ArtifactCache.cacheKey(chart.toBuilder().version(null).build())).isEmpty();
+  }
+
+  @Test
+  void onlyCachesHelmChartsByExactVersion() {
+    Artifact chart = Artifact.builder().type("helm/chart").name("app").build();
+
+    assertThat(ArtifactCache.cacheKey(chart.toBuilder().version("1.2.3-rc.1+build.5").build()))
+        .isPresent();
+    assertThat(ArtifactCache.cacheKey(chart.toBuilder().version("~1.2.0").build())).isEmpty();
+    assertThat(ArtifactCache.cacheKey(chart.toBuilder().version(">=1.0.0 <2.0.0").build()))
+        .isEmpty();
+    assertThat(ArtifactCache.cacheKey(chart.toBuilder().version("1.x").build())).isEmpty();
+  }
+
+  @Test
+  void keysGitRepoArtifactsBySubPath() {
+    Artifact repo =
+        Artifact.builder()
+            .type("git/repo")
+            .reference("https://github.com/org/repo.git")
+            .version("0123456789abcdef0123456789abcdef01234567")
+            .build();
+
+    assertThat(ArtifactCache.cacheKey(repo.toBuilder().metadata(Map.of("subPath", "a")).build()))
+        .isNotEqualTo(
+            ArtifactCache.cacheKey(repo.toBuilder().metadata(Map.of("subPath", "b")).build()));
+  }
+
+  private ArtifactCache cache(long maxSizeBytes) {
+    RoscoManifestCacheConfigurationProperties.ArtifactCache properties =
+        new RoscoManifestCacheConfigurationProperties.ArtifactCache();
+    properties.setDirectory(directory.toString());
+    properties.setMaxSizeBytes(maxSizeBytes);
+    return new ArtifactCache(properties);
+  }
+
+  private String read(ArtifactCache cache, Artifact artifact) throws IOException {
+    try (InputStream inputStream =
+        cache.open(
+            artifact,
+            () ->
+                new ByteArrayInputStream(
+                    ("content-" + downloads.incrementAndGet()).getBytes(StandardCharsets.UTF_8)))) {
+      return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.rosco.manifests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.netflix.spectator.api.DefaultRegistry;
+import com.netflix.spectator.api.Registry;
+import com.netflix.spinnaker.rosco.manifests.BakeManifestRequest.TemplateRenderer;
+import com.netflix.spinnaker.rosco.manifests.config.RoscoManifestBakeSchedulerConfigurationProperties;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+final class ManifestBakeSchedulerTest {
+  @Test
+  void grantsPermitsRoundRobinBetweenApplications() throws Exception {
+    ManifestBakeScheduler.ToolQueue queue = new ManifestBakeScheduler.ToolQueue(1);
+    assertThat(queue.acquire("holder", 0)).isTrue();
+
+    List<String> order = new CopyOnWriteArrayList<>();
+    List<Thread> threads = new CopyOnWriteArrayList<>();
+    for (String application : List.of("a", "a", "a", "b")) {
+      CountDownLatch queued = new CountDownLatch(1);
+      Thread thread =
+          new Thread(
+              () -> {
+                try {
+                  queued.countDown();
+                  queue.acquire(application, TimeUnit.SECONDS.toNanos(10));
+                  order.add(application);
+                  queue.release();
+                } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                }
+              });
+      thread.start();
+      threads.add(thread);
+      queued.await();
+      while (queue.queued() < threads.size()) {
+        Thread.sleep(5);
+      }
+    }
+
+    queue.release();
+    for (Thread thread : threads) {
+      thread.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    assertThat(order).containsExactly("a", "b", "a", "a");
+    assertThat(queue.active()).isZero();
+    assertThat(queue.queued()).isZero();
+  }
+
+  @Test
+  void failsBakesThatWaitTooLong() throws Exception {
+    RoscoManifestBakeSchedulerConfigurationProperties properties =
+        new RoscoManifestBakeSchedulerConfigurationProperties();
+    properties.setMaxConcurrentBakes(1);
+    properties.setQueueTimeoutSeconds(0);
+    Registry registry = new DefaultRegistry();
+    ManifestBakeScheduler scheduler = new ManifestBakeScheduler(registry, properties);
+
+    String result =
+        scheduler.schedule(
+            TemplateRenderer.HELM3,
+            () -> {
+              assertThatThrownBy(() -> scheduler.schedule(TemplateRenderer.HELM2, () -> "inner"))
+                  .isInstanceOf(IllegalStateException.class)
+                  .hasMessageContaining("helm");
+              return "outer";
+            });
+
+    assertThat(result).isEqualTo("outer");
+    assertThat(
+            registry.timer("manifestBakeQueueTime", "tool", "helm", "acquired", "false").count())
+        .isEqualTo(1);
+    assertThat(registry.timer("manifestBakeRenderTime", "tool", "helm", "success", "true").count())
+        .isEqualTo(1);
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netflix.spinnaker.rosco.manifests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+final class RenderedManifestCacheTest {
+  @Test
+  void keysCommandsByTheContentOfStagedFiles() throws IOException {
+    try (BakeManifestEnvironment first = BakeManifestEnvironment.create();
+        BakeManifestEnvironment second = BakeManifestEnvironment.create()) {
+      Path firstChart = stageChart(first, "replicas: 1");
+      Path secondChart = stageChart(second, "replicas: 1");
+      Path firstValues = Files.writeString(first.resolvePath("values-a"), "a: b");
+      Path secondValues = Files.writeString(second.resolvePath("values-b"), "a: b");
+
+      String firstKey = RenderedManifestCache.key(first, command(firstChart, firstValues));
+      String secondKey = RenderedManifestCache.key(second, command(secondChart, secondValues));
+      assertThat(firstKey).isEqualTo(secondKey);
+
+      Files.writeString(secondValues, "a: c");
+      assertThat(RenderedManifestCache.key(second, command(secondChart, secondValues)))
+          .isNotEqualTo(firstKey);
+    }
+  }
+
+  private static List<String> command(Path chart, Path values) {
+    return List.of("helm3", "template", "app", chart.toString(), "--values", values.toString());
+  }
+
+  private static Path stageChart(BakeManifestEnvironment env, String values) throws IOException {
+    Path chart = Files.createDirectories(env.resolvePath("chart"));
+    Files.writeString(chart.resolve("Chart.yaml"), "name: app");
+    Files.writeString(chart.resolve("values.yaml"), values);
+    return chart;
+  }
+}
@@ -26,6 +26,7 @@ import com.netflix.spinnaker.rosco.jobs.config.LocalJobConfig
 import com.netflix.spinnaker.rosco.manifests.config.RoscoHelmConfigurationProperties
 import com.netflix.spinnaker.rosco.manifests.config.RoscoHelmfileConfigurationProperties
 import com.netflix.spinnaker.rosco.manifests.config.RoscoKustomizeConfigurationProperties
+import com.netflix.spinnaker.rosco.manifests.config.RoscoManifestBakeSchedulerConfigurationProperties
 import com.netflix.spinnaker.rosco.providers.alicloud.config.RoscoAliCloudConfiguration
 import com.netflix.spinnaker.rosco.providers.aws.config.RoscoAWSConfiguration
 import com.netflix.spinnaker.rosco.providers.azure.config.RoscoAzureConfiguration
@@ -79,6 +80,7 @@ import jakarta.servlet.Filter
   RoscoHelmConfigurationProperties,
   RoscoHelmfileConfigurationProperties,
   RoscoKustomizeConfigurationProperties,
+  RoscoManifestBakeSchedulerConfigurationProperties,
   LocalJobConfig,
   ArtifactStoreConfiguration
 ])